@@ -11,6 +11,7 @@ GRANT ALL PRIVILEGES ON DATABASE sonardb TO order_user;
 -- Enable extensions
 \c orderdb;
 CREATE EXTENSION IF NOT EXISTS "uuid-ossp";
+CREATE EXTENSION IF NOT EXISTS pg_stat_statements;
 
 -- Create schema (optional, using public)
 -- CREATE SCHEMA IF NOT EXISTS orders;
@@ -0,0 +1,167 @@
+package io.github.douglasdreer.order.adapter.input.messaging;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede a latência de ingestão de pedidos, do evento original até o commit.
+ * <p>
+ * Métricas:
+ * - order.ingest.stage{stage}: duração de cada etapa (queue_wait, mapping, validation, persistence);
+ *   validation cobre o envelope e o CreateOrderCommandValidator, e persistence
+ *   começa depois dela
+ * - order.ingest.lag{source}: atraso entre a origem da mensagem e o commit
+ *   (source=event_created_at usa o campo created_at do evento, interpretado em UTC;
+ *   source=amqp_timestamp usa a propriedade timestamp da mensagem AMQP)
+ * - order.ingest.oldest.inflight.age: idade da mensagem mais antiga em processamento
+ * <p>
+ * Os histogramas usam buckets de SLO fixos para permitir alertas por percentual
+ * de mensagens acima do limite.
+ */
+@Component
+public class IngestionLatencyRecorder {
+
+    static final String STAGE_TIMER = "order.ingest.stage";
+    static final String LAG_TIMER = "order.ingest.lag";
+    static final String OLDEST_IN_FLIGHT_GAUGE = "order.ingest.oldest.inflight.age";
+
+    private static final Duration[] SLO_BUCKETS = {
+            Duration.ofMillis(5), Duration.ofMillis(10), Duration.ofMillis(25), Duration.ofMillis(50),
+            Duration.ofMillis(100), Duration.ofMillis(250), Duration.ofMillis(500),
+            Duration.ofSeconds(1), Duration.ofMillis(2500), Duration.ofSeconds(5),
+            Duration.ofSeconds(10), Duration.ofSeconds(30), Duration.ofSeconds(60)
+    };
+
+    /** Etapas medidas do pipeline de ingestão. */
+    public enum Stage {
+        QUEUE_WAIT, MAPPING, VALIDATION, PERSISTENCE;
+
+        String tagValue() {
+            return name().toLowerCase();
+        }
+    }
+
+    private final Clock clock;
+    private final Map<Stage, Timer> stageTimers = new EnumMap<>(Stage.class);
+    private final Timer eventLag;
+    private final Timer amqpLag;
+    private final Set<Ingestion> inFlight = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    public IngestionLatencyRecorder(MeterRegistry meterRegistry) {
+        this(meterRegistry, Clock.systemUTC());
+    }
+
+    IngestionLatencyRecorder(MeterRegistry meterRegistry, Clock clock) {
+        this.clock = clock;
+        for (Stage stage : Stage.values()) {
+            stageTimers.put(stage, Timer.builder(STAGE_TIMER)
+                    .description("Duração das etapas de ingestão de pedidos")
+                    .tag("stage", stage.tagValue())
+                    .serviceLevelObjectives(SLO_BUCKETS)
+                    .register(meterRegistry));
+        }
+        this.eventLag = lagTimer(meterRegistry, "event_created_at");
+        this.amqpLag = lagTimer(meterRegistry, "amqp_timestamp");
+
+        Gauge.builder(OLDEST_IN_FLIGHT_GAUGE, this, IngestionLatencyRecorder::oldestInFlightAgeSeconds)
+                .description("Idade da mensagem mais antiga ainda em processamento")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Inicia a medição de uma mensagem recebida e registra o tempo de espera na fila.
+     *
+     * @param amqpTimestamp  timestamp da mensagem AMQP (opcional)
+     * @param eventCreatedAt created_at do evento em UTC (opcional)
+     */
+    public Ingestion start(Date amqpTimestamp, LocalDateTime eventCreatedAt) {
+        long receivedAtMillis = clock.millis();
+        long amqpMillis = amqpTimestamp != null ? amqpTimestamp.getTime() : -1;
+        long eventMillis = eventCreatedAt != null ? eventCreatedAt.toInstant(ZoneOffset.UTC).toEpochMilli() : -1;
+
+        if (amqpMillis >= 0) {
+            recordPositive(stageTimers.get(Stage.QUEUE_WAIT), receivedAtMillis - amqpMillis);
+        }
+
+        long originMillis = amqpMillis >= 0 ? amqpMillis : eventMillis >= 0 ? eventMillis : receivedAtMillis;
+        Ingestion ingestion = new Ingestion(amqpMillis, eventMillis, originMillis);
+        inFlight.add(ingestion);
+        return ingestion;
+    }
+
+    double oldestInFlightAgeSeconds() {
+        long now = clock.millis();
+        long oldest = now;
+        for (Ingestion ingestion : inFlight) {
+            oldest = Math.min(oldest, ingestion.originMillis);
+        }
+        return (now - oldest) / 1000.0;
+    }
+
+    private static Timer lagTimer(MeterRegistry registry, String source) {
+        return Timer.builder(LAG_TIMER)
+                .description("Atraso entre a criação da mensagem e o commit do pedido")
+                .tag("source", source)
+                .serviceLevelObjectives(SLO_BUCKETS)
+                .register(registry);
+    }
+
+    private static void recordPositive(Timer timer, long millis) {
+        // Relógios de produtor e consumidor podem divergir; atrasos negativos viram zero
+        timer.record(Math.max(0, millis), TimeUnit.MILLISECONDS);
+    }
+
+    /** Medição de uma mensagem em processamento. Não é thread-safe. */
+    public final class Ingestion {
+
+        private final long amqpMillis;
+        private final long eventMillis;
+        private final long originMillis;
+        private long stageStartNanos = System.nanoTime();
+
+        private Ingestion(long amqpMillis, long eventMillis, long originMillis) {
+            this.amqpMillis = amqpMillis;
+            this.eventMillis = eventMillis;
+            this.originMillis = originMillis;
+        }
+
+        /** Encerra a etapa atual e inicia a próxima. */
+        public void stage(Stage stage) {
+            long now = System.nanoTime();
+            stageTimers.get(stage).record(now - stageStartNanos, TimeUnit.NANOSECONDS);
+            stageStartNanos = now;
+        }
+
+        /** Registra o atraso total após o commit do pedido. */
+        public void committed() {
+            long now = clock.millis();
+            if (amqpMillis >= 0) {
+                recordPositive(amqpLag, now - amqpMillis);
+            }
+            if (eventMillis >= 0) {
+                recordPositive(eventLag, now - eventMillis);
+            }
+        }
+
+        /** Remove a mensagem do conjunto em processamento. */
+        public void finish() {
+            inFlight.remove(this);
+        }
+    }
+}
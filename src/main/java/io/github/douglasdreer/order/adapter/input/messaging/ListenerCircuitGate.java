@@ -0,0 +1,86 @@
+package io.github.douglasdreer.order.adapter.input.messaging;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.listener.MessageListenerContainer;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Para os listeners AMQP enquanto o circuit breaker de ingestão ({@code orderIngest}) está aberto.
+ * <p>
+ * Com o circuito aberto toda mensagem seria rejeitada e devolvida à fila: em vez de girar
+ * entregas ou segurar mensagens pré-buscadas, os containers param e as mensagens não
+ * confirmadas voltam ao broker. Na transição automática para meio-aberto
+ * ({@code automaticTransitionFromOpenToHalfOpenEnabled}) os containers voltam a consumir, e as
+ * chamadas de teste decidem se o circuito fecha ou abre de novo.
+ * <p>
+ * A transição acontece na thread que registrou a falha, em geral a do próprio listener, que
+ * não pode esperar o seu container parar: parar e iniciar rodam em uma thread dedicada, na
+ * ordem das transições. Só são reiniciados os containers que este gate parou. O circuito
+ * de consultas ({@code orderQuery}) não para a ingestão.
+ */
+@Component
+@Slf4j
+public class ListenerCircuitGate {
+
+    static final String CIRCUIT_BREAKER = "orderIngest";
+
+    private final RabbitListenerEndpointRegistry listenerRegistry;
+    private final ExecutorService lifecycle = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().daemon().name("amqp-listener-gate").factory());
+    private final List<MessageListenerContainer> stopped = new ArrayList<>();
+
+    public ListenerCircuitGate(CircuitBreakerRegistry circuitBreakerRegistry,
+                               RabbitListenerEndpointRegistry listenerRegistry) {
+        this.listenerRegistry = listenerRegistry;
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(CIRCUIT_BREAKER);
+        if (!circuitBreaker.getCircuitBreakerConfig().isAutomaticTransitionFromOpenToHalfOpenEnabled()) {
+            log.warn("Circuit breaker {} sem transição automática para meio-aberto: listeners parados "
+                    + "só voltam quando outra chamada (ex.: HTTP) tentar o circuito", CIRCUIT_BREAKER);
+        }
+        circuitBreaker.getEventPublisher()
+                .onStateTransition(event -> onTransition(event.getStateTransition().getToState()));
+    }
+
+    void onTransition(CircuitBreaker.State state) {
+        if (state == CircuitBreaker.State.OPEN || state == CircuitBreaker.State.FORCED_OPEN) {
+            lifecycle.execute(this::stopListeners);
+        } else {
+            lifecycle.execute(this::startListeners);
+        }
+    }
+
+    private void stopListeners() {
+        for (MessageListenerContainer container : listenerRegistry.getListenerContainers()) {
+            if (container.isRunning() && !stopped.contains(container)) {
+                container.stop();
+                stopped.add(container);
+            }
+        }
+        if (!stopped.isEmpty()) {
+            log.warn("Circuit breaker {} aberto: {} listener(s) AMQP parado(s)", CIRCUIT_BREAKER, stopped.size());
+        }
+    }
+
+    private void startListeners() {
+        if (stopped.isEmpty()) {
+            return;
+        }
+        stopped.forEach(MessageListenerContainer::start);
+        log.info("Circuit breaker {} liberado: {} listener(s) AMQP retomado(s)", CIRCUIT_BREAKER, stopped.size());
+        stopped.clear();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        lifecycle.shutdownNow();
+    }
+}
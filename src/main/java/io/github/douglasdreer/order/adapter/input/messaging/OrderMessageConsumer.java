@@ -1,22 +1,33 @@
 package io.github.douglasdreer.order.adapter.input.messaging;
 
 import io.github.douglasdreer.order.adapter.exception.MessageProcessingException;
+import io.github.douglasdreer.order.adapter.input.messaging.IngestionLatencyRecorder.Stage;
 import io.github.douglasdreer.order.adapter.output.messaging.event.OrderCreatedEvent;
 import io.github.douglasdreer.order.application.port.input.CreateOrderUseCase;
 import io.github.douglasdreer.order.application.dto.CreateOrderCommand;
+import io.github.douglasdreer.order.application.port.output.OrderMetricsPort;
+import io.github.douglasdreer.order.application.validation.CreateOrderCommandValidator;
 import io.github.douglasdreer.order.domain.exception.DomainException;
-import jakarta.validation.ConstraintViolation;
-import jakarta.validation.Validator;
+import io.github.douglasdreer.order.domain.exception.DuplicateOrderException;
+import io.github.douglasdreer.order.infrastructure.logging.OrderSummary;
+import io.github.douglasdreer.order.infrastructure.logging.OrderSummaryLogger;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.ImmediateRequeueAmqpException;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.amqp.support.AmqpHeaders;
 import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
 /** Consumer RabbitMQ para eventos de criação de pedidos (fila: order.created.queue). */
 @Slf4j
@@ -24,87 +35,142 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class OrderMessageConsumer {
 
+    static final String PROCESSING_TIMER = "order.consumer.processing";
+    static final String CORRELATION_ID_KEY = "messaging.correlation_id";
+
     private final CreateOrderUseCase createOrderUseCase;
-    private final Validator validator;
+    private final MeterRegistry meterRegistry;
+    private final IngestionLatencyRecorder latencyRecorder;
+    private final ObservationRegistry observationRegistry;
+    private final OrderSummaryLogger summaryLogger;
+    private final CreateOrderCommandValidator validator;
+    private final OrderMetricsPort orderMetrics;
 
     /**
      * Consome mensagens OrderCreatedEvent do RabbitMQ.
-     * Valida o evento e delega ao CreateOrderUseCase.
+     * Valida o envelope e o comando (etapa validation, medida aqui) e delega ao
+     * CreateOrderUseCase; comandos inválidos são rejeitados antes de abrir a transação.
+     * O ID externo do pedido é o {@code correlation_id} do evento, único por mensagem do
+     * produtor e repetido nas reentregas; o {@code customer_id} identifica o cliente e se
+     * repete entre pedidos, por isso não serve de chave de deduplicação.
+     * Pedidos duplicados (reentregas) são confirmados sem erro; rejeições por sobrecarga
+     * (bulkhead/circuit breaker) devolvem a mensagem à fila na hora, sem bloquear a thread
+     * (com o circuito aberto o {@link ListenerCircuitGate} para os listeners); demais falhas
+     * vão para a DLQ.
      *
      * @param event         Evento de criação de pedido do sistema externo
      * @param correlationId ID de correlação da mensagem para rastreabilidade
+     * @param amqpTimestamp Timestamp de publicação da mensagem, quando informado pelo produtor
      */
     @RabbitListener(queues = "${rabbitmq.queues.order-created}")
     public void handleOrderCreatedEvent(
             @Payload OrderCreatedEvent event,
-            @Header(AmqpHeaders.CORRELATION_ID) String correlationId) {
-
-        log.info("OrderCreatedEvent recebido - correlationId: {}, customerId: {}, items: {}",
-                correlationId, event.customerId(), event.items().size());
+            @Header(AmqpHeaders.CORRELATION_ID) String correlationId,
+            @Header(name = AmqpHeaders.TIMESTAMP, required = false) Date amqpTimestamp) {
+
+        int itemCount = event.items() == null ? 0 : event.items().size();
+        log.debug("OrderCreatedEvent recebido - correlationId: {}, customerId: {}, items: {}",
+                correlationId, event.customerId(), itemCount);
+
+        tagCurrentObservation(correlationId);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        IngestionLatencyRecorder.Ingestion ingestion = latencyRecorder.start(amqpTimestamp, event.createdAt());
+        OrderSummary.OrderSummaryBuilder summary = OrderSummary.builder()
+                .channel("amqp")
+                .outcome("error")
+                .correlationId(correlationId)
+                .externalOrderId(event.correlationId())
+                .itemCount(itemCount);
 
         try {
-            // Valida o evento
-            validateEvent(event);
-
             // Converte evento para comando
             CreateOrderCommand command = mapToCommand(event);
+            ingestion.stage(Stage.MAPPING);
+
+            // Valida envelope e comando
+            validateEvent(event);
+            validateCommand(command);
+            ingestion.stage(Stage.VALIDATION);
 
-            // Processa criação do pedido
             var order = createOrderUseCase.execute(command);
+            ingestion.stage(Stage.PERSISTENCE);
+            ingestion.committed();
 
-            log.info("Pedido criado com sucesso - orderId: {}, correlationId: {}",
-                    order.getId(), correlationId);
+            summary.outcome("success").orderId(order.getId());
 
+        } catch (DuplicateOrderException e) {
+            // Reentrega de um pedido já criado: a mensagem é confirmada, sem DLQ nem stack trace
+            summary.outcome("duplicate");
         } catch (DomainException e) {
-            log.error("Erro de domínio processando OrderCreatedEvent - correlationId: {}, error: {}",
-                    correlationId, e.getMessage(), e);
+            summary.outcome("domain_error").error(e);
             throw e; // Será enviado para DLQ
         } catch (IllegalArgumentException e) {
-            log.error("Erro de validação processando OrderCreatedEvent - correlationId: {}, error: {}",
-                    correlationId, e.getMessage(), e);
+            summary.outcome("invalid").error(e);
             throw e; // Será enviado para DLQ
+        } catch (BulkheadFullException | CallNotPermittedException e) {
+            // Sobrecarga: a mensagem volta para a fila em vez de ir para a DLQ
+            summary.outcome("shed").error(e);
+            throw new ImmediateRequeueAmqpException("Consumo adiado por sobrecarga", e);
         } catch (Exception e) {
-            log.error("Erro inesperado processando OrderCreatedEvent - correlationId: {}",
-                    correlationId, e);
+            summary.error(e);
             throw new MessageProcessingException("Falha ao processar evento de criação de pedido", e); // Será enviado para DLQ
+        } finally {
+            ingestion.finish();
+            OrderSummary completed = summary.build();
+            long elapsedNanos = sample.stop(Timer.builder(PROCESSING_TIMER)
+                    .description("Tempo de processamento de OrderCreatedEvent no consumer")
+                    .tag("outcome", completed.outcome())
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+            summaryLogger.log(summary.durationMs(TimeUnit.NANOSECONDS.toMillis(elapsedNanos)).build());
         }
     }
 
     /**
-     * Valida o evento usando Bean Validation
+     * Anexa o correlationId ao span da entrega AMQP (aberto pelo listener container),
+     * permitindo buscar o trace a partir do ID de correlação do produtor.
      */
-    private void validateEvent(OrderCreatedEvent event) {
-        Set<ConstraintViolation<OrderCreatedEvent>> violations = validator.validate(event);
-
-        if (!violations.isEmpty()) {
-            String errors = violations.stream()
-                    .map(v -> "%s: %s".formatted(v.getPropertyPath(), v.getMessage()))
-                    .collect(Collectors.joining(", "));
-
-            log.warn("OrderCreatedEvent inválido recebido: {}", errors);
-            throw new IllegalArgumentException("Evento inválido: " + errors);
+    private void tagCurrentObservation(String correlationId) {
+        Observation current = observationRegistry.getCurrentObservation();
+        if (current != null && correlationId != null) {
+            current.highCardinalityKeyValue(CORRELATION_ID_KEY, correlationId);
         }
+    }
 
-        // Valida itens aninhados
-        for (OrderCreatedEvent.OrderItemEvent item : event.items()) {
-            Set<ConstraintViolation<OrderCreatedEvent.OrderItemEvent>> itemViolations =
-                    validator.validate(item);
-
-            if (!itemViolations.isEmpty()) {
-                String errors = itemViolations.stream()
-                        .map(v -> "%s: %s".formatted(v.getPropertyPath(), v.getMessage()))
-                        .collect(Collectors.joining(", "));
+    /**
+     * Valida o envelope do evento. As regras do pedido e dos itens ficam no
+     * CreateOrderCommandValidator.
+     */
+    private void validateEvent(OrderCreatedEvent event) {
+        if (event.correlationId() == null || event.correlationId().isBlank()) {
+            log.warn("OrderCreatedEvent inválido recebido: correlationId ausente");
+            throw new IllegalArgumentException("Evento inválido: correlationId: Correlation ID é obrigatório para rastreabilidade");
+        }
+    }
 
-                log.warn("OrderItemEvent inválido recebido: {}", errors);
-                throw new IllegalArgumentException("Item inválido: " + errors);
-            }
+    /**
+     * Aplica o CreateOrderCommandValidator antes do caso de uso, para medir a etapa de
+     * validação em separado da persistência e descartar comandos inválidos sem ocupar o
+     * compartimento de ingestão. O caso de uso continua validando o comando (HTTP e AMQP).
+     */
+    private void validateCommand(CreateOrderCommand command) {
+        try {
+            validator.toValidatedOrder(command);
+        } catch (DomainException e) {
+            orderMetrics.validationFailed();
+            throw e;
         }
     }
 
     /**
-     * Mapeia OrderCreatedEvent para CreateOrderCommand
+     * Mapeia OrderCreatedEvent para CreateOrderCommand, usando o correlation_id do evento
+     * como ID externo do pedido.
      */
     private CreateOrderCommand mapToCommand(OrderCreatedEvent event) {
+        if (event.items() == null) {
+            return CreateOrderCommand.builder().externalOrderId(event.correlationId()).build();
+        }
+
         var items = event.items().stream()
                 .map(item -> CreateOrderCommand.OrderItemCommand.builder()
                         .productId(item.productId())
@@ -117,7 +183,7 @@ public class OrderMessageConsumer {
                 .toList();
 
         return CreateOrderCommand.builder()
-                .externalOrderId(event.customerId())
+                .externalOrderId(event.correlationId())
                 .items(items)
                 .build();
     }
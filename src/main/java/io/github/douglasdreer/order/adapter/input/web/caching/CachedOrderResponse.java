@@ -0,0 +1,23 @@
+package io.github.douglasdreer.order.adapter.input.web.caching;
+
+import java.util.UUID;
+
+/**
+ * Resposta serializada de um pedido em uma versão.
+ *
+ * @param id       ID do pedido
+ * @param version  Versão do pedido que originou o corpo
+ * @param body     JSON da resposta
+ * @param gzipped  JSON comprimido em gzip; nulo se a compressão prévia está desligada ou o corpo é pequeno
+ */
+public record CachedOrderResponse(UUID id, long version, byte[] body, byte[] gzipped) {
+
+    /** ETag forte da versão. */
+    public static String etag(long version) {
+        return "\"" + version + "\"";
+    }
+
+    public String etag() {
+        return etag(version);
+    }
+}
@@ -0,0 +1,261 @@
+package io.github.douglasdreer.order.adapter.input.web.caching;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.douglasdreer.order.application.dto.OrderResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Cache LRU das respostas serializadas da consulta de pedido por ID.
+ * <p>
+ * A entrada guarda a versão do pedido: sem a invalidação entre nós, a versão atual é
+ * consultada e a entrada só é reutilizada se coincidir, inclusive para pedidos em status
+ * final, que ainda podem ser corrigidos ou removidos fora do fluxo normal. Com
+ * {@code app.response-cache.gzip} ligado, corpos a partir de
+ * {@code app.response-cache.gzip-min-size} bytes são guardados também comprimidos.
+ * <p>
+ * Com a invalidação entre nós ativa ({@link #setInvalidationActive}), cada alteração de
+ * pedido em qualquer nó remove a entrada desatualizada ({@link #invalidate}); enquanto ela
+ * estiver conectada, toda entrada do cache está atual e é servida sem sonda de versão.
+ * As versões notificadas ficam guardadas para que uma leitura iniciada antes da
+ * notificação não volte a guardar a versão antiga.
+ */
+@Component
+@Slf4j
+public class OrderResponseCache {
+
+    static final String METRIC = "order.response.cache";
+
+    /** Desfecho de uma consulta por ID. */
+    public enum Outcome {
+        /** Servido do cache sem banco: invalidação entre nós ativa. */
+        HIT,
+        /** 304 após a sonda de versão. */
+        REVALIDATED,
+        /** Sonda de versão + bytes do cache. */
+        REUSED,
+        /** Consulta completa e serialização. */
+        MISS
+    }
+
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final boolean gzip;
+    private final int gzipMinSize;
+    private final Map<UUID, CachedOrderResponse> entries;
+    private final Map<UUID, Long> notifiedVersions;
+    private volatile boolean invalidationActive;
+    private final Map<Outcome, Counter> outcomes = new EnumMap<>(Outcome.class);
+
+    public OrderResponseCache(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${app.response-cache.enabled:true}") boolean enabled,
+            @Value("${app.response-cache.max-entries:10000}") int maxEntries,
+            @Value("${app.response-cache.gzip:true}") boolean gzip,
+            @Value("${app.response-cache.gzip-min-size:1024}") int gzipMinSize) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.gzip = gzip;
+        this.gzipMinSize = gzipMinSize;
+        for (Outcome outcome : Outcome.values()) {
+            outcomes.put(outcome, Counter.builder(METRIC)
+                    .description("Consultas de pedido por ID pelo cache de respostas")
+                    .tag("result", outcome.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+        this.entries = new LinkedHashMap<>(Math.min(maxEntries, 1024), 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, CachedOrderResponse> eldest) {
+                return size() > maxEntries;
+            }
+        };
+        this.notifiedVersions = new LinkedHashMap<>(Math.min(maxEntries, 1024), 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, Long> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Resposta guardada do pedido, em qualquer versão.
+     */
+    public Optional<CachedOrderResponse> get(UUID id) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        synchronized (entries) {
+            return Optional.ofNullable(entries.get(id));
+        }
+    }
+
+    /**
+     * Serializa a resposta e a guarda, substituindo versões anteriores do pedido.
+     */
+    public CachedOrderResponse put(OrderResponse response) {
+        byte[] body = serialize(response);
+        CachedOrderResponse entry = new CachedOrderResponse(
+                response.getId(),
+                response.getVersion(),
+                body,
+                gzip && body.length >= gzipMinSize ? gzip(body) : null);
+
+        if (enabled) {
+            synchronized (entries) {
+                Long notified = notifiedVersions.get(entry.id());
+                if (notified == null || entry.version() >= notified) {
+                    entries.merge(entry.id(), entry, (current, candidate) ->
+                            candidate.version() >= current.version() ? candidate : current);
+                }
+            }
+        }
+        return entry;
+    }
+
+    /**
+     * Indica se a entrada pode ser servida sem consultar a versão no banco.
+     */
+    public boolean isFresh(CachedOrderResponse entry) {
+        return invalidationActive;
+    }
+
+    /**
+     * Liga/desliga a confiança nas entradas, conforme a conexão de invalidação.
+     */
+    public void setInvalidationActive(boolean active) {
+        invalidationActive = active;
+    }
+
+    /**
+     * Registra que o pedido está na versão informada e remove a entrada anterior a ela.
+     *
+     * @return {@code true} se uma entrada foi removida
+     */
+    public boolean invalidate(UUID id, long version) {
+        synchronized (entries) {
+            notifiedVersions.merge(id, version, Math::max);
+            CachedOrderResponse current = entries.get(id);
+            if (current != null && current.version() < version) {
+                entries.remove(id);
+                return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Versões das entradas guardadas, para a ressincronização com o banco.
+     */
+    public Map<UUID, Long> cachedVersions() {
+        synchronized (entries) {
+            Map<UUID, Long> versions = new HashMap<>(entries.size() * 2);
+            entries.values().forEach(entry -> versions.put(entry.id(), entry.version()));
+            return versions;
+        }
+    }
+
+    /**
+     * Remove a resposta guardada do pedido.
+     */
+    public void evict(UUID id) {
+        synchronized (entries) {
+            entries.remove(id);
+        }
+    }
+
+    /**
+     * Registra o desfecho de uma consulta.
+     */
+    public void record(Outcome outcome) {
+        outcomes.get(outcome).increment();
+    }
+
+    /**
+     * Verifica se o cabeçalho If-None-Match contém o ETag (comparação fraca, RFC 9110).
+     */
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || (tag.startsWith("W/") ? tag.substring(2) : tag).equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Verifica se o cabeçalho Accept-Encoding aceita gzip, respeitando os valores q
+     * (RFC 9110): {@code gzip;q=0} recusa, e {@code *} vale quando gzip não é citado.
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzipQuality = null;
+        Double wildcardQuality = null;
+        for (String candidate : acceptEncoding.split(",")) {
+            String[] parts = candidate.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            double quality = 1.0;
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim();
+                if (param.regionMatches(true, 0, "q=", 0, 2)) {
+                    quality = parseQuality(param.substring(2).trim());
+                }
+            }
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzipQuality = quality;
+            } else if (coding.equals("*")) {
+                wildcardQuality = quality;
+            }
+        }
+        double quality = gzipQuality != null ? gzipQuality : wildcardQuality != null ? wildcardQuality : 0;
+        return quality > 0;
+    }
+
+    private static double parseQuality(String value) {
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private byte[] serialize(OrderResponse response) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Falha ao serializar o pedido " + response.getId(), e);
+        }
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(body.length / 4 + 32);
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+}
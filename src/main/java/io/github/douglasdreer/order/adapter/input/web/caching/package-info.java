@@ -0,0 +1,8 @@
+/**
+ * Adaptador Web - Cache de Respostas
+ *
+ * Bytes já serializados (e opcionalmente já comprimidos) da consulta de pedido por ID,
+ * com ETag forte derivado da versão do pedido. Com a invalidação entre nós ativa as
+ * entradas são servidas sem acesso ao banco; sem ela, são revalidadas por uma sonda de versão.
+ */
+package io.github.douglasdreer.order.adapter.input.web.caching;
@@ -0,0 +1,74 @@
+package io.github.douglasdreer.order.adapter.input.web.concurrency;
+
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Limite de concorrência AIMD (additive increase, multiplicative decrease).
+ * <p>
+ * Cada requisição concluída é uma amostra de RTT. Se o RTT excede o limiar de latência ou
+ * a requisição falhou, o limite é multiplicado por {@code backoffRatio}; caso contrário,
+ * cresce uma unidade - mas só quando pelo menos metade do limite está em uso, para não
+ * inflar o limite em períodos ociosos. O resultado fica sempre entre o mínimo e o máximo.
+ */
+final class AimdLimit {
+
+    /**
+     * Configuração de uma partição ({@code app.concurrency-limit.write|read}).
+     *
+     * @param initialLimit     Limite inicial de requisições em andamento
+     * @param minLimit         Piso do limite
+     * @param maxLimit         Teto do limite
+     * @param latencyThreshold RTT acima do qual a amostra conta como degradação
+     * @param backoffRatio     Fator aplicado ao limite em cada degradação (0 a 1, exclusivo)
+     */
+    record Settings(
+            @DefaultValue("20") int initialLimit,
+            @DefaultValue("1") int minLimit,
+            @DefaultValue("200") int maxLimit,
+            @DefaultValue("500ms") Duration latencyThreshold,
+            @DefaultValue("0.9") double backoffRatio
+    ) {
+
+        Settings {
+            if (minLimit < 1 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+                throw new IllegalArgumentException(
+                        "Limites inválidos: inicial=%d, mínimo=%d, máximo=%d".formatted(initialLimit, minLimit, maxLimit));
+            }
+            if (backoffRatio <= 0.0 || backoffRatio >= 1.0) {
+                throw new IllegalArgumentException("backoff-ratio deve estar entre 0 e 1: " + backoffRatio);
+            }
+        }
+    }
+
+    private final Settings settings;
+    private final long latencyThresholdNanos;
+    private volatile int limit;
+
+    AimdLimit(Settings settings) {
+        this.settings = settings;
+        this.latencyThresholdNanos = settings.latencyThreshold().toNanos();
+        this.limit = settings.initialLimit();
+    }
+
+    int current() {
+        return limit;
+    }
+
+    /**
+     * Ajusta o limite com uma amostra.
+     *
+     * @param rttNanos Tempo da requisição
+     * @param inFlight Requisições em andamento quando esta começou a ser concluída (incluindo ela)
+     * @param dropped  Se a requisição falhou ou foi rejeitada mais adiante (5xx)
+     */
+    synchronized void onSample(long rttNanos, int inFlight, boolean dropped) {
+        int current = limit;
+        if (dropped || rttNanos > latencyThresholdNanos) {
+            limit = Math.max(settings.minLimit(), (int) (current * settings.backoffRatio()));
+        } else if (inFlight * 2 >= current) {
+            limit = Math.min(settings.maxLimit(), current + 1);
+        }
+    }
+}
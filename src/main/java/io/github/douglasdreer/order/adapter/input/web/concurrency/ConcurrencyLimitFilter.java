@@ -0,0 +1,147 @@
+package io.github.douglasdreer.order.adapter.input.web.concurrency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Limite de concorrência adaptativo para {@code /api/v1/orders/**}.
+ * <p>
+ * Escritas (POST/PATCH/...) e leituras (GET/HEAD) têm limites independentes
+ * ({@code app.concurrency-limit.write|read}), ajustados por {@link AimdLimit} a partir do
+ * RTT de cada requisição: quando a latência passa do limiar ou a resposta é 5xx, o limite
+ * encolhe e o excedente recebe 429 com Retry-After antes de ocupar thread do controller
+ * ou conexão do pool. Roda logo após a observação HTTP, para que as rejeições apareçam em
+ * {@code http.server.requests}.
+ * <p>
+ * Métricas por partição: {@code order.concurrency.limit}, {@code order.concurrency.inflight}
+ * e {@code order.concurrency.rejected}.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@Slf4j
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    static final String LIMIT_METRIC = "order.concurrency.limit";
+    static final String IN_FLIGHT_METRIC = "order.concurrency.inflight";
+    static final String REJECTED_METRIC = "order.concurrency.rejected";
+
+    private static final String ORDERS_PATH = "/api/v1/orders";
+    private static final String PROPERTIES = "app.concurrency-limit";
+
+    private final boolean enabled;
+    private final Duration retryAfter;
+    private final ObjectMapper objectMapper;
+    private final ConcurrencyLimiter writes;
+    private final ConcurrencyLimiter reads;
+    private final Counter writesRejected;
+    private final Counter readsRejected;
+
+    @Autowired
+    public ConcurrencyLimitFilter(
+            MeterRegistry meterRegistry,
+            ObjectMapper objectMapper,
+            Environment environment,
+            @Value("${app.concurrency-limit.enabled:true}") boolean enabled,
+            @Value("${app.concurrency-limit.retry-after:1s}") Duration retryAfter) {
+        this(meterRegistry, objectMapper, enabled, retryAfter,
+                settings(environment, "write"), settings(environment, "read"));
+    }
+
+    ConcurrencyLimitFilter(MeterRegistry meterRegistry, ObjectMapper objectMapper, boolean enabled,
+                           Duration retryAfter, AimdLimit.Settings write, AimdLimit.Settings read) {
+        this.enabled = enabled;
+        this.retryAfter = retryAfter;
+        this.objectMapper = objectMapper;
+        this.writes = new ConcurrencyLimiter("write", write);
+        this.reads = new ConcurrencyLimiter("read", read);
+        this.writesRejected = register(meterRegistry, writes);
+        this.readsRejected = register(meterRegistry, reads);
+        log.info("Limite de concorrência adaptativo: habilitado={}, escrita={}, leitura={}", enabled, write, read);
+    }
+
+    private static AimdLimit.Settings settings(Environment environment, String partition) {
+        return Binder.get(environment)
+                .bindOrCreate(PROPERTIES + "." + partition, Bindable.of(AimdLimit.Settings.class));
+    }
+
+    private static Counter register(MeterRegistry meterRegistry, ConcurrencyLimiter limiter) {
+        Gauge.builder(LIMIT_METRIC, limiter, ConcurrencyLimiter::limit)
+                .description("Limite atual de requisições em andamento")
+                .tag("partition", limiter.partition())
+                .register(meterRegistry);
+        Gauge.builder(IN_FLIGHT_METRIC, limiter, ConcurrencyLimiter::inFlight)
+                .description("Requisições em andamento")
+                .tag("partition", limiter.partition())
+                .register(meterRegistry);
+        return Counter.builder(REJECTED_METRIC)
+                .description("Requisições recusadas por exceder o limite de concorrência")
+                .tag("partition", limiter.partition())
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !request.getRequestURI().substring(request.getContextPath().length()).startsWith(ORDERS_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean read = "GET".equals(request.getMethod()) || "HEAD".equals(request.getMethod());
+        ConcurrencyLimiter limiter = read ? reads : writes;
+
+        if (!limiter.tryAcquire()) {
+            (read ? readsRejected : writesRejected).increment();
+            reject(response, limiter);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean dropped = true;
+        try {
+            filterChain.doFilter(request, response);
+            dropped = response.getStatus() >= HttpStatus.INTERNAL_SERVER_ERROR.value();
+        } finally {
+            limiter.release(System.nanoTime() - start, dropped);
+        }
+    }
+
+    private void reject(HttpServletResponse response, ConcurrencyLimiter limiter) throws IOException {
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.TOO_MANY_REQUESTS,
+                "Limite de requisições simultâneas atingido (%s: %d). Tente novamente mais tarde."
+                        .formatted(limiter.partition(), limiter.limit()));
+        problemDetail.setTitle("Muitas Requisições");
+        problemDetail.setType(URI.create("https://api.order-service.io/errors/overloaded"));
+        problemDetail.setProperty("timestamp", Instant.now());
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter.toSeconds()));
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), problemDetail);
+    }
+}
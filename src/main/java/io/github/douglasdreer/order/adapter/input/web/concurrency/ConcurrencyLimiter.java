@@ -0,0 +1,57 @@
+package io.github.douglasdreer.order.adapter.input.web.concurrency;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Contador de requisições em andamento de uma partição, limitado por um {@link AimdLimit}.
+ * <p>
+ * A admissão não bloqueia: acima do limite a requisição é recusada na hora.
+ */
+final class ConcurrencyLimiter {
+
+    private final String partition;
+    private final AimdLimit limit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    ConcurrencyLimiter(String partition, AimdLimit.Settings settings) {
+        this.partition = partition;
+        this.limit = new AimdLimit(settings);
+    }
+
+    String partition() {
+        return partition;
+    }
+
+    int limit() {
+        return limit.current();
+    }
+
+    int inFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Tenta admitir uma requisição.
+     *
+     * @return {@code false} se o limite atual já foi atingido
+     */
+    boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit.current()) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Libera uma requisição admitida e usa o seu RTT como amostra para o limite.
+     */
+    void release(long rttNanos, boolean dropped) {
+        int current = inFlight.getAndDecrement();
+        limit.onSample(rttNanos, current, dropped);
+    }
+}
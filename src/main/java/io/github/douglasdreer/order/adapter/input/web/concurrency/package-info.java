@@ -0,0 +1,9 @@
+/**
+ * Adaptador Web - Limite de Concorrência Adaptativo
+ *
+ * Filtro na frente do OrderController que limita as requisições em andamento
+ * por partição (escrita/leitura). O limite segue AIMD: cresce uma unidade
+ * enquanto a latência está saudável e é reduzido multiplicativamente quando
+ * a latência degrada ou a aplicação falha; o excedente recebe 429 imediato.
+ */
+package io.github.douglasdreer.order.adapter.input.web.concurrency;
@@ -0,0 +1,51 @@
+package io.github.douglasdreer.order.adapter.input.web.consistency;
+
+import io.github.douglasdreer.order.infrastructure.persistence.replica.ReplicaLagMonitor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Devolve o {@code Consistency-Token} nas escritas bem-sucedidas.
+ * <p>
+ * O corpo é escrito depois do commit da transação do caso de uso, então o LSN atual do
+ * primário já cobre a escrita. Só há token quando existem réplicas de leitura.
+ */
+@RestControllerAdvice
+@RequiredArgsConstructor
+public class ConsistencyTokenAdvice implements ResponseBodyAdvice<Object> {
+
+    private static final Set<HttpMethod> WRITES = Set.of(HttpMethod.POST, HttpMethod.PUT, HttpMethod.PATCH, HttpMethod.DELETE);
+
+    private final Optional<ReplicaLagMonitor> replicaLagMonitor;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return replicaLagMonitor.isPresent();
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (WRITES.contains(request.getMethod()) && isSuccessful(response)) {
+            replicaLagMonitor.get().primaryLsn()
+                    .ifPresent(lsn -> response.getHeaders().set(ConsistencyTokenFilter.HEADER, lsn.toString()));
+        }
+        return body;
+    }
+
+    private static boolean isSuccessful(ServerHttpResponse response) {
+        return response instanceof ServletServerHttpResponse servlet && servlet.getServletResponse().getStatus() < 300;
+    }
+}
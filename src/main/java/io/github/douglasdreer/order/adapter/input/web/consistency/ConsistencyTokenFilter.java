@@ -0,0 +1,66 @@
+package io.github.douglasdreer.order.adapter.input.web.consistency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.douglasdreer.order.infrastructure.persistence.replica.Lsn;
+import io.github.douglasdreer.order.infrastructure.persistence.replica.ReadConsistency;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Instant;
+
+/**
+ * Aplica o cabeçalho {@code Consistency-Token} recebido às leituras da requisição.
+ * <p>
+ * O token é o LSN do primário devolvido por uma escrita anterior (ver
+ * {@link ConsistencyTokenAdvice}); enquanto a réplica não tiver aplicado essa posição do
+ * WAL, as transações somente leitura da requisição vão para o primário.
+ */
+@Component
+@RequiredArgsConstructor
+public class ConsistencyTokenFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Consistency-Token";
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getHeader(HEADER) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Lsn token;
+        try {
+            token = Lsn.parse(request.getHeader(HEADER).trim());
+        } catch (IllegalArgumentException e) {
+            ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, e.getMessage());
+            problemDetail.setTitle("Consistency-Token Inválido");
+            problemDetail.setType(URI.create("https://api.order-service.io/errors/consistency-token"));
+            problemDetail.setProperty("timestamp", Instant.now());
+
+            response.setStatus(HttpStatus.BAD_REQUEST.value());
+            response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+            objectMapper.writeValue(response.getOutputStream(), problemDetail);
+            return;
+        }
+
+        ReadConsistency.require(token);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadConsistency.clear();
+        }
+    }
+}
@@ -0,0 +1,8 @@
+/**
+ * Adaptador Web - Consistência de Leitura
+ *
+ * Token de consistência (LSN do primário) devolvido nas escritas e aceito nas
+ * leituras seguintes, para que o cliente leia as próprias escritas mesmo quando
+ * a consulta é atendida por uma réplica.
+ */
+package io.github.douglasdreer.order.adapter.input.web.consistency;
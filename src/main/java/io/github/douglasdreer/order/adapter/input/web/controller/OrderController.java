@@ -1,28 +1,44 @@
 package io.github.douglasdreer.order.adapter.input.web.controller;
 
+import io.github.douglasdreer.order.adapter.input.web.caching.CachedOrderResponse;
+import io.github.douglasdreer.order.adapter.input.web.caching.OrderResponseCache;
+import io.github.douglasdreer.order.adapter.input.web.idempotency.IdempotencyFilter;
+import io.github.douglasdreer.order.adapter.input.web.streaming.OrderStreamHub;
 import io.github.douglasdreer.order.application.dto.CreateOrderCommand;
+import io.github.douglasdreer.order.application.dto.OrderChangesResponse;
 import io.github.douglasdreer.order.application.dto.OrderResponse;
+import io.github.douglasdreer.order.application.dto.StatusTransitionResponse;
 import io.github.douglasdreer.order.application.port.input.CreateOrderUseCase;
 import io.github.douglasdreer.order.application.port.input.GetOrderUseCase;
 import io.github.douglasdreer.order.application.port.input.ProcessOrderUseCase;
+import io.github.douglasdreer.order.domain.exception.DomainException;
+import io.github.douglasdreer.order.domain.exception.DuplicateOrderException;
+import io.github.douglasdreer.order.infrastructure.logging.OrderSummary;
+import io.github.douglasdreer.order.infrastructure.logging.OrderSummaryLogger;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 /** Controlador REST para operações de pedidos. */
 @RestController
@@ -35,6 +51,9 @@ public class OrderController {
     private final CreateOrderUseCase createOrderUseCase;
     private final GetOrderUseCase getOrderUseCase;
     private final ProcessOrderUseCase processOrderUseCase;
+    private final OrderResponseCache responseCache;
+    private final OrderStreamHub orderStream;
+    private final OrderSummaryLogger summaryLogger;
 
     @Operation(
             summary = "Criar novo pedido",
@@ -55,22 +74,61 @@ public class OrderController {
             description = "Pedido duplicado",
             content = @Content(schema = @Schema(implementation = ProblemDetail.class))
     )
+    @ApiResponse(
+            responseCode = "422",
+            description = "Idempotency-Key já usada com outra requisição",
+            content = @Content(schema = @Schema(implementation = ProblemDetail.class))
+    )
+    @Parameter(
+            in = ParameterIn.HEADER,
+            name = IdempotencyFilter.HEADER,
+            description = "Chave de idempotência: retentativas com a mesma chave recebem a resposta original",
+            schema = @Schema(type = "string", maxLength = 255)
+    )
     @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<OrderResponse> createOrder(
-            @Valid @RequestBody CreateOrderCommand command) {
+            @RequestBody CreateOrderCommand command) {
         
-        log.info("Requisição para criar pedido: externalOrderId={}", command.getExternalOrderId());
+        log.debug("Requisição para criar pedido: externalOrderId={}", command.getExternalOrderId());
         
-        OrderResponse response = createOrderUseCase.execute(command);
+        long start = System.nanoTime();
+        OrderSummary.OrderSummaryBuilder summary = OrderSummary.builder()
+                .channel("http")
+                .outcome("error")
+                .externalOrderId(command.getExternalOrderId())
+                .itemCount(command.getItems() == null ? 0 : command.getItems().size());
         
-        log.info("Pedido criado: id={}", response.getId());
-        
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        try {
+            OrderResponse response = createOrderUseCase.execute(command);
+            summary.outcome("success").orderId(response.getId());
+            
+            log.debug("Pedido criado: id={}", response.getId());
+            
+            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        } catch (DuplicateOrderException e) {
+            summary.outcome("duplicate");
+            throw e;
+        } catch (DomainException e) {
+            summary.outcome("domain_error").error(e);
+            throw e;
+        } catch (IllegalArgumentException e) {
+            summary.outcome("invalid").error(e);
+            throw e;
+        } catch (BulkheadFullException | CallNotPermittedException e) {
+            summary.outcome("shed").error(e);
+            throw e;
+        } catch (RuntimeException e) {
+            summary.error(e);
+            throw e;
+        } finally {
+            summaryLogger.log(summary.durationMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).build());
+        }
     }
 
     @Operation(
             summary = "Buscar pedido por ID",
-            description = "Retorna os detalhes de um pedido específico incluindo todos os itens."
+            description = "Retorna os detalhes de um pedido específico incluindo todos os itens. "
+                    + "A resposta traz ETag forte (versão do pedido); com If-None-Match, responde 304 se não houve mudança."
     )
     @ApiResponse(
             responseCode = "200",
@@ -82,18 +140,71 @@ public class OrderController {
             description = "Pedido não encontrado",
             content = @Content(schema = @Schema(implementation = ProblemDetail.class))
     )
+    @ApiResponse(
+            responseCode = "304",
+            description = "Pedido não mudou desde o ETag informado em If-None-Match"
+    )
     @GetMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<OrderResponse> getOrderById(
+    public ResponseEntity<byte[]> getOrderById(
             @Parameter(description = "ID único do pedido", example = "550e8400-e29b-41d4-a716-446655440000")
-            @PathVariable UUID id) {
+            @PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
         
         log.debug("Requisição para buscar pedido: id={}", id);
         
+        // Com a invalidação entre nós ativa a entrada está atual: responde sem acessar o banco.
+        // Sem ela, toda entrada (mesmo de pedido em status final) passa pela sonda de versão
+        Optional<CachedOrderResponse> cached = responseCache.get(id);
+        if (cached.isPresent() && responseCache.isFresh(cached.get())) {
+            responseCache.record(OrderResponseCache.Outcome.HIT);
+            return cachedResponse(cached.get(), ifNoneMatch, acceptEncoding);
+        }
+        
+        // Revalidação ou entrada de versão anterior: só a versão é consultada
+        if (ifNoneMatch != null || cached.isPresent()) {
+            Optional<Long> version = getOrderUseCase.findVersion(id);
+            if (version.isEmpty()) {
+                responseCache.evict(id);
+                return ResponseEntity.notFound().build();
+            }
+            String etag = CachedOrderResponse.etag(version.get());
+            if (OrderResponseCache.matches(ifNoneMatch, etag)) {
+                responseCache.record(OrderResponseCache.Outcome.REVALIDATED);
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+            }
+            if (cached.isPresent() && cached.get().version() == version.get()) {
+                responseCache.record(OrderResponseCache.Outcome.REUSED);
+                return cachedResponse(cached.get(), ifNoneMatch, acceptEncoding);
+            }
+        }
+        
+        responseCache.record(OrderResponseCache.Outcome.MISS);
         return getOrderUseCase.findById(id)
-                .map(ResponseEntity::ok)
+                .map(responseCache::put)
+                .map(entry -> cachedResponse(entry, ifNoneMatch, acceptEncoding))
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    /**
+     * Responde com os bytes guardados (comprimidos, se o cliente aceitar) ou 304 se o ETag coincidir.
+     */
+    private static ResponseEntity<byte[]> cachedResponse(CachedOrderResponse entry, String ifNoneMatch,
+                                                         String acceptEncoding) {
+        if (OrderResponseCache.matches(ifNoneMatch, entry.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(entry.etag()).build();
+        }
+        
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .eTag(entry.etag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (entry.gzipped() != null && OrderResponseCache.acceptsGzip(acceptEncoding)) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(entry.gzipped());
+        }
+        return builder.body(entry.body());
+    }
+
     @Operation(
             summary = "Buscar pedido por ID externo",
             description = "Retorna os detalhes de um pedido usando o identificador externo fornecido pelo sistema de origem."
@@ -120,6 +231,31 @@ public class OrderController {
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    @Operation(
+            summary = "Histórico de status do pedido",
+            description = "Retorna as transições de status do pedido em ordem cronológica, com o tempo de permanência em cada status."
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Histórico retornado com sucesso"
+    )
+    @ApiResponse(
+            responseCode = "404",
+            description = "Pedido não encontrado",
+            content = @Content(schema = @Schema(implementation = ProblemDetail.class))
+    )
+    @GetMapping(value = "/{id}/status-history", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<StatusTransitionResponse>> getStatusHistory(
+            @Parameter(description = "ID único do pedido", example = "550e8400-e29b-41d4-a716-446655440000")
+            @PathVariable UUID id) {
+        
+        log.debug("Requisição para buscar histórico de status: id={}", id);
+        
+        return getOrderUseCase.findStatusHistory(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
     @Operation(
             summary = "Listar pedidos por status",
             description = "Retorna uma lista de pedidos filtrados por status."
@@ -140,6 +276,74 @@ public class OrderController {
         return ResponseEntity.ok(orders);
     }
 
+    @Operation(
+            summary = "Feed incremental de mudanças de status",
+            description = "Retorna os pedidos cujo status mudou depois do cursor, em ordem de commit. "
+                    + "Sem cursor, começa do início; o nextCursor da resposta deve ser enviado na próxima chamada."
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Página de mudanças retornada com sucesso"
+    )
+    @ApiResponse(
+            responseCode = "400",
+            description = "Cursor, status ou limite inválido",
+            content = @Content(schema = @Schema(implementation = ProblemDetail.class))
+    )
+    @ApiResponse(
+            responseCode = "501",
+            description = "Feed indisponível no perfil de persistência ativo",
+            content = @Content(schema = @Schema(implementation = ProblemDetail.class))
+    )
+    @GetMapping(value = "/changes", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<OrderChangesResponse> getOrderChanges(
+            @Parameter(description = "Cursor opaco retornado pela chamada anterior")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Filtra pelo status atual do pedido", example = "AVAILABLE")
+            @RequestParam(required = false) String status,
+            @Parameter(description = "Máximo de pedidos na página (1 a " + GetOrderUseCase.MAX_CHANGES_PAGE_SIZE + ")")
+            @RequestParam(defaultValue = "100") int limit) {
+
+        log.debug("Requisição do feed de mudanças: cursor={}, status={}, limit={}", cursor, status, limit);
+
+        return ResponseEntity.ok(getOrderUseCase.findChanges(cursor, status, limit));
+    }
+
+    @Operation(
+            summary = "Stream de mudanças de status (SSE)",
+            description = "Mantém a conexão aberta e envia um evento order-status a cada mudança de status, "
+                    + "opcionalmente filtrado por status e IDs. Para retomar após reconectar, envie o id do último "
+                    + "evento em Last-Event-ID (ou em cursor); a entrega é pelo menos uma vez."
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Conexão SSE aberta"
+    )
+    @ApiResponse(
+            responseCode = "400",
+            description = "Status ou cursor inválido",
+            content = @Content(schema = @Schema(implementation = ProblemDetail.class))
+    )
+    @ApiResponse(
+            responseCode = "501",
+            description = "Stream indisponível no perfil de persistência ativo",
+            content = @Content(schema = @Schema(implementation = ProblemDetail.class))
+    )
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamStatusChanges(
+            @Parameter(description = "Status aceitos (repetível); omitido para todos", example = "AVAILABLE")
+            @RequestParam(name = "status", required = false) List<String> statuses,
+            @Parameter(description = "IDs de pedidos aceitos (repetível); omitido para todos")
+            @RequestParam(name = "id", required = false) List<UUID> orderIds,
+            @Parameter(description = "Id do último evento recebido, quando Last-Event-ID não pode ser enviado")
+            @RequestParam(required = false) String cursor,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+
+        log.debug("Assinatura do stream de mudanças: status={}, ids={}", statuses, orderIds);
+
+        return orderStream.subscribe(statuses, orderIds, lastEventId != null ? lastEventId : cursor);
+    }
+
     @Operation(
             summary = "Listar todos os pedidos",
             description = "Retorna uma lista com todos os pedidos do sistema."
@@ -1,12 +1,20 @@
 package io.github.douglasdreer.order.adapter.input.web.exception;
 
+import io.github.douglasdreer.order.domain.exception.ChangeFeedUnavailableException;
 import io.github.douglasdreer.order.domain.exception.DomainException;
 import io.github.douglasdreer.order.domain.exception.DuplicateOrderException;
+import io.github.douglasdreer.order.domain.exception.InvalidOrderStatusTransitionException;
 import io.github.douglasdreer.order.domain.exception.OrderNotFoundException;
 import io.github.douglasdreer.order.domain.exception.ValidationException;
+import io.github.douglasdreer.order.infrastructure.resilience.LoadSheddingPolicy;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -21,11 +29,14 @@ import java.util.Map;
  * Converte exceções de domínio em respostas HTTP apropriadas seguindo RFC 7807.
  */
 @RestControllerAdvice
+@RequiredArgsConstructor
 @Slf4j
 public class GlobalExceptionHandler {
 
     private static final String TIMESTAMP = "timestamp";
 
+    private final LoadSheddingPolicy loadShedding;
+
     /**
      * Trata exceções de validação de domínio.
      */
@@ -80,6 +91,26 @@ public class GlobalExceptionHandler {
         return problemDetail;
     }
 
+    /**
+     * Trata transições de status inválidas da máquina de estados do pedido.
+     */
+    @ExceptionHandler(InvalidOrderStatusTransitionException.class)
+    public ProblemDetail handleInvalidOrderStatusTransition(InvalidOrderStatusTransitionException ex) {
+        log.warn("Transição de status inválida: {}", ex.getMessage());
+
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
+                HttpStatus.UNPROCESSABLE_ENTITY,
+                ex.getMessage());
+
+        problemDetail.setTitle("Estado Inválido");
+        problemDetail.setType(URI.create("https://api.order-service.io/errors/invalid-state"));
+        problemDetail.setProperty(TIMESTAMP, Instant.now());
+        problemDetail.setProperty("from", ex.getFrom());
+        problemDetail.setProperty("to", ex.getTo());
+
+        return problemDetail;
+    }
+
     /**
      * Trata exceções de validação do Bean Validation.
      */
@@ -122,12 +153,56 @@ public class GlobalExceptionHandler {
         return problemDetail;
     }
 
+    /**
+     * Trata rejeições por sobrecarga (bulkhead cheio ou circuit breaker aberto):
+     * 503 imediato com Retry-After, em vez de manter a thread esperando o banco.
+     */
+    @ExceptionHandler({BulkheadFullException.class, CallNotPermittedException.class})
+    public ResponseEntity<ProblemDetail> handleLoadShedding(RuntimeException ex) {
+        log.warn("Requisição rejeitada por sobrecarga: {}", ex.getMessage());
+
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
+                HttpStatus.SERVICE_UNAVAILABLE,
+                "Serviço temporariamente sobrecarregado. Tente novamente mais tarde.");
+
+        problemDetail.setTitle("Serviço Indisponível");
+        problemDetail.setType(URI.create("https://api.order-service.io/errors/unavailable"));
+        problemDetail.setProperty(TIMESTAMP, Instant.now());
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(loadShedding.retryAfter(ex).toSeconds()))
+                .body(problemDetail);
+    }
+
+    /**
+     * Trata o feed de mudanças indisponível no perfil de persistência ativo.
+     */
+    @ExceptionHandler(ChangeFeedUnavailableException.class)
+    public ProblemDetail handleChangeFeedUnavailable(ChangeFeedUnavailableException ex) {
+        log.warn("Feed de mudanças indisponível: {}", ex.getMessage());
+
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
+                HttpStatus.NOT_IMPLEMENTED,
+                ex.getMessage());
+
+        problemDetail.setTitle("Não Implementado");
+        problemDetail.setType(URI.create("https://api.order-service.io/errors/not-implemented"));
+        problemDetail.setProperty(TIMESTAMP, Instant.now());
+
+        return problemDetail;
+    }
+
     /**
      * Trata outras exceções de domínio.
+     * Resultados esperados ({@link DomainException#isExpected()}) não têm stack trace a registrar.
      */
     @ExceptionHandler(DomainException.class)
     public ProblemDetail handleDomainException(DomainException ex) {
-        log.error("Erro de domínio: {}", ex.getMessage(), ex);
+        if (ex.isExpected()) {
+            log.warn("Erro de domínio: {}", ex.getMessage());
+        } else {
+            log.error("Erro de domínio: {}", ex.getMessage(), ex);
+        }
         
         ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(
                 HttpStatus.BAD_REQUEST,
@@ -0,0 +1,158 @@
+package io.github.douglasdreer.order.adapter.input.web.idempotency;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Cache das respostas idempotentes e coordenação das requisições em andamento.
+ * <p>
+ * As respostas recentes ficam em um LRU limitado a {@code app.idempotency.max-entries};
+ * em caso de falta, a consulta vai ao {@link IdempotencyStore}, quando houver. Requisições
+ * concorrentes com a mesma chave não disputam o caso de uso: a primeira executa
+ * ({@link #acquire} retorna vazio) e as demais aguardam o seu resultado. Se a primeira
+ * terminar sem resposta guardável ({@link #release}), uma das que aguardam assume a execução.
+ */
+@Component
+@Slf4j
+public class IdempotencyCache {
+
+    private final Map<String, IdempotentResponse> recent;
+    private final ConcurrentMap<String, CompletableFuture<IdempotentResponse>> inFlight = new ConcurrentHashMap<>();
+    private final Optional<IdempotencyStore> store;
+    private final Duration waitTimeout;
+
+    @Autowired
+    public IdempotencyCache(
+            Optional<IdempotencyStore> store,
+            @Value("${app.idempotency.max-entries:10000}") int maxEntries,
+            @Value("${app.idempotency.wait-timeout:10s}") Duration waitTimeout) {
+        this.store = store;
+        this.waitTimeout = waitTimeout;
+        this.recent = new LinkedHashMap<>(Math.min(maxEntries, 1024), 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, IdempotentResponse> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Obtém a resposta guardada da chave ou o direito de executar a requisição.
+     *
+     * @return a resposta para replay; vazio se o chamador deve executar a requisição e
+     *         depois chamar {@link #complete} ou {@link #release}
+     * @throws InFlightTimeoutException se a execução em andamento não terminar no prazo
+     */
+    public Optional<IdempotentResponse> acquire(String key) {
+        long deadline = System.nanoTime() + waitTimeout.toNanos();
+        while (true) {
+            IdempotentResponse stored = find(key);
+            if (stored != null) {
+                return Optional.of(stored);
+            }
+
+            CompletableFuture<IdempotentResponse> mine = new CompletableFuture<>();
+            CompletableFuture<IdempotentResponse> running = inFlight.putIfAbsent(key, mine);
+            if (running == null) {
+                // Outra execução pode ter concluído entre a consulta e o registro
+                IdempotentResponse completed = cached(key);
+                if (completed != null) {
+                    inFlight.remove(key, mine);
+                    mine.complete(completed);
+                    return Optional.of(completed);
+                }
+                return Optional.empty();
+            }
+
+            IdempotentResponse result = await(key, running, deadline - System.nanoTime());
+            if (result != null) {
+                return Optional.of(result);
+            }
+            // A execução anterior não gerou resposta guardável: tenta assumir
+        }
+    }
+
+    /**
+     * Guarda a resposta da execução e a entrega às requisições que aguardam a mesma chave.
+     */
+    public void complete(String key, IdempotentResponse response) {
+        synchronized (recent) {
+            recent.put(key, response);
+        }
+        store.ifPresent(s -> {
+            try {
+                s.save(key, response);
+            } catch (RuntimeException e) {
+                // O replay local continua valendo; só a visibilidade entre instâncias é perdida
+                log.warn("Falha ao gravar resposta idempotente: key={}, erro={}", key, e.getMessage());
+            }
+        });
+        CompletableFuture<IdempotentResponse> running = inFlight.remove(key);
+        if (running != null) {
+            running.complete(response);
+        }
+    }
+
+    /**
+     * Libera a chave sem resposta guardada (erro 5xx ou exceção), permitindo nova execução.
+     */
+    public void release(String key) {
+        CompletableFuture<IdempotentResponse> running = inFlight.remove(key);
+        if (running != null) {
+            running.complete(null);
+        }
+    }
+
+    private IdempotentResponse cached(String key) {
+        synchronized (recent) {
+            return recent.get(key);
+        }
+    }
+
+    private IdempotentResponse find(String key) {
+        IdempotentResponse cached = cached(key);
+        if (cached != null) {
+            return cached;
+        }
+        IdempotentResponse stored = store.flatMap(s -> s.find(key)).orElse(null);
+        if (stored != null) {
+            synchronized (recent) {
+                recent.put(key, stored);
+            }
+        }
+        return stored;
+    }
+
+    private static IdempotentResponse await(String key, CompletableFuture<IdempotentResponse> running, long nanos) {
+        try {
+            return running.get(Math.max(nanos, 0), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw new InFlightTimeoutException(key);
+        } catch (ExecutionException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InFlightTimeoutException(key);
+        }
+    }
+
+    /** A requisição com a mesma chave ainda está em execução após o prazo de espera. */
+    public static class InFlightTimeoutException extends RuntimeException {
+        InFlightTimeoutException(String key) {
+            super("Requisição com a mesma Idempotency-Key ainda em andamento: " + key, null, false, false);
+        }
+    }
+}
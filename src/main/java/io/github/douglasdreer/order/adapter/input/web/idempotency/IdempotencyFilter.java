@@ -0,0 +1,262 @@
+package io.github.douglasdreer.order.adapter.input.web.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UnsupportedEncodingException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Idempotency-Key em {@code POST /api/v1/orders}.
+ * <p>
+ * Sem o cabeçalho, a requisição segue normalmente. Com ele, a primeira execução tem a
+ * resposta (status, cabeçalhos e corpo) guardada se o status for menor que 500;
+ * retentativas com a mesma chave recebem essa resposta byte a byte, com o cabeçalho
+ * {@code Idempotent-Replayed: true}, sem passar pelo controller. Reutilizar a chave com
+ * outro corpo resulta em 422; uma retentativa que espera além do prazo pela execução
+ * em andamento recebe 409.
+ * <p>
+ * O corpo da requisição é lido em memória para o fingerprint, limitado a
+ * {@code app.idempotency.max-body-size} (acima disso, 413); respostas maiores que o
+ * limite seguem para o cliente mas não são guardadas.
+ */
+@Component
+@Slf4j
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Idempotency-Key";
+    static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    static final String METRIC = "order.idempotency.requests";
+    static final int MAX_KEY_LENGTH = 255;
+
+    private static final String ORDERS_PATH = "/api/v1/orders";
+
+    /** Cabeçalhos não reenviados: descrevem a mensagem ou a conexão atual, ou já são tratados à parte. */
+    private static final Set<String> NON_REPLAYED_HEADERS = Set.of(
+            "content-type", "content-length", "transfer-encoding", "connection", "date", "set-cookie",
+            REPLAYED_HEADER.toLowerCase(Locale.ROOT));
+
+    private final IdempotencyCache cache;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final int maxBodySize;
+
+    public IdempotencyFilter(IdempotencyCache cache, ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                             @Value("${app.idempotency.max-body-size:1MB}") DataSize maxBodySize) {
+        this.cache = cache;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.maxBodySize = (int) Math.min(maxBodySize.toBytes(), Integer.MAX_VALUE - 8);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getHeader(HEADER) == null
+                || !"POST".equals(request.getMethod())
+                || !ORDERS_PATH.equals(request.getRequestURI().substring(request.getContextPath().length()));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String key = request.getHeader(HEADER).trim();
+        if (key.isEmpty() || key.length() > MAX_KEY_LENGTH) {
+            count("invalid");
+            writeProblem(response, HttpStatus.BAD_REQUEST, "Idempotency-Key Inválida",
+                    "Idempotency-Key deve ter entre 1 e %d caracteres".formatted(MAX_KEY_LENGTH));
+            return;
+        }
+
+        byte[] body = request.getContentLengthLong() > maxBodySize
+                ? null
+                : request.getInputStream().readNBytes(maxBodySize + 1);
+        if (body == null || body.length > maxBodySize) {
+            count("too_large");
+            writeProblem(response, HttpStatus.PAYLOAD_TOO_LARGE, "Requisição Muito Grande",
+                    "Corpo maior que o limite de %d bytes para requisições com Idempotency-Key".formatted(maxBodySize));
+            return;
+        }
+        String requestHash = fingerprint(request, body);
+
+        Optional<IdempotentResponse> stored;
+        try {
+            stored = cache.acquire(key);
+        } catch (IdempotencyCache.InFlightTimeoutException e) {
+            count("timeout");
+            writeProblem(response, HttpStatus.CONFLICT, "Requisição em Andamento", e.getMessage());
+            return;
+        }
+
+        if (stored.isPresent()) {
+            replay(key, requestHash, stored.get(), response);
+            return;
+        }
+
+        count("executed");
+        execute(key, requestHash, new CachedBodyRequest(request, body), response, filterChain);
+    }
+
+    private void execute(String key, String requestHash, HttpServletRequest request, HttpServletResponse response,
+                         FilterChain filterChain) throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        IdempotentResponse result = null;
+        try {
+            filterChain.doFilter(request, wrapper);
+            if (wrapper.getStatus() < HttpStatus.INTERNAL_SERVER_ERROR.value()) {
+                if (wrapper.getContentSize() <= maxBodySize) {
+                    result = new IdempotentResponse(requestHash, wrapper.getStatus(), wrapper.getContentType(),
+                            replayedHeaders(wrapper), wrapper.getContentAsByteArray(), Instant.now());
+                } else {
+                    log.warn("Resposta maior que o limite não guardada para replay: key={}, bytes={}",
+                            key, wrapper.getContentSize());
+                }
+            }
+        } finally {
+            if (result != null) {
+                cache.complete(key, result);
+            } else {
+                cache.release(key);
+            }
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    private void replay(String key, String requestHash, IdempotentResponse stored, HttpServletResponse response)
+            throws IOException {
+        if (!stored.requestHash().equals(requestHash)) {
+            count("mismatch");
+            log.warn("Idempotency-Key reutilizada com outra requisição: key={}", key);
+            writeProblem(response, HttpStatus.UNPROCESSABLE_ENTITY, "Idempotency-Key Reutilizada",
+                    "Idempotency-Key já usada com outra requisição");
+            return;
+        }
+
+        count("replayed");
+        response.setStatus(stored.status());
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        stored.headers().forEach((name, values) -> values.forEach(value -> response.addHeader(name, value)));
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.setContentLength(stored.body().length);
+        response.getOutputStream().write(stored.body());
+    }
+
+    private static Map<String, List<String>> replayedHeaders(HttpServletResponse response) {
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        for (String name : new LinkedHashSet<>(response.getHeaderNames())) {
+            if (!NON_REPLAYED_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+                headers.put(name, List.copyOf(response.getHeaders(name)));
+            }
+        }
+        return headers;
+    }
+
+    private void writeProblem(HttpServletResponse response, HttpStatus status, String title, String detail)
+            throws IOException {
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(status, detail);
+        problemDetail.setTitle(title);
+        problemDetail.setType(URI.create("https://api.order-service.io/errors/idempotency"));
+        problemDetail.setProperty("timestamp", Instant.now());
+
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), problemDetail);
+    }
+
+    private void count(String result) {
+        meterRegistry.counter(METRIC, "result", result).increment();
+    }
+
+    private static String fingerprint(HttpServletRequest request, byte[] body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((request.getMethod() + ' ' + request.getRequestURI() + '\n').getBytes(StandardCharsets.UTF_8));
+            digest.update(body);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+
+    /** Reapresenta ao controller o corpo já lido para o cálculo do fingerprint. */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream source = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return source.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return source.read(buffer, offset, length);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return source.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    throw new UnsupportedOperationException("Leitura assíncrona não suportada");
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() throws UnsupportedEncodingException {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                    encoding != null ? encoding : StandardCharsets.UTF_8.name()));
+        }
+    }
+}
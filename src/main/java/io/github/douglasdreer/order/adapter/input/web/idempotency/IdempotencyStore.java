@@ -0,0 +1,20 @@
+package io.github.douglasdreer.order.adapter.input.web.idempotency;
+
+import java.util.Optional;
+
+/**
+ * Armazenamento durável das respostas idempotentes, compartilhado entre instâncias.
+ * Ausente no perfil {@code in-memory}, em que só o cache local é usado.
+ */
+public interface IdempotencyStore {
+
+    /**
+     * @return a resposta guardada para a chave, se existir e ainda estiver dentro do TTL
+     */
+    Optional<IdempotentResponse> find(String key);
+
+    /**
+     * Guarda a resposta; se outra instância já gravou a mesma chave, mantém a existente.
+     */
+    void save(String key, IdempotentResponse response);
+}
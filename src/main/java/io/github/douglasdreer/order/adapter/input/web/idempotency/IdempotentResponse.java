@@ -0,0 +1,25 @@
+package io.github.douglasdreer.order.adapter.input.web.idempotency;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Resposta HTTP guardada para replay de uma Idempotency-Key.
+ *
+ * @param requestHash SHA-256 (hex) de método, caminho e corpo da requisição original
+ * @param status      Status HTTP da resposta original
+ * @param contentType Content-Type da resposta original; pode ser nulo
+ * @param headers     Demais cabeçalhos da resposta original (ex.: Location, Consistency-Token)
+ * @param body        Corpo da resposta original, exatamente como enviado
+ * @param createdAt   Momento em que a resposta foi guardada
+ */
+public record IdempotentResponse(
+        String requestHash,
+        int status,
+        String contentType,
+        Map<String, List<String>> headers,
+        byte[] body,
+        Instant createdAt
+) {
+}
@@ -0,0 +1,8 @@
+/**
+ * Adaptador Web - Idempotência
+ *
+ * Suporte ao cabeçalho Idempotency-Key em POST /api/v1/orders: a primeira
+ * resposta (status, cabeçalhos e corpo) é guardada (cache LRU em memória +
+ * tabela idempotency_keys) e reenviada nas retentativas, sem executar o caso de uso.
+ */
+package io.github.douglasdreer.order.adapter.input.web.idempotency;
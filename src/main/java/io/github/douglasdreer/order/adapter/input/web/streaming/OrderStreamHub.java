@@ -0,0 +1,358 @@
+package io.github.douglasdreer.order.adapter.input.web.streaming;
+
+import io.github.douglasdreer.order.adapter.input.web.streaming.OrderStreamSubscriber.Changes;
+import io.github.douglasdreer.order.adapter.input.web.streaming.OrderStreamSubscriber.Frame;
+import io.github.douglasdreer.order.adapter.input.web.streaming.OrderStreamSubscriber.Heartbeat;
+import io.github.douglasdreer.order.application.dto.OrderChangesResponse;
+import io.github.douglasdreer.order.application.dto.OrderResponse;
+import io.github.douglasdreer.order.application.port.input.GetOrderUseCase;
+import io.github.douglasdreer.order.domain.exception.ChangeFeedUnavailableException;
+import io.github.douglasdreer.order.domain.exception.ValidationException;
+import io.github.douglasdreer.order.domain.valueobject.OrderStatus;
+import io.github.douglasdreer.order.infrastructure.events.OrderStatusChanged;
+import io.github.douglasdreer.order.infrastructure.persistence.changefeed.ChangeCursor;
+import io.github.douglasdreer.order.infrastructure.persistence.replica.ReadConsistency;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Distribui as mudanças de status dos pedidos para as conexões SSE.
+ * <p>
+ * Uma única thread lê o feed de mudanças pelo {@link GetOrderUseCase} e entrega cada
+ * pedido aos assinantes cujo filtro (status e/ou IDs) o aceita. Ela acorda a cada
+ * {@link OrderStatusChanged} confirmado neste nó e, no máximo a cada
+ * {@code app.order-stream.poll-interval}, para mudanças feitas por outros nós.
+ * <p>
+ * A thread de leitura nunca espera um cliente: cada assinante tem fila própria de
+ * {@code app.order-stream.buffer-size} eventos, esvaziada por uma thread virtual. Com a
+ * fila cheia o assinante é desconectado e reconecta com Last-Event-ID.
+ * <p>
+ * O id dos eventos é um cursor do feed e a retomada relê o feed a partir dele: a entrega
+ * é pelo menos uma vez, e o cliente descarta repetições pelo par (id, version) do pedido.
+ * Toda leitura do feed passa pelo caso de uso (transação somente leitura no pool de
+ * leitura, bulkhead e circuit breaker {@code orderQuery}) fixada no primário: réplicas com
+ * atrasos diferentes dariam à retomada e à leitura contínua posições diferentes do feed, e
+ * as mudanças entre elas nunca chegariam ao assinante. No máximo
+ * {@code app.order-stream.max-concurrent-replays} retomadas leem o feed ao mesmo tempo:
+ * as demais esperam em suas threads virtuais.
+ * Métricas: {@code order.stream.subscribers} e {@code order.stream.evicted}.
+ */
+@Component
+@Slf4j
+public class OrderStreamHub implements SmartLifecycle {
+
+    static final String SUBSCRIBERS_METRIC = "order.stream.subscribers";
+    static final String EVICTED_METRIC = "order.stream.evicted";
+    static final String EVENT_NAME = "order-status";
+
+    private static final int PAGE_SIZE = GetOrderUseCase.MAX_CHANGES_PAGE_SIZE;
+
+    private final GetOrderUseCase orders;
+    private final int bufferSize;
+    private final Duration pollInterval;
+    private final Duration heartbeatInterval;
+    private final Duration timeout;
+    private final Counter evicted;
+    private final Set<OrderStreamSubscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Semaphore wakeUp = new Semaphore(0);
+    private final Semaphore replays;
+    private final ExecutorService writers = Executors.newVirtualThreadPerTaskExecutor();
+
+    private volatile Thread tailer;
+    /** Posição da leitura do feed; nula enquanto não há assinantes. */
+    private ChangeCursor position;
+    private long lastHeartbeat = System.nanoTime();
+
+    public OrderStreamHub(
+            GetOrderUseCase orders,
+            MeterRegistry meterRegistry,
+            @Value("${app.order-stream.buffer-size:256}") int bufferSize,
+            @Value("${app.order-stream.max-concurrent-replays:2}") int maxConcurrentReplays,
+            @Value("${app.order-stream.poll-interval:1s}") Duration pollInterval,
+            @Value("${app.order-stream.heartbeat-interval:15s}") Duration heartbeatInterval,
+            @Value("${app.order-stream.timeout:30m}") Duration timeout) {
+        this.orders = orders;
+        this.bufferSize = bufferSize;
+        this.replays = new Semaphore(maxConcurrentReplays);
+        this.pollInterval = pollInterval;
+        this.heartbeatInterval = heartbeatInterval;
+        this.timeout = timeout;
+        Gauge.builder(SUBSCRIBERS_METRIC, subscribers, Set::size)
+                .description("Conexões SSE abertas no stream de mudanças de status")
+                .register(meterRegistry);
+        this.evicted = Counter.builder(EVICTED_METRIC)
+                .description("Assinantes desconectados por fila de eventos cheia")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Abre uma conexão SSE.
+     *
+     * @param statuses    status aceitos; nulo ou vazio para todos
+     * @param orderIds    IDs de pedidos aceitos; nulo ou vazio para todos
+     * @param lastEventId id do último evento recebido, para retomar; nulo para começar agora
+     * @throws ValidationException           se um status ou o id de retomada for inválido
+     * @throws ChangeFeedUnavailableException se o perfil de persistência não tem feed de mudanças
+     */
+    public SseEmitter subscribe(Collection<String> statuses, Collection<UUID> orderIds, String lastEventId) {
+        Set<String> statusFilter = toStatuses(statuses);
+        ChangeCursor now = ChangeCursor.decode(ReadConsistency.onPrimary(orders::currentChangesCursor));
+        ChangeCursor start = lastEventId == null || lastEventId.isBlank() ? now : ChangeCursor.decode(lastEventId);
+
+        OrderStreamSubscriber subscriber = new OrderStreamSubscriber(new SseEmitter(timeout.toMillis()),
+                statusFilter, orderIds == null ? Set.of() : Set.copyOf(orderIds), bufferSize, start);
+        register(subscriber);
+        return subscriber.emitter();
+    }
+
+    void register(OrderStreamSubscriber subscriber) {
+        SseEmitter emitter = subscriber.emitter();
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onError(error -> remove(subscriber));
+        emitter.onTimeout(emitter::complete);
+
+        synchronized (this) {
+            subscribers.add(subscriber);
+            if (position == null) {
+                position = subscriber.position();
+            }
+        }
+        schedule(subscriber);
+        wakeUp.release();
+    }
+
+    /** Acorda a leitura do feed após o commit de uma mudança de status neste nó. */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatusChanged(OrderStatusChanged event) {
+        wakeUp.release();
+    }
+
+    /**
+     * Lê as mudanças novas do feed e as enfileira para os assinantes que as aceitam.
+     */
+    void poll() {
+        ChangeCursor from;
+        synchronized (this) {
+            if (subscribers.isEmpty()) {
+                position = null;
+                return;
+            }
+            from = position;
+        }
+
+        OrderChangesResponse page;
+        do {
+            page = readFeed(from);
+            from = ChangeCursor.decode(page.getNextCursor());
+            for (OrderStreamSubscriber subscriber : subscribers) {
+                List<OrderResponse> accepted = page.getChanges().stream().filter(subscriber::accepts).toList();
+                if (!accepted.isEmpty()) {
+                    offer(subscriber, new Changes(from, accepted));
+                }
+            }
+        } while (page.isHasMore());
+
+        synchronized (this) {
+            position = from;
+        }
+
+        if (System.nanoTime() - lastHeartbeat >= heartbeatInterval.toNanos()) {
+            lastHeartbeat = System.nanoTime();
+            Heartbeat heartbeat = new Heartbeat(from);
+            subscribers.forEach(subscriber -> offer(subscriber, heartbeat));
+        }
+    }
+
+    private void offer(OrderStreamSubscriber subscriber, Frame frame) {
+        if (subscriber.offer(frame)) {
+            schedule(subscriber);
+            return;
+        }
+        if (subscribers.remove(subscriber)) {
+            evicted.increment();
+            log.warn("Assinante do stream desconectado: fila de {} eventos cheia", bufferSize);
+            subscriber.close();
+            // complete() espera um send() em andamento; a thread de leitura não pode esperar
+            execute(subscriber.emitter()::complete);
+        }
+    }
+
+    private void schedule(OrderStreamSubscriber subscriber) {
+        if (subscriber.startDrain()) {
+            execute(() -> drain(subscriber));
+        }
+    }
+
+    private void execute(Runnable task) {
+        try {
+            writers.execute(task);
+        } catch (RejectedExecutionException e) {
+            log.debug("Stream de mudanças encerrado; tarefa descartada");
+        }
+    }
+
+    /**
+     * Envia a retomada pendente e depois a fila, pulando o que a retomada já cobriu.
+     */
+    private void drain(OrderStreamSubscriber subscriber) {
+        try {
+            if (subscriber.needsReplay()) {
+                replay(subscriber);
+            }
+            Frame frame;
+            while (!subscriber.isClosed() && (frame = subscriber.poll()) != null) {
+                if (frame.upTo().compareTo(subscriber.position()) > 0) {
+                    send(subscriber, frame);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            log.debug("Conexão do stream encerrada: {}", e.getMessage());
+            remove(subscriber);
+            subscriber.emitter().completeWithError(e);
+        } finally {
+            subscriber.endDrain();
+            if (!subscriber.isClosed() && subscriber.hasPending()) {
+                schedule(subscriber);
+            }
+        }
+    }
+
+    private void replay(OrderStreamSubscriber subscriber) throws IOException {
+        try {
+            replays.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Retomada interrompida");
+        }
+        try {
+            // Assinante desconectado enquanto esperava a vez não lê o feed
+            while (!subscriber.isClosed()) {
+                OrderChangesResponse page = readFeed(subscriber.position());
+                send(subscriber, new Changes(ChangeCursor.decode(page.getNextCursor()),
+                        page.getChanges().stream().filter(subscriber::accepts).toList()));
+                if (!page.isHasMore()) {
+                    break;
+                }
+            }
+        } finally {
+            replays.release();
+        }
+        subscriber.replayed();
+    }
+
+    private OrderChangesResponse readFeed(ChangeCursor from) {
+        return ReadConsistency.onPrimary(() -> orders.findChanges(from.encode(), null, PAGE_SIZE));
+    }
+
+    /**
+     * Só o último evento de um lote leva id: retomar de um id nunca pula mudanças não enviadas.
+     */
+    private static void send(OrderStreamSubscriber subscriber, Frame frame) throws IOException {
+        SseEmitter emitter = subscriber.emitter();
+        switch (frame) {
+            case Changes changes -> {
+                List<OrderResponse> orders = changes.orders();
+                for (int i = 0; i < orders.size(); i++) {
+                    SseEmitter.SseEventBuilder event = SseEmitter.event()
+                            .name(EVENT_NAME)
+                            .data(orders.get(i), MediaType.APPLICATION_JSON);
+                    if (i == orders.size() - 1) {
+                        event.id(changes.upTo().encode());
+                    }
+                    emitter.send(event);
+                }
+            }
+            case Heartbeat heartbeat -> emitter.send(SseEmitter.event()
+                    .id(heartbeat.upTo().encode())
+                    .comment("heartbeat"));
+        }
+        subscriber.advance(frame.upTo());
+    }
+
+    private void remove(OrderStreamSubscriber subscriber) {
+        subscriber.close();
+        subscribers.remove(subscriber);
+    }
+
+    int subscriberCount() {
+        return subscribers.size();
+    }
+
+    private static Set<String> toStatuses(Collection<String> statuses) {
+        if (statuses == null) {
+            return Set.of();
+        }
+        return statuses.stream().map(status -> {
+            try {
+                return OrderStatus.valueOf(status.toUpperCase()).name();
+            } catch (IllegalArgumentException e) {
+                throw new ValidationException("Status inválido: " + status);
+            }
+        }).collect(Collectors.toUnmodifiableSet());
+    }
+
+    private void tail() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                wakeUp.tryAcquire(pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+                wakeUp.drainPermits();
+                poll();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                log.warn("Falha ao ler o feed de mudanças para o stream: {}", e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        if (tailer == null) {
+            tailer = Thread.ofVirtual().name("order-stream-tailer").start(this::tail);
+            log.info("Stream de mudanças de status iniciado: fila por assinante={}, intervalo de leitura={}",
+                    bufferSize, pollInterval);
+        }
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (tailer != null) {
+            tailer.interrupt();
+            tailer = null;
+        }
+        subscribers.forEach(subscriber -> {
+            subscriber.close();
+            subscriber.emitter().complete();
+        });
+        subscribers.clear();
+        writers.shutdownNow();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return tailer != null;
+    }
+}
@@ -0,0 +1,110 @@
+package io.github.douglasdreer.order.adapter.input.web.streaming;
+
+import io.github.douglasdreer.order.application.dto.OrderResponse;
+import io.github.douglasdreer.order.infrastructure.persistence.changefeed.ChangeCursor;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Conexão SSE de um assinante: filtro, fila limitada de eventos pendentes e a posição
+ * do feed já coberta. A fila é alimentada pela thread de leitura do feed e esvaziada
+ * por uma única tarefa de escrita por vez.
+ */
+final class OrderStreamSubscriber {
+
+    /** Eventos pendentes; {@code upTo} é a posição do feed coberta depois de enviá-los. */
+    sealed interface Frame permits Changes, Heartbeat {
+        ChangeCursor upTo();
+    }
+
+    record Changes(ChangeCursor upTo, List<OrderResponse> orders) implements Frame {
+    }
+
+    record Heartbeat(ChangeCursor upTo) implements Frame {
+    }
+
+    private final SseEmitter emitter;
+    private final Set<String> statuses;
+    private final Set<UUID> orderIds;
+    private final BlockingQueue<Frame> pending;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private volatile boolean closed;
+    private volatile boolean replayPending = true;
+    private ChangeCursor position;
+
+    /**
+     * @param statuses nomes de status aceitos; vazio aceita todos
+     * @param orderIds IDs de pedidos aceitos; vazio aceita todos
+     * @param start    posição a partir da qual o assinante ainda não recebeu mudanças
+     */
+    OrderStreamSubscriber(SseEmitter emitter, Set<String> statuses, Set<UUID> orderIds, int bufferSize,
+                          ChangeCursor start) {
+        this.emitter = emitter;
+        this.statuses = statuses;
+        this.orderIds = orderIds;
+        this.pending = new ArrayBlockingQueue<>(bufferSize);
+        this.position = start;
+    }
+
+    SseEmitter emitter() {
+        return emitter;
+    }
+
+    boolean accepts(OrderResponse order) {
+        return (statuses.isEmpty() || statuses.contains(order.getStatus()))
+                && (orderIds.isEmpty() || orderIds.contains(order.getId()));
+    }
+
+    /** Enfileira sem bloquear; {@code false} se a fila está cheia. */
+    boolean offer(Frame frame) {
+        return pending.offer(frame);
+    }
+
+    Frame poll() {
+        return pending.poll();
+    }
+
+    boolean hasPending() {
+        return !pending.isEmpty();
+    }
+
+    /** {@code true} se o chamador passou a ser a única tarefa de escrita. */
+    boolean startDrain() {
+        return draining.compareAndSet(false, true);
+    }
+
+    void endDrain() {
+        draining.set(false);
+    }
+
+    boolean needsReplay() {
+        return replayPending;
+    }
+
+    void replayed() {
+        replayPending = false;
+    }
+
+    /** Posição do feed já coberta; acessada só pela tarefa de escrita. */
+    ChangeCursor position() {
+        return position;
+    }
+
+    void advance(ChangeCursor upTo) {
+        position = upTo;
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    void close() {
+        closed = true;
+    }
+}
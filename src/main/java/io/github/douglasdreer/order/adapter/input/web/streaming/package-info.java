@@ -0,0 +1,9 @@
+/**
+ * Adaptador Web - Stream de Mudanças de Status
+ *
+ * Server-Sent Events com as mudanças de status dos pedidos, alimentados pelo feed de
+ * mudanças e acordados pelo barramento interno após cada commit. Cada assinante tem
+ * fila limitada e escrita própria; assinantes lentos são desconectados e retomam do
+ * último id recebido (Last-Event-ID).
+ */
+package io.github.douglasdreer.order.adapter.input.web.streaming;
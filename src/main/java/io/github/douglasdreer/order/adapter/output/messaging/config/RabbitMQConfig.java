@@ -1,5 +1,6 @@
 package io.github.douglasdreer.order.adapter.output.messaging.config;
 
+import io.github.douglasdreer.order.infrastructure.persistence.querybudget.SqlBudgetListenerInterceptor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.core.*;
 import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
@@ -145,6 +146,9 @@ public class RabbitMQConfig {
 
     /**
      * Template configurado para envio de mensagens.
+     * <p>
+     * Com observation habilitada, cada publicação gera um span de envio e injeta
+     * o contexto de trace (traceparent) nos headers da mensagem.
      */
     @Bean
     public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory, MessageConverter messageConverter) {
@@ -155,16 +159,22 @@ public class RabbitMQConfig {
             log.error("Mensagem não roteada: {} - Routing Key: {}", 
                 returned.getMessage(), returned.getRoutingKey())
         );
+        template.setObservationEnabled(true);
         return template;
     }
 
     /**
      * Container factory para listeners com retry e DLQ.
+     * <p>
+     * Com observation habilitada, o contexto de trace é extraído dos headers de cada
+     * entrega e o listener executa dentro do span de processamento. O advice chain conta
+     * os statements SQL de cada mensagem e aplica o orçamento da fila.
      */
     @Bean
     public SimpleRabbitListenerContainerFactory rabbitListenerContainerFactory(
             ConnectionFactory connectionFactory,
-            MessageConverter messageConverter) {
+            MessageConverter messageConverter,
+            SqlBudgetListenerInterceptor sqlBudgetInterceptor) {
         
         SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
         factory.setConnectionFactory(connectionFactory);
@@ -172,6 +182,8 @@ public class RabbitMQConfig {
         factory.setDefaultRequeueRejected(false); // Não reprocessa mensagens rejeitadas
         factory.setPrefetchCount(10); // Quantidade de mensagens pré-carregadas
         factory.setAcknowledgeMode(AcknowledgeMode.AUTO);
+        factory.setObservationEnabled(true);
+        factory.setAdviceChain(sqlBudgetInterceptor);
         
         log.info("RabbitMQ Listener Container Factory configurado com prefetch={}", 10);
         
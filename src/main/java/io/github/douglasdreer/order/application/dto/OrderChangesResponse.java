@@ -0,0 +1,27 @@
+package io.github.douglasdreer.order.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO de saída com uma página do feed de mudanças de status.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderChangesResponse {
+
+    /** Pedidos cujo status mudou depois do cursor, em ordem de mudança (estado atual). */
+    private List<OrderResponse> changes;
+
+    /** Cursor opaco para a próxima consulta; igual ao recebido se não houve mudanças. */
+    private String nextCursor;
+
+    /** Há mais mudanças além desta página. */
+    private boolean hasMore;
+}
@@ -26,6 +26,8 @@ public class OrderResponse {
     private String status;
     private Instant createdAt;
     private Instant updatedAt;
+    /** Versão do pedido; muda a cada escrita e origina o ETag da consulta por ID. */
+    private Long version;
     private List<OrderItemResponse> items;
 
     @Data
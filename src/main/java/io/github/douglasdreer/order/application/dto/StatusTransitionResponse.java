@@ -0,0 +1,23 @@
+package io.github.douglasdreer.order.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * DTO de saída com uma transição do histórico de status do pedido.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatusTransitionResponse {
+
+    private String fromStatus;
+    private String toStatus;
+    private Instant occurredAt;
+    private long dwellMillis;
+}
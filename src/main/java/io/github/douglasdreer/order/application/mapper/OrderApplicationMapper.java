@@ -1,60 +1,21 @@
 package io.github.douglasdreer.order.application.mapper;
 
-import io.github.douglasdreer.order.application.dto.CreateOrderCommand;
 import io.github.douglasdreer.order.application.dto.OrderResponse;
+import io.github.douglasdreer.order.application.dto.StatusTransitionResponse;
 import io.github.douglasdreer.order.domain.entity.Order;
 import io.github.douglasdreer.order.domain.entity.OrderItem;
-import io.github.douglasdreer.order.domain.valueobject.Money;
+import io.github.douglasdreer.order.domain.valueobject.StatusTransition;
 import org.springframework.stereotype.Component;
 
-import java.util.Currency;
 import java.util.List;
 
 /**
- * Mapper para conversão entre DTOs e entidades de domínio.
+ * Mapper para conversão de entidades de domínio em DTOs de resposta.
+ * A montagem do domínio a partir de comandos fica em {@code CreateOrderCommandValidator}.
  */
 @Component
 public class OrderApplicationMapper {
 
-    private static final String DEFAULT_CURRENCY = "BRL";
-
-    /**
-     * Converte CreateOrderCommand para Order (domínio).
-     */
-    public Order toDomain(CreateOrderCommand command) {
-        if (command == null) {
-            return null;
-        }
-
-        List<OrderItem> items = command.getItems().stream()
-                .map(this::toItemDomain)
-                .toList();
-
-        return Order.builder()
-                .externalOrderId(command.getExternalOrderId())
-                .items(items)
-                .build();
-    }
-
-    /**
-     * Converte OrderItemCommand para OrderItem (domínio).
-     */
-    public OrderItem toItemDomain(CreateOrderCommand.OrderItemCommand command) {
-        if (command == null) {
-            return null;
-        }
-
-        String currencyCode = command.getCurrency() != null ? command.getCurrency() : DEFAULT_CURRENCY;
-        Currency currency = Currency.getInstance(currencyCode);
-
-        return OrderItem.builder()
-                .productId(command.getProductId())
-                .productName(command.getProductName())
-                .unitPrice(Money.of(command.getUnitPrice(), currency))
-                .quantity(command.getQuantity())
-                .build();
-    }
-
     /**
      * Converte Order (domínio) para OrderResponse.
      */
@@ -75,6 +36,7 @@ public class OrderApplicationMapper {
                 .status(order.getStatus().name())
                 .createdAt(order.getCreatedAt())
                 .updatedAt(order.getUpdatedAt())
+                .version(order.getVersion())
                 .items(itemResponses)
                 .build();
     }
@@ -106,4 +68,20 @@ public class OrderApplicationMapper {
                 .map(this::toResponse)
                 .toList();
     }
+
+    /**
+     * Converte StatusTransition (domínio) para StatusTransitionResponse.
+     */
+    public StatusTransitionResponse toStatusTransitionResponse(StatusTransition transition) {
+        if (transition == null) {
+            return null;
+        }
+
+        return StatusTransitionResponse.builder()
+                .fromStatus(transition.from().name())
+                .toStatus(transition.to().name())
+                .occurredAt(transition.occurredAt())
+                .dwellMillis(transition.dwell().toMillis())
+                .build();
+    }
 }
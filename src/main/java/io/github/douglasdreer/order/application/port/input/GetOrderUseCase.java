@@ -1,6 +1,8 @@
 package io.github.douglasdreer.order.application.port.input;
 
+import io.github.douglasdreer.order.application.dto.OrderChangesResponse;
 import io.github.douglasdreer.order.application.dto.OrderResponse;
+import io.github.douglasdreer.order.application.dto.StatusTransitionResponse;
 
 import java.util.List;
 import java.util.Optional;
@@ -9,9 +11,15 @@ import java.util.UUID;
 /** Porta de entrada para consulta de pedidos. */
 public interface GetOrderUseCase {
 
+    /** Tamanho máximo de uma página do feed de mudanças. */
+    int MAX_CHANGES_PAGE_SIZE = 1000;
+
     /** Busca pedido por ID interno. */
     Optional<OrderResponse> findById(UUID id);
 
+    /** Busca a versão atual do pedido, sem carregar o documento. */
+    Optional<Long> findVersion(UUID id);
+
     /** Busca pedido por ID externo. */
     Optional<OrderResponse> findByExternalOrderId(String externalOrderId);
 
@@ -20,4 +28,19 @@ public interface GetOrderUseCase {
 
     /** Busca todos os pedidos. */
     List<OrderResponse> findAll();
+
+    /**
+     * Busca uma página de pedidos cujo status mudou depois do cursor.
+     *
+     * @param cursor cursor opaco da página anterior; nulo para começar do início
+     * @param status filtro opcional pelo status atual
+     * @param limit  tamanho da página (1 a {@value #MAX_CHANGES_PAGE_SIZE})
+     */
+    OrderChangesResponse findChanges(String cursor, String status, int limit);
+
+    /** Cursor do fim do feed de mudanças: páginas a partir dele só trazem mudanças futuras. */
+    String currentChangesCursor();
+
+    /** Busca o histórico de status do pedido; vazio se o pedido não existe. */
+    Optional<List<StatusTransitionResponse>> findStatusHistory(UUID id);
 }
@@ -0,0 +1,22 @@
+package io.github.douglasdreer.order.application.port.output;
+
+import io.github.douglasdreer.order.application.dto.OrderChangesResponse;
+import io.github.douglasdreer.order.domain.valueobject.OrderStatus;
+
+/** Porta de saída para o feed incremental de mudanças de status dos pedidos. */
+public interface OrderChangeFeedPort {
+
+    /**
+     * Busca os pedidos cujo status mudou depois do cursor, em ordem de mudança.
+     * Um pedido que mudou várias vezes aparece uma vez, na posição da última mudança.
+     *
+     * @param cursor cursor opaco de uma página anterior; nulo para começar do início
+     * @param status filtro pelo status atual; nulo para todos
+     * @param limit  tamanho máximo da página
+     * @throws io.github.douglasdreer.order.domain.exception.ValidationException se o cursor for inválido
+     */
+    OrderChangesResponse findChangesSince(String cursor, OrderStatus status, int limit);
+
+    /** Cursor do fim do feed: consultas a partir dele só trazem mudanças futuras. */
+    String currentCursor();
+}
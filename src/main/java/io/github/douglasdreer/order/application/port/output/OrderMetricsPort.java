@@ -0,0 +1,23 @@
+package io.github.douglasdreer.order.application.port.output;
+
+import io.github.douglasdreer.order.domain.valueobject.OrderStatus;
+import io.github.douglasdreer.order.domain.valueobject.StatusTransition;
+
+/** Porta de saída para métricas de negócio dos pedidos. */
+public interface OrderMetricsPort {
+
+    /** Registra um pedido criado e sua quantidade de itens. */
+    void orderCreated(int itemCount);
+
+    /** Registra pedido rejeitado por ID externo duplicado. */
+    void duplicateRejected();
+
+    /** Registra pedido rejeitado por falha de validação. */
+    void validationFailed();
+
+    /** Registra transição de status rejeitada pelo domínio. */
+    void transitionRejected(OrderStatus from, OrderStatus to);
+
+    /** Registra uma transição de status persistida e o tempo de permanência no status anterior. */
+    void statusTransitioned(StatusTransition transition);
+}
@@ -2,6 +2,7 @@ package io.github.douglasdreer.order.application.port.output;
 
 import io.github.douglasdreer.order.domain.entity.Order;
 import io.github.douglasdreer.order.domain.valueobject.OrderStatus;
+import io.github.douglasdreer.order.domain.valueobject.StatusTransition;
 
 import java.time.Instant;
 import java.util.List;
@@ -11,12 +12,23 @@ import java.util.UUID;
 /** Porta de saída para persistência de pedidos. */
 public interface OrderRepositoryPort {
 
-    /** Salva um pedido. */
+    /** Salva um pedido e acrescenta suas transições de status ao histórico. */
     Order save(Order order);
 
+    /**
+     * Insere um novo pedido somente se não existir outro com o mesmo ID externo.
+     * A verificação de duplicidade e a inserção são atômicas.
+     *
+     * @return o pedido inserido, ou vazio se o ID externo já existe
+     */
+    Optional<Order> insertIfAbsent(Order order);
+
     /** Busca pedido por ID interno. */
     Optional<Order> findById(UUID id);
 
+    /** Busca apenas a versão do pedido (sonda barata para requisições condicionais). */
+    Optional<Long> findVersionById(UUID id);
+
     /** Busca pedido por ID externo. */
     Optional<Order> findByExternalOrderId(String externalOrderId);
 
@@ -40,4 +52,7 @@ public interface OrderRepositoryPort {
 
     /** Busca pedido por ID com itens carregados. */
     Optional<Order> findByIdWithItems(UUID id);
+
+    /** Busca o histórico de transições de status do pedido, em ordem cronológica. */
+    List<StatusTransition> findStatusHistory(UUID orderId);
 }
@@ -0,0 +1,12 @@
+package io.github.douglasdreer.order.application.port.output;
+
+import io.github.douglasdreer.order.domain.valueobject.OrderStatus;
+
+import java.util.UUID;
+
+/** Porta de saída para avisar, no barramento interno de eventos, que o status de um pedido mudou. */
+public interface OrderStatusEventPort {
+
+    /** Publica a mudança; os ouvintes só a recebem depois do commit da transação corrente. */
+    void statusChanged(UUID orderId, OrderStatus status);
+}
@@ -0,0 +1,30 @@
+package io.github.douglasdreer.order.application.port.output;
+
+import io.github.douglasdreer.order.application.dto.OrderResponse;
+import io.github.douglasdreer.order.domain.valueobject.OrderStatus;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Porta de saída para o modelo de leitura dos pedidos: o documento de resposta já montado,
+ * com itens, mantido na mesma transação das escritas.
+ */
+public interface OrderViewPort {
+
+    /** Grava (ou substitui) o documento do pedido. */
+    void save(OrderResponse view);
+
+    /** Busca o documento do pedido por ID interno. */
+    Optional<OrderResponse> findById(UUID id);
+
+    /** Busca o documento do pedido por ID externo. */
+    Optional<OrderResponse> findByExternalOrderId(String externalOrderId);
+
+    /** Busca documentos por status, em ordem de criação. */
+    List<OrderResponse> findByStatus(OrderStatus status);
+
+    /** Busca todos os documentos, em ordem de criação. */
+    List<OrderResponse> findAll();
+}
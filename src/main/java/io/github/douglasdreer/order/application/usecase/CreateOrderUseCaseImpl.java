@@ -4,10 +4,16 @@ import io.github.douglasdreer.order.application.dto.CreateOrderCommand;
 import io.github.douglasdreer.order.application.dto.OrderResponse;
 import io.github.douglasdreer.order.application.mapper.OrderApplicationMapper;
 import io.github.douglasdreer.order.application.port.input.CreateOrderUseCase;
+import io.github.douglasdreer.order.application.port.output.OrderMetricsPort;
 import io.github.douglasdreer.order.application.port.output.OrderRepositoryPort;
+import io.github.douglasdreer.order.application.port.output.OrderViewPort;
+import io.github.douglasdreer.order.application.validation.CreateOrderCommandValidator;
 import io.github.douglasdreer.order.domain.entity.Order;
+import io.github.douglasdreer.order.domain.exception.DomainException;
 import io.github.douglasdreer.order.domain.exception.DuplicateOrderException;
-import io.github.douglasdreer.order.domain.exception.ValidationException;
+import io.github.resilience4j.bulkhead.annotation.Bulkhead;
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -18,71 +24,65 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 @Slf4j
 @Transactional
+@Observed(name = "order.usecase")
+@Bulkhead(name = "orderIngest")
+@CircuitBreaker(name = "orderIngest")
 public class CreateOrderUseCaseImpl implements CreateOrderUseCase {
 
     private final OrderRepositoryPort orderRepository;
+    private final OrderViewPort orderViews;
     private final OrderApplicationMapper mapper;
+    private final OrderMetricsPort orderMetrics;
+    private final CreateOrderCommandValidator validator;
 
     @Override
     public OrderResponse execute(CreateOrderCommand command) {
-        // Validações primeiro
-        validateCommand(command);
-        
-        log.info("Criando pedido: externalOrderId={}", command.getExternalOrderId());
-        
-        checkDuplicateOrder(command.getExternalOrderId());
+        Order order = toValidatedOrder(command);
 
-        // Converter para domínio (já inclui cálculo de totais via builder)
-        Order order = mapper.toDomain(command);
+        // Persistir (a duplicidade é detectada pelo próprio INSERT)
+        Order savedOrder = orderRepository.insertIfAbsent(order)
+                .orElseThrow(() -> {
+                    orderMetrics.duplicateRejected();
+                    return new DuplicateOrderException(order.getExternalOrderIdValue());
+                });
 
-        // Calcular totais
-        order.calculateTotal();
+        orderMetrics.orderCreated(savedOrder.getItemCount());
+        order.getStatusTransitions().forEach(orderMetrics::statusTransitioned);
 
-        // Persistir
-        Order savedOrder = orderRepository.save(order);
-
-        log.info("Pedido criado com sucesso: id={}, externalOrderId={}, total={}", 
+        log.debug("Pedido criado com sucesso: id={}, externalOrderId={}, total={}", 
                 savedOrder.getId(), 
                 savedOrder.getExternalOrderIdValue(),
                 savedOrder.getTotalAmount());
 
-        return mapper.toResponse(savedOrder);
+        return project(savedOrder);
     }
 
-    private void validateCommand(CreateOrderCommand command) {
-        if (command == null) {
-            throw new ValidationException("Comando de criação não pode ser nulo");
-        }
-        if (command.getExternalOrderId() == null || command.getExternalOrderId().isBlank()) {
-            throw new ValidationException("ID externo do pedido é obrigatório");
-        }
-        if (command.getItems() == null || command.getItems().isEmpty()) {
-            throw new ValidationException("Pedido deve ter pelo menos um item");
-        }
-
-        for (CreateOrderCommand.OrderItemCommand item : command.getItems()) {
-            validateItem(item);
-        }
+    /**
+     * Monta a resposta e a grava no modelo de leitura, na transação da escrita.
+     */
+    private OrderResponse project(Order order) {
+        OrderResponse response = mapper.toResponse(order);
+        orderViews.save(response);
+        return response;
     }
 
-    private void validateItem(CreateOrderCommand.OrderItemCommand item) {
-        if (item.getProductId() == null || item.getProductId().isBlank()) {
-            throw new ValidationException("ID do produto é obrigatório");
-        }
-        if (item.getProductName() == null || item.getProductName().isBlank()) {
-            throw new ValidationException("Nome do produto é obrigatório");
-        }
-        if (item.getUnitPrice() == null || item.getUnitPrice().signum() <= 0) {
-            throw new ValidationException("Preço unitário deve ser maior que zero");
-        }
-        if (item.getQuantity() == null || item.getQuantity() <= 0) {
-            throw new ValidationException("Quantidade deve ser maior que zero");
-        }
-    }
+    /**
+     * Valida o comando (etapa única) e monta o pedido com totais calculados.
+     * Qualquer rejeição de domínio nesta etapa conta como falha de validação.
+     */
+    private Order toValidatedOrder(CreateOrderCommand command) {
+        try {
+            Order order = validator.toValidatedOrder(command);
+
+            log.debug("Criando pedido: externalOrderId={}", order.getExternalOrderIdValue());
+
+            // Calcular totais
+            order.calculateTotal();
 
-    private void checkDuplicateOrder(String externalOrderId) {
-        if (orderRepository.existsByExternalOrderId(externalOrderId)) {
-            throw new DuplicateOrderException(externalOrderId);
+            return order;
+        } catch (DomainException e) {
+            orderMetrics.validationFailed();
+            throw e;
         }
     }
 }
@@ -1,10 +1,19 @@
 package io.github.douglasdreer.order.application.usecase;
 
+import io.github.douglasdreer.order.application.dto.OrderChangesResponse;
 import io.github.douglasdreer.order.application.dto.OrderResponse;
+import io.github.douglasdreer.order.application.dto.StatusTransitionResponse;
 import io.github.douglasdreer.order.application.mapper.OrderApplicationMapper;
 import io.github.douglasdreer.order.application.port.input.GetOrderUseCase;
+import io.github.douglasdreer.order.application.port.output.OrderChangeFeedPort;
 import io.github.douglasdreer.order.application.port.output.OrderRepositoryPort;
+import io.github.douglasdreer.order.application.port.output.OrderViewPort;
+import io.github.douglasdreer.order.domain.exception.ValidationException;
 import io.github.douglasdreer.order.domain.valueobject.OrderStatus;
+import io.github.douglasdreer.order.domain.valueobject.StatusTransition;
+import io.github.resilience4j.bulkhead.annotation.Bulkhead;
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -14,30 +23,42 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
-/** Caso de uso para consulta de pedidos. */
+/**
+ * Caso de uso para consulta de pedidos.
+ * Os pedidos são lidos do modelo de leitura (documento pronto, uma linha por pedido);
+ * o histórico de status continua no repositório.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 @Transactional(readOnly = true)
+@Observed(name = "order.usecase")
+@Bulkhead(name = "orderQuery")
+@CircuitBreaker(name = "orderQuery")
 public class GetOrderUseCaseImpl implements GetOrderUseCase {
 
     private final OrderRepositoryPort orderRepository;
+    private final OrderViewPort orderViews;
+    private final OrderChangeFeedPort orderChanges;
     private final OrderApplicationMapper mapper;
 
     @Override
     public Optional<OrderResponse> findById(UUID id) {
         log.debug("Buscando pedido por ID: {}", id);
         
-        return orderRepository.findByIdWithItems(id)
-                .map(mapper::toResponse);
+        return orderViews.findById(id);
+    }
+
+    @Override
+    public Optional<Long> findVersion(UUID id) {
+        return orderRepository.findVersionById(id);
     }
 
     @Override
     public Optional<OrderResponse> findByExternalOrderId(String externalOrderId) {
         log.debug("Buscando pedido por ID externo: {}", externalOrderId);
         
-        return orderRepository.findByExternalOrderId(externalOrderId)
-                .map(mapper::toResponse);
+        return orderViews.findByExternalOrderId(externalOrderId);
     }
 
     @Override
@@ -45,13 +66,51 @@ public class GetOrderUseCaseImpl implements GetOrderUseCase {
         log.debug("Buscando pedidos por status: {}", status);
         
         OrderStatus orderStatus = OrderStatus.valueOf(status.toUpperCase());
-        return mapper.toResponseList(orderRepository.findByStatus(orderStatus));
+        return orderViews.findByStatus(orderStatus);
     }
 
     @Override
     public List<OrderResponse> findAll() {
         log.debug("Buscando todos os pedidos");
         
-        return mapper.toResponseList(orderRepository.findAll());
+        return orderViews.findAll();
+    }
+
+    @Override
+    public OrderChangesResponse findChanges(String cursor, String status, int limit) {
+        log.debug("Buscando mudanças de status: cursor={}, status={}, limit={}", cursor, status, limit);
+        
+        if (limit < 1 || limit > MAX_CHANGES_PAGE_SIZE) {
+            throw new ValidationException("limit deve estar entre 1 e " + MAX_CHANGES_PAGE_SIZE);
+        }
+        return orderChanges.findChangesSince(cursor, status != null ? toStatus(status) : null, limit);
+    }
+
+    @Override
+    public String currentChangesCursor() {
+        return orderChanges.currentCursor();
+    }
+
+    @Override
+    public Optional<List<StatusTransitionResponse>> findStatusHistory(UUID id) {
+        log.debug("Buscando histórico de status do pedido: {}", id);
+        
+        List<StatusTransition> history = orderRepository.findStatusHistory(id);
+        // Pedidos anteriores ao histórico não têm transições; só então consulta a existência
+        if (history.isEmpty() && orderRepository.findById(id).isEmpty()) {
+            return Optional.empty();
+        }
+        
+        return Optional.of(history.stream()
+                .map(mapper::toStatusTransitionResponse)
+                .toList());
+    }
+
+    private static OrderStatus toStatus(String status) {
+        try {
+            return OrderStatus.valueOf(status.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Status inválido: " + status);
+        }
     }
 }
@@ -3,9 +3,16 @@ package io.github.douglasdreer.order.application.usecase;
 import io.github.douglasdreer.order.application.dto.OrderResponse;
 import io.github.douglasdreer.order.application.mapper.OrderApplicationMapper;
 import io.github.douglasdreer.order.application.port.input.ProcessOrderUseCase;
+import io.github.douglasdreer.order.application.port.output.OrderMetricsPort;
 import io.github.douglasdreer.order.application.port.output.OrderRepositoryPort;
+import io.github.douglasdreer.order.application.port.output.OrderStatusEventPort;
+import io.github.douglasdreer.order.application.port.output.OrderViewPort;
 import io.github.douglasdreer.order.domain.entity.Order;
+import io.github.douglasdreer.order.domain.exception.InvalidOrderStatusTransitionException;
 import io.github.douglasdreer.order.domain.exception.OrderNotFoundException;
+import io.github.resilience4j.bulkhead.annotation.Bulkhead;
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -18,10 +25,16 @@ import java.util.UUID;
 @RequiredArgsConstructor
 @Slf4j
 @Transactional
+@Observed(name = "order.usecase")
+@Bulkhead(name = "orderIngest")
+@CircuitBreaker(name = "orderIngest")
 public class ProcessOrderUseCaseImpl implements ProcessOrderUseCase {
 
     private final OrderRepositoryPort orderRepository;
+    private final OrderViewPort orderViews;
     private final OrderApplicationMapper mapper;
+    private final OrderMetricsPort orderMetrics;
+    private final OrderStatusEventPort statusEvents;
 
     @Override
     public OrderResponse process(UUID orderId) {
@@ -30,20 +43,21 @@ public class ProcessOrderUseCaseImpl implements ProcessOrderUseCase {
         Order order = findOrderOrThrow(orderId);
 
         // Iniciar processamento
-        order.startProcessing();
+        transition(order::startProcessing);
         
         // Calcular totais
         order.calculateTotal();
 
         // Persistir
         Order savedOrder = orderRepository.save(order);
+        order.getStatusTransitions().forEach(orderMetrics::statusTransitioned);
 
         log.info("Pedido processado: id={}, status={}, total={}", 
                 savedOrder.getId(), 
                 savedOrder.getStatus(),
                 savedOrder.getTotalAmount());
 
-        return mapper.toResponse(savedOrder);
+        return project(savedOrder);
     }
 
     @Override
@@ -53,16 +67,17 @@ public class ProcessOrderUseCaseImpl implements ProcessOrderUseCase {
         Order order = findOrderOrThrow(orderId);
 
         // Marcar como disponível
-        order.markAsAvailable();
+        transition(order::markAsAvailable);
 
         // Persistir
         Order savedOrder = orderRepository.save(order);
+        order.getStatusTransitions().forEach(orderMetrics::statusTransitioned);
 
         log.info("Pedido disponível: id={}, status={}", 
                 savedOrder.getId(), 
                 savedOrder.getStatus());
 
-        return mapper.toResponse(savedOrder);
+        return project(savedOrder);
     }
 
     @Override
@@ -72,20 +87,41 @@ public class ProcessOrderUseCaseImpl implements ProcessOrderUseCase {
         Order order = findOrderOrThrow(orderId);
 
         // Marcar como falha
-        order.markAsFailed();
+        transition(order::markAsFailed);
 
         // Persistir
         Order savedOrder = orderRepository.save(order);
+        order.getStatusTransitions().forEach(orderMetrics::statusTransitioned);
 
         log.warn("Pedido falhou: id={}, status={}", 
                 savedOrder.getId(), 
                 savedOrder.getStatus());
 
-        return mapper.toResponse(savedOrder);
+        return project(savedOrder);
+    }
+
+    /**
+     * Monta a resposta e a grava no modelo de leitura, na transação da escrita,
+     * e avisa a mudança de status (entregue aos ouvintes após o commit).
+     */
+    private OrderResponse project(Order order) {
+        OrderResponse response = mapper.toResponse(order);
+        orderViews.save(response);
+        statusEvents.statusChanged(order.getId(), order.getStatus());
+        return response;
     }
 
     private Order findOrderOrThrow(UUID orderId) {
         return orderRepository.findByIdWithItems(orderId)
                 .orElseThrow(() -> OrderNotFoundException.byId(orderId.toString()));
     }
+
+    private void transition(Runnable statusChange) {
+        try {
+            statusChange.run();
+        } catch (InvalidOrderStatusTransitionException e) {
+            orderMetrics.transitionRejected(e.getFrom(), e.getTo());
+            throw e;
+        }
+    }
 }
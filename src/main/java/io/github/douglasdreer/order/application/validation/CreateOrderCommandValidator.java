@@ -0,0 +1,99 @@
+package io.github.douglasdreer.order.application.validation;
+
+import io.github.douglasdreer.order.application.dto.CreateOrderCommand;
+import io.github.douglasdreer.order.domain.entity.Order;
+import io.github.douglasdreer.order.domain.entity.OrderItem;
+import io.github.douglasdreer.order.domain.exception.ValidationException;
+import io.github.douglasdreer.order.domain.valueobject.ExternalOrderId;
+import io.github.douglasdreer.order.domain.valueobject.Money;
+import io.github.douglasdreer.order.domain.valueobject.ProductId;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
+
+/**
+ * Etapa única de validação da criação de pedidos (HTTP e AMQP).
+ * <p>
+ * Percorre o comando uma vez, aplicando as regras de obrigatoriedade com as mensagens
+ * da API, e entrega o pedido de domínio já montado: os identificadores são convertidos
+ * em value objects aqui (uma varredura cada) e passados prontos aos builders, que só
+ * mantêm as guardas O(1) das invariantes. O consumer AMQP também o aplica antes do caso
+ * de uso, para medir a etapa de validação da ingestão.
+ */
+@Component
+public class CreateOrderCommandValidator {
+
+    private static final Currency DEFAULT_CURRENCY = Currency.getInstance("BRL");
+
+    /**
+     * Valida o comando e monta o pedido de domínio (ainda sem totais calculados).
+     *
+     * @throws io.github.douglasdreer.order.domain.exception.DomainException na primeira regra violada
+     */
+    public Order toValidatedOrder(CreateOrderCommand command) {
+        if (command == null) {
+            throw new ValidationException("Comando de criação não pode ser nulo");
+        }
+        if (isBlank(command.getExternalOrderId())) {
+            throw new ValidationException("ID externo do pedido é obrigatório");
+        }
+        List<CreateOrderCommand.OrderItemCommand> itemCommands = command.getItems();
+        if (itemCommands == null || itemCommands.isEmpty()) {
+            throw new ValidationException("Pedido deve ter pelo menos um item");
+        }
+
+        ExternalOrderId externalOrderId = ExternalOrderId.of(command.getExternalOrderId());
+
+        List<OrderItem> items = new ArrayList<>(itemCommands.size());
+        for (CreateOrderCommand.OrderItemCommand item : itemCommands) {
+            items.add(toValidatedItem(item));
+        }
+
+        return Order.builder()
+                .externalOrderId(externalOrderId)
+                .items(items)
+                .build();
+    }
+
+    private OrderItem toValidatedItem(CreateOrderCommand.OrderItemCommand item) {
+        if (item == null) {
+            throw new ValidationException("Item do pedido não pode ser nulo");
+        }
+        if (isBlank(item.getProductId())) {
+            throw new ValidationException("ID do produto é obrigatório");
+        }
+        if (isBlank(item.getProductName())) {
+            throw new ValidationException("Nome do produto é obrigatório");
+        }
+        if (item.getUnitPrice() == null || item.getUnitPrice().signum() <= 0) {
+            throw new ValidationException("Preço unitário deve ser maior que zero");
+        }
+        if (item.getQuantity() == null || item.getQuantity() <= 0) {
+            throw new ValidationException("Quantidade deve ser maior que zero");
+        }
+
+        return OrderItem.builder()
+                .productId(ProductId.of(item.getProductId()))
+                .productName(item.getProductName())
+                .unitPrice(Money.of(item.getUnitPrice(), currency(item.getCurrency())))
+                .quantity(item.getQuantity())
+                .build();
+    }
+
+    private static Currency currency(String code) {
+        if (code == null) {
+            return DEFAULT_CURRENCY;
+        }
+        try {
+            return Currency.getInstance(code);
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Moeda inválida: " + code);
+        }
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
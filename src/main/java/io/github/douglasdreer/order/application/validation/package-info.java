@@ -0,0 +1,7 @@
+/**
+ * Camada de Aplicação - Validação
+ * 
+ * Etapa única de validação dos comandos de entrada, compartilhada
+ * pelos adaptadores HTTP e AMQP.
+ */
+package io.github.douglasdreer.order.application.validation;
@@ -2,9 +2,11 @@ package io.github.douglasdreer.order.domain.entity;
 
 import io.github.douglasdreer.order.domain.exception.InvalidOrderStatusTransitionException;
 import io.github.douglasdreer.order.domain.exception.ValidationException;
+import io.github.douglasdreer.order.domain.identity.IdGenerators;
 import io.github.douglasdreer.order.domain.valueobject.ExternalOrderId;
 import io.github.douglasdreer.order.domain.valueobject.Money;
 import io.github.douglasdreer.order.domain.valueobject.OrderStatus;
+import io.github.douglasdreer.order.domain.valueobject.StatusTransition;
 
 import java.time.Instant;
 import java.util.ArrayList;
@@ -32,9 +34,11 @@ public class Order {
     private final Instant createdAt;
     private Instant updatedAt;
     private Long version;
+    private Instant statusSince;
+    private final List<StatusTransition> statusTransitions = new ArrayList<>();
     
     private Order(Builder builder) {
-        this.id = builder.id != null ? builder.id : UUID.randomUUID();
+        this.id = builder.id != null ? builder.id : IdGenerators.nextId(builder.externalOrderId.getValue());
         this.externalOrderId = builder.externalOrderId;
         this.items = new ArrayList<>(builder.items);
         this.status = builder.status != null ? builder.status : OrderStatus.RECEIVED;
@@ -42,6 +46,8 @@ public class Order {
         this.updatedAt = builder.updatedAt != null ? builder.updatedAt : this.createdAt;
         this.version = builder.version != null ? builder.version : 0L;
         this.totalAmount = builder.totalAmount != null ? builder.totalAmount : Money.ZERO;
+        // Sem histórico carregado, a última atualização é a melhor estimativa da entrada no status atual
+        this.statusSince = this.updatedAt;
     }
     
     /**
@@ -59,10 +65,11 @@ public class Order {
             .map(OrderItem::getSubtotal)
             .reduce(Money.ZERO, Money::add);
         
-        this.updatedAt = Instant.now();
+        Instant now = Instant.now();
+        this.updatedAt = now;
         
         if (this.status == OrderStatus.RECEIVED || this.status == OrderStatus.PROCESSING) {
-            this.status = OrderStatus.CALCULATED;
+            changeStatus(OrderStatus.CALCULATED, now);
         }
         
         return this;
@@ -92,8 +99,7 @@ public class Order {
         if (this.status == OrderStatus.AVAILABLE) {
             throw new InvalidOrderStatusTransitionException(this.status, OrderStatus.FAILED);
         }
-        this.status = OrderStatus.FAILED;
-        this.updatedAt = Instant.now();
+        changeStatus(OrderStatus.FAILED, Instant.now());
         return this;
     }
     
@@ -104,8 +110,17 @@ public class Order {
         if (!status.canTransitionTo(newStatus)) {
             throw new InvalidOrderStatusTransitionException(status, newStatus);
         }
+        changeStatus(newStatus, Instant.now());
+    }
+    
+    /**
+     * Aplica a mudança de status registrando a transição e o tempo no status anterior.
+     */
+    private void changeStatus(OrderStatus newStatus, Instant at) {
+        statusTransitions.add(StatusTransition.of(status, newStatus, statusSince, at));
         this.status = newStatus;
-        this.updatedAt = Instant.now();
+        this.updatedAt = at;
+        this.statusSince = at;
     }
     
     /**
@@ -180,6 +195,14 @@ public class Order {
         return version;
     }
     
+    /**
+     * Transições de status ocorridas desde a criação ou carga deste objeto,
+     * ainda não refletidas no histórico persistido.
+     */
+    public List<StatusTransition> getStatusTransitions() {
+        return Collections.unmodifiableList(statusTransitions);
+    }
+    
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -1,6 +1,7 @@
 package io.github.douglasdreer.order.domain.entity;
 
 import io.github.douglasdreer.order.domain.exception.ValidationException;
+import io.github.douglasdreer.order.domain.identity.IdGenerators;
 import io.github.douglasdreer.order.domain.valueobject.Money;
 import io.github.douglasdreer.order.domain.valueobject.ProductId;
 
@@ -26,7 +27,7 @@ public class OrderItem {
     private final Instant createdAt;
     
     private OrderItem(Builder builder) {
-        this.id = builder.id != null ? builder.id : UUID.randomUUID();
+        this.id = builder.id != null ? builder.id : IdGenerators.nextId();
         this.productId = builder.productId;
         this.productName = builder.productName;
         this.unitPrice = builder.unitPrice;
@@ -0,0 +1,12 @@
+package io.github.douglasdreer.order.domain.exception;
+
+/**
+ * Exceção lançada quando o perfil de persistência ativo não oferece feed de mudanças.
+ * Resultado esperado de configuração: criada sem stack trace.
+ */
+public class ChangeFeedUnavailableException extends DomainException {
+
+    public ChangeFeedUnavailableException(String message) {
+        super(message, true);
+    }
+}
@@ -2,14 +2,41 @@ package io.github.douglasdreer.order.domain.exception;
 
 /**
  * Exceção base para erros de domínio.
+ * <p>
+ * Resultados de negócio esperados (pedido duplicado, não encontrado, transição inválida)
+ * usam o construtor {@link #DomainException(String, boolean)} com {@code expected = true}:
+ * a instância não captura stack trace nem aceita exceções suprimidas, o que torna o
+ * lançamento barato em rajadas de reentrega. Quem trata a exceção consulta
+ * {@link #isExpected()} para registrá-la sem stack trace.
  */
 public abstract class DomainException extends RuntimeException {
-    
+
+    private final boolean expected;
+
     protected DomainException(String message) {
         super(message);
+        this.expected = false;
     }
     
     protected DomainException(String message, Throwable cause) {
         super(message, cause);
+        this.expected = false;
+    }
+
+    /**
+     * @param expected {@code true} para resultados de negócio esperados: cria a exceção
+     *                 sem stack trace ({@code writableStackTrace = false})
+     */
+    protected DomainException(String message, boolean expected) {
+        super(message, null, !expected, !expected);
+        this.expected = expected;
+    }
+
+    /**
+     * Indica um resultado de negócio esperado, que não carrega stack trace e não deve
+     * ser registrado como erro.
+     */
+    public boolean isExpected() {
+        return expected;
     }
 }
@@ -2,10 +2,11 @@ package io.github.douglasdreer.order.domain.exception;
 
 /**
  * Exceção lançada quando há tentativa de criar pedido duplicado.
+ * Resultado esperado (reentregas do broker): criada sem stack trace.
  */
 public class DuplicateOrderException extends DomainException {
     
     public DuplicateOrderException(String externalOrderId) {
-        super("Pedido já existe com External ID: " + externalOrderId);
+        super("Pedido já existe com External ID: " + externalOrderId, true);
     }
 }
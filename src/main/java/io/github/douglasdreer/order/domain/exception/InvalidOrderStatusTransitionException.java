@@ -4,10 +4,24 @@ import io.github.douglasdreer.order.domain.valueobject.OrderStatus;
 
 /**
  * Exceção lançada quando há tentativa de transição de status inválida.
+ * Resultado esperado da máquina de estados: criada sem stack trace.
  */
 public class InvalidOrderStatusTransitionException extends DomainException {
+
+    private final OrderStatus from;
+    private final OrderStatus to;
     
     public InvalidOrderStatusTransitionException(OrderStatus from, OrderStatus to) {
-        super("Transição de status inválida: %s → %s".formatted(from, to));
+        super("Transição de status inválida: %s → %s".formatted(from, to), true);
+        this.from = from;
+        this.to = to;
+    }
+
+    public OrderStatus getFrom() {
+        return from;
+    }
+
+    public OrderStatus getTo() {
+        return to;
     }
 }
@@ -2,11 +2,12 @@ package io.github.douglasdreer.order.domain.exception;
 
 /**
  * Exceção lançada quando um pedido não é encontrado.
+ * Resultado esperado de consulta: criada sem stack trace.
  */
 public class OrderNotFoundException extends DomainException {
     
     public OrderNotFoundException(String message) {
-        super(message);
+        super(message, true);
     }
     
     public static OrderNotFoundException byId(String id) {
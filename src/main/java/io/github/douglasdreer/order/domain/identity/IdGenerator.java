@@ -0,0 +1,31 @@
+package io.github.douglasdreer.order.domain.identity;
+
+import java.util.UUID;
+
+/**
+ * Estratégia de geração de identificadores das entidades de domínio.
+ * 
+ * Implementações devem ser thread-safe.
+ */
+@FunctionalInterface
+public interface IdGenerator {
+
+    /**
+     * Gera um novo identificador único.
+     * 
+     * @return novo UUID
+     */
+    UUID nextId();
+
+    /**
+     * Gera um novo identificador para a entidade identificada pela chave de partição
+     * (ex.: ID externo do pedido). Estratégias que codificam a partição no ID
+     * sobrescrevem este método; as demais ignoram a chave.
+     *
+     * @param partitionKey chave de negócio que determina a partição
+     * @return novo UUID
+     */
+    default UUID nextId(String partitionKey) {
+        return nextId();
+    }
+}
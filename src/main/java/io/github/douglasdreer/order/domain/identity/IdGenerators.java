@@ -0,0 +1,48 @@
+package io.github.douglasdreer.order.domain.identity;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Ponto de acesso ao gerador de IDs usado pelas entidades de domínio.
+ * 
+ * O padrão é {@link UuidV7Generator}. A infraestrutura pode substituir a
+ * estratégia na inicialização da aplicação via {@link #use(IdGenerator)}.
+ */
+public final class IdGenerators {
+
+    private static volatile IdGenerator current = new UuidV7Generator();
+
+    private IdGenerators() {
+    }
+
+    /**
+     * Gera um novo ID com a estratégia configurada.
+     */
+    public static UUID nextId() {
+        return current.nextId();
+    }
+
+    /**
+     * Gera um novo ID para a chave de partição informada.
+     */
+    public static UUID nextId(String partitionKey) {
+        return current.nextId(partitionKey);
+    }
+
+    /**
+     * Retorna a estratégia configurada.
+     */
+    public static IdGenerator current() {
+        return current;
+    }
+
+    /**
+     * Substitui a estratégia de geração de IDs.
+     * 
+     * @param generator nova estratégia
+     */
+    public static void use(IdGenerator generator) {
+        current = Objects.requireNonNull(generator, "IdGenerator não pode ser nulo");
+    }
+}
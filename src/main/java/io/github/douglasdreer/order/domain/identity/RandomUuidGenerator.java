@@ -0,0 +1,22 @@
+package io.github.douglasdreer.order.domain.identity;
+
+import java.util.UUID;
+
+/**
+ * Gerador de UUIDs versão 4 (aleatórios).
+ * 
+ * Mantido para compatibilidade; as chaves se espalham por toda a árvore B
+ * do índice primário a cada inserção.
+ */
+public final class RandomUuidGenerator implements IdGenerator {
+
+    public static final RandomUuidGenerator INSTANCE = new RandomUuidGenerator();
+
+    private RandomUuidGenerator() {
+    }
+
+    @Override
+    public UUID nextId() {
+        return UUID.randomUUID();
+    }
+}
@@ -0,0 +1,84 @@
+package io.github.douglasdreer.order.domain.identity;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Gerador de UUIDs versão 7 (RFC 9562) ordenados pelo tempo.
+ * 
+ * Layout:
+ * - 48 bits: timestamp Unix em milissegundos
+ * - 4 bits: versão (7)
+ * - 12 bits: contador monotônico (rand_a)
+ * - 2 bits: variante (10)
+ * - 62 bits: aleatórios (rand_b)
+ * 
+ * Timestamp e contador formam um único "tick" de 60 bits avançado por CAS,
+ * garantindo ordem estritamente crescente entre threads, inclusive quando
+ * vários IDs são gerados no mesmo milissegundo ou o relógio retrocede.
+ * O estouro do contador avança o timestamp em 1ms.
+ * 
+ * Os bits aleatórios vêm de {@link ThreadLocalRandom}: os IDs são únicos e
+ * ordenáveis, mas não devem ser usados como segredo.
+ */
+public final class UuidV7Generator implements IdGenerator {
+
+    private static final int COUNTER_BITS = 12;
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+    private static final long COUNTER_SEED_BOUND = 1L << (COUNTER_BITS - 1);
+    private static final long VERSION_BITS = 0x7L << COUNTER_BITS;
+    private static final long VARIANT_BITS = 0x8000000000000000L;
+    private static final long RAND_B_MASK = 0x3FFFFFFFFFFFFFFFL;
+
+    private final AtomicLong lastTick = new AtomicLong();
+    private final LongSupplier clock;
+
+    public UuidV7Generator() {
+        this(System::currentTimeMillis);
+    }
+
+    UuidV7Generator(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public UUID nextId() {
+        long tick = nextTick();
+        long millis = tick >>> COUNTER_BITS;
+        long counter = tick & COUNTER_MASK;
+
+        long mostSigBits = (millis << 16) | VERSION_BITS | counter;
+        long leastSigBits = (ThreadLocalRandom.current().nextLong() & RAND_B_MASK) | VARIANT_BITS;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    /**
+     * Retorna o próximo tick (timestamp << 12 | contador), sempre maior que o anterior.
+     * Em um novo milissegundo o contador inicia em um valor aleatório da metade
+     * inferior, deixando espaço para incrementos sem estourar.
+     */
+    private long nextTick() {
+        long now = clock.getAsLong();
+        while (true) {
+            long last = lastTick.get();
+            long next;
+            if (now > (last >>> COUNTER_BITS)) {
+                next = (now << COUNTER_BITS) | ThreadLocalRandom.current().nextLong(COUNTER_SEED_BOUND);
+            } else {
+                next = last + 1;
+            }
+            if (lastTick.compareAndSet(last, next)) {
+                return next;
+            }
+        }
+    }
+
+    /**
+     * Extrai o timestamp (ms) de um UUID versão 7.
+     */
+    public static long timestampOf(UUID uuid) {
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+}
@@ -0,0 +1,10 @@
+/**
+ * Camada de Domínio - Identidade
+ * 
+ * Geração de identificadores para as entidades do domínio.
+ * Regras:
+ * - Sem dependências de frameworks
+ * - Estratégia de geração plugável
+ * - Seguro para uso concorrente
+ */
+package io.github.douglasdreer.order.domain.identity;
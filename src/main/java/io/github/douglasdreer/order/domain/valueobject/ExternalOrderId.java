@@ -3,7 +3,6 @@ package io.github.douglasdreer.order.domain.valueobject;
 import io.github.douglasdreer.order.domain.exception.InvalidExternalOrderIdException;
 
 import java.util.Objects;
-import java.util.regex.Pattern;
 
 /**
  * Value Object que representa o identificador externo de um pedido.
@@ -15,8 +14,7 @@ import java.util.regex.Pattern;
  */
 public final class ExternalOrderId {
     
-    private static final int MAX_LENGTH = 100;
-    private static final Pattern VALID_PATTERN = Pattern.compile("^[a-zA-Z0-9_-]+$");
+    private static final int MAX_LENGTH = IdentifierScanner.MAX_LENGTH;
     
     private final String value;
     
@@ -37,22 +35,15 @@ public final class ExternalOrderId {
     }
     
     private static void validate(String value) {
-        if (value == null || value.isBlank()) {
-            throw new InvalidExternalOrderIdException("ExternalOrderId não pode ser nulo ou vazio");
-        }
-        
-        String trimmedValue = value.trim();
-        
-        if (trimmedValue.length() > MAX_LENGTH) {
-            throw new InvalidExternalOrderIdException(
+        switch (IdentifierScanner.scan(value)) {
+            case VALID -> { }
+            case BLANK -> throw new InvalidExternalOrderIdException("ExternalOrderId não pode ser nulo ou vazio");
+            case TOO_LONG -> throw new InvalidExternalOrderIdException(
                 "ExternalOrderId não pode exceder %d caracteres: %d".formatted(
-                    MAX_LENGTH, trimmedValue.length())
+                    MAX_LENGTH, value.trim().length())
             );
-        }
-        
-        if (!VALID_PATTERN.matcher(trimmedValue).matches()) {
-            throw new InvalidExternalOrderIdException(
-                "ExternalOrderId deve conter apenas caracteres alfanuméricos, hífen e underscore: " + trimmedValue
+            case INVALID_CHARACTERS -> throw new InvalidExternalOrderIdException(
+                "ExternalOrderId deve conter apenas caracteres alfanuméricos, hífen e underscore: " + value.trim()
             );
         }
     }
@@ -0,0 +1,58 @@
+package io.github.douglasdreer.order.domain.valueobject;
+
+/**
+ * Validação de identificadores textuais (ExternalOrderId, ProductId) sem regex e sem alocação.
+ * <p>
+ * Regras idênticas às do antigo padrão {@code ^[a-zA-Z0-9_-]+$} aplicado ao valor após
+ * {@link String#trim()}: não nulo nem em branco, no máximo {@value #MAX_LENGTH} caracteres
+ * e apenas letras ASCII, dígitos ASCII, hífen e underscore. A varredura usa índices sobre
+ * a string original, sem criar a cópia aparada nem um {@code Matcher}.
+ */
+public final class IdentifierScanner {
+
+    public static final int MAX_LENGTH = 100;
+
+    /** Resultado da varredura de um identificador. */
+    public enum Verdict { VALID, BLANK, TOO_LONG, INVALID_CHARACTERS }
+
+    private IdentifierScanner() {
+    }
+
+    public static Verdict scan(String value) {
+        if (value == null || value.isBlank()) {
+            return Verdict.BLANK;
+        }
+
+        // Mesmos limites de String.trim(): descarta caracteres <= ' ' nas pontas
+        int start = 0;
+        int end = value.length();
+        while (start < end && value.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && value.charAt(end - 1) <= ' ') {
+            end--;
+        }
+
+        if (end - start > MAX_LENGTH) {
+            return Verdict.TOO_LONG;
+        }
+        if (start == end) {
+            // Só caracteres de controle: não vazio para isBlank(), vazio após trim()
+            return Verdict.INVALID_CHARACTERS;
+        }
+        for (int i = start; i < end; i++) {
+            if (!isAllowed(value.charAt(i))) {
+                return Verdict.INVALID_CHARACTERS;
+            }
+        }
+        return Verdict.VALID;
+    }
+
+    private static boolean isAllowed(char c) {
+        return (c >= 'a' && c <= 'z')
+                || (c >= 'A' && c <= 'Z')
+                || (c >= '0' && c <= '9')
+                || c == '-'
+                || c == '_';
+    }
+}
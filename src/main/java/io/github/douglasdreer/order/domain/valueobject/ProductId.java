@@ -3,15 +3,13 @@ package io.github.douglasdreer.order.domain.valueobject;
 import io.github.douglasdreer.order.domain.exception.InvalidProductIdException;
 
 import java.util.Objects;
-import java.util.regex.Pattern;
 
 /**
  * Value Object que representa o identificador de um produto.
  */
 public final class ProductId {
     
-    private static final int MAX_LENGTH = 100;
-    private static final Pattern VALID_PATTERN = Pattern.compile("^[a-zA-Z0-9_-]+$");
+    private static final int MAX_LENGTH = IdentifierScanner.MAX_LENGTH;
     
     private final String value;
     
@@ -25,20 +23,13 @@ public final class ProductId {
     }
     
     private static void validate(String value) {
-        if (value == null || value.isBlank()) {
-            throw new InvalidProductIdException("ProductId não pode ser nulo ou vazio");
-        }
-        
-        String trimmedValue = value.trim();
-        
-        if (trimmedValue.length() > MAX_LENGTH) {
-            throw new InvalidProductIdException(
+        switch (IdentifierScanner.scan(value)) {
+            case VALID -> { }
+            case BLANK -> throw new InvalidProductIdException("ProductId não pode ser nulo ou vazio");
+            case TOO_LONG -> throw new InvalidProductIdException(
                 "ProductId não pode exceder %d caracteres".formatted(MAX_LENGTH)
             );
-        }
-        
-        if (!VALID_PATTERN.matcher(trimmedValue).matches()) {
-            throw new InvalidProductIdException(
+            case INVALID_CHARACTERS -> throw new InvalidProductIdException(
                 "ProductId deve conter apenas caracteres alfanuméricos, hífen e underscore"
             );
         }
@@ -0,0 +1,32 @@
+package io.github.douglasdreer.order.domain.valueobject;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Value Object que representa uma transição de status de um pedido.
+ *
+ * @param from       status anterior
+ * @param to         novo status
+ * @param occurredAt instante da transição
+ * @param dwell      tempo de permanência no status anterior
+ */
+public record StatusTransition(OrderStatus from, OrderStatus to, Instant occurredAt, Duration dwell) {
+
+    public StatusTransition {
+        Objects.requireNonNull(from, "from é obrigatório");
+        Objects.requireNonNull(to, "to é obrigatório");
+        Objects.requireNonNull(occurredAt, "occurredAt é obrigatório");
+        Objects.requireNonNull(dwell, "dwell é obrigatório");
+    }
+
+    /**
+     * Cria a transição calculando a permanência desde a entrada no status anterior.
+     * Permanências negativas (relógios divergentes) são tratadas como zero.
+     */
+    public static StatusTransition of(OrderStatus from, OrderStatus to, Instant statusSince, Instant occurredAt) {
+        Duration dwell = Duration.between(statusSince, occurredAt);
+        return new StatusTransition(from, to, occurredAt, dwell.isNegative() ? Duration.ZERO : dwell);
+    }
+}
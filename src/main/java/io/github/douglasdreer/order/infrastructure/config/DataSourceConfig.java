@@ -0,0 +1,121 @@
+package io.github.douglasdreer.order.infrastructure.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.github.douglasdreer.order.infrastructure.persistence.replica.ReplicaNode;
+import io.github.douglasdreer.order.infrastructure.persistence.replica.ReplicaRoutingDataSource;
+import io.github.douglasdreer.order.infrastructure.persistence.replica.ReplicaSet;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Pools de conexão separados para escrita (ingestão) e leitura (consultas).
+ * <p>
+ * O {@code dataSource} principal (JPA, JdbcTemplate, Flyway) é um
+ * {@link LazyConnectionDataSourceProxy}: a conexão física só é obtida no primeiro
+ * statement, quando o gerenciador de transação já marcou a conexão como somente leitura.
+ * Transações {@code readOnly = true} usam o {@code readDataSource}; as demais, e o acesso
+ * fora de transação, usam o pool de escrita. Assim, um pico de consultas do Produto B não
+ * esgota as conexões da ingestão, e vice-versa.
+ * <p>
+ * O {@code readDataSource} distribui as leituras entre as réplicas de
+ * {@code app.datasource.read.replicas} cujo atraso está abaixo de
+ * {@code app.datasource.read.max-lag}; sem réplicas elegíveis (ou sem réplicas
+ * configuradas), usa um pool de leitura no primário. Todos os pools de leitura seguem
+ * {@code app.datasource.read.hikari} e têm métricas próprias ({@code hikaricp.*} com a
+ * tag {@code pool}).
+ */
+@Configuration
+@Profile("!in-memory")
+@Slf4j
+public class DataSourceConfig {
+
+    private static final String READ_HIKARI = "app.datasource.read.hikari";
+
+    /**
+     * Réplica de leitura ({@code app.datasource.read.replicas[n]}); usuário e senha vazios
+     * reutilizam os de {@code spring.datasource}.
+     */
+    public record ReplicaEndpoint(String name, String url, String username, String password) {
+    }
+
+    @Bean
+    @ConfigurationProperties("app.datasource.write.hikari")
+    public HikariDataSource writeDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaSet replicaSet(
+            DataSourceProperties properties,
+            Environment environment,
+            MeterRegistry meterRegistry,
+            @Value("${app.datasource.read.max-lag:5s}") Duration maxLag) {
+        Binder binder = Binder.get(environment);
+        HikariDataSource primary = readPool(properties, binder, meterRegistry, "OrderHikariCP-read");
+
+        List<ReplicaNode> replicas = binder.bind("app.datasource.read.replicas", Bindable.listOf(ReplicaEndpoint.class))
+                .orElse(List.of())
+                .stream()
+                .map(endpoint -> replica(properties, binder, meterRegistry, endpoint))
+                .toList();
+
+        log.info("Leituras: {} réplica(s), atraso máximo {}", replicas.size(), maxLag);
+        return new ReplicaSet(primary, replicas, maxLag, meterRegistry);
+    }
+
+    @Bean
+    public DataSource readDataSource(ReplicaSet replicaSet) {
+        return new ReplicaRoutingDataSource(replicaSet);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("writeDataSource") DataSource writeDataSource,
+                                 @Qualifier("readDataSource") DataSource readDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(writeDataSource);
+        dataSource.setReadOnlyDataSource(readDataSource);
+        return dataSource;
+    }
+
+    private static ReplicaNode replica(DataSourceProperties properties, Binder binder, MeterRegistry meterRegistry,
+                                       ReplicaEndpoint endpoint) {
+        if (!StringUtils.hasText(endpoint.name()) || !StringUtils.hasText(endpoint.url())) {
+            throw new IllegalStateException("Réplica sem name/url em app.datasource.read.replicas: " + endpoint);
+        }
+        HikariDataSource pool = readPool(properties, binder, meterRegistry, "OrderHikariCP-replica-" + endpoint.name());
+        pool.setJdbcUrl(endpoint.url());
+        if (StringUtils.hasText(endpoint.username())) {
+            pool.setUsername(endpoint.username());
+            pool.setPassword(endpoint.password());
+        }
+        log.info("Réplica de leitura {}: {}", endpoint.name(), endpoint.url());
+        return new ReplicaNode(endpoint.name(), pool);
+    }
+
+    private static HikariDataSource readPool(DataSourceProperties properties, Binder binder, MeterRegistry meterRegistry,
+                                             String poolName) {
+        HikariDataSource pool = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        binder.bind(READ_HIKARI, Bindable.ofInstance(pool));
+        pool.setPoolName(poolName);
+        pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return pool;
+    }
+}
@@ -0,0 +1,48 @@
+package io.github.douglasdreer.order.infrastructure.config;
+
+import io.github.douglasdreer.order.domain.identity.IdGenerator;
+import io.github.douglasdreer.order.domain.identity.IdGenerators;
+import io.github.douglasdreer.order.domain.identity.RandomUuidGenerator;
+import io.github.douglasdreer.order.domain.identity.UuidV7Generator;
+import io.github.douglasdreer.order.infrastructure.persistence.sharding.ShardRouter;
+import io.github.douglasdreer.order.infrastructure.persistence.sharding.ShardingIdGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuração da estratégia de geração de IDs das entidades de domínio.
+ * <p>
+ * Estratégias suportadas (propriedade {@code app.persistence.id-generator}):
+ * - uuid-v7: UUIDs ordenados pelo tempo (padrão)
+ * - random: UUIDs versão 4
+ * <p>
+ * Com pedidos particionados (perfil {@code sharded}), o ID do pedido recebe também o
+ * índice do shard do seu ID externo.
+ */
+@Configuration
+@Slf4j
+public class IdGeneratorConfig {
+
+    @Bean
+    public IdGenerator idGenerator(@Value("${app.persistence.id-generator:uuid-v7}") String strategy,
+                                   ObjectProvider<ShardRouter> shardRouter) {
+        IdGenerator generator = switch (strategy.toLowerCase()) {
+            case "uuid-v7" -> new UuidV7Generator();
+            case "random" -> RandomUuidGenerator.INSTANCE;
+            default -> throw new IllegalStateException("Estratégia de geração de IDs desconhecida: " + strategy);
+        };
+
+        ShardRouter router = shardRouter.getIfAvailable();
+        if (router != null) {
+            generator = new ShardingIdGenerator(generator, router);
+        }
+
+        IdGenerators.use(generator);
+        log.info("Gerador de IDs configurado: {}", strategy);
+
+        return generator;
+    }
+}
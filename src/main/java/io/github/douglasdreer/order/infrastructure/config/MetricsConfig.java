@@ -0,0 +1,21 @@
+package io.github.douglasdreer.order.infrastructure.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuração de métricas Micrometer.
+ * <p>
+ * Habilita {@code @Timed} nos casos de uso e adapters de persistência.
+ * Os timers recebem as tags class, method e exception.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+}
@@ -0,0 +1,12 @@
+package io.github.douglasdreer.order.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita tarefas agendadas (expurgo das respostas idempotentes expiradas).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,106 @@
+package io.github.douglasdreer.order.infrastructure.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.github.douglasdreer.order.infrastructure.persistence.sharding.OrderShards;
+import io.github.douglasdreer.order.infrastructure.persistence.sharding.Shard;
+import io.github.douglasdreer.order.infrastructure.persistence.sharding.ShardRouter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.Flyway;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Armazenamento de pedidos particionado por hash em vários bancos (perfil {@code sharded}).
+ * <p>
+ * Cada item de {@code app.sharding.shards} é um banco PostgreSQL com pool próprio
+ * ({@code OrderHikariCP-shard-<n>}, configurado por {@code app.sharding.hikari}) e schema
+ * migrado pelo Flyway na inicialização. A ordem da lista define o índice do shard e não
+ * pode mudar depois que houver dados: o índice é gravado nos IDs dos pedidos.
+ * <p>
+ * As demais tabelas (mensagens processadas, chaves de idempotência) continuam no
+ * {@code spring.datasource}.
+ */
+@Configuration
+@Profile("sharded")
+@Slf4j
+public class ShardingConfig {
+
+    /**
+     * Banco de um shard ({@code app.sharding.shards[n]}); usuário e senha vazios
+     * reutilizam os de {@code spring.datasource}.
+     */
+    public record ShardEndpoint(String url, String username, String password) {
+    }
+
+    @Bean
+    public ShardRouter shardRouter(Environment environment) {
+        return new ShardRouter(shardEndpoints(Binder.get(environment)).size());
+    }
+
+    @Bean
+    public OrderShards orderShards(
+            ShardRouter shardRouter,
+            DataSourceProperties properties,
+            Environment environment,
+            MeterRegistry meterRegistry) {
+        Binder binder = Binder.get(environment);
+        List<ShardEndpoint> shardEndpoints = shardEndpoints(binder);
+        List<Shard> shards = new ArrayList<>(shardEndpoints.size());
+        for (int index = 0; index < shardEndpoints.size(); index++) {
+            HikariDataSource pool = shardPool(properties, binder, meterRegistry, index, shardEndpoints.get(index));
+            migrate(pool, index);
+            shards.add(Shard.of(index, pool));
+        }
+        log.info("Pedidos particionados em {} shard(s)", shards.size());
+        return new OrderShards(shardRouter, shards);
+    }
+
+    private static List<ShardEndpoint> shardEndpoints(Binder binder) {
+        List<ShardEndpoint> endpoints = binder.bind("app.sharding.shards", Bindable.listOf(ShardEndpoint.class))
+                .orElse(List.of());
+        if (endpoints.isEmpty()) {
+            throw new IllegalStateException("Perfil sharded exige ao menos um banco em app.sharding.shards");
+        }
+        return endpoints;
+    }
+
+    private static HikariDataSource shardPool(DataSourceProperties properties, Binder binder,
+                                              MeterRegistry meterRegistry, int index, ShardEndpoint endpoint) {
+        if (!StringUtils.hasText(endpoint.url())) {
+            throw new IllegalStateException("Shard %d sem url em app.sharding.shards".formatted(index));
+        }
+        HikariDataSource pool = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        binder.bind("app.sharding.hikari", Bindable.ofInstance(pool));
+        pool.setPoolName("OrderHikariCP-shard-" + index);
+        pool.setJdbcUrl(endpoint.url());
+        if (StringUtils.hasText(endpoint.username())) {
+            pool.setUsername(endpoint.username());
+            pool.setPassword(endpoint.password());
+        }
+        pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        log.info("Shard {}: {}", index, endpoint.url());
+        return pool;
+    }
+
+    private static void migrate(HikariDataSource pool, int index) {
+        int applied = Flyway.configure()
+                .dataSource(pool)
+                .locations("classpath:db/migration")
+                .baselineOnMigrate(true)
+                .load()
+                .migrate()
+                .migrationsExecuted;
+        log.info("Shard {}: {} migração(ões) aplicada(s)", index, applied);
+    }
+}
@@ -0,0 +1,53 @@
+package io.github.douglasdreer.order.infrastructure.config;
+
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.aop.ObservedAspect;
+import io.opentelemetry.exporter.otlp.http.trace.OtlpHttpSpanExporter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuração de tracing distribuído (Micrometer Tracing + OpenTelemetry).
+ * <p>
+ * Os spans formam uma única árvore por mensagem: entrega AMQP (listener container),
+ * caso de uso ({@code @Observed}), cada statement SQL (datasource-micrometer) e
+ * publicação ({@code RabbitTemplate}). O contexto viaja nos headers AMQP (W3C traceparent)
+ * e traceId/spanId são colocados no MDC pelo Micrometer Tracing.
+ * <p>
+ * O exporter é escolhido por {@code app.tracing.exporter}: {@code otlp} (padrão) ou
+ * {@code none}. Com {@code none}, qualquer bean {@code SpanExporter} registrado no contexto
+ * (ex.: {@code InMemorySpanExporter} nos testes) continua recebendo os spans.
+ */
+@Configuration
+@Slf4j
+public class TracingConfig {
+
+    /**
+     * Habilita {@code @Observed} nos casos de uso (timer order.usecase + span por método).
+     */
+    @Bean
+    public ObservedAspect observedAspect(ObservationRegistry observationRegistry) {
+        return new ObservedAspect(observationRegistry);
+    }
+
+    /**
+     * Exporter OTLP/HTTP para o coletor OpenTelemetry.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.tracing.exporter", havingValue = "otlp", matchIfMissing = true)
+    public OtlpHttpSpanExporter otlpHttpSpanExporter(
+            @Value("${app.tracing.otlp.endpoint:http://localhost:4318/v1/traces}") String endpoint,
+            @Value("${app.tracing.otlp.timeout:10s}") Duration timeout) {
+
+        log.info("Exportando spans via OTLP/HTTP para {}", endpoint);
+        return OtlpHttpSpanExporter.builder()
+                .setEndpoint(endpoint)
+                .setTimeout(timeout)
+                .build();
+    }
+}
@@ -0,0 +1,14 @@
+package io.github.douglasdreer.order.infrastructure.events;
+
+import io.github.douglasdreer.order.domain.valueobject.OrderStatus;
+
+import java.util.UUID;
+
+/**
+ * Mudança de status de um pedido, publicada no barramento interno.
+ *
+ * @param orderId ID do pedido
+ * @param status  Novo status
+ */
+public record OrderStatusChanged(UUID orderId, OrderStatus status) {
+}
@@ -0,0 +1,22 @@
+package io.github.douglasdreer.order.infrastructure.events;
+
+import io.github.douglasdreer.order.application.port.output.OrderStatusEventPort;
+import io.github.douglasdreer.order.domain.valueobject.OrderStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/** Publica {@link OrderStatusChanged} no {@link ApplicationEventPublisher} do Spring. */
+@Component
+@RequiredArgsConstructor
+public class SpringOrderStatusEventAdapter implements OrderStatusEventPort {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public void statusChanged(UUID orderId, OrderStatus status) {
+        eventPublisher.publishEvent(new OrderStatusChanged(orderId, status));
+    }
+}
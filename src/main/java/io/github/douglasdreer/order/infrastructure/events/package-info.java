@@ -0,0 +1,7 @@
+/**
+ * Infraestrutura - Barramento Interno de Eventos
+ *
+ * Eventos de aplicação do Spring publicados pelos casos de uso. Os ouvintes usam
+ * {@code @TransactionalEventListener}: o evento só é entregue após o commit.
+ */
+package io.github.douglasdreer.order.infrastructure.events;
@@ -0,0 +1,82 @@
+package io.github.douglasdreer.order.infrastructure.jfr;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Converte {@link OrderPipelineEvent} em métricas a partir de um stream JFR contínuo.
+ * <p>
+ * Métrica: order.jfr.operation{layer,operation,outcome}. Os eventos chegam com
+ * atraso de até ~1s (intervalo de flush do JFR). Desligado por padrão: os timers do
+ * {@code @Observed} já medem as mesmas operações, e com o stream ativo o evento fica sempre
+ * habilitado. Ative com {@code app.jfr.streaming.enabled=true}; sem ele os eventos só são
+ * emitidos durante gravações sob demanda.
+ */
+@Component
+@Slf4j
+public class JfrMetricsBridge implements SmartLifecycle {
+
+    static final String OPERATION_TIMER = "order.jfr.operation";
+
+    private static final Duration STREAM_MAX_AGE = Duration.ofMinutes(1);
+
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private volatile RecordingStream stream;
+
+    public JfrMetricsBridge(
+            MeterRegistry meterRegistry,
+            @Value("${app.jfr.streaming.enabled:false}") boolean enabled) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (!enabled || stream != null) {
+            return;
+        }
+        RecordingStream recordingStream = new RecordingStream();
+        recordingStream.enable(OrderPipelineEvent.NAME);
+        recordingStream.setMaxAge(STREAM_MAX_AGE);
+        recordingStream.onEvent(OrderPipelineEvent.NAME, this::onEvent);
+        recordingStream.startAsync();
+        stream = recordingStream;
+        log.info("Stream JFR de métricas do pipeline iniciado");
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    void onEvent(RecordedEvent event) {
+        Timer.builder(OPERATION_TIMER)
+                .description("Duração das operações do pipeline registradas via JFR")
+                .tag("layer", valueOrUnknown(event.getString("layer")))
+                .tag("operation", valueOrUnknown(event.getString("operation")))
+                .tag("outcome", valueOrUnknown(event.getString("outcome")))
+                .register(meterRegistry)
+                .record(event.getDuration());
+    }
+
+    private static String valueOrUnknown(String value) {
+        return value != null ? value : "unknown";
+    }
+}
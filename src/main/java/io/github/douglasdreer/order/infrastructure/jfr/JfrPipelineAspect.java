@@ -0,0 +1,135 @@
+package io.github.douglasdreer.order.infrastructure.jfr;
+
+import io.github.douglasdreer.order.adapter.output.messaging.event.OrderCreatedEvent;
+import io.github.douglasdreer.order.application.dto.CreateOrderCommand;
+import io.github.douglasdreer.order.application.dto.OrderResponse;
+import io.github.douglasdreer.order.domain.entity.Order;
+import io.github.douglasdreer.order.infrastructure.persistence.entity.OrderEntity;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Emite {@link OrderPipelineEvent} em torno do consumer, casos de uso,
+ * validação, repositório e mappers.
+ * <p>
+ * Quando nenhuma gravação ou stream JFR habilita o evento, o custo é uma
+ * alocação e uma verificação de flag. Os atributos (ID do pedido, itens,
+ * status) são extraídos dos argumentos e do retorno apenas se o evento
+ * for efetivamente gravado.
+ */
+@Aspect
+@Component
+public class JfrPipelineAspect {
+
+    private final Map<Method, String> operationNames = new ConcurrentHashMap<>();
+
+    @Around("execution(* io.github.douglasdreer.order.adapter.input.messaging.OrderMessageConsumer.handleOrderCreatedEvent(..))")
+    public Object aroundConsumer(ProceedingJoinPoint joinPoint) throws Throwable {
+        return record(joinPoint, "consumer");
+    }
+
+    @Around("execution(public * io.github.douglasdreer.order.application.usecase..*(..))")
+    public Object aroundUseCase(ProceedingJoinPoint joinPoint) throws Throwable {
+        return record(joinPoint, "usecase");
+    }
+
+    @Around("execution(public * io.github.douglasdreer.order.application.port.output.OrderRepositoryPort+.*(..))")
+    public Object aroundRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return record(joinPoint, "repository");
+    }
+
+    @Around("execution(public * io.github.douglasdreer.order.application.validation..*(..))")
+    public Object aroundValidation(ProceedingJoinPoint joinPoint) throws Throwable {
+        return record(joinPoint, "validation");
+    }
+
+    @Around("execution(public * io.github.douglasdreer.order.application.mapper.OrderApplicationMapper.*(..))"
+            + " || execution(public * io.github.douglasdreer.order.infrastructure.persistence.mapper.OrderPersistenceMapper.*(..))")
+    public Object aroundMapper(ProceedingJoinPoint joinPoint) throws Throwable {
+        return record(joinPoint, "mapper");
+    }
+
+    private Object record(ProceedingJoinPoint joinPoint, String layer) throws Throwable {
+        OrderPipelineEvent event = new OrderPipelineEvent();
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+
+        event.begin();
+        Object result = null;
+        String outcome = "error";
+        try {
+            result = joinPoint.proceed();
+            outcome = "success";
+            return result;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.layer = layer;
+                event.operation = operationName(joinPoint);
+                event.outcome = outcome;
+                for (Object arg : joinPoint.getArgs()) {
+                    describe(arg, event, false);
+                }
+                describe(result, event, true);
+                event.commit();
+            }
+        }
+    }
+
+    private String operationName(ProceedingJoinPoint joinPoint) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        return operationNames.computeIfAbsent(method,
+                m -> joinPoint.getTarget().getClass().getSimpleName() + "." + m.getName());
+    }
+
+    private static void describe(Object value, OrderPipelineEvent event, boolean isResult) {
+        switch (value) {
+            case null -> { }
+            case Optional<?> optional -> optional.ifPresent(v -> describe(v, event, isResult));
+            case Collection<?> collection -> {
+                if (isResult) {
+                    event.resultSize = collection.size();
+                }
+            }
+            case UUID id -> event.orderId = id.toString();
+            case Order order -> {
+                event.orderId = String.valueOf(order.getId());
+                event.externalOrderId = order.getExternalOrderIdValue();
+                event.itemCount = order.getItemCount();
+                event.status = order.getStatus().name();
+            }
+            case OrderResponse response -> {
+                event.orderId = String.valueOf(response.getId());
+                event.externalOrderId = response.getExternalOrderId();
+                event.itemCount = response.getItems() != null ? response.getItems().size() : 0;
+                event.status = response.getStatus();
+            }
+            case OrderEntity entity -> {
+                event.orderId = String.valueOf(entity.getId());
+                event.externalOrderId = entity.getExternalOrderId();
+                event.itemCount = entity.getItems().size();
+                event.status = entity.getStatus() != null ? entity.getStatus().name() : null;
+            }
+            case CreateOrderCommand command -> {
+                event.externalOrderId = command.getExternalOrderId();
+                event.itemCount = command.getItems() != null ? command.getItems().size() : 0;
+            }
+            case OrderCreatedEvent created -> {
+                event.externalOrderId = created.correlationId();
+                event.itemCount = created.items() != null ? created.items().size() : 0;
+            }
+            default -> { }
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package io.github.douglasdreer.order.infrastructure.jfr;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Endpoint actuator para gravações JFR sob demanda, exposto só via JMX: as operações
+ * gravam arquivos no servidor e não têm autenticação.
+ * <p>
+ * Operações:
+ * - status: estado da gravação atual
+ * - start: inicia gravação limitada em duração e tamanho ({@code durationSeconds} e
+ *   {@code settings} = default | profile)
+ * - stop: encerra a gravação e retorna o caminho do arquivo .jfr
+ * <p>
+ * Apenas uma gravação por vez. A gravação termina sozinha ao atingir a duração.
+ */
+@Component
+@Endpoint(id = "jfr")
+@Slf4j
+public class JfrRecordingEndpoint {
+
+    private static final Set<String> SETTINGS = Set.of("default", "profile");
+
+    private final Path directory;
+    private final Duration maxDuration;
+    private final DataSize maxSize;
+
+    private Recording recording;
+
+    public JfrRecordingEndpoint(
+            @Value("${app.jfr.recording.directory:${java.io.tmpdir}/order-service-jfr}") Path directory,
+            @Value("${app.jfr.recording.max-duration:10m}") Duration maxDuration,
+            @Value("${app.jfr.recording.max-size:256MB}") DataSize maxSize) {
+        this.directory = directory;
+        this.maxDuration = maxDuration;
+        this.maxSize = maxSize;
+    }
+
+    @ReadOperation
+    public synchronized Map<String, Object> status() {
+        return describe(recording);
+    }
+
+    @WriteOperation
+    public synchronized Map<String, Object> start(long durationSeconds, String settings) {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            throw new InvalidEndpointRequestException("Já existe uma gravação JFR em andamento",
+                    "Gravação já em andamento");
+        }
+        closeCurrent();
+
+        Duration duration = Duration.ofSeconds(durationSeconds);
+        if (duration.isNegative() || duration.isZero()) {
+            throw new InvalidEndpointRequestException("durationSeconds deve ser positivo", "Duração inválida");
+        }
+        if (duration.compareTo(maxDuration) > 0) {
+            duration = maxDuration;
+        }
+
+        if (settings == null || !SETTINGS.contains(settings)) {
+            throw new InvalidEndpointRequestException("settings deve ser um de " + SETTINGS, "Configuração inválida");
+        }
+
+        Recording newRecording = new Recording(loadConfiguration(settings));
+        String name = "order-service-" + Instant.now().toEpochMilli();
+        newRecording.setName(name);
+        newRecording.setToDisk(true);
+        newRecording.setDuration(duration);
+        newRecording.setMaxSize(maxSize.toBytes());
+        newRecording.enable(OrderPipelineEvent.NAME);
+        try {
+            Files.createDirectories(directory);
+            newRecording.setDestination(directory.resolve(name + ".jfr"));
+        } catch (IOException e) {
+            newRecording.close();
+            throw new UncheckedIOException("Falha ao preparar diretório de gravações JFR", e);
+        }
+        newRecording.start();
+        recording = newRecording;
+
+        log.info("Gravação JFR iniciada: name={}, duration={}, settings={}", name, duration, settings);
+        return describe(recording);
+    }
+
+    @DeleteOperation
+    public synchronized Map<String, Object> stop() {
+        if (recording == null) {
+            return describe(null);
+        }
+        if (recording.getState() == RecordingState.RUNNING) {
+            recording.stop();
+        }
+        Map<String, Object> result = describe(recording);
+        log.info("Gravação JFR encerrada: {}", result.get("destination"));
+        closeCurrent();
+        return result;
+    }
+
+    private void closeCurrent() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    private static Configuration loadConfiguration(String name) {
+        try {
+            return Configuration.getConfiguration(name);
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("Configuração JFR indisponível: " + name, e);
+        }
+    }
+
+    private static Map<String, Object> describe(Recording recording) {
+        Map<String, Object> status = new LinkedHashMap<>();
+        if (recording == null) {
+            status.put("state", "IDLE");
+            return status;
+        }
+        status.put("name", recording.getName());
+        status.put("state", recording.getState().name());
+        status.put("startTime", recording.getStartTime());
+        status.put("duration", recording.getDuration());
+        status.put("maxSizeBytes", recording.getMaxSize());
+        status.put("destination", String.valueOf(recording.getDestination()));
+        return status;
+    }
+}
@@ -0,0 +1,53 @@
+package io.github.douglasdreer.order.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento JFR emitido em cada operação dos pipelines de pedidos
+ * (consumer, casos de uso, repositório e mappers).
+ * <p>
+ * A duração é a do próprio evento (begin/end). Sem stack trace para
+ * manter o custo baixo em operações frequentes como conversões.
+ */
+@Name(OrderPipelineEvent.NAME)
+@Label("Order Pipeline Operation")
+@Category({"Order Service", "Pipeline"})
+@Description("Operação de negócio nos pipelines de ingestão e consulta de pedidos")
+@StackTrace(false)
+public class OrderPipelineEvent extends Event {
+
+    public static final String NAME = "io.github.douglasdreer.order.PipelineOperation";
+
+    @Label("Layer")
+    @Description("consumer, usecase, validation, repository ou mapper")
+    String layer;
+
+    @Label("Operation")
+    @Description("Classe.método")
+    String operation;
+
+    @Label("Order ID")
+    String orderId;
+
+    @Label("External Order ID")
+    String externalOrderId;
+
+    @Label("Item Count")
+    int itemCount;
+
+    @Label("Status")
+    String status;
+
+    @Label("Result Size")
+    @Description("Quantidade de elementos retornados em consultas de lista")
+    int resultSize;
+
+    @Label("Outcome")
+    @Description("success ou error")
+    String outcome;
+}
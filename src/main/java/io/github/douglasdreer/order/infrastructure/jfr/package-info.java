@@ -0,0 +1,7 @@
+/**
+ * Camada de Infraestrutura - JDK Flight Recorder
+ * 
+ * Eventos JFR customizados para os pipelines de ingestão e consulta,
+ * conversão desses eventos em métricas e gravações sob demanda via actuator.
+ */
+package io.github.douglasdreer.order.infrastructure.jfr;
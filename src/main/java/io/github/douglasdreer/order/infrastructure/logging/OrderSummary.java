@@ -0,0 +1,35 @@
+package io.github.douglasdreer.order.infrastructure.logging;
+
+import lombok.Builder;
+
+import java.util.UUID;
+
+/**
+ * Dados do evento de log consolidado de um pedido (um por mensagem/requisição).
+ *
+ * @param channel         Origem do pedido (amqp, http)
+ * @param outcome         Resultado (success, duplicate, domain_error, invalid, shed, error)
+ * @param correlationId   ID de correlação do produtor; nulo no HTTP (o traceId vai no MDC)
+ * @param orderId         ID interno; nulo quando o pedido não foi criado
+ * @param externalOrderId ID externo do pedido (chave de deduplicação)
+ * @param itemCount       Quantidade de itens recebidos
+ * @param durationMs      Tempo total de processamento
+ * @param error           Causa da falha; nulo em caso de sucesso
+ */
+@Builder
+public record OrderSummary(
+        String channel,
+        String outcome,
+        String correlationId,
+        UUID orderId,
+        String externalOrderId,
+        int itemCount,
+        long durationMs,
+        Throwable error
+) {
+
+    /** Sucesso ou resultado esperado sem erro (ex.: duplicate). */
+    public boolean isSuccess() {
+        return error == null;
+    }
+}
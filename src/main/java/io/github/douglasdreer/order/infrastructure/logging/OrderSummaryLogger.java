@@ -0,0 +1,88 @@
+package io.github.douglasdreer.order.infrastructure.logging;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+/**
+ * Emite um único evento de log estruturado por pedido, no logger {@code order.summary}.
+ * <p>
+ * Substitui as várias linhas INFO por etapa do caminho quente. Sucessos são amostrados
+ * pela taxa {@code app.logging.summary.success-sample-rate} (0.0 a 1.0); pedidos
+ * duplicados (reentregas confirmadas sem erro) saem sempre em INFO, para que um descarte
+ * indevido continue visível; falhas são
+ * sempre registradas: WARN para erros de domínio/validação, ERROR com stack trace
+ * para erros inesperados. Os campos saem como chaves próprias no JSON (LogstashEncoder)
+ * e como {@code chave=valor} no formato texto.
+ */
+@Component
+public class OrderSummaryLogger {
+
+    static final String LOGGER_NAME = "order.summary";
+    static final String UNEXPECTED_ERROR = "error";
+    static final String DUPLICATE = "duplicate";
+
+    private static final Logger log = LoggerFactory.getLogger(LOGGER_NAME);
+    private static final String MESSAGE = "Resumo do pedido {} {} {} {} {} {} {}";
+
+    private final double successSampleRate;
+    private final DoubleSupplier random;
+
+    @Autowired
+    public OrderSummaryLogger(@Value("${app.logging.summary.success-sample-rate:0.1}") double successSampleRate) {
+        this(successSampleRate, () -> ThreadLocalRandom.current().nextDouble());
+    }
+
+    OrderSummaryLogger(double successSampleRate, DoubleSupplier random) {
+        if (successSampleRate < 0.0 || successSampleRate > 1.0) {
+            throw new IllegalArgumentException("success-sample-rate deve estar entre 0.0 e 1.0: " + successSampleRate);
+        }
+        this.successSampleRate = successSampleRate;
+        this.random = random;
+    }
+
+    public void log(OrderSummary summary) {
+        if (summary.isSuccess()) {
+            if (log.isInfoEnabled() && (DUPLICATE.equals(summary.outcome()) || sampled())) {
+                log.info(MESSAGE, fields(summary));
+            }
+            return;
+        }
+
+        if (UNEXPECTED_ERROR.equals(summary.outcome())) {
+            log.error(MESSAGE, append(fields(summary), summary.error()));
+        } else {
+            log.warn(MESSAGE + " {}", append(fields(summary), kv("error", summary.error().getMessage())));
+        }
+    }
+
+    private boolean sampled() {
+        return successSampleRate >= 1.0 || (successSampleRate > 0.0 && random.getAsDouble() < successSampleRate);
+    }
+
+    private static Object[] fields(OrderSummary summary) {
+        return new Object[]{
+                kv("channel", summary.channel()),
+                kv("outcome", summary.outcome()),
+                kv("correlationId", summary.correlationId()),
+                kv("orderId", summary.orderId()),
+                kv("externalOrderId", summary.externalOrderId()),
+                kv("itemCount", summary.itemCount()),
+                kv("durationMs", summary.durationMs())
+        };
+    }
+
+    private static Object[] append(Object[] fields, Object last) {
+        Object[] arguments = new Object[fields.length + 1];
+        System.arraycopy(fields, 0, arguments, 0, fields.length);
+        arguments[fields.length] = last;
+        return arguments;
+    }
+}
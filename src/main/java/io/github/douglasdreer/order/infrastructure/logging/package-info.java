@@ -0,0 +1,7 @@
+/**
+ * Camada de Infraestrutura - Logging
+ *
+ * Evento de log consolidado por pedido, com amostragem de sucessos.
+ * Appenders assíncronos e formato JSON são configurados em logback-spring.xml.
+ */
+package io.github.douglasdreer.order.infrastructure.logging;
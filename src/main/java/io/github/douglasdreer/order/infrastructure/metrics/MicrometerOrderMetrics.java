@@ -0,0 +1,102 @@
+package io.github.douglasdreer.order.infrastructure.metrics;
+
+import io.github.douglasdreer.order.application.port.output.OrderMetricsPort;
+import io.github.douglasdreer.order.domain.valueobject.OrderStatus;
+import io.github.douglasdreer.order.domain.valueobject.StatusTransition;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Métricas de negócio dos pedidos publicadas via Micrometer.
+ * <p>
+ * Métricas:
+ * - order.outcomes{outcome}: pedidos por resultado (created, duplicate, validation_failed)
+ * - order.transitions.rejected{from,to}: transições de status rejeitadas
+ * - order.items: distribuição de itens por pedido criado
+ * - order.status.dwell{status}: tempo de permanência em cada status antes da transição
+ * <p>
+ * Todas as tags têm cardinalidade fixa (enums e valores constantes).
+ */
+@Component
+public class MicrometerOrderMetrics implements OrderMetricsPort {
+
+    static final String OUTCOMES = "order.outcomes";
+    static final String TRANSITIONS_REJECTED = "order.transitions.rejected";
+    static final String ITEMS = "order.items";
+    static final String STATUS_DWELL = "order.status.dwell";
+
+    private final MeterRegistry meterRegistry;
+    private final Counter created;
+    private final Counter duplicate;
+    private final Counter validationFailed;
+    private final DistributionSummary itemsPerOrder;
+    private final Map<OrderStatus, Timer> dwellTimers = new EnumMap<>(OrderStatus.class);
+
+    public MicrometerOrderMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.created = outcomeCounter(meterRegistry, "created");
+        this.duplicate = outcomeCounter(meterRegistry, "duplicate");
+        this.validationFailed = outcomeCounter(meterRegistry, "validation_failed");
+        this.itemsPerOrder = DistributionSummary.builder(ITEMS)
+                .description("Quantidade de itens por pedido criado")
+                .baseUnit("items")
+                .publishPercentileHistogram()
+                .minimumExpectedValue(1.0)
+                .maximumExpectedValue(500.0)
+                .register(meterRegistry);
+        for (OrderStatus status : OrderStatus.values()) {
+            dwellTimers.put(status, Timer.builder(STATUS_DWELL)
+                    .description("Tempo de permanência do pedido no status antes da transição")
+                    .tag("status", status.name())
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(Duration.ofMillis(1))
+                    .maximumExpectedValue(Duration.ofDays(1))
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    public void orderCreated(int itemCount) {
+        created.increment();
+        itemsPerOrder.record(itemCount);
+    }
+
+    @Override
+    public void duplicateRejected() {
+        duplicate.increment();
+    }
+
+    @Override
+    public void validationFailed() {
+        validationFailed.increment();
+    }
+
+    @Override
+    public void transitionRejected(OrderStatus from, OrderStatus to) {
+        Counter.builder(TRANSITIONS_REJECTED)
+                .description("Transições de status rejeitadas pelo domínio")
+                .tag("from", from.name())
+                .tag("to", to.name())
+                .register(meterRegistry)
+                .increment();
+    }
+
+    @Override
+    public void statusTransitioned(StatusTransition transition) {
+        dwellTimers.get(transition.from()).record(transition.dwell());
+    }
+
+    private static Counter outcomeCounter(MeterRegistry registry, String outcome) {
+        return Counter.builder(OUTCOMES)
+                .description("Pedidos processados por resultado")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+}
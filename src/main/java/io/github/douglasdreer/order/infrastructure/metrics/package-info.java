@@ -0,0 +1,6 @@
+/**
+ * Camada de Infraestrutura - Métricas
+ * 
+ * Implementações Micrometer das portas de métricas da aplicação.
+ */
+package io.github.douglasdreer.order.infrastructure.metrics;
@@ -3,11 +3,15 @@ package io.github.douglasdreer.order.infrastructure.persistence.adapter;
 import io.github.douglasdreer.order.application.port.output.OrderRepositoryPort;
 import io.github.douglasdreer.order.domain.entity.Order;
 import io.github.douglasdreer.order.domain.valueobject.OrderStatus;
+import io.github.douglasdreer.order.domain.valueobject.StatusTransition;
 import io.github.douglasdreer.order.infrastructure.persistence.entity.OrderEntity;
 import io.github.douglasdreer.order.infrastructure.persistence.mapper.OrderPersistenceMapper;
+import io.github.douglasdreer.order.infrastructure.persistence.repository.OrderJdbcRepository;
 import io.github.douglasdreer.order.infrastructure.persistence.repository.OrderJpaRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,12 +25,15 @@ import java.util.UUID;
  * Adapter que conecta a porta de saída com o repositório JPA.
  */
 @Repository
+@Profile("!in-memory & !sharded")
 @RequiredArgsConstructor
 @Slf4j
 @Transactional(readOnly = true)
+@Timed(value = "order.repository", histogram = true)
 public class OrderRepositoryAdapter implements OrderRepositoryPort {
 
     private final OrderJpaRepository jpaRepository;
+    private final OrderJdbcRepository jdbcRepository;
     private final OrderPersistenceMapper mapper;
 
     @Override
@@ -35,14 +42,36 @@ public class OrderRepositoryAdapter implements OrderRepositoryPort {
         log.debug("Salvando pedido: {}", order.getExternalOrderIdValue());
         
         OrderEntity entity = mapper.toEntity(order);
-        OrderEntity savedEntity = jpaRepository.save(entity);
+        // flush: a versão incrementada pelo @Version já volta na resposta (base do ETag)
+        OrderEntity savedEntity = jpaRepository.saveAndFlush(entity);
+        jdbcRepository.appendStatusHistory(order.getId(), order.getStatusTransitions());
         
-        log.info("Pedido salvo com sucesso: id={}, externalId={}", 
+        log.debug("Pedido salvo com sucesso: id={}, externalId={}", 
                 savedEntity.getId(), savedEntity.getExternalOrderId());
         
         return mapper.toDomain(savedEntity);
     }
 
+    @Override
+    @Transactional
+    public Optional<Order> insertIfAbsent(Order order) {
+        log.debug("Inserindo pedido: {}", order.getExternalOrderIdValue());
+        
+        boolean inserted = jdbcRepository.insertIfAbsent(mapper.toEntity(order));
+        
+        if (!inserted) {
+            log.debug("Pedido já existente: externalId={}", order.getExternalOrderIdValue());
+            return Optional.empty();
+        }
+        
+        jdbcRepository.appendStatusHistory(order.getId(), order.getStatusTransitions());
+        
+        log.debug("Pedido salvo com sucesso: id={}, externalId={}", 
+                order.getId(), order.getExternalOrderIdValue());
+        
+        return Optional.of(order);
+    }
+
     @Override
     public Optional<Order> findById(UUID id) {
         log.debug("Buscando pedido por ID: {}", id);
@@ -51,6 +80,11 @@ public class OrderRepositoryAdapter implements OrderRepositoryPort {
                 .map(mapper::toDomain);
     }
 
+    @Override
+    public Optional<Long> findVersionById(UUID id) {
+        return jpaRepository.findVersionById(id);
+    }
+
     @Override
     public Optional<Order> findByExternalOrderId(String externalOrderId) {
         log.debug("Buscando pedido por ID externo: {}", externalOrderId);
@@ -111,4 +145,11 @@ public class OrderRepositoryAdapter implements OrderRepositoryPort {
         return jpaRepository.findByIdWithItems(id)
                 .map(mapper::toDomain);
     }
+
+    @Override
+    public List<StatusTransition> findStatusHistory(UUID orderId) {
+        log.debug("Buscando histórico de status: {}", orderId);
+        
+        return jdbcRepository.findStatusHistory(orderId);
+    }
 }
@@ -0,0 +1,73 @@
+package io.github.douglasdreer.order.infrastructure.persistence.changefeed;
+
+import io.github.douglasdreer.order.domain.exception.ValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Posição no feed de mudanças: xid8 da transação da mudança e ID do pedido (desempate).
+ * Exposto aos clientes como texto opaco (Base64 URL-safe).
+ *
+ * @param xid     xid8 da transação, sem sinal
+ * @param orderId ID do pedido
+ */
+public record ChangeCursor(long xid, UUID orderId) implements Comparable<ChangeCursor> {
+
+    /** Antes de qualquer mudança. */
+    public static final ChangeCursor START = new ChangeCursor(0L, new UUID(0L, 0L));
+
+    private static final UUID LAST_ID = new UUID(-1L, -1L);
+
+    /** Depois de todas as mudanças de transações anteriores a {@code xid}. */
+    public static ChangeCursor before(long xid) {
+        return new ChangeCursor(xid - 1, LAST_ID);
+    }
+
+    /**
+     * Decodifica o cursor; nulo ou vazio significa o início do feed.
+     *
+     * @throws ValidationException se o cursor não foi emitido por este serviço
+     */
+    public static ChangeCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return START;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+            int separator = decoded.indexOf(':');
+            return new ChangeCursor(
+                    Long.parseUnsignedLong(decoded.substring(0, separator)),
+                    UUID.fromString(decoded.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new ValidationException("Cursor inválido: " + cursor);
+        }
+    }
+
+    public String encode() {
+        String raw = Long.toUnsignedString(xid) + ":" + orderId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Mesma ordem do {@code ORDER BY status_changed_xid, id} do PostgreSQL: xid e UUID
+     * comparados sem sinal ({@link UUID#compareTo} compara com sinal).
+     */
+    @Override
+    public int compareTo(ChangeCursor other) {
+        int byXid = Long.compareUnsigned(xid, other.xid);
+        if (byXid != 0) {
+            return byXid;
+        }
+        int byHigh = Long.compareUnsigned(orderId.getMostSignificantBits(), other.orderId.getMostSignificantBits());
+        return byHigh != 0
+                ? byHigh
+                : Long.compareUnsigned(orderId.getLeastSignificantBits(), other.orderId.getLeastSignificantBits());
+    }
+
+    /** xid8 no formato textual do PostgreSQL. */
+    String xidText() {
+        return Long.toUnsignedString(xid);
+    }
+}
@@ -0,0 +1,89 @@
+package io.github.douglasdreer.order.infrastructure.persistence.changefeed;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.douglasdreer.order.application.dto.OrderChangesResponse;
+import io.github.douglasdreer.order.application.dto.OrderResponse;
+import io.github.douglasdreer.order.application.port.output.OrderChangeFeedPort;
+import io.github.douglasdreer.order.domain.valueobject.OrderStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Feed de mudanças de status sobre {@code orders.status_changed_xid} (ver V9).
+ * <p>
+ * Cada página é uma varredura de índice a partir do cursor {@code (xid, id)}, limitada
+ * às transações anteriores ao xmin do snapshot: o custo é proporcional às mudanças
+ * novas, e mudanças de transações ainda abertas aparecem na consulta seguinte ao commit,
+ * nunca antes de uma posição já entregue. Os documentos vêm de {@code order_view}, que
+ * tem linha para todo pedido confirmado (trigger do V11).
+ */
+@Repository
+@Profile("!in-memory & !sharded")
+@RequiredArgsConstructor
+public class JdbcOrderChangeFeed implements OrderChangeFeedPort {
+
+    private static final String SELECT_CHANGES = """
+            SELECT o.status_changed_xid::text AS change_xid, o.id, v.document
+            FROM orders o
+            JOIN order_view v ON v.order_id = o.id
+            WHERE (o.status_changed_xid, o.id) > (?::text::xid8, ?)
+              AND o.status_changed_xid < pg_snapshot_xmin(pg_current_snapshot())
+            """;
+
+    private static final String ORDER_AND_LIMIT = " ORDER BY o.status_changed_xid, o.id LIMIT ?";
+
+    private record Change(ChangeCursor position, OrderResponse order) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public OrderChangesResponse findChangesSince(String cursor, OrderStatus status, int limit) {
+        ChangeCursor from = ChangeCursor.decode(cursor);
+
+        List<Object> args = new ArrayList<>(List.of(from.xidText(), from.orderId()));
+        String sql = SELECT_CHANGES;
+        if (status != null) {
+            sql += "  AND o.status = ?\n";
+            args.add(status.name());
+        }
+        args.add(limit + 1);
+
+        List<Change> rows = jdbcTemplate.query(sql + ORDER_AND_LIMIT, (rs, rowNum) -> new Change(
+                new ChangeCursor(Long.parseUnsignedLong(rs.getString("change_xid")), rs.getObject("id", UUID.class)),
+                read(rs.getString("document"))
+        ), args.toArray());
+
+        boolean hasMore = rows.size() > limit;
+        List<Change> page = hasMore ? rows.subList(0, limit) : rows;
+        ChangeCursor next = page.isEmpty() ? from : page.get(page.size() - 1).position();
+
+        return OrderChangesResponse.builder()
+                .changes(page.stream().map(Change::order).toList())
+                .nextCursor(next.encode())
+                .hasMore(hasMore)
+                .build();
+    }
+
+    @Override
+    public String currentCursor() {
+        String xmin = jdbcTemplate.queryForObject("SELECT pg_snapshot_xmin(pg_current_snapshot())::text", String.class);
+        return ChangeCursor.before(Long.parseUnsignedLong(xmin)).encode();
+    }
+
+    private OrderResponse read(String document) {
+        try {
+            return objectMapper.readValue(document, OrderResponse.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Documento de pedido inválido em order_view", e);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package io.github.douglasdreer.order.infrastructure.persistence.changefeed;
+
+import io.github.douglasdreer.order.application.dto.OrderChangesResponse;
+import io.github.douglasdreer.order.application.port.output.OrderChangeFeedPort;
+import io.github.douglasdreer.order.domain.exception.ChangeFeedUnavailableException;
+import io.github.douglasdreer.order.domain.valueobject.OrderStatus;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Perfis sem feed de mudanças: em memória (sem xid de transação) e sharded (o cursor
+ * teria de combinar uma posição por shard). A consulta e o stream de mudanças respondem 501.
+ */
+@Component
+@Profile("in-memory | sharded")
+public class UnsupportedOrderChangeFeed implements OrderChangeFeedPort {
+
+    @Override
+    public OrderChangesResponse findChangesSince(String cursor, OrderStatus status, int limit) {
+        throw unsupported();
+    }
+
+    @Override
+    public String currentCursor() {
+        throw unsupported();
+    }
+
+    private static ChangeFeedUnavailableException unsupported() {
+        return new ChangeFeedUnavailableException("Feed de mudanças indisponível neste perfil de persistência");
+    }
+}
@@ -0,0 +1,8 @@
+/**
+ * Infraestrutura - Feed de Mudanças
+ *
+ * Pedidos cujo status mudou depois de um cursor, em ordem do xid8 da transação que
+ * gravou a mudança ({@code orders.status_changed_xid}), limitados ao xmin do snapshot
+ * corrente para que transações concorrentes nunca sejam puladas.
+ */
+package io.github.douglasdreer.order.infrastructure.persistence.changefeed;
@@ -0,0 +1,66 @@
+package io.github.douglasdreer.order.infrastructure.persistence.diagnostics;
+
+import io.github.douglasdreer.order.infrastructure.persistence.diagnostics.DatabaseDiagnosticsReport.IndexStats;
+import io.github.douglasdreer.order.infrastructure.persistence.diagnostics.DatabaseDiagnosticsReport.Statements;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Endpoint actuator de diagnóstico do banco ({@code dbstats}), exposto só via JMX: o
+ * relatório traz o texto SQL de pg_stat_statements e o endpoint não tem autenticação.
+ * <p>
+ * A leitura retorna índices não usados e redundantes, estatísticas de escrita/bloat por
+ * tabela e os {@code top} statements com maior tempo total. Serve de base
+ * para reduzir a amplificação de escrita em {@code orders}/{@code order_items}: cada
+ * índice extra é mantido em todo INSERT.
+ */
+@Component
+@Endpoint(id = "dbstats")
+@Profile("!in-memory")
+@Slf4j
+public class DatabaseDiagnosticsEndpoint {
+
+    static final int MAX_TOP_STATEMENTS = 100;
+
+    private final PgStatsRepository pgStatsRepository;
+
+    public DatabaseDiagnosticsEndpoint(PgStatsRepository pgStatsRepository) {
+        this.pgStatsRepository = pgStatsRepository;
+    }
+
+    @ReadOperation
+    public DatabaseDiagnosticsReport report(int top) {
+        if (top < 1 || top > MAX_TOP_STATEMENTS) {
+            throw new InvalidEndpointRequestException(
+                    "top deve estar entre 1 e " + MAX_TOP_STATEMENTS, "Parâmetro top inválido");
+        }
+
+        List<IndexStats> indexes = pgStatsRepository.indexes();
+        return new DatabaseDiagnosticsReport(
+                pgStatsRepository.statsResetAt(),
+                IndexAnalyzer.unused(indexes),
+                IndexAnalyzer.redundant(indexes),
+                pgStatsRepository.tables(),
+                statements(top));
+    }
+
+    private Statements statements(int limit) {
+        if (!pgStatsRepository.isPgStatStatementsInstalled()) {
+            return Statements.unavailable("Extensão pg_stat_statements não instalada");
+        }
+        try {
+            return new Statements(true, null, pgStatsRepository.topStatements(limit));
+        } catch (DataAccessException e) {
+            // Instalada mas não carregada via shared_preload_libraries
+            log.warn("pg_stat_statements indisponível: {}", e.getMostSpecificCause().getMessage());
+            return Statements.unavailable(e.getMostSpecificCause().getMessage());
+        }
+    }
+}
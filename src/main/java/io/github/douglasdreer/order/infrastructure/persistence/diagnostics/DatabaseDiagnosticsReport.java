@@ -0,0 +1,100 @@
+package io.github.douglasdreer.order.infrastructure.persistence.diagnostics;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * Relatório de diagnóstico do banco retornado pelo endpoint {@code dbstats}.
+ *
+ * @param statsResetAt      Início da janela das estatísticas (último reset de pg_stat_database)
+ * @param unusedIndexes     Índices sem nenhum scan na janela (exceto PK/unique)
+ * @param redundantIndexes  Índices cobertos por outro índice da mesma tabela
+ * @param tables            Estatísticas de escrita e estimativa de bloat por tabela
+ * @param statements        Statements com maior tempo total (pg_stat_statements)
+ */
+public record DatabaseDiagnosticsReport(
+        OffsetDateTime statsResetAt,
+        List<IndexStats> unusedIndexes,
+        List<RedundantIndex> redundantIndexes,
+        List<TableStats> tables,
+        Statements statements
+) {
+
+    /**
+     * Definição e uso de um índice.
+     *
+     * @param columns Colunas/expressões na ordem do índice
+     * @param partial Índice parcial (WHERE) - não cobre outros índices
+     */
+    public record IndexStats(
+            String table,
+            String name,
+            List<String> columns,
+            boolean unique,
+            boolean primary,
+            boolean partial,
+            long sizeBytes,
+            long scans
+    ) {
+    }
+
+    /**
+     * Índice redundante: suas colunas são prefixo das colunas de {@code coveredBy}.
+     * Cada índice extra custa uma escrita a mais em todo INSERT/UPDATE da tabela.
+     */
+    public record RedundantIndex(
+            String table,
+            String name,
+            List<String> columns,
+            String coveredBy,
+            long sizeBytes,
+            long scans
+    ) {
+    }
+
+    /**
+     * Estatísticas de uma tabela.
+     * <p>
+     * {@code deadTupleRatio} é a estimativa de bloat: fração de tuplas mortas ainda não
+     * recuperadas pelo vacuum. {@code hotUpdates} são updates que não tocaram índices.
+     */
+    public record TableStats(
+            String table,
+            long totalBytes,
+            long liveTuples,
+            long deadTuples,
+            double deadTupleRatio,
+            long inserts,
+            long updates,
+            long hotUpdates,
+            long deletes,
+            long seqScans,
+            long indexScans,
+            OffsetDateTime lastAutovacuum,
+            OffsetDateTime lastAutoanalyze
+    ) {
+    }
+
+    /**
+     * Top statements por tempo total; {@code available} é falso quando a extensão
+     * pg_stat_statements não está instalada/carregada ({@code reason} explica).
+     */
+    public record Statements(boolean available, String reason, List<StatementStats> top) {
+
+        static Statements unavailable(String reason) {
+            return new Statements(false, reason, List.of());
+        }
+    }
+
+    public record StatementStats(
+            long queryId,
+            String query,
+            long calls,
+            double totalTimeMs,
+            double meanTimeMs,
+            long rows,
+            long sharedBlocksHit,
+            long sharedBlocksRead
+    ) {
+    }
+}
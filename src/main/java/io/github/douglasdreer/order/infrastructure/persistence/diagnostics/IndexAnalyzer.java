@@ -0,0 +1,71 @@
+package io.github.douglasdreer.order.infrastructure.persistence.diagnostics;
+
+import io.github.douglasdreer.order.infrastructure.persistence.diagnostics.DatabaseDiagnosticsReport.IndexStats;
+import io.github.douglasdreer.order.infrastructure.persistence.diagnostics.DatabaseDiagnosticsReport.RedundantIndex;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Análise de índices a partir das estatísticas do PostgreSQL.
+ * <p>
+ * Índices de PK e unique nunca são apontados: garantem integridade, não só desempenho.
+ */
+final class IndexAnalyzer {
+
+    private IndexAnalyzer() {
+    }
+
+    /**
+     * Índices sem nenhum scan desde o último reset das estatísticas.
+     */
+    static List<IndexStats> unused(List<IndexStats> indexes) {
+        return indexes.stream()
+                .filter(index -> index.scans() == 0 && !enforcesIntegrity(index))
+                .toList();
+    }
+
+    /**
+     * Índices cujas colunas são prefixo das colunas de outro índice da mesma tabela.
+     * <p>
+     * Ex.: {@code (status)} é coberto por {@code (status, created_at)}. Entre dois índices
+     * idênticos não-únicos, aponta apenas um (o de maior nome). Índices parciais não cobrem
+     * outros e não são apontados.
+     */
+    static List<RedundantIndex> redundant(List<IndexStats> indexes) {
+        List<RedundantIndex> redundant = new ArrayList<>();
+        for (IndexStats candidate : indexes) {
+            if (enforcesIntegrity(candidate) || candidate.partial()) {
+                continue;
+            }
+            coveringIndex(candidate, indexes).ifPresent(covering -> redundant.add(new RedundantIndex(
+                    candidate.table(),
+                    candidate.name(),
+                    candidate.columns(),
+                    covering.name(),
+                    candidate.sizeBytes(),
+                    candidate.scans())));
+        }
+        return redundant;
+    }
+
+    private static Optional<IndexStats> coveringIndex(IndexStats candidate, List<IndexStats> indexes) {
+        return indexes.stream()
+                .filter(other -> other != candidate)
+                .filter(other -> other.table().equals(candidate.table()) && !other.partial())
+                .filter(other -> isPrefix(candidate.columns(), other.columns()))
+                .filter(other -> !other.columns().equals(candidate.columns())
+                        || enforcesIntegrity(other)
+                        || other.name().compareTo(candidate.name()) < 0)
+                .findFirst();
+    }
+
+    private static boolean isPrefix(List<String> columns, List<String> of) {
+        return columns.size() <= of.size() && of.subList(0, columns.size()).equals(columns);
+    }
+
+    private static boolean enforcesIntegrity(IndexStats index) {
+        return index.primary() || index.unique();
+    }
+}
@@ -0,0 +1,123 @@
+package io.github.douglasdreer.order.infrastructure.persistence.diagnostics;
+
+import io.github.douglasdreer.order.infrastructure.persistence.diagnostics.DatabaseDiagnosticsReport.IndexStats;
+import io.github.douglasdreer.order.infrastructure.persistence.diagnostics.DatabaseDiagnosticsReport.StatementStats;
+import io.github.douglasdreer.order.infrastructure.persistence.diagnostics.DatabaseDiagnosticsReport.TableStats;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Consultas às views de estatísticas do PostgreSQL, restritas ao schema corrente.
+ * <p>
+ * As contagens são cumulativas desde o último reset de estatísticas do banco.
+ */
+@Repository
+@Profile("!in-memory")
+@RequiredArgsConstructor
+public class PgStatsRepository {
+
+    private static final String SELECT_STATS_RESET = """
+            SELECT stats_reset FROM pg_stat_database WHERE datname = current_database()
+            """;
+
+    private static final String SELECT_INDEXES = """
+            SELECT s.relname AS table_name,
+                   s.indexrelname AS index_name,
+                   ARRAY(SELECT pg_get_indexdef(ix.indexrelid, k, true)
+                         FROM generate_series(1, ix.indnkeyatts) AS k
+                         ORDER BY k) AS columns,
+                   ix.indisunique,
+                   ix.indisprimary,
+                   ix.indpred IS NOT NULL AS partial,
+                   pg_relation_size(s.indexrelid) AS size_bytes,
+                   s.idx_scan
+            FROM pg_stat_user_indexes s
+            JOIN pg_index ix ON ix.indexrelid = s.indexrelid
+            WHERE s.schemaname = current_schema()
+            ORDER BY s.relname, s.indexrelname
+            """;
+
+    private static final String SELECT_TABLES = """
+            SELECT relname, pg_total_relation_size(relid) AS total_bytes,
+                   n_live_tup, n_dead_tup, n_tup_ins, n_tup_upd, n_tup_hot_upd, n_tup_del,
+                   seq_scan, COALESCE(idx_scan, 0) AS idx_scan, last_autovacuum, last_autoanalyze
+            FROM pg_stat_user_tables
+            WHERE schemaname = current_schema()
+            ORDER BY pg_total_relation_size(relid) DESC
+            """;
+
+    private static final String PG_STAT_STATEMENTS_INSTALLED = """
+            SELECT EXISTS (SELECT 1 FROM pg_extension WHERE extname = 'pg_stat_statements')
+            """;
+
+    private static final String SELECT_TOP_STATEMENTS = """
+            SELECT queryid, query, calls, total_exec_time, mean_exec_time, rows,
+                   shared_blks_hit, shared_blks_read
+            FROM pg_stat_statements
+            WHERE dbid = (SELECT oid FROM pg_database WHERE datname = current_database())
+            ORDER BY total_exec_time DESC
+            LIMIT ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public OffsetDateTime statsResetAt() {
+        return jdbcTemplate.query(SELECT_STATS_RESET,
+                rs -> rs.next() ? rs.getObject(1, OffsetDateTime.class) : null);
+    }
+
+    public List<IndexStats> indexes() {
+        return jdbcTemplate.query(SELECT_INDEXES, (rs, rowNum) -> new IndexStats(
+                rs.getString("table_name"),
+                rs.getString("index_name"),
+                Arrays.asList((String[]) rs.getArray("columns").getArray()),
+                rs.getBoolean("indisunique"),
+                rs.getBoolean("indisprimary"),
+                rs.getBoolean("partial"),
+                rs.getLong("size_bytes"),
+                rs.getLong("idx_scan")));
+    }
+
+    public List<TableStats> tables() {
+        return jdbcTemplate.query(SELECT_TABLES, (rs, rowNum) -> {
+            long live = rs.getLong("n_live_tup");
+            long dead = rs.getLong("n_dead_tup");
+            return new TableStats(
+                    rs.getString("relname"),
+                    rs.getLong("total_bytes"),
+                    live,
+                    dead,
+                    live + dead == 0 ? 0.0 : (double) dead / (live + dead),
+                    rs.getLong("n_tup_ins"),
+                    rs.getLong("n_tup_upd"),
+                    rs.getLong("n_tup_hot_upd"),
+                    rs.getLong("n_tup_del"),
+                    rs.getLong("seq_scan"),
+                    rs.getLong("idx_scan"),
+                    rs.getObject("last_autovacuum", OffsetDateTime.class),
+                    rs.getObject("last_autoanalyze", OffsetDateTime.class));
+        });
+    }
+
+    public boolean isPgStatStatementsInstalled() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(PG_STAT_STATEMENTS_INSTALLED, Boolean.class));
+    }
+
+    public List<StatementStats> topStatements(int limit) {
+        return jdbcTemplate.query(SELECT_TOP_STATEMENTS, (rs, rowNum) -> new StatementStats(
+                rs.getLong("queryid"),
+                rs.getString("query"),
+                rs.getLong("calls"),
+                rs.getDouble("total_exec_time"),
+                rs.getDouble("mean_exec_time"),
+                rs.getLong("rows"),
+                rs.getLong("shared_blks_hit"),
+                rs.getLong("shared_blks_read")), limit);
+    }
+}
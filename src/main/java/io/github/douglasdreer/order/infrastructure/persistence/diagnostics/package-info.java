@@ -0,0 +1,8 @@
+/**
+ * Camada de Infraestrutura - Diagnóstico do Banco
+ *
+ * Leitura das views de estatísticas do PostgreSQL (pg_stat_user_indexes,
+ * pg_stat_user_tables, pg_stat_statements) e análise de índices não usados
+ * ou redundantes, expostas pelo endpoint dbstats (JMX).
+ */
+package io.github.douglasdreer.order.infrastructure.persistence.diagnostics;
@@ -0,0 +1,126 @@
+package io.github.douglasdreer.order.infrastructure.persistence.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.douglasdreer.order.adapter.input.web.idempotency.IdempotencyStore;
+import io.github.douglasdreer.order.adapter.input.web.idempotency.IdempotentResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Respostas idempotentes na tabela {@code idempotency_keys}.
+ * <p>
+ * Registros mais antigos que {@code app.idempotency.ttl} são ignorados na leitura,
+ * substituídos na gravação e removidos pelo expurgo periódico.
+ */
+@Repository
+@Profile("!in-memory")
+@Slf4j
+public class JdbcIdempotencyStore implements IdempotencyStore {
+
+    private static final String SELECT_RESPONSE = """
+            SELECT request_hash, status_code, content_type, response_headers, response_body, created_at
+            FROM idempotency_keys
+            WHERE idempotency_key = ? AND created_at > ?
+            """;
+
+    private static final String UPSERT_RESPONSE = """
+            INSERT INTO idempotency_keys (idempotency_key, request_hash, status_code, content_type,
+                                          response_headers, response_body, created_at)
+            VALUES (?, ?, ?, ?, ?::jsonb, ?, ?)
+            ON CONFLICT (idempotency_key) DO UPDATE
+            SET request_hash = EXCLUDED.request_hash,
+                status_code = EXCLUDED.status_code,
+                content_type = EXCLUDED.content_type,
+                response_headers = EXCLUDED.response_headers,
+                response_body = EXCLUDED.response_body,
+                created_at = EXCLUDED.created_at
+            WHERE idempotency_keys.created_at <= ?
+            """;
+
+    private static final String DELETE_EXPIRED = "DELETE FROM idempotency_keys WHERE created_at <= ?";
+
+    private static final TypeReference<Map<String, List<String>>> HEADERS_TYPE = new TypeReference<>() {
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+
+    public JdbcIdempotencyStore(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper,
+                                @Value("${app.idempotency.ttl:24h}") Duration ttl) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.ttl = ttl;
+    }
+
+    @Override
+    public Optional<IdempotentResponse> find(String key) {
+        return jdbcTemplate.query(SELECT_RESPONSE, (rs, rowNum) -> new IdempotentResponse(
+                rs.getString("request_hash"),
+                rs.getInt("status_code"),
+                rs.getString("content_type"),
+                readHeaders(rs.getString("response_headers")),
+                rs.getBytes("response_body"),
+                rs.getObject("created_at", OffsetDateTime.class).toInstant()
+        ), key, cutoff()).stream().findFirst();
+    }
+
+    @Override
+    public void save(String key, IdempotentResponse response) {
+        jdbcTemplate.update(UPSERT_RESPONSE,
+                key,
+                response.requestHash(),
+                response.status(),
+                response.contentType(),
+                writeHeaders(response.headers()),
+                response.body(),
+                response.createdAt().atOffset(ZoneOffset.UTC),
+                cutoff());
+    }
+
+    /**
+     * Remove as respostas expiradas ({@code app.idempotency.purge-interval}).
+     */
+    @Scheduled(fixedDelayString = "${app.idempotency.purge-interval:PT1H}",
+            initialDelayString = "${app.idempotency.purge-interval:PT1H}")
+    public void purgeExpired() {
+        int removed = jdbcTemplate.update(DELETE_EXPIRED, cutoff());
+        if (removed > 0) {
+            log.debug("Respostas idempotentes expiradas removidas: {}", removed);
+        }
+    }
+
+    private String writeHeaders(Map<String, List<String>> headers) {
+        try {
+            return objectMapper.writeValueAsString(headers);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Falha ao serializar os cabeçalhos da resposta idempotente", e);
+        }
+    }
+
+    private Map<String, List<String>> readHeaders(String headers) {
+        try {
+            return objectMapper.readValue(headers, HEADERS_TYPE);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cabeçalhos inválidos em idempotency_keys", e);
+        }
+    }
+
+    private OffsetDateTime cutoff() {
+        return Instant.now().minus(ttl).atOffset(ZoneOffset.UTC);
+    }
+}
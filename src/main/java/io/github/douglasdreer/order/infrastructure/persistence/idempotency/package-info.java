@@ -0,0 +1,7 @@
+/**
+ * Camada de Infraestrutura - Idempotência HTTP
+ *
+ * Armazenamento das respostas por Idempotency-Key na tabela idempotency_keys,
+ * compartilhado entre as instâncias do serviço.
+ */
+package io.github.douglasdreer.order.infrastructure.persistence.idempotency;
@@ -0,0 +1,251 @@
+package io.github.douglasdreer.order.infrastructure.persistence.invalidation;
+
+import io.github.douglasdreer.order.adapter.input.web.caching.OrderResponseCache;
+import io.github.douglasdreer.order.infrastructure.events.OrderStatusChanged;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.UUID;
+
+/**
+ * Remove do {@link OrderResponseCache} os pedidos alterados em qualquer nó.
+ * <p>
+ * Mantém uma conexão própria com o primário, fora do pool (o pool recicla conexões e
+ * o LISTEN seria perdido), em {@code LISTEN order_changed}. Cada notificação
+ * {@code <id>:<version>} remove a entrada local mais antiga que a versão. Ao (re)conectar,
+ * as versões de todas as entradas guardadas são conferidas com o banco, cobrindo as
+ * notificações perdidas durante a queda; só então o cache passa a servir entradas não
+ * finais sem sonda de versão. Sem conexão, o cache volta à sonda por requisição.
+ * <p>
+ * Métricas: {@code order.cache.invalidation.connected} (0/1),
+ * {@code order.cache.invalidation.notifications} e {@code order.cache.invalidation.resyncs}.
+ */
+@Component
+@Profile("!in-memory & !sharded")
+@Slf4j
+public class OrderChangeListener implements SmartLifecycle {
+
+    static final String CHANNEL = "order_changed";
+    static final String CONNECTED_METRIC = "order.cache.invalidation.connected";
+    static final String NOTIFICATIONS_METRIC = "order.cache.invalidation.notifications";
+    static final String RESYNCS_METRIC = "order.cache.invalidation.resyncs";
+
+    private static final String SELECT_VERSIONS = "SELECT id, version FROM orders WHERE id = ANY(?)";
+    private static final int RESYNC_BATCH_SIZE = 1000;
+    private static final int VALIDATION_TIMEOUT_SECONDS = 5;
+
+    private final OrderResponseCache responseCache;
+    private final String url;
+    private final Properties connectionProperties = new Properties();
+    private final boolean enabled;
+    private final Duration pollTimeout;
+    private final Duration reconnectDelay;
+    private final Counter notifications;
+    private final Counter resyncs;
+
+    private volatile Thread listener;
+    private volatile Connection connection;
+    private volatile boolean connected;
+
+    @Autowired
+    public OrderChangeListener(
+            OrderResponseCache responseCache,
+            DataSourceProperties dataSourceProperties,
+            MeterRegistry meterRegistry,
+            @Value("${app.cache-invalidation.enabled:true}") boolean enabled,
+            @Value("${app.cache-invalidation.poll-timeout:10s}") Duration pollTimeout,
+            @Value("${app.cache-invalidation.reconnect-delay:1s}") Duration reconnectDelay) {
+        this(responseCache, dataSourceProperties.determineUrl(), dataSourceProperties.determineUsername(),
+                dataSourceProperties.determinePassword(), meterRegistry, enabled, pollTimeout, reconnectDelay);
+    }
+
+    OrderChangeListener(OrderResponseCache responseCache, String url, String username, String password,
+                        MeterRegistry meterRegistry, boolean enabled, Duration pollTimeout, Duration reconnectDelay) {
+        this.responseCache = responseCache;
+        this.url = url;
+        if (username != null) {
+            connectionProperties.setProperty("user", username);
+        }
+        if (password != null) {
+            connectionProperties.setProperty("password", password);
+        }
+        connectionProperties.setProperty("ApplicationName", "order-cache-invalidation");
+        this.enabled = enabled;
+        this.pollTimeout = pollTimeout;
+        this.reconnectDelay = reconnectDelay;
+        Gauge.builder(CONNECTED_METRIC, this, listener -> listener.connected ? 1 : 0)
+                .description("Conexão LISTEN de invalidação de cache ativa")
+                .register(meterRegistry);
+        this.notifications = Counter.builder(NOTIFICATIONS_METRIC)
+                .description("Notificações de pedidos alterados recebidas")
+                .register(meterRegistry);
+        this.resyncs = Counter.builder(RESYNCS_METRIC)
+                .description("Ressincronizações do cache por versão após (re)conexão")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Remove a entrada local logo após o commit, sem esperar a própria notificação:
+     * quem alterou o pedido lê a nova versão na requisição seguinte.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatusChanged(OrderStatusChanged event) {
+        responseCache.evict(event.orderId());
+    }
+
+    private void run() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try (Connection listenConnection = DriverManager.getConnection(url, connectionProperties)) {
+                connection = listenConnection;
+                listen(listenConnection);
+            } catch (SQLException e) {
+                if (!Thread.currentThread().isInterrupted()) {
+                    log.warn("Conexão LISTEN {} perdida: {}; cache volta à sonda de versão", CHANNEL, e.getMessage());
+                }
+            } finally {
+                connection = null;
+                connected = false;
+                responseCache.setInvalidationActive(false);
+            }
+            try {
+                Thread.sleep(reconnectDelay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void listen(Connection listenConnection) throws SQLException {
+        try (Statement statement = listenConnection.createStatement()) {
+            statement.execute("LISTEN " + CHANNEL);
+        }
+        // Após o LISTEN: o que mudar daqui em diante chega como notificação
+        resync(listenConnection);
+        connected = true;
+        responseCache.setInvalidationActive(true);
+        log.info("Invalidação de cache entre nós ativa (LISTEN {})", CHANNEL);
+
+        PGConnection pgConnection = listenConnection.unwrap(PGConnection.class);
+        while (!Thread.currentThread().isInterrupted()) {
+            PGNotification[] received = pgConnection.getNotifications((int) pollTimeout.toMillis());
+            if (received == null || received.length == 0) {
+                // Sem tráfego: confirma que a conexão não caiu silenciosamente
+                if (!listenConnection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                    throw new SQLException("Conexão LISTEN não responde");
+                }
+                continue;
+            }
+            for (PGNotification notification : received) {
+                apply(notification.getParameter());
+            }
+        }
+    }
+
+    /**
+     * Aplica uma notificação {@code <id>:<version>}, ou {@code <id>} para pedido removido.
+     */
+    void apply(String payload) {
+        notifications.increment();
+        int separator = payload.indexOf(':');
+        try {
+            if (separator < 0) {
+                responseCache.evict(UUID.fromString(payload));
+            } else {
+                responseCache.invalidate(UUID.fromString(payload.substring(0, separator)),
+                        Long.parseLong(payload.substring(separator + 1)));
+            }
+        } catch (IllegalArgumentException e) {
+            log.warn("Notificação {} inválida ignorada: {}", CHANNEL, payload);
+        }
+    }
+
+    /**
+     * Confere as versões guardadas com o banco e remove as desatualizadas ou removidas.
+     */
+    void resync(Connection resyncConnection) throws SQLException {
+        List<UUID> ids = new ArrayList<>(responseCache.cachedVersions().keySet());
+        Map<UUID, Long> current = new HashMap<>(ids.size() * 2);
+        try (PreparedStatement statement = resyncConnection.prepareStatement(SELECT_VERSIONS)) {
+            for (int from = 0; from < ids.size(); from += RESYNC_BATCH_SIZE) {
+                List<UUID> batch = ids.subList(from, Math.min(from + RESYNC_BATCH_SIZE, ids.size()));
+                statement.setArray(1, resyncConnection.createArrayOf("uuid", batch.toArray()));
+                try (ResultSet rs = statement.executeQuery()) {
+                    while (rs.next()) {
+                        current.put(rs.getObject("id", UUID.class), rs.getLong("version"));
+                    }
+                }
+            }
+        }
+
+        int removed = 0;
+        for (UUID id : ids) {
+            Long version = current.get(id);
+            if (version == null) {
+                responseCache.evict(id);
+                removed++;
+            } else if (responseCache.invalidate(id, version)) {
+                removed++;
+            }
+        }
+        resyncs.increment();
+        log.info("Cache ressincronizado por versão: {} entradas conferidas, {} removidas", ids.size(), removed);
+    }
+
+    @Override
+    public synchronized void start() {
+        if (!enabled || listener != null) {
+            return;
+        }
+        listener = Thread.ofPlatform().daemon().name("order-cache-invalidation").start(this::run);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (listener == null) {
+            return;
+        }
+        listener.interrupt();
+        Connection listenConnection = connection;
+        if (listenConnection != null) {
+            try {
+                // Interrompe o getNotifications bloqueado
+                listenConnection.close();
+            } catch (SQLException e) {
+                log.debug("Falha ao fechar a conexão LISTEN: {}", e.getMessage());
+            }
+        }
+        listener = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return listener != null;
+    }
+
+    boolean isConnected() {
+        return connected;
+    }
+}
@@ -0,0 +1,9 @@
+/**
+ * Infraestrutura - Invalidação de Cache entre Nós
+ *
+ * Uma conexão dedicada por nó escuta {@code LISTEN order_changed}, notificado por
+ * trigger na transação de cada alteração de pedido (V10), e remove as entradas
+ * desatualizadas do cache de respostas. Após reconectar, as versões em cache são
+ * conferidas com o banco para cobrir as notificações perdidas.
+ */
+package io.github.douglasdreer.order.infrastructure.persistence.invalidation;
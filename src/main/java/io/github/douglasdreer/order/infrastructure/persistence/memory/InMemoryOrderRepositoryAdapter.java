@@ -0,0 +1,224 @@
+package io.github.douglasdreer.order.infrastructure.persistence.memory;
+
+import io.github.douglasdreer.order.application.port.output.OrderRepositoryPort;
+import io.github.douglasdreer.order.domain.entity.Order;
+import io.github.douglasdreer.order.domain.valueobject.OrderStatus;
+import io.github.douglasdreer.order.domain.valueobject.StatusTransition;
+import io.github.douglasdreer.order.infrastructure.persistence.memory.StoredOrder.IndexKey;
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Implementação em memória do repositório de pedidos (perfil {@code in-memory}).
+ * <p>
+ * Estruturas:
+ * - Mapa concorrente por ID (chave primária)
+ * - Índice secundário único por ID externo
+ * - Índice ordenado por data de criação e um por status (skip lists)
+ * - Contadores por status
+ * - Histórico de transições por pedido (listas imutáveis substituídas a cada escrita)
+ * <p>
+ * Alterações de um mesmo pedido são serializadas pelo {@code compute} do mapa
+ * principal. Os índices são atualizados dentro dessa seção, mas leitores
+ * concorrentes podem observar momentaneamente um pedido em transição entre
+ * índices de status. Controle otimista de versão segue o comportamento do JPA.
+ */
+@Repository
+@Profile("in-memory")
+@Slf4j
+@Timed(value = "order.repository", histogram = true)
+public class InMemoryOrderRepositoryAdapter implements OrderRepositoryPort {
+
+    private final Map<UUID, StoredOrder> ordersById = new ConcurrentHashMap<>();
+    private final Map<String, UUID> idsByExternalOrderId = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<IndexKey> createdAtIndex = new ConcurrentSkipListSet<>();
+    private final Map<OrderStatus, ConcurrentSkipListSet<IndexKey>> statusIndex = new EnumMap<>(OrderStatus.class);
+    private final Map<OrderStatus, AtomicLong> statusCounts = new EnumMap<>(OrderStatus.class);
+    private final Map<UUID, List<StatusTransition>> statusHistory = new ConcurrentHashMap<>();
+
+    public InMemoryOrderRepositoryAdapter() {
+        for (OrderStatus status : OrderStatus.values()) {
+            statusIndex.put(status, new ConcurrentSkipListSet<>());
+            statusCounts.put(status, new AtomicLong());
+        }
+        log.info("Repositório de pedidos em memória ativo");
+    }
+
+    @Override
+    public Order save(Order order) {
+        log.debug("Salvando pedido: {}", order.getExternalOrderIdValue());
+
+        StoredOrder saved = ordersById.compute(order.getId(), (id, current) -> {
+            if (current == null) {
+                claimExternalOrderId(order);
+                StoredOrder stored = StoredOrder.of(order, order.getVersion());
+                index(stored);
+                appendStatusHistory(order);
+                return stored;
+            }
+            if (current.version != order.getVersion()) {
+                throw new OptimisticLockingFailureException(
+                        "Pedido %s alterado concorrentemente: versão %d, esperada %d".formatted(
+                                id, order.getVersion(), current.version));
+            }
+            StoredOrder updated = StoredOrder.of(order, current.version + 1);
+            reindex(current, updated);
+            appendStatusHistory(order);
+            return updated;
+        });
+
+        return saved.toDomain();
+    }
+
+    @Override
+    public Optional<Order> insertIfAbsent(Order order) {
+        log.debug("Inserindo pedido: {}", order.getExternalOrderIdValue());
+
+        if (idsByExternalOrderId.putIfAbsent(order.getExternalOrderIdValue(), order.getId()) != null) {
+            log.debug("Pedido já existente: externalId={}", order.getExternalOrderIdValue());
+            return Optional.empty();
+        }
+
+        StoredOrder stored = StoredOrder.of(order, order.getVersion());
+        ordersById.put(order.getId(), stored);
+        index(stored);
+        appendStatusHistory(order);
+
+        return Optional.of(order);
+    }
+
+    @Override
+    public Optional<Order> findById(UUID id) {
+        return Optional.ofNullable(ordersById.get(id))
+                .map(StoredOrder::toDomain);
+    }
+
+    @Override
+    public Optional<Long> findVersionById(UUID id) {
+        return Optional.ofNullable(ordersById.get(id))
+                .map(stored -> stored.version);
+    }
+
+    @Override
+    public Optional<Order> findByExternalOrderId(String externalOrderId) {
+        return Optional.ofNullable(idsByExternalOrderId.get(externalOrderId))
+                .flatMap(this::findById);
+    }
+
+    @Override
+    public boolean existsByExternalOrderId(String externalOrderId) {
+        return idsByExternalOrderId.containsKey(externalOrderId);
+    }
+
+    @Override
+    public List<Order> findByStatus(OrderStatus status) {
+        return toDomainList(statusIndex.get(status));
+    }
+
+    @Override
+    public List<Order> findByCreatedAtBetween(Instant startDate, Instant endDate) {
+        if (startDate.isAfter(endDate)) {
+            return List.of();
+        }
+        return toDomainList(createdAtIndex.subSet(
+                IndexKey.lowerBound(startDate), true,
+                IndexKey.upperBound(endDate), true));
+    }
+
+    @Override
+    public List<Order> findAll() {
+        return toDomainList(createdAtIndex);
+    }
+
+    @Override
+    public void deleteById(UUID id) {
+        ordersById.computeIfPresent(id, (key, current) -> {
+            unindex(current);
+            idsByExternalOrderId.remove(current.externalOrderId, id);
+            statusHistory.remove(id);
+            return null;
+        });
+    }
+
+    @Override
+    public long countByStatus(OrderStatus status) {
+        return statusCounts.get(status).get();
+    }
+
+    @Override
+    public Optional<Order> findByIdWithItems(UUID id) {
+        return findById(id);
+    }
+
+    @Override
+    public List<StatusTransition> findStatusHistory(UUID orderId) {
+        return statusHistory.getOrDefault(orderId, List.of());
+    }
+
+    private void appendStatusHistory(Order order) {
+        List<StatusTransition> transitions = order.getStatusTransitions();
+        if (transitions.isEmpty()) {
+            return;
+        }
+        statusHistory.merge(order.getId(), List.copyOf(transitions), (previous, appended) ->
+                Stream.concat(previous.stream(), appended.stream()).toList());
+    }
+
+    private void claimExternalOrderId(Order order) {
+        UUID owner = idsByExternalOrderId.putIfAbsent(order.getExternalOrderIdValue(), order.getId());
+        if (owner != null && !owner.equals(order.getId())) {
+            throw new DataIntegrityViolationException(
+                    "uq_orders_external_id: já existe pedido com External ID " + order.getExternalOrderIdValue());
+        }
+    }
+
+    private void index(StoredOrder stored) {
+        IndexKey key = stored.indexKey();
+        createdAtIndex.add(key);
+        statusIndex.get(stored.status).add(key);
+        statusCounts.get(stored.status).incrementAndGet();
+    }
+
+    private void reindex(StoredOrder previous, StoredOrder current) {
+        if (previous.status == current.status) {
+            return;
+        }
+        IndexKey key = current.indexKey();
+        statusIndex.get(previous.status).remove(key);
+        statusCounts.get(previous.status).decrementAndGet();
+        statusIndex.get(current.status).add(key);
+        statusCounts.get(current.status).incrementAndGet();
+    }
+
+    private void unindex(StoredOrder stored) {
+        IndexKey key = stored.indexKey();
+        createdAtIndex.remove(key);
+        statusIndex.get(stored.status).remove(key);
+        statusCounts.get(stored.status).decrementAndGet();
+    }
+
+    private List<Order> toDomainList(Collection<IndexKey> keys) {
+        return keys.stream()
+                .map(key -> ordersById.get(key.id()))
+                .filter(Objects::nonNull)
+                .map(StoredOrder::toDomain)
+                .toList();
+    }
+}
@@ -0,0 +1,157 @@
+package io.github.douglasdreer.order.infrastructure.persistence.memory;
+
+import io.github.douglasdreer.order.domain.entity.Order;
+import io.github.douglasdreer.order.domain.entity.OrderItem;
+import io.github.douglasdreer.order.domain.valueobject.ExternalOrderId;
+import io.github.douglasdreer.order.domain.valueobject.Money;
+import io.github.douglasdreer.order.domain.valueobject.OrderStatus;
+import io.github.douglasdreer.order.domain.valueobject.ProductId;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Representação compacta e imutável de um pedido armazenado em memória.
+ * <p>
+ * Valores monetários ficam como centavos ({@code long}), instantes como
+ * microssegundos desde a época (mesma precisão do PostgreSQL) e os itens
+ * em arrays paralelos, evitando um objeto por campo de cada item.
+ */
+final class StoredOrder {
+
+    private static final int MONEY_SCALE = 2;
+
+    final UUID id;
+    final String externalOrderId;
+    final long totalCents;
+    final Currency currency;
+    final OrderStatus status;
+    final long createdAtMicros;
+    final long updatedAtMicros;
+    final long version;
+
+    // Itens em arrays paralelos
+    private final long[] itemIdBits;
+    private final String[] productIds;
+    private final String[] productNames;
+    private final long[] unitPriceCents;
+    private final Currency[] itemCurrencies;
+    private final int[] quantities;
+    private final long[] itemCreatedAtMicros;
+
+    private StoredOrder(Order order, long version) {
+        this.id = order.getId();
+        this.externalOrderId = order.getExternalOrderIdValue();
+        this.totalCents = toCents(order.getTotalAmount());
+        this.currency = order.getTotalAmount().getCurrency();
+        this.status = order.getStatus();
+        this.createdAtMicros = toMicros(order.getCreatedAt());
+        this.updatedAtMicros = toMicros(order.getUpdatedAt());
+        this.version = version;
+
+        List<OrderItem> items = order.getItems();
+        int size = items.size();
+        this.itemIdBits = new long[size * 2];
+        this.productIds = new String[size];
+        this.productNames = new String[size];
+        this.unitPriceCents = new long[size];
+        this.itemCurrencies = new Currency[size];
+        this.quantities = new int[size];
+        this.itemCreatedAtMicros = new long[size];
+
+        for (int i = 0; i < size; i++) {
+            OrderItem item = items.get(i);
+            itemIdBits[i * 2] = item.getId().getMostSignificantBits();
+            itemIdBits[i * 2 + 1] = item.getId().getLeastSignificantBits();
+            productIds[i] = item.getProductIdValue();
+            productNames[i] = item.getProductName();
+            unitPriceCents[i] = toCents(item.getUnitPrice());
+            itemCurrencies[i] = item.getUnitPrice().getCurrency();
+            quantities[i] = item.getQuantity();
+            itemCreatedAtMicros[i] = toMicros(item.getCreatedAt());
+        }
+    }
+
+    /**
+     * Cria a representação armazenada do pedido com a versão informada.
+     */
+    static StoredOrder of(Order order, long version) {
+        return new StoredOrder(order, version);
+    }
+
+    /**
+     * Reconstrói o pedido de domínio.
+     */
+    Order toDomain() {
+        List<OrderItem> items = new ArrayList<>(productIds.length);
+        for (int i = 0; i < productIds.length; i++) {
+            items.add(OrderItem.builder()
+                    .id(new UUID(itemIdBits[i * 2], itemIdBits[i * 2 + 1]))
+                    .productId(ProductId.of(productIds[i]))
+                    .productName(productNames[i])
+                    .unitPrice(toMoney(unitPriceCents[i], itemCurrencies[i]))
+                    .quantity(quantities[i])
+                    .createdAt(fromMicros(itemCreatedAtMicros[i]))
+                    .build());
+        }
+
+        return Order.builder()
+                .id(id)
+                .externalOrderId(ExternalOrderId.of(externalOrderId))
+                .items(items)
+                .totalAmount(toMoney(totalCents, currency))
+                .status(status)
+                .createdAt(fromMicros(createdAtMicros))
+                .updatedAt(fromMicros(updatedAtMicros))
+                .version(version)
+                .build();
+    }
+
+    IndexKey indexKey() {
+        return new IndexKey(createdAtMicros, id);
+    }
+
+    static long toMicros(Instant instant) {
+        return ChronoUnit.MICROS.between(Instant.EPOCH, instant);
+    }
+
+    private static Instant fromMicros(long micros) {
+        return Instant.EPOCH.plus(micros, ChronoUnit.MICROS);
+    }
+
+    private static long toCents(Money money) {
+        return money.getAmount().unscaledValue().longValueExact();
+    }
+
+    private static Money toMoney(long cents, Currency currency) {
+        return Money.of(BigDecimal.valueOf(cents, MONEY_SCALE), currency);
+    }
+
+    /**
+     * Chave dos índices ordenados: data de criação e ID (desempate).
+     */
+    record IndexKey(long createdAtMicros, UUID id) implements Comparable<IndexKey> {
+
+        private static final UUID MIN_ID = new UUID(Long.MIN_VALUE, Long.MIN_VALUE);
+        private static final UUID MAX_ID = new UUID(Long.MAX_VALUE, Long.MAX_VALUE);
+
+        static IndexKey lowerBound(Instant createdAt) {
+            return new IndexKey(toMicros(createdAt), MIN_ID);
+        }
+
+        static IndexKey upperBound(Instant createdAt) {
+            return new IndexKey(toMicros(createdAt), MAX_ID);
+        }
+
+        @Override
+        public int compareTo(IndexKey other) {
+            int byCreatedAt = Long.compare(createdAtMicros, other.createdAtMicros);
+            return byCreatedAt != 0 ? byCreatedAt : id.compareTo(other.id);
+        }
+    }
+}
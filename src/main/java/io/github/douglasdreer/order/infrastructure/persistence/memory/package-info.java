@@ -0,0 +1,8 @@
+/**
+ * Camada de Infraestrutura - Persistência em Memória
+ * 
+ * Implementação da porta de saída de pedidos sem banco de dados,
+ * ativada pelo perfil {@code in-memory}. Usada em testes de carga das
+ * camadas de mensageria e web e em implantações efêmeras.
+ */
+package io.github.douglasdreer.order.infrastructure.persistence.memory;
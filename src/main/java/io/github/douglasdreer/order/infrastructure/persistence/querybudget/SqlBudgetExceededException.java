@@ -0,0 +1,20 @@
+package io.github.douglasdreer.order.infrastructure.persistence.querybudget;
+
+import lombok.Getter;
+
+/** Exceção lançada no modo FAIL, antes do commit, quando uma unidade de trabalho excede o orçamento de statements SQL. */
+@Getter
+public class SqlBudgetExceededException extends RuntimeException {
+
+    private final String scope;
+    private final int statements;
+    private final int budget;
+
+    public SqlBudgetExceededException(String scope, int statements, int budget) {
+        super("Orçamento de statements SQL excedido em '%s': %d executados, orçamento %d"
+                .formatted(scope, statements, budget));
+        this.scope = scope;
+        this.statements = statements;
+        this.budget = budget;
+    }
+}
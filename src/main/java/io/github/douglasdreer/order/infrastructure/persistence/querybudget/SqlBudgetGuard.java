@@ -0,0 +1,165 @@
+package io.github.douglasdreer.order.infrastructure.persistence.querybudget;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Compara a contagem de statements SQL de cada unidade de trabalho com o orçamento configurado.
+ * <p>
+ * O escopo é identificado por tipo e nome: {@code http} + "MÉTODO /padrão/da/rota" ou
+ * {@code amqp} + nome da fila. A contagem é exportada em {@code order.sql.statements}; quando
+ * o orçamento é excedido, incrementa {@code order.sql.budget.exceeded} e, conforme o modo:
+ * <ul>
+ *   <li>{@code LOG}: registra WARN com o statement mais repetido (provável N+1);</li>
+ *   <li>{@code FAIL}: além do log, verifica o orçamento antes do commit de cada transação e
+ *   lança {@link SqlBudgetExceededException}, desfazendo-a - indicado para testes. Na borda
+ *   (filtro HTTP e advice do listener) o excesso só é registrado: lançar ali chegaria
+ *   depois da resposta escrita ou da mensagem já processada, e o ack AUTO a reenfileiraria;</li>
+ *   <li>{@code OFF}: nenhum escopo é aberto.</li>
+ * </ul>
+ */
+@Component
+@Slf4j
+public class SqlBudgetGuard {
+
+    static final String STATEMENTS = "order.sql.statements";
+    static final String BUDGET_EXCEEDED = "order.sql.budget.exceeded";
+
+    enum Mode { OFF, LOG, FAIL }
+
+    private final MeterRegistry meterRegistry;
+    private final Mode mode;
+    private final int defaultBudget;
+    private final Map<String, Integer> budgets;
+
+    @Autowired
+    public SqlBudgetGuard(
+            MeterRegistry meterRegistry,
+            Environment environment,
+            @Value("${app.sql-budget.mode:log}") String mode,
+            @Value("${app.sql-budget.default:10}") int defaultBudget) {
+        this(meterRegistry, Mode.valueOf(mode.toUpperCase(Locale.ROOT)), defaultBudget,
+                Binder.get(environment)
+                        .bind("app.sql-budget.budgets", Bindable.mapOf(String.class, Integer.class))
+                        .orElse(Map.of()));
+    }
+
+    SqlBudgetGuard(MeterRegistry meterRegistry, Mode mode, int defaultBudget, Map<String, Integer> budgets) {
+        this.meterRegistry = meterRegistry;
+        this.mode = mode;
+        this.defaultBudget = defaultBudget;
+        this.budgets = Map.copyOf(budgets);
+        log.info("Orçamento de statements SQL: modo={}, padrão={}, específicos={}", mode, defaultBudget, budgets);
+    }
+
+    public boolean isEnabled() {
+        return mode != Mode.OFF;
+    }
+
+    /**
+     * Abre a contagem de uma unidade de trabalho. No modo FAIL, as transações em que o
+     * escopo executa statements verificam o orçamento antes do commit.
+     *
+     * @param scope Nome do escopo (rota ou fila), resolvido na verificação: a rota HTTP só é
+     *              conhecida depois do mapeamento do handler
+     */
+    public SqlStatementCounter.Scope open(Supplier<String> scope) {
+        if (mode != Mode.FAIL) {
+            return SqlStatementCounter.open();
+        }
+        return SqlStatementCounter.open(new CommitCheck(scope)::onStatement);
+    }
+
+    /**
+     * Encerra a contagem de uma unidade de trabalho: exporta a métrica e registra o excesso.
+     * Não lança exceção: no modo FAIL o orçamento já foi verificado antes de cada commit.
+     *
+     * @param type    Tipo do escopo (http, amqp)
+     * @param scope   Nome do escopo (rota ou fila)
+     * @param counter Escopo de contagem já executado
+     */
+    public void complete(String type, String scope, SqlStatementCounter.Scope counter) {
+        int statements = counter.statements();
+        DistributionSummary.builder(STATEMENTS)
+                .description("Statements SQL executados por requisição/mensagem")
+                .tag("type", type)
+                .tag("scope", scope)
+                .register(meterRegistry)
+                .record(statements);
+
+        int budget = budgetOf(scope);
+        if (statements <= budget) {
+            return;
+        }
+
+        Counter.builder(BUDGET_EXCEEDED)
+                .description("Unidades de trabalho que excederam o orçamento de statements SQL")
+                .tag("type", type)
+                .tag("scope", scope)
+                .register(meterRegistry)
+                .increment();
+
+        var mostRepeated = counter.mostRepeated();
+        log.warn("ORÇAMENTO SQL EXCEDIDO - {} '{}': {} statements (orçamento {}). Mais repetido ({}x): {}",
+                type, scope, statements, budget,
+                mostRepeated.map(Map.Entry::getValue).orElse(0),
+                mostRepeated.map(Map.Entry::getKey).orElse("-"));
+    }
+
+    private int budgetOf(String scope) {
+        return budgets.getOrDefault(scope, defaultBudget);
+    }
+
+    /**
+     * Verificação do orçamento antes do commit (modo FAIL), registrada na transação corrente
+     * no primeiro statement do escopo. Statements emitidos pelo próprio commit (flush do
+     * Hibernate) só entram na contagem da borda.
+     */
+    private final class CommitCheck implements TransactionSynchronization {
+
+        private final Supplier<String> scope;
+        private SqlStatementCounter.Scope counter;
+        private boolean registered;
+
+        private CommitCheck(Supplier<String> scope) {
+            this.scope = scope;
+        }
+
+        void onStatement(SqlStatementCounter.Scope counter) {
+            if (registered || !TransactionSynchronizationManager.isSynchronizationActive()) {
+                return;
+            }
+            this.counter = counter;
+            registered = true;
+            TransactionSynchronizationManager.registerSynchronization(this);
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            String name = scope.get();
+            int budget = budgetOf(name);
+            if (counter.statements() > budget) {
+                throw new SqlBudgetExceededException(name, counter.statements(), budget);
+            }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            registered = false;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package io.github.douglasdreer.order.infrastructure.persistence.querybudget;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Conta os statements SQL de cada requisição HTTP e aplica o orçamento da rota.
+ * <p>
+ * O escopo usa o padrão da rota ({@code GET /api/v1/orders/{id}}), não a URI,
+ * mantendo a cardinalidade das métricas limitada. A resposta já foi escrita quando a
+ * contagem termina, então aqui o excesso só é registrado; no modo FAIL a requisição
+ * falha antes do commit (ver {@link SqlBudgetGuard#open}).
+ */
+@Component
+@RequiredArgsConstructor
+public class SqlBudgetHttpFilter extends OncePerRequestFilter {
+
+    static final String TYPE = "http";
+    static final String UNMAPPED = "UNMAPPED";
+
+    private final SqlBudgetGuard guard;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !guard.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlStatementCounter.Scope counter = guard.open(() -> scopeOf(request));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            counter.close();
+            guard.complete(TYPE, scopeOf(request), counter);
+        }
+    }
+
+    private static String scopeOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : UNMAPPED);
+    }
+}
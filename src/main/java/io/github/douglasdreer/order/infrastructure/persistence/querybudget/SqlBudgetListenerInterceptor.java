@@ -0,0 +1,52 @@
+package io.github.douglasdreer.order.infrastructure.persistence.querybudget;
+
+import lombok.RequiredArgsConstructor;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.amqp.core.Message;
+import org.springframework.stereotype.Component;
+
+/**
+ * Advice do listener container que conta os statements SQL de cada mensagem consumida
+ * e aplica o orçamento da fila.
+ * <p>
+ * Registrado no advice chain do {@code SimpleRabbitListenerContainerFactory}; envolve a
+ * invocação do listener ({@code invokeListener(Channel, Object)}). Depois dela a mensagem
+ * já foi processada, e uma exceção aqui a devolveria à fila (ack AUTO): o excesso só é
+ * registrado. No modo FAIL a mensagem falha antes do commit (ver {@link SqlBudgetGuard#open}).
+ */
+@Component
+@RequiredArgsConstructor
+public class SqlBudgetListenerInterceptor implements MethodInterceptor {
+
+    static final String TYPE = "amqp";
+    static final String UNKNOWN_QUEUE = "unknown";
+
+    private final SqlBudgetGuard guard;
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        if (!guard.isEnabled()) {
+            return invocation.proceed();
+        }
+
+        String queue = queueOf(invocation.getArguments());
+        SqlStatementCounter.Scope counter = guard.open(() -> queue);
+        try {
+            return invocation.proceed();
+        } finally {
+            counter.close();
+            guard.complete(TYPE, queue, counter);
+        }
+    }
+
+    private static String queueOf(Object[] arguments) {
+        if (arguments.length > 1 && arguments[1] instanceof Message message) {
+            String queue = message.getMessageProperties().getConsumerQueue();
+            if (queue != null) {
+                return queue;
+            }
+        }
+        return UNKNOWN_QUEUE;
+    }
+}
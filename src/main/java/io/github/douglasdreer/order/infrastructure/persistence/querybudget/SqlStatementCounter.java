@@ -0,0 +1,94 @@
+package io.github.douglasdreer.order.infrastructure.persistence.querybudget;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Contador de statements SQL da unidade de trabalho corrente (requisição ou mensagem).
+ * <p>
+ * O escopo é ligado à thread: statements executados fora de um escopo aberto não são
+ * contados. Escopos podem ser aninhados; ao fechar, o escopo anterior volta a ser o corrente.
+ */
+public final class SqlStatementCounter {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private SqlStatementCounter() {
+    }
+
+    /**
+     * Abre um novo escopo de contagem na thread corrente.
+     */
+    public static Scope open() {
+        return open(null);
+    }
+
+    /**
+     * Abre um novo escopo que chama {@code onStatement} a cada statement contado.
+     */
+    public static Scope open(Consumer<Scope> onStatement) {
+        Scope scope = new Scope(CURRENT.get(), onStatement);
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    /**
+     * Registra a execução de um statement no escopo corrente, se houver.
+     */
+    public static void record(String sql) {
+        Scope scope = CURRENT.get();
+        if (scope != null) {
+            scope.record(sql);
+            if (scope.onStatement != null) {
+                scope.onStatement.accept(scope);
+            }
+        }
+    }
+
+    /** Escopo de contagem; não é thread-safe, pertence à thread que o abriu. */
+    public static final class Scope implements AutoCloseable {
+
+        private final Scope previous;
+        private final Consumer<Scope> onStatement;
+        private final Map<String, Integer> executionsBySql = new HashMap<>();
+        private int statements;
+        private boolean closed;
+
+        private Scope(Scope previous, Consumer<Scope> onStatement) {
+            this.previous = previous;
+            this.onStatement = onStatement;
+        }
+
+        private void record(String sql) {
+            statements++;
+            executionsBySql.merge(sql, 1, Integer::sum);
+        }
+
+        public int statements() {
+            return statements;
+        }
+
+        /**
+         * Statement executado mais vezes no escopo - em um N+1, o SELECT repetido por linha.
+         */
+        public Optional<Map.Entry<String, Integer>> mostRepeated() {
+            return executionsBySql.entrySet().stream()
+                    .max(Map.Entry.comparingByValue());
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package io.github.douglasdreer.order.infrastructure.persistence.querybudget;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Listener do proxy do DataSource que alimenta o {@link SqlStatementCounter}.
+ * <p>
+ * Registrado automaticamente pelo datasource-micrometer no proxy que envolve o pool,
+ * por isso conta tanto statements do Hibernate quanto do {@code JdbcTemplate}.
+ * Um batch de {@code PreparedStatement} conta como um único statement (uma ida ao banco).
+ */
+@Component
+public class SqlStatementListener implements QueryExecutionListener {
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        // Contagem é feita após a execução
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        for (QueryInfo queryInfo : queryInfoList) {
+            SqlStatementCounter.record(queryInfo.getQuery());
+        }
+    }
+}
@@ -0,0 +1,8 @@
+/**
+ * Camada de Infraestrutura - Orçamento de Statements SQL
+ *
+ * Conta os statements SQL executados por requisição HTTP e por mensagem consumida
+ * (via proxy do DataSource), exporta as contagens como métricas e compara com o
+ * orçamento configurado por endpoint para detectar N+1 antes de chegar à produção.
+ */
+package io.github.douglasdreer.order.infrastructure.persistence.querybudget;
@@ -0,0 +1,40 @@
+package io.github.douglasdreer.order.infrastructure.persistence.replica;
+
+/**
+ * Posição no WAL do PostgreSQL (pg_lsn), no formato textual {@code XXXXXXXX/XXXXXXXX}.
+ *
+ * @param value Posição como inteiro de 64 bits sem sinal
+ */
+public record Lsn(long value) implements Comparable<Lsn> {
+
+    private static final long HALF = 0xFFFFFFFFL;
+
+    /**
+     * Converte a representação textual do PostgreSQL (ex.: {@code 0/16B3748}).
+     *
+     * @throws IllegalArgumentException se o texto não for um LSN válido
+     */
+    public static Lsn parse(String text) {
+        int slash = text == null ? -1 : text.indexOf('/');
+        if (slash <= 0 || slash == text.length() - 1 || slash > 8 || text.length() - slash - 1 > 8) {
+            throw new IllegalArgumentException("LSN inválido: " + text);
+        }
+        long high = Long.parseLong(text.substring(0, slash), 16);
+        long low = Long.parseLong(text.substring(slash + 1), 16);
+        return new Lsn(high << 32 | low);
+    }
+
+    public boolean isAtLeast(Lsn other) {
+        return compareTo(other) >= 0;
+    }
+
+    @Override
+    public int compareTo(Lsn other) {
+        return Long.compareUnsigned(value, other.value);
+    }
+
+    @Override
+    public String toString() {
+        return "%X/%X".formatted(value >>> 32, value & HALF);
+    }
+}
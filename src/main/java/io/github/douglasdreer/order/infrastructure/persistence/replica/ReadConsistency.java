@@ -0,0 +1,50 @@
+package io.github.douglasdreer.order.infrastructure.persistence.replica;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * LSN mínimo que as leituras da thread atual precisam enxergar (read-your-writes).
+ * <p>
+ * Definido a partir do token de consistência da requisição; réplicas que ainda não
+ * aplicaram essa posição do WAL são ignoradas e a leitura vai para o primário.
+ * Leituras que se complementam, como páginas do feed de mudanças lidas por threads
+ * diferentes, podem ser fixadas no primário com {@link #onPrimary(Supplier)}.
+ */
+public final class ReadConsistency {
+
+    private static final ThreadLocal<Lsn> REQUIRED = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> PRIMARY_ONLY = new ThreadLocal<>();
+
+    private ReadConsistency() {
+    }
+
+    public static void require(Lsn lsn) {
+        REQUIRED.set(lsn);
+    }
+
+    public static Optional<Lsn> required() {
+        return Optional.ofNullable(REQUIRED.get());
+    }
+
+    public static void clear() {
+        REQUIRED.remove();
+    }
+
+    /** Executa {@code reads} com as leituras somente leitura da thread atual no primário. */
+    public static <T> T onPrimary(Supplier<T> reads) {
+        if (isPrimaryOnly()) {
+            return reads.get();
+        }
+        PRIMARY_ONLY.set(Boolean.TRUE);
+        try {
+            return reads.get();
+        } finally {
+            PRIMARY_ONLY.remove();
+        }
+    }
+
+    public static boolean isPrimaryOnly() {
+        return PRIMARY_ONLY.get() != null;
+    }
+}
@@ -0,0 +1,127 @@
+package io.github.douglasdreer.order.infrastructure.persistence.replica;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Mede periodicamente o atraso de replay de cada réplica e expõe o LSN atual do primário.
+ * <p>
+ * A cada medição o LSN do primário é lido antes das réplicas: réplica que já aplicou o WAL
+ * até essa posição tem atraso zero, para que um primário ocioso não a faça parecer
+ * atrasada; caso contrário o atraso é {@code now() - pg_last_xact_replay_timestamp()}.
+ * Comparar com o primário, e não com o WAL recebido pela própria réplica, evita que uma
+ * réplica com o WAL receiver parado pareça atualizada para sempre. Réplica inacessível,
+ * fora de recuperação ou sem WAL receiver em {@code streaming} fica indisponível até a
+ * próxima medição bem-sucedida. O status do WAL receiver só é visível a usuários com
+ * {@code pg_read_all_stats} (ex.: papel {@code pg_monitor}).
+ */
+@Component
+@Profile("!in-memory")
+@RequiredArgsConstructor
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final String REPLICA_STATE = """
+            SELECT pg_is_in_recovery() AS in_recovery,
+                   pg_last_wal_replay_lsn()::text AS replayed,
+                   EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000 AS replay_age_ms,
+                   (SELECT status FROM pg_stat_wal_receiver) AS receiver_status
+            """;
+
+    private static final String STREAMING = "streaming";
+
+    private static final String PRIMARY_LSN = "SELECT pg_current_wal_lsn()::text";
+
+    private final ReplicaSet replicaSet;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Estado de replicação lido da réplica.
+     *
+     * @param replayAge      idade da última transação aplicada; nulo se nenhuma foi aplicada
+     * @param receiverStatus status do WAL receiver; nulo se não há receiver
+     */
+    record ReplicaState(boolean inRecovery, Lsn replayed, Duration replayAge, String receiverStatus) {
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.read.lag-check-interval:PT1S}")
+    public void refresh() {
+        if (!replicaSet.hasReplicas()) {
+            return;
+        }
+        Optional<Lsn> primary = currentPrimaryLsn();
+        for (ReplicaNode replica : replicaSet.replicas()) {
+            refresh(replica, primary);
+        }
+    }
+
+    private void refresh(ReplicaNode replica, Optional<Lsn> primary) {
+        try {
+            new JdbcTemplate(replica.dataSource()).query(REPLICA_STATE, rs -> {
+                String replayed = rs.getString("replayed");
+                double replayAgeMs = rs.getDouble("replay_age_ms");
+                Duration replayAge = rs.wasNull() ? null : Duration.ofMillis(Math.round(replayAgeMs));
+                apply(replica, new ReplicaState(rs.getBoolean("in_recovery"),
+                        replayed == null ? null : Lsn.parse(replayed), replayAge, rs.getString("receiver_status")),
+                        primary);
+            });
+        } catch (DataAccessException e) {
+            log.warn("Falha ao medir atraso da réplica {}: {}", replica.name(), e.getMessage());
+            replica.markUnavailable();
+        }
+    }
+
+    /**
+     * Atualiza a réplica a partir do estado medido e do LSN do primário lido antes dela
+     * (vazio se o primário não respondeu: vale a idade da última transação aplicada).
+     */
+    void apply(ReplicaNode replica, ReplicaState state, Optional<Lsn> primary) {
+        if (!state.inRecovery() || state.replayed() == null) {
+            log.warn("Réplica {} não está em streaming replication; leituras vão para o primário", replica.name());
+            replica.markUnavailable();
+            return;
+        }
+        if (!STREAMING.equals(state.receiverStatus())) {
+            log.warn("Réplica {} sem WAL receiver em streaming (status: {}); leituras vão para o primário",
+                    replica.name(), state.receiverStatus());
+            replica.markUnavailable();
+            return;
+        }
+        if (primary.map(state.replayed()::isAtLeast).orElse(false)) {
+            replica.update(Duration.ZERO, state.replayed());
+        } else if (state.replayAge() != null) {
+            replica.update(state.replayAge(), state.replayed());
+        } else {
+            log.warn("Réplica {} atrás do primário sem transação aplicada para medir o atraso", replica.name());
+            replica.markUnavailable();
+        }
+    }
+
+    /**
+     * Posição atual do WAL no primário, usada como token de consistência após escritas.
+     * Vazio quando não há réplicas configuradas (o token seria inútil).
+     */
+    public Optional<Lsn> primaryLsn() {
+        if (!replicaSet.hasReplicas()) {
+            return Optional.empty();
+        }
+        return currentPrimaryLsn();
+    }
+
+    private Optional<Lsn> currentPrimaryLsn() {
+        try {
+            return Optional.ofNullable(jdbcTemplate.queryForObject(PRIMARY_LSN, String.class)).map(Lsn::parse);
+        } catch (DataAccessException e) {
+            log.warn("Falha ao obter o LSN do primário: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+}
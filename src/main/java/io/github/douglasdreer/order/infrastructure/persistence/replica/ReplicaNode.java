@@ -0,0 +1,59 @@
+package io.github.douglasdreer.order.infrastructure.persistence.replica;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Réplica de leitura e o último estado de replicação medido pelo {@link ReplicaLagMonitor}.
+ * <p>
+ * Até a primeira medição bem-sucedida (ou após uma falha) a réplica é considerada
+ * indisponível.
+ */
+public final class ReplicaNode {
+
+    private record State(Duration lag, Lsn replayed) {
+    }
+
+    private final String name;
+    private final DataSource dataSource;
+    private volatile State state;
+
+    public ReplicaNode(String name, DataSource dataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    DataSource dataSource() {
+        return dataSource;
+    }
+
+    void update(Duration lag, Lsn replayed) {
+        this.state = new State(lag, replayed);
+    }
+
+    void markUnavailable() {
+        this.state = null;
+    }
+
+    /** Atraso de replay em segundos; NaN quando desconhecido. */
+    double lagSeconds() {
+        State current = state;
+        return current == null ? Double.NaN : current.lag().toMillis() / 1000.0;
+    }
+
+    /**
+     * Indica se a réplica pode atender a leitura: atraso dentro do limite e, havendo token,
+     * WAL aplicado até a posição exigida.
+     */
+    boolean isEligible(Duration maxLag, Optional<Lsn> required) {
+        State current = state;
+        return current != null
+                && current.lag().compareTo(maxLag) <= 0
+                && required.map(current.replayed()::isAtLeast).orElse(true);
+    }
+}
@@ -0,0 +1,31 @@
+package io.github.douglasdreer.order.infrastructure.persistence.replica;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * DataSource de leitura que entrega conexões do destino escolhido pelo {@link ReplicaSet}.
+ * <p>
+ * A escolha acontece a cada conexão; com o {@code LazyConnectionDataSourceProxy} na frente,
+ * isso ocorre no primeiro statement da transação somente leitura.
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    private final ReplicaSet replicaSet;
+
+    public ReplicaRoutingDataSource(ReplicaSet replicaSet) {
+        this.replicaSet = replicaSet;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return replicaSet.select().getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return replicaSet.select().getConnection(username, password);
+    }
+}
@@ -0,0 +1,95 @@
+package io.github.douglasdreer.order.infrastructure.persistence.replica;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Destinos das transações somente leitura: réplicas elegíveis em rodízio e, na falta
+ * delas, o pool de leitura do primário.
+ * <p>
+ * Métricas: {@code order.datasource.replica.lag} (segundos, por réplica) e
+ * {@code order.datasource.reads} (conexões de leitura por destino).
+ */
+public class ReplicaSet implements AutoCloseable {
+
+    static final String LAG_METRIC = "order.datasource.replica.lag";
+    static final String READS_METRIC = "order.datasource.reads";
+    static final String PRIMARY = "primary";
+
+    private final DataSource primary;
+    private final List<ReplicaNode> replicas;
+    private final Duration maxLag;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Map<String, Counter> reads = new HashMap<>();
+
+    public ReplicaSet(DataSource primary, List<ReplicaNode> replicas, Duration maxLag, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.maxLag = maxLag;
+        reads.put(PRIMARY, readCounter(meterRegistry, PRIMARY));
+        for (ReplicaNode replica : this.replicas) {
+            reads.put(replica.name(), readCounter(meterRegistry, replica.name()));
+            Gauge.builder(LAG_METRIC, replica, ReplicaNode::lagSeconds)
+                    .description("Atraso de replay da réplica")
+                    .baseUnit("seconds")
+                    .tag("replica", replica.name())
+                    .register(meterRegistry);
+        }
+    }
+
+    private static Counter readCounter(MeterRegistry meterRegistry, String target) {
+        return Counter.builder(READS_METRIC)
+                .description("Conexões de leitura por destino")
+                .tag("target", target)
+                .register(meterRegistry);
+    }
+
+    public boolean hasReplicas() {
+        return !replicas.isEmpty();
+    }
+
+    List<ReplicaNode> replicas() {
+        return replicas;
+    }
+
+    /** Fecha os pools de leitura no encerramento do contexto. */
+    @Override
+    public void close() throws Exception {
+        for (ReplicaNode replica : replicas) {
+            if (replica.dataSource() instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+        if (primary instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    /**
+     * Escolhe o destino da próxima conexão somente leitura.
+     */
+    DataSource select() {
+        int size = replicas.size();
+        if (size > 0 && !ReadConsistency.isPrimaryOnly()) {
+            var required = ReadConsistency.required();
+            int start = Math.floorMod(next.getAndIncrement(), size);
+            for (int i = 0; i < size; i++) {
+                ReplicaNode replica = replicas.get((start + i) % size);
+                if (replica.isEligible(maxLag, required)) {
+                    reads.get(replica.name()).increment();
+                    return replica.dataSource();
+                }
+            }
+        }
+        reads.get(PRIMARY).increment();
+        return primary;
+    }
+}
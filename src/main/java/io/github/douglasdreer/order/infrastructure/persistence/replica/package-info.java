@@ -0,0 +1,9 @@
+/**
+ * Infraestrutura - Réplicas de Leitura
+ *
+ * Roteamento das transações somente leitura para réplicas PostgreSQL em
+ * streaming replication, com monitoramento do atraso de replay e retorno ao
+ * primário quando a réplica está atrasada ou ainda não aplicou a escrita
+ * indicada pelo token de consistência (LSN) da requisição.
+ */
+package io.github.douglasdreer.order.infrastructure.persistence.replica;
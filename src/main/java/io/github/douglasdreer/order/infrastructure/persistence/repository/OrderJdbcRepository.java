@@ -0,0 +1,132 @@
+package io.github.douglasdreer.order.infrastructure.persistence.repository;
+
+import io.github.douglasdreer.order.domain.valueobject.OrderStatus;
+import io.github.douglasdreer.order.domain.valueobject.StatusTransition;
+import io.github.douglasdreer.order.infrastructure.persistence.entity.OrderEntity;
+import io.github.douglasdreer.order.infrastructure.persistence.entity.OrderItemEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repositório JDBC para operações que o JPA não expressa de forma eficiente.
+ * Participa da transação JPA corrente (mesma conexão).
+ */
+@Repository
+@Profile("!in-memory")
+@RequiredArgsConstructor
+public class OrderJdbcRepository {
+
+    private static final String INSERT_ORDER_IF_ABSENT = """
+            INSERT INTO orders (id, external_order_id, total_amount, total_currency, status,
+                                created_at, updated_at, version)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (external_order_id) DO NOTHING
+            RETURNING id
+            """;
+
+    private static final String INSERT_ORDER_ITEM = """
+            INSERT INTO order_items (id, order_id, product_id, product_name, unit_price, unit_currency,
+                                     quantity, subtotal, subtotal_currency, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_STATUS_HISTORY = """
+            INSERT INTO order_status_history (order_id, from_status, to_status, occurred_at, dwell_micros)
+            VALUES (?, ?, ?, ?, ?)
+            """;
+
+    private static final String SELECT_STATUS_HISTORY = """
+            SELECT from_status, to_status, occurred_at, dwell_micros
+            FROM order_status_history
+            WHERE order_id = ?
+            ORDER BY occurred_at, id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Insere o pedido e seus itens somente se não houver pedido com o mesmo ID externo.
+     * O conflito é detectado pelo próprio INSERT (uq_orders_external_id), em um único round trip;
+     * os itens são inseridos em um batch.
+     *
+     * @param order entidade do pedido com itens
+     * @return true se inserido, false se já existia pedido com o mesmo ID externo
+     */
+    public boolean insertIfAbsent(OrderEntity order) {
+        List<UUID> insertedIds = jdbcTemplate.queryForList(INSERT_ORDER_IF_ABSENT, UUID.class,
+                order.getId(),
+                order.getExternalOrderId(),
+                order.getTotalAmount(),
+                order.getTotalCurrency(),
+                order.getStatus().name(),
+                toOffsetDateTime(order.getCreatedAt()),
+                toOffsetDateTime(order.getUpdatedAt()),
+                order.getVersion());
+
+        if (insertedIds.isEmpty()) {
+            return false;
+        }
+
+        List<OrderItemEntity> items = order.getItems();
+        jdbcTemplate.batchUpdate(INSERT_ORDER_ITEM, items, items.size(), (ps, item) -> {
+            ps.setObject(1, item.getId());
+            ps.setObject(2, order.getId());
+            ps.setString(3, item.getProductId());
+            ps.setString(4, item.getProductName());
+            ps.setBigDecimal(5, item.getUnitPrice());
+            ps.setString(6, item.getUnitCurrency());
+            ps.setInt(7, item.getQuantity());
+            ps.setBigDecimal(8, item.getSubtotal());
+            ps.setString(9, item.getSubtotalCurrency());
+            ps.setObject(10, toOffsetDateTime(item.getCreatedAt()));
+        });
+
+        return true;
+    }
+
+    /**
+     * Acrescenta transições ao histórico de status do pedido em um único batch.
+     */
+    public void appendStatusHistory(UUID orderId, List<StatusTransition> transitions) {
+        if (transitions.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_STATUS_HISTORY, transitions, transitions.size(), (ps, transition) -> {
+            ps.setObject(1, orderId);
+            ps.setString(2, transition.from().name());
+            ps.setString(3, transition.to().name());
+            ps.setObject(4, toOffsetDateTime(transition.occurredAt()));
+            ps.setLong(5, toMicros(transition.dwell()));
+        });
+    }
+
+    /**
+     * Retorna o histórico de status do pedido em ordem cronológica.
+     */
+    public List<StatusTransition> findStatusHistory(UUID orderId) {
+        return jdbcTemplate.query(SELECT_STATUS_HISTORY, (rs, rowNum) -> new StatusTransition(
+                OrderStatus.valueOf(rs.getString("from_status")),
+                OrderStatus.valueOf(rs.getString("to_status")),
+                rs.getObject("occurred_at", OffsetDateTime.class).toInstant(),
+                Duration.of(rs.getLong("dwell_micros"), ChronoUnit.MICROS)
+        ), orderId);
+    }
+
+    private static long toMicros(Duration duration) {
+        return duration.getSeconds() * 1_000_000L + duration.getNano() / 1_000;
+    }
+
+    private static OffsetDateTime toOffsetDateTime(Instant instant) {
+        return instant != null ? instant.atOffset(ZoneOffset.UTC) : OffsetDateTime.now(ZoneOffset.UTC);
+    }
+}
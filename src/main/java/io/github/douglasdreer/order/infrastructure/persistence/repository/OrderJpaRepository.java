@@ -25,6 +25,12 @@ public interface OrderJpaRepository extends JpaRepository<OrderEntity, UUID> {
      */
     Optional<OrderEntity> findByExternalOrderId(String externalOrderId);
 
+    /**
+     * Busca apenas a versão do pedido.
+     */
+    @Query("SELECT o.version FROM OrderEntity o WHERE o.id = :id")
+    Optional<Long> findVersionById(@Param("id") UUID id);
+
     /**
      * Verifica se existe pedido com o ID externo.
      */
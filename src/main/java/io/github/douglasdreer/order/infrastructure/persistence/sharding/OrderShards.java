@@ -0,0 +1,82 @@
+package io.github.douglasdreer.order.infrastructure.persistence.sharding;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * Conjunto de shards de pedidos e o roteamento entre eles.
+ * <p>
+ * Consultas distribuídas ({@link #scatter}) rodam em paralelo, uma virtual thread por
+ * shard; a primeira falha é propagada depois que todos os shards responderem.
+ */
+public class OrderShards implements AutoCloseable {
+
+    private final ShardRouter router;
+    private final List<Shard> shards;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public OrderShards(ShardRouter router, List<Shard> shards) {
+        if (shards.size() != router.shardCount()) {
+            throw new IllegalArgumentException("Esperados %d shards, recebidos %d"
+                    .formatted(router.shardCount(), shards.size()));
+        }
+        this.router = router;
+        this.shards = List.copyOf(shards);
+    }
+
+    public ShardRouter router() {
+        return router;
+    }
+
+    public List<Shard> all() {
+        return shards;
+    }
+
+    /** Shard que guarda o pedido com o ID externo informado. */
+    public Shard forExternalOrderId(String externalOrderId) {
+        return shards.get(router.shardFor(externalOrderId));
+    }
+
+    /** Shard codificado no ID do pedido; vazio se o ID não pertence a nenhum shard. */
+    public Optional<Shard> forId(UUID id) {
+        int index = router.shardOf(id);
+        return index < 0 ? Optional.empty() : Optional.of(shards.get(index));
+    }
+
+    /**
+     * Executa a consulta em todos os shards em paralelo e devolve os resultados na ordem dos shards.
+     */
+    public <T> List<T> scatter(Function<Shard, T> query) {
+        if (shards.size() == 1) {
+            return List.of(query.apply(shards.get(0)));
+        }
+        List<CompletableFuture<T>> futures = shards.stream()
+                .map(shard -> CompletableFuture.supplyAsync(() -> query.apply(shard), executor))
+                .toList();
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+
+    @Override
+    public void close() throws Exception {
+        executor.close();
+        for (Shard shard : shards) {
+            if (shard.dataSource() instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package io.github.douglasdreer.order.infrastructure.persistence.sharding;
+
+import io.github.douglasdreer.order.infrastructure.persistence.repository.OrderJdbcRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+/**
+ * Um banco de pedidos: DataSource próprio, transações locais e o repositório JDBC de escrita.
+ *
+ * @param index        Índice do shard (0..N-1), gravado nos IDs dos pedidos
+ * @param dataSource   Pool de conexões do shard
+ * @param jdbcTemplate Acesso JDBC ao shard
+ * @param transactions Transações locais ao shard
+ * @param orders       Inserção de pedidos/itens e histórico de status no shard
+ */
+public record Shard(
+        int index,
+        DataSource dataSource,
+        JdbcTemplate jdbcTemplate,
+        TransactionTemplate transactions,
+        OrderJdbcRepository orders
+) {
+
+    public static Shard of(int index, DataSource dataSource) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        return new Shard(index, dataSource, jdbcTemplate,
+                new TransactionTemplate(new DataSourceTransactionManager(dataSource)),
+                new OrderJdbcRepository(jdbcTemplate));
+    }
+}
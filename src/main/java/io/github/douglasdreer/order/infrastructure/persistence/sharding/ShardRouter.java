@@ -0,0 +1,64 @@
+package io.github.douglasdreer.order.infrastructure.persistence.sharding;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Mapeia IDs externos e IDs internos para o índice do shard.
+ * <p>
+ * O shard de um pedido é {@code FNV-1a-64(external_order_id) mod N}: estável entre
+ * execuções e JVMs. O índice é gravado nos 8 bits mais altos de {@code rand_b} do UUID
+ * (bits 61..54 da metade menos significativa), preservando versão, variante e o prefixo
+ * de tempo do UUID v7 - por isso o limite é de 256 shards.
+ */
+public final class ShardRouter {
+
+    static final int MAX_SHARDS = 256;
+
+    private static final int SHARD_SHIFT = 54;
+    private static final long SHARD_MASK = 0xFFL << SHARD_SHIFT;
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final int shardCount;
+
+    public ShardRouter(int shardCount) {
+        if (shardCount < 1 || shardCount > MAX_SHARDS) {
+            throw new IllegalArgumentException("Quantidade de shards deve estar entre 1 e %d: %d"
+                    .formatted(MAX_SHARDS, shardCount));
+        }
+        this.shardCount = shardCount;
+    }
+
+    public int shardCount() {
+        return shardCount;
+    }
+
+    /**
+     * Shard do pedido com o ID externo informado.
+     */
+    public int shardFor(String externalOrderId) {
+        long hash = FNV_OFFSET_BASIS;
+        for (byte b : externalOrderId.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xFF;
+            hash *= FNV_PRIME;
+        }
+        return (int) Long.remainderUnsigned(hash, shardCount);
+    }
+
+    /**
+     * Shard codificado no ID, ou -1 se o ID não pertence a nenhum shard configurado.
+     */
+    public int shardOf(UUID id) {
+        int shard = (int) ((id.getLeastSignificantBits() & SHARD_MASK) >>> SHARD_SHIFT);
+        return shard < shardCount ? shard : -1;
+    }
+
+    /**
+     * Grava o índice do shard no ID.
+     */
+    public UUID stamp(UUID id, int shard) {
+        long leastSigBits = (id.getLeastSignificantBits() & ~SHARD_MASK) | ((long) shard << SHARD_SHIFT);
+        return new UUID(id.getMostSignificantBits(), leastSigBits);
+    }
+}
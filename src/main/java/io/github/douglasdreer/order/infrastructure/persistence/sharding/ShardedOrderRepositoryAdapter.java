@@ -0,0 +1,289 @@
+package io.github.douglasdreer.order.infrastructure.persistence.sharding;
+
+import io.github.douglasdreer.order.application.port.output.OrderRepositoryPort;
+import io.github.douglasdreer.order.domain.entity.Order;
+import io.github.douglasdreer.order.domain.valueobject.OrderStatus;
+import io.github.douglasdreer.order.domain.valueobject.StatusTransition;
+import io.github.douglasdreer.order.infrastructure.persistence.entity.OrderEntity;
+import io.github.douglasdreer.order.infrastructure.persistence.entity.OrderItemEntity;
+import io.github.douglasdreer.order.infrastructure.persistence.entity.OrderStatusEntity;
+import io.github.douglasdreer.order.infrastructure.persistence.mapper.OrderPersistenceMapper;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Repositório de pedidos particionado em N bancos (perfil {@code sharded}).
+ * <p>
+ * Escritas e buscas pontuais vão a um único shard: pelo ID externo (hash) ou pelo
+ * shard gravado no ID interno. Buscas por status/período e contagens são distribuídas
+ * a todos os shards em paralelo; cada shard devolve as linhas ordenadas por
+ * {@code created_at, id} e o resultado é combinado por merge ordenado.
+ * <p>
+ * Cada operação é atômica dentro do seu shard; não há transação entre shards.
+ */
+@Repository
+@Profile("sharded")
+@RequiredArgsConstructor
+@Slf4j
+@Timed(value = "order.repository", histogram = true)
+public class ShardedOrderRepositoryAdapter implements OrderRepositoryPort {
+
+    private static final String SELECT_ORDERS = """
+            SELECT id, external_order_id, total_amount, total_currency, status, created_at, updated_at, version
+            FROM orders
+            """;
+
+    private static final String ORDER_BY_CREATION = " ORDER BY created_at, id";
+
+    private static final String SELECT_ITEMS = """
+            SELECT id, order_id, product_id, product_name, unit_price, unit_currency, quantity,
+                   subtotal, subtotal_currency, created_at
+            FROM order_items
+            WHERE order_id = ANY(?)
+            ORDER BY order_id, created_at, id
+            """;
+
+    private static final String UPDATE_ORDER = """
+            UPDATE orders
+            SET total_amount = ?, total_currency = ?, status = ?, updated_at = ?, version = version + 1
+            WHERE id = ? AND version = ?
+            """;
+
+    // Desempate por shard: o merge é estável e cada shard já vem ordenado por (created_at, id)
+    private static final Comparator<OrderEntity> BY_CREATION = Comparator.comparing(OrderEntity::getCreatedAt);
+
+    private static final RowMapper<OrderEntity> ORDER_ROW_MAPPER = (rs, rowNum) -> OrderEntity.builder()
+            .id(rs.getObject("id", UUID.class))
+            .externalOrderId(rs.getString("external_order_id"))
+            .totalAmount(rs.getBigDecimal("total_amount"))
+            .totalCurrency(rs.getString("total_currency"))
+            .status(OrderStatusEntity.valueOf(rs.getString("status")))
+            .createdAt(rs.getObject("created_at", OffsetDateTime.class).toInstant())
+            .updatedAt(rs.getObject("updated_at", OffsetDateTime.class).toInstant())
+            .version(rs.getLong("version"))
+            .build();
+
+    private final OrderShards shards;
+    private final OrderPersistenceMapper mapper;
+
+    @Override
+    public Order save(Order order) {
+        log.debug("Salvando pedido: {}", order.getExternalOrderIdValue());
+
+        Shard shard = shards.forExternalOrderId(order.getExternalOrderIdValue());
+        requireSameShard(shard, order);
+        OrderEntity entity = mapper.toEntity(order);
+
+        OrderEntity saved = shard.transactions().execute(status -> {
+            int updated = shard.jdbcTemplate().update(UPDATE_ORDER,
+                    entity.getTotalAmount(),
+                    entity.getTotalCurrency(),
+                    entity.getStatus().name(),
+                    toOffsetDateTime(entity.getUpdatedAt()),
+                    entity.getId(),
+                    entity.getVersion());
+            if (updated == 0) {
+                if (!findOrders(shard, " WHERE id = ?", entity.getId()).isEmpty()) {
+                    throw new OptimisticLockingFailureException(
+                            "Pedido %s alterado concorrentemente: versão %d".formatted(entity.getId(), entity.getVersion()));
+                }
+                shard.orders().insertIfAbsent(entity);
+            }
+            shard.orders().appendStatusHistory(order.getId(), order.getStatusTransitions());
+            return findOrders(shard, " WHERE id = ?", entity.getId()).get(0);
+        });
+
+        log.debug("Pedido salvo com sucesso: id={}, externalId={}, shard={}",
+                saved.getId(), saved.getExternalOrderId(), shard.index());
+
+        return mapper.toDomain(saved);
+    }
+
+    @Override
+    public Optional<Order> insertIfAbsent(Order order) {
+        log.debug("Inserindo pedido: {}", order.getExternalOrderIdValue());
+
+        Shard shard = shards.forExternalOrderId(order.getExternalOrderIdValue());
+        requireSameShard(shard, order);
+
+        Boolean inserted = shard.transactions().execute(status -> {
+            if (!shard.orders().insertIfAbsent(mapper.toEntity(order))) {
+                return false;
+            }
+            shard.orders().appendStatusHistory(order.getId(), order.getStatusTransitions());
+            return true;
+        });
+
+        if (!Boolean.TRUE.equals(inserted)) {
+            log.debug("Pedido já existente: externalId={}", order.getExternalOrderIdValue());
+            return Optional.empty();
+        }
+
+        log.debug("Pedido salvo com sucesso: id={}, externalId={}, shard={}",
+                order.getId(), order.getExternalOrderIdValue(), shard.index());
+
+        return Optional.of(order);
+    }
+
+    @Override
+    public Optional<Order> findById(UUID id) {
+        log.debug("Buscando pedido por ID: {}", id);
+
+        return shards.forId(id)
+                .flatMap(shard -> findOrders(shard, " WHERE id = ?", id).stream().findFirst())
+                .map(mapper::toDomain);
+    }
+
+    @Override
+    public Optional<Long> findVersionById(UUID id) {
+        return shards.forId(id).flatMap(shard -> shard.jdbcTemplate()
+                .queryForList("SELECT version FROM orders WHERE id = ?", Long.class, id)
+                .stream()
+                .findFirst());
+    }
+
+    @Override
+    public Optional<Order> findByExternalOrderId(String externalOrderId) {
+        log.debug("Buscando pedido por ID externo: {}", externalOrderId);
+
+        Shard shard = shards.forExternalOrderId(externalOrderId);
+        return findOrders(shard, " WHERE external_order_id = ?", externalOrderId).stream()
+                .findFirst()
+                .map(mapper::toDomain);
+    }
+
+    @Override
+    public boolean existsByExternalOrderId(String externalOrderId) {
+        Boolean exists = shards.forExternalOrderId(externalOrderId).jdbcTemplate().queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM orders WHERE external_order_id = ?)", Boolean.class, externalOrderId);
+        return Boolean.TRUE.equals(exists);
+    }
+
+    @Override
+    public List<Order> findByStatus(OrderStatus status) {
+        log.debug("Buscando pedidos por status: {}", status);
+
+        String statusName = mapper.toStatusEntity(status).name();
+        return scatterOrdered(" WHERE status = ?" + ORDER_BY_CREATION, statusName);
+    }
+
+    @Override
+    public List<Order> findByCreatedAtBetween(Instant startDate, Instant endDate) {
+        log.debug("Buscando pedidos entre {} e {}", startDate, endDate);
+
+        return scatterOrdered(" WHERE created_at BETWEEN ? AND ?" + ORDER_BY_CREATION,
+                toOffsetDateTime(startDate), toOffsetDateTime(endDate));
+    }
+
+    @Override
+    public List<Order> findAll() {
+        log.debug("Buscando todos os pedidos");
+
+        return scatterOrdered(ORDER_BY_CREATION);
+    }
+
+    @Override
+    public void deleteById(UUID id) {
+        log.debug("Removendo pedido: {}", id);
+
+        // order_items e order_status_history são removidos em cascata (FK ON DELETE CASCADE)
+        shards.forId(id).ifPresent(shard -> shard.jdbcTemplate().update("DELETE FROM orders WHERE id = ?", id));
+
+        log.info("Pedido removido: {}", id);
+    }
+
+    @Override
+    public long countByStatus(OrderStatus status) {
+        String statusName = mapper.toStatusEntity(status).name();
+        return shards.scatter(shard -> shard.jdbcTemplate().queryForObject(
+                        "SELECT count(*) FROM orders WHERE status = ?", Long.class, statusName))
+                .stream()
+                .mapToLong(Long::longValue)
+                .sum();
+    }
+
+    @Override
+    public Optional<Order> findByIdWithItems(UUID id) {
+        log.debug("Buscando pedido com itens: {}", id);
+
+        return findById(id);
+    }
+
+    @Override
+    public List<StatusTransition> findStatusHistory(UUID orderId) {
+        log.debug("Buscando histórico de status: {}", orderId);
+
+        return shards.forId(orderId)
+                .map(shard -> shard.orders().findStatusHistory(orderId))
+                .orElse(List.of());
+    }
+
+    private void requireSameShard(Shard shard, Order order) {
+        if (shards.router().shardOf(order.getId()) != shard.index()) {
+            throw new IllegalStateException("ID %s não pertence ao shard %d do pedido %s; verifique o gerador de IDs"
+                    .formatted(order.getId(), shard.index(), order.getExternalOrderIdValue()));
+        }
+    }
+
+    private List<Order> scatterOrdered(String whereAndOrder, Object... args) {
+        List<List<OrderEntity>> perShard = shards.scatter(shard -> findOrders(shard, whereAndOrder, args));
+        return mapper.toDomainList(SortedMerge.merge(perShard, BY_CREATION));
+    }
+
+    /**
+     * Carrega pedidos do shard com seus itens em duas consultas (pedidos + itens por {@code ANY}).
+     */
+    private List<OrderEntity> findOrders(Shard shard, String whereAndOrder, Object... args) {
+        JdbcTemplate jdbc = shard.jdbcTemplate();
+        List<OrderEntity> orders = jdbc.query(SELECT_ORDERS + whereAndOrder, ORDER_ROW_MAPPER, args);
+        if (orders.isEmpty()) {
+            return orders;
+        }
+
+        Map<UUID, OrderEntity> byId = new LinkedHashMap<>();
+        orders.forEach(order -> byId.put(order.getId(), order));
+
+        jdbc.query(connection -> {
+            var statement = connection.prepareStatement(SELECT_ITEMS);
+            Array ids = connection.createArrayOf("uuid", byId.keySet().toArray());
+            statement.setArray(1, ids);
+            return statement;
+        }, rs -> {
+            OrderEntity order = byId.get(rs.getObject("order_id", UUID.class));
+            order.getItems().add(OrderItemEntity.builder()
+                    .id(rs.getObject("id", UUID.class))
+                    .order(order)
+                    .productId(rs.getString("product_id"))
+                    .productName(rs.getString("product_name"))
+                    .unitPrice(rs.getBigDecimal("unit_price"))
+                    .unitCurrency(rs.getString("unit_currency"))
+                    .quantity(rs.getInt("quantity"))
+                    .subtotal(rs.getBigDecimal("subtotal"))
+                    .subtotalCurrency(rs.getString("subtotal_currency"))
+                    .createdAt(rs.getObject("created_at", OffsetDateTime.class).toInstant())
+                    .build());
+        });
+        return orders;
+    }
+
+    private static OffsetDateTime toOffsetDateTime(Instant instant) {
+        return instant != null ? instant.atOffset(ZoneOffset.UTC) : OffsetDateTime.now(ZoneOffset.UTC);
+    }
+}
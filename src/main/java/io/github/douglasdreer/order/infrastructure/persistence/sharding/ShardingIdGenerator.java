@@ -0,0 +1,30 @@
+package io.github.douglasdreer.order.infrastructure.persistence.sharding;
+
+import io.github.douglasdreer.order.domain.identity.IdGenerator;
+
+import java.util.UUID;
+
+/**
+ * Decora a estratégia de IDs configurada gravando no ID do pedido o shard do seu ID externo.
+ * IDs sem chave de partição (itens) não são alterados: são sempre acessados pelo pedido.
+ */
+public final class ShardingIdGenerator implements IdGenerator {
+
+    private final IdGenerator delegate;
+    private final ShardRouter router;
+
+    public ShardingIdGenerator(IdGenerator delegate, ShardRouter router) {
+        this.delegate = delegate;
+        this.router = router;
+    }
+
+    @Override
+    public UUID nextId() {
+        return delegate.nextId();
+    }
+
+    @Override
+    public UUID nextId(String partitionKey) {
+        return router.stamp(delegate.nextId(), router.shardFor(partitionKey));
+    }
+}
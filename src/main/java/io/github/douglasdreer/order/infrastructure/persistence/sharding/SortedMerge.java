@@ -0,0 +1,49 @@
+package io.github.douglasdreer.order.infrastructure.persistence.sharding;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Merge de k listas já ordenadas em uma lista ordenada, em O(n log k).
+ * Em empates, prevalece a ordem das listas de entrada (merge estável).
+ */
+final class SortedMerge {
+
+    private SortedMerge() {
+    }
+
+    private record Cursor<T>(int index, List<T> source, int position) {
+
+        T head() {
+            return source.get(position);
+        }
+    }
+
+    static <T> List<T> merge(List<List<T>> sortedLists, Comparator<? super T> comparator) {
+        int total = 0;
+        PriorityQueue<Cursor<T>> heads = new PriorityQueue<>(Math.max(1, sortedLists.size()),
+                (a, b) -> {
+                    int order = comparator.compare(a.head(), b.head());
+                    return order != 0 ? order : Integer.compare(a.index(), b.index());
+                });
+        for (int index = 0; index < sortedLists.size(); index++) {
+            List<T> list = sortedLists.get(index);
+            total += list.size();
+            if (!list.isEmpty()) {
+                heads.add(new Cursor<>(index, list, 0));
+            }
+        }
+
+        List<T> merged = new ArrayList<>(total);
+        while (!heads.isEmpty()) {
+            Cursor<T> cursor = heads.poll();
+            merged.add(cursor.head());
+            if (cursor.position() + 1 < cursor.source().size()) {
+                heads.add(new Cursor<>(cursor.index(), cursor.source(), cursor.position() + 1));
+            }
+        }
+        return merged;
+    }
+}
@@ -0,0 +1,9 @@
+/**
+ * Infraestrutura - Sharding
+ *
+ * Armazenamento de pedidos em N bancos PostgreSQL (perfil {@code sharded}).
+ * O shard é escolhido por um hash estável do ID externo e gravado em bits do
+ * UUID gerado, para que buscas por ID sigam direto ao shard. Consultas de lista
+ * são distribuídas a todos os shards e combinadas por merge ordenado em created_at.
+ */
+package io.github.douglasdreer.order.infrastructure.persistence.sharding;
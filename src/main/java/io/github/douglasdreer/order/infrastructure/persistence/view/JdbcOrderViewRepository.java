@@ -0,0 +1,99 @@
+package io.github.douglasdreer.order.infrastructure.persistence.view;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.douglasdreer.order.application.dto.OrderResponse;
+import io.github.douglasdreer.order.application.port.output.OrderViewPort;
+import io.github.douglasdreer.order.domain.valueobject.OrderStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Modelo de leitura na tabela {@code order_view}.
+ * <p>
+ * Participa da transação corrente: a gravação do documento é atômica com a do pedido.
+ * Cada leitura é uma busca indexada sem join; o custo independe da quantidade de itens.
+ * Pedidos confirmados sem documento (ou com status divergente) ganham a linha no commit,
+ * pelo trigger adiado do V11, então toda consulta e o feed de mudanças os enxergam.
+ */
+@Repository
+@Profile("!in-memory & !sharded")
+@RequiredArgsConstructor
+public class JdbcOrderViewRepository implements OrderViewPort {
+
+    private static final String UPSERT_VIEW = """
+            INSERT INTO order_view (order_id, external_order_id, status, created_at, document)
+            VALUES (?, ?, ?, ?, ?::jsonb)
+            ON CONFLICT (order_id) DO UPDATE
+            SET status = EXCLUDED.status,
+                document = EXCLUDED.document
+            """;
+
+    private static final String SELECT_DOCUMENT = "SELECT document FROM order_view";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void save(OrderResponse view) {
+        jdbcTemplate.update(UPSERT_VIEW,
+                view.getId(),
+                view.getExternalOrderId(),
+                view.getStatus(),
+                view.getCreatedAt().atOffset(ZoneOffset.UTC),
+                write(view));
+    }
+
+    @Override
+    public Optional<OrderResponse> findById(UUID id) {
+        return jdbcTemplate.query(SELECT_DOCUMENT + " WHERE order_id = ?", documentMapper(), id)
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    public Optional<OrderResponse> findByExternalOrderId(String externalOrderId) {
+        return jdbcTemplate.query(SELECT_DOCUMENT + " WHERE external_order_id = ?", documentMapper(), externalOrderId)
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    public List<OrderResponse> findByStatus(OrderStatus status) {
+        return jdbcTemplate.query(SELECT_DOCUMENT + " WHERE status = ? ORDER BY created_at, order_id",
+                documentMapper(), status.name());
+    }
+
+    @Override
+    public List<OrderResponse> findAll() {
+        return jdbcTemplate.query(SELECT_DOCUMENT + " ORDER BY created_at, order_id", documentMapper());
+    }
+
+    private RowMapper<OrderResponse> documentMapper() {
+        return (rs, rowNum) -> read(rs.getString("document"));
+    }
+
+    private String write(OrderResponse view) {
+        try {
+            return objectMapper.writeValueAsString(view);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Falha ao serializar o documento do pedido " + view.getId(), e);
+        }
+    }
+
+    private OrderResponse read(String document) {
+        try {
+            return objectMapper.readValue(document, OrderResponse.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Documento de pedido inválido em order_view", e);
+        }
+    }
+}
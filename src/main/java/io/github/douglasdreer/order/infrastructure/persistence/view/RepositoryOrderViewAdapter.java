@@ -0,0 +1,53 @@
+package io.github.douglasdreer.order.infrastructure.persistence.view;
+
+import io.github.douglasdreer.order.application.dto.OrderResponse;
+import io.github.douglasdreer.order.application.mapper.OrderApplicationMapper;
+import io.github.douglasdreer.order.application.port.output.OrderRepositoryPort;
+import io.github.douglasdreer.order.application.port.output.OrderViewPort;
+import io.github.douglasdreer.order.domain.valueobject.OrderStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Modelo de leitura derivado do próprio repositório de pedidos, para os perfis sem
+ * tabela {@code order_view}: em memória (a leitura já é barata) e sharded (cada shard
+ * guarda só os seus pedidos e as listas exigem scatter-gather de qualquer forma).
+ */
+@Component
+@Profile("in-memory | sharded")
+@RequiredArgsConstructor
+public class RepositoryOrderViewAdapter implements OrderViewPort {
+
+    private final OrderRepositoryPort orderRepository;
+    private final OrderApplicationMapper mapper;
+
+    @Override
+    public void save(OrderResponse view) {
+        // O documento é montado na leitura
+    }
+
+    @Override
+    public Optional<OrderResponse> findById(UUID id) {
+        return orderRepository.findByIdWithItems(id).map(mapper::toResponse);
+    }
+
+    @Override
+    public Optional<OrderResponse> findByExternalOrderId(String externalOrderId) {
+        return orderRepository.findByExternalOrderId(externalOrderId).map(mapper::toResponse);
+    }
+
+    @Override
+    public List<OrderResponse> findByStatus(OrderStatus status) {
+        return mapper.toResponseList(orderRepository.findByStatus(status));
+    }
+
+    @Override
+    public List<OrderResponse> findAll() {
+        return mapper.toResponseList(orderRepository.findAll());
+    }
+}
@@ -0,0 +1,8 @@
+/**
+ * Infraestrutura - Modelo de Leitura
+ *
+ * Documentos de resposta dos pedidos (tabela {@code order_view}, JSONB), gravados
+ * pelos casos de uso de escrita na mesma transação e lidos pelas consultas com uma
+ * única linha por pedido, sem join com {@code order_items}.
+ */
+package io.github.douglasdreer.order.infrastructure.persistence.view;
@@ -0,0 +1,37 @@
+package io.github.douglasdreer.order.infrastructure.resilience;
+
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Decide como responder a uma chamada rejeitada pelo Resilience4j.
+ * <p>
+ * Bulkhead cheio indica pico momentâneo: o cliente pode tentar de novo em
+ * {@code app.resilience.retry-after.bulkhead}. Circuit breaker aberto indica banco
+ * degradado: a espera sugerida é {@code app.resilience.retry-after.circuit-breaker}.
+ * No consumer a mensagem rejeitada volta à fila na hora; enquanto o circuito está aberto
+ * os listeners ficam parados (ver {@code ListenerCircuitGate}).
+ */
+@Component
+public class LoadSheddingPolicy {
+
+    private final Duration bulkheadRetryAfter;
+    private final Duration circuitBreakerRetryAfter;
+
+    public LoadSheddingPolicy(
+            @Value("${app.resilience.retry-after.bulkhead:1s}") Duration bulkheadRetryAfter,
+            @Value("${app.resilience.retry-after.circuit-breaker:30s}") Duration circuitBreakerRetryAfter) {
+        this.bulkheadRetryAfter = bulkheadRetryAfter;
+        this.circuitBreakerRetryAfter = circuitBreakerRetryAfter;
+    }
+
+    /**
+     * Espera sugerida ao cliente (cabeçalho Retry-After) para a rejeição informada.
+     */
+    public Duration retryAfter(Throwable rejection) {
+        return rejection instanceof CallNotPermittedException ? circuitBreakerRetryAfter : bulkheadRetryAfter;
+    }
+}
@@ -0,0 +1,8 @@
+/**
+ * Camada de Infraestrutura - Resiliência
+ *
+ * Política de descarte de carga quando os bulkheads ou os circuit breakers do banco
+ * (orderIngest e orderQuery, um par por compartimento), aplicados nos casos de uso,
+ * rejeitam chamadas: 503 com Retry-After no HTTP e reenfileiramento no broker.
+ */
+package io.github.douglasdreer.order.infrastructure.resilience;
@@ -0,0 +1,25 @@
+-- ============================================================================
+-- V10__notify_order_changes.sql
+-- Invalidação entre nós dos caches de pedidos (LISTEN order_changed)
+-- ============================================================================
+-- Toda alteração de pedido emite NOTIFY na própria transação: o PostgreSQL só o
+-- entrega no commit, e nunca se a transação for desfeita. Payload
+-- '<id>:<version>' (nova versão) ou '<id>' quando o pedido é removido.
+-- Feito por trigger para cobrir qualquer escrita (JPA, JDBC ou manual).
+-- ============================================================================
+
+CREATE OR REPLACE FUNCTION orders_notify_change() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        PERFORM pg_notify('order_changed', OLD.id::text);
+        RETURN OLD;
+    END IF;
+    PERFORM pg_notify('order_changed', NEW.id::text || ':' || NEW.version);
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_orders_notify_change ON orders;
+CREATE TRIGGER trg_orders_notify_change
+    AFTER UPDATE OR DELETE ON orders
+    FOR EACH ROW EXECUTE FUNCTION orders_notify_change();
@@ -0,0 +1,66 @@
+-- ============================================================================
+-- V11__ensure_order_view_rows.sql
+-- Garante uma linha em order_view para todo pedido confirmado
+-- ============================================================================
+-- A aplicação grava o documento na mesma transação do pedido. Escritas que não
+-- o fazem (versões anteriores durante o deploy, correções manuais) deixariam o
+-- pedido fora das consultas e do feed de mudanças (JOIN order_view). O trigger
+-- é adiado para o commit: se a linha não existe ou está com status diferente do
+-- pedido, o documento é montado a partir de orders/order_items, no mesmo formato
+-- da carga do V7 (com a versão do V8). No caminho normal custa uma busca por PK.
+-- ============================================================================
+
+CREATE OR REPLACE FUNCTION order_view_document(o orders) RETURNS jsonb AS $$
+    SELECT jsonb_build_object(
+        'id', o.id,
+        'externalOrderId', o.external_order_id,
+        'totalAmount', o.total_amount,
+        'currency', o.total_currency,
+        'status', o.status,
+        'createdAt', to_char(o.created_at AT TIME ZONE 'UTC', 'YYYY-MM-DD"T"HH24:MI:SS.US"Z"'),
+        'updatedAt', to_char(o.updated_at AT TIME ZONE 'UTC', 'YYYY-MM-DD"T"HH24:MI:SS.US"Z"'),
+        'version', o.version,
+        'items', COALESCE((
+            SELECT jsonb_agg(jsonb_build_object(
+                       'id', i.id,
+                       'productId', i.product_id,
+                       'productName', i.product_name,
+                       'unitPrice', i.unit_price,
+                       'quantity', i.quantity,
+                       'subtotal', i.subtotal,
+                       'currency', i.unit_currency
+                   ) ORDER BY i.created_at, i.id)
+            FROM order_items i
+            WHERE i.order_id = o.id
+        ), '[]'::jsonb)
+    );
+$$ LANGUAGE sql STABLE;
+
+CREATE OR REPLACE FUNCTION orders_ensure_view() RETURNS trigger AS $$
+BEGIN
+    INSERT INTO order_view (order_id, external_order_id, status, created_at, document)
+    SELECT o.id, o.external_order_id, o.status, o.created_at, order_view_document(o)
+    FROM orders o
+    WHERE o.id = NEW.id
+      AND NOT EXISTS (
+          SELECT 1 FROM order_view v WHERE v.order_id = o.id AND v.status = o.status
+      )
+    ON CONFLICT (order_id) DO UPDATE
+    SET status = EXCLUDED.status,
+        document = EXCLUDED.document;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_orders_ensure_view ON orders;
+CREATE CONSTRAINT TRIGGER trg_orders_ensure_view
+    AFTER INSERT OR UPDATE OF status ON orders
+    DEFERRABLE INITIALLY DEFERRED
+    FOR EACH ROW EXECUTE FUNCTION orders_ensure_view();
+
+-- Pedidos gravados sem documento entre o V7 e esta versão
+INSERT INTO order_view (order_id, external_order_id, status, created_at, document)
+SELECT o.id, o.external_order_id, o.status, o.created_at, order_view_document(o)
+FROM orders o
+WHERE NOT EXISTS (SELECT 1 FROM order_view v WHERE v.order_id = o.id)
+ON CONFLICT (order_id) DO NOTHING;
@@ -0,0 +1,13 @@
+-- ============================================================================
+-- V12__add_response_headers_to_idempotency_keys.sql
+-- Cabeçalhos da resposta original no replay de Idempotency-Key
+-- ============================================================================
+-- Location, Consistency-Token e demais cabeçalhos da primeira execução, como
+-- objeto JSON nome -> lista de valores. Respostas gravadas antes desta versão
+-- ficam sem cabeçalhos extras.
+-- ============================================================================
+
+ALTER TABLE idempotency_keys
+    ADD COLUMN IF NOT EXISTS response_headers JSONB NOT NULL DEFAULT '{}'::jsonb;
+
+COMMENT ON COLUMN idempotency_keys.response_headers IS 'Cabeçalhos reenviados no replay (exceto Content-Type, Content-Length, Date e Set-Cookie)';
@@ -0,0 +1,27 @@
+-- ============================================================================
+-- V5__create_order_status_history_table.sql
+-- Histórico append-only de transições de status dos pedidos
+-- ============================================================================
+
+CREATE TABLE IF NOT EXISTS order_status_history (
+    id BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+
+    -- Pedido (FK verificada no commit: o pedido pode ser gravado pelo JPA só no flush)
+    order_id UUID NOT NULL REFERENCES orders (id) ON DELETE CASCADE DEFERRABLE INITIALLY DEFERRED,
+
+    from_status VARCHAR(20) NOT NULL,
+    to_status VARCHAR(20) NOT NULL,
+    occurred_at TIMESTAMP WITH TIME ZONE NOT NULL,
+
+    -- Tempo de permanência no status anterior, em microssegundos
+    dwell_micros BIGINT NOT NULL,
+
+    CONSTRAINT chk_order_status_history_from CHECK (from_status IN ('RECEIVED', 'PROCESSING', 'CALCULATED', 'AVAILABLE', 'FAILED')),
+    CONSTRAINT chk_order_status_history_to CHECK (to_status IN ('RECEIVED', 'PROCESSING', 'CALCULATED', 'AVAILABLE', 'FAILED')),
+    CONSTRAINT chk_order_status_history_dwell CHECK (dwell_micros >= 0)
+);
+
+CREATE INDEX IF NOT EXISTS idx_order_status_history_order_id ON order_status_history (order_id, occurred_at);
+
+COMMENT ON TABLE order_status_history IS 'Transições de status dos pedidos (somente inserção)';
+COMMENT ON COLUMN order_status_history.dwell_micros IS 'Permanência em from_status antes da transição';
@@ -0,0 +1,21 @@
+-- ============================================================================
+-- V6__create_idempotency_keys_table.sql
+-- Respostas guardadas por Idempotency-Key (POST /api/v1/orders)
+-- ============================================================================
+
+CREATE TABLE IF NOT EXISTS idempotency_keys (
+    idempotency_key VARCHAR(255) PRIMARY KEY,
+
+    -- SHA-256 (hex) de método, caminho e corpo da requisição original
+    request_hash CHAR(64) NOT NULL,
+
+    status_code SMALLINT NOT NULL,
+    content_type VARCHAR(255),
+    response_body BYTEA NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Expurgo periódico por TTL
+CREATE INDEX IF NOT EXISTS idx_idempotency_keys_created_at ON idempotency_keys (created_at);
+
+COMMENT ON TABLE idempotency_keys IS 'Respostas para replay de Idempotency-Key - TTL em app.idempotency.ttl';
@@ -0,0 +1,52 @@
+-- ============================================================================
+-- V7__create_order_view_table.sql
+-- Modelo de leitura: documento de resposta do pedido (com itens) em JSONB
+-- ============================================================================
+
+CREATE TABLE IF NOT EXISTS order_view (
+    order_id UUID PRIMARY KEY REFERENCES orders (id) ON DELETE CASCADE,
+    external_order_id VARCHAR(100) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+
+    -- OrderResponse serializado, mantido na mesma transação das escritas
+    document JSONB NOT NULL,
+
+    CONSTRAINT uq_order_view_external_id UNIQUE (external_order_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_order_view_status_created_at ON order_view (status, created_at);
+CREATE INDEX IF NOT EXISTS idx_order_view_created_at ON order_view (created_at);
+
+-- Carga dos pedidos existentes (instantes em ISO-8601 UTC, como o Jackson os grava)
+INSERT INTO order_view (order_id, external_order_id, status, created_at, document)
+SELECT o.id,
+       o.external_order_id,
+       o.status,
+       o.created_at,
+       jsonb_build_object(
+           'id', o.id,
+           'externalOrderId', o.external_order_id,
+           'totalAmount', o.total_amount,
+           'currency', o.total_currency,
+           'status', o.status,
+           'createdAt', to_char(o.created_at AT TIME ZONE 'UTC', 'YYYY-MM-DD"T"HH24:MI:SS.US"Z"'),
+           'updatedAt', to_char(o.updated_at AT TIME ZONE 'UTC', 'YYYY-MM-DD"T"HH24:MI:SS.US"Z"'),
+           'items', COALESCE((
+               SELECT jsonb_agg(jsonb_build_object(
+                          'id', i.id,
+                          'productId', i.product_id,
+                          'productName', i.product_name,
+                          'unitPrice', i.unit_price,
+                          'quantity', i.quantity,
+                          'subtotal', i.subtotal,
+                          'currency', i.unit_currency
+                      ) ORDER BY i.created_at, i.id)
+               FROM order_items i
+               WHERE i.order_id = o.id
+           ), '[]'::jsonb)
+       )
+FROM orders o
+ON CONFLICT (order_id) DO NOTHING;
+
+COMMENT ON TABLE order_view IS 'Modelo de leitura dos pedidos - uma linha por pedido, itens embutidos no documento';
@@ -0,0 +1,10 @@
+-- ============================================================================
+-- V8__add_version_to_order_view.sql
+-- Inclui a versão do pedido nos documentos de order_view (base do ETag)
+-- ============================================================================
+
+UPDATE order_view v
+SET document = v.document || jsonb_build_object('version', o.version)
+FROM orders o
+WHERE o.id = v.order_id
+  AND NOT v.document ? 'version';
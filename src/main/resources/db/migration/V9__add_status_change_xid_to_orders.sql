@@ -0,0 +1,35 @@
+-- ============================================================================
+-- V9__add_status_change_xid_to_orders.sql
+-- Feed incremental de mudanças de status (GET /api/v1/orders/changes)
+-- ============================================================================
+-- A posição de cada mudança é o ID (xid8, 64 bits, nunca reinicia) da transação
+-- que a gravou. O feed só devolve mudanças de transações anteriores ao xmin do
+-- snapshot corrente (pg_snapshot_xmin): todas já terminaram, então nenhuma
+-- mudança com posição menor pode aparecer depois que o cursor avançou.
+-- ============================================================================
+
+ALTER TABLE orders ADD COLUMN IF NOT EXISTS status_changed_xid xid8;
+
+UPDATE orders SET status_changed_xid = pg_current_xact_id() WHERE status_changed_xid IS NULL;
+
+ALTER TABLE orders ALTER COLUMN status_changed_xid SET NOT NULL;
+
+CREATE OR REPLACE FUNCTION orders_stamp_status_change() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP = 'INSERT' OR NEW.status IS DISTINCT FROM OLD.status THEN
+        NEW.status_changed_xid := pg_current_xact_id();
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_orders_status_change ON orders;
+CREATE TRIGGER trg_orders_status_change
+    BEFORE INSERT OR UPDATE ON orders
+    FOR EACH ROW EXECUTE FUNCTION orders_stamp_status_change();
+
+-- Feed sem filtro e feed por status: varredura a partir do cursor (xid, id)
+CREATE INDEX IF NOT EXISTS idx_orders_status_changed_xid ON orders (status_changed_xid, id);
+CREATE INDEX IF NOT EXISTS idx_orders_status_status_changed_xid ON orders (status, status_changed_xid, id);
+
+COMMENT ON COLUMN orders.status_changed_xid IS 'Transação da última mudança de status - posição no feed de mudanças';
@@ -0,0 +1,21 @@
+-- ============================================================================
+-- beforeEachMigrate__drop_indexes_recreated_by_v3.sql
+-- Callback Flyway: libera os nomes de índice que a V3 cria sem IF NOT EXISTS
+-- ============================================================================
+-- A V1 já cria idx_orders_status e idx_orders_created_at, e a V3 os cria de novo
+-- com a mesma definição; em um banco novo a V3 falhava com "already exists".
+-- A V3 não pode ser editada: bancos que já a aplicaram validam o checksum
+-- (validate-on-migrate). Este callback roda antes de cada migração, mas só age
+-- entre a V2 e a V3; a V3 recria os dois índices logo em seguida. Depois da V3
+-- aplicada, não faz nada. Callbacks não entram na validação de checksum.
+-- ============================================================================
+
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM "${flyway:defaultSchema}"."${flyway:table}" WHERE version = '2' AND success)
+       AND NOT EXISTS (SELECT 1 FROM "${flyway:defaultSchema}"."${flyway:table}" WHERE version = '3') THEN
+        DROP INDEX IF EXISTS idx_orders_status;
+        DROP INDEX IF EXISTS idx_orders_created_at;
+    END IF;
+END
+$$;
@@ -0,0 +1,119 @@
+package io.github.douglasdreer.order.adapter.input.messaging;
+
+import io.github.douglasdreer.order.adapter.input.messaging.IngestionLatencyRecorder.Ingestion;
+import io.github.douglasdreer.order.adapter.input.messaging.IngestionLatencyRecorder.Stage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("IngestionLatencyRecorder - Latência de ingestão")
+class IngestionLatencyRecorderTest {
+
+    private static final Instant NOW = Instant.parse("2024-03-01T12:00:00Z");
+
+    private SimpleMeterRegistry registry;
+    private IngestionLatencyRecorder recorder;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        recorder = new IngestionLatencyRecorder(registry, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    private double lagMillis(String source) {
+        return registry.get(IngestionLatencyRecorder.LAG_TIMER).tag("source", source).timer()
+                .totalTime(TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    @DisplayName("Deve registrar espera na fila a partir do timestamp AMQP")
+    void shouldRecordQueueWait() {
+        // Act
+        recorder.start(Date.from(NOW.minusMillis(1500)), null);
+
+        // Assert
+        assertThat(registry.get(IngestionLatencyRecorder.STAGE_TIMER).tag("stage", "queue_wait").timer()
+                .totalTime(TimeUnit.MILLISECONDS)).isEqualTo(1500);
+    }
+
+    @Test
+    @DisplayName("Deve registrar atraso até o commit pelas duas origens")
+    void shouldRecordLagFromBothSources() {
+        // Arrange
+        LocalDateTime createdAt = LocalDateTime.ofInstant(NOW.minusSeconds(10), ZoneOffset.UTC);
+        Ingestion ingestion = recorder.start(Date.from(NOW.minusSeconds(2)), createdAt);
+
+        // Act
+        ingestion.stage(Stage.VALIDATION);
+        ingestion.committed();
+
+        // Assert
+        assertThat(lagMillis("event_created_at")).isEqualTo(10_000);
+        assertThat(lagMillis("amqp_timestamp")).isEqualTo(2_000);
+        assertThat(registry.get(IngestionLatencyRecorder.STAGE_TIMER).tag("stage", "validation").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve registrar cada etapa do pipeline uma vez, na ordem mapeamento, validação e persistência")
+    void shouldRecordEachPipelineStageOnce() {
+        // Arrange
+        Ingestion ingestion = recorder.start(null, null);
+
+        // Act
+        ingestion.stage(Stage.MAPPING);
+        ingestion.stage(Stage.VALIDATION);
+        ingestion.stage(Stage.PERSISTENCE);
+
+        // Assert
+        assertThat(Stage.values()).containsExactly(Stage.QUEUE_WAIT, Stage.MAPPING, Stage.VALIDATION, Stage.PERSISTENCE);
+        for (String stage : List.of("mapping", "validation", "persistence")) {
+            assertThat(registry.get(IngestionLatencyRecorder.STAGE_TIMER).tag("stage", stage).timer().count())
+                    .isEqualTo(1);
+        }
+        assertThat(registry.get(IngestionLatencyRecorder.STAGE_TIMER).tag("stage", "queue_wait").timer().count())
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("Deve tratar atraso negativo por divergência de relógio como zero")
+    void shouldClampNegativeLag() {
+        // Act
+        recorder.start(Date.from(NOW.plusSeconds(5)), null).committed();
+
+        // Assert
+        assertThat(lagMillis("amqp_timestamp")).isZero();
+        assertThat(registry.get(IngestionLatencyRecorder.LAG_TIMER).tag("source", "amqp_timestamp").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve expor idade da mensagem mais antiga em processamento")
+    void shouldExposeOldestInFlightAge() {
+        // Arrange
+        Ingestion older = recorder.start(Date.from(NOW.minusSeconds(30)), null);
+        Ingestion newer = recorder.start(Date.from(NOW.minusSeconds(3)), null);
+
+        // Act & Assert
+        assertThat(gauge()).isEqualTo(30.0);
+        older.finish();
+        assertThat(gauge()).isEqualTo(3.0);
+        newer.finish();
+        assertThat(gauge()).isZero();
+    }
+
+    private double gauge() {
+        return registry.get(IngestionLatencyRecorder.OLDEST_IN_FLIGHT_GAUGE).gauge().value();
+    }
+}
@@ -0,0 +1,90 @@
+package io.github.douglasdreer.order.adapter.input.messaging;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.amqp.rabbit.listener.MessageListenerContainer;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+
+import java.util.List;
+
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ListenerCircuitGate - Listeners AMQP conforme o circuit breaker")
+class ListenerCircuitGateTest {
+
+    private final RabbitListenerEndpointRegistry listenerRegistry = mock(RabbitListenerEndpointRegistry.class);
+    private final MessageListenerContainer container = mock(MessageListenerContainer.class);
+
+    private CircuitBreaker circuitBreaker;
+    private ListenerCircuitGate gate;
+
+    @BeforeEach
+    void setUp() {
+        CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+        circuitBreaker = circuitBreakerRegistry.circuitBreaker(ListenerCircuitGate.CIRCUIT_BREAKER);
+        when(listenerRegistry.getListenerContainers()).thenReturn(List.of(container));
+        gate = new ListenerCircuitGate(circuitBreakerRegistry, listenerRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        gate.shutdown();
+    }
+
+    @Test
+    @DisplayName("Deve parar os listeners com o circuito aberto e retomá-los ao fechar")
+    void shouldStopListenersWhileCircuitIsOpen() {
+        // Arrange
+        when(container.isRunning()).thenReturn(true);
+
+        // Act
+        circuitBreaker.transitionToOpenState();
+        circuitBreaker.transitionToClosedState();
+
+        // Assert
+        InOrder inOrder = inOrder(container);
+        inOrder.verify(container, timeout(1000)).stop();
+        inOrder.verify(container, timeout(1000)).start();
+    }
+
+    @Test
+    @DisplayName("Deve retomar os listeners no estado meio-aberto para as chamadas de teste")
+    void shouldResumeListenersWhenCircuitIsHalfOpen() {
+        // Arrange
+        when(container.isRunning()).thenReturn(true);
+
+        // Act
+        circuitBreaker.transitionToOpenState();
+        circuitBreaker.transitionToHalfOpenState();
+
+        // Assert
+        verify(container, timeout(1000)).start();
+    }
+
+    @Test
+    @DisplayName("Não deve iniciar listeners que já estavam parados")
+    void shouldNotStartListenersItDidNotStop() {
+        // Arrange
+        when(container.isRunning()).thenReturn(false);
+
+        // Act
+        circuitBreaker.transitionToForcedOpenState();
+        circuitBreaker.transitionToClosedState();
+
+        // Assert
+        verify(container, timeout(1000)).isRunning();
+        verify(container, after(200).never()).start();
+        verify(container, never()).stop();
+    }
+}
@@ -5,8 +5,18 @@ import io.github.douglasdreer.order.adapter.output.messaging.event.OrderCreatedE
 import io.github.douglasdreer.order.application.port.input.CreateOrderUseCase;
 import io.github.douglasdreer.order.application.dto.CreateOrderCommand;
 import io.github.douglasdreer.order.application.dto.OrderResponse;
+import io.github.douglasdreer.order.application.port.output.OrderMetricsPort;
+import io.github.douglasdreer.order.application.validation.CreateOrderCommandValidator;
+import io.github.douglasdreer.order.domain.exception.DuplicateOrderException;
 import io.github.douglasdreer.order.domain.exception.ValidationException;
-import jakarta.validation.Validator;
+import io.github.douglasdreer.order.infrastructure.logging.OrderSummary;
+import io.github.douglasdreer.order.infrastructure.logging.OrderSummaryLogger;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,13 +24,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.ImmediateRequeueAmqpException;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.util.Collections;
 import java.util.List;
-import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.*;
@@ -34,8 +44,23 @@ class OrderMessageConsumerTest {
     @Mock
     private CreateOrderUseCase createOrderUseCase;
 
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private IngestionLatencyRecorder latencyRecorder = new IngestionLatencyRecorder(meterRegistry);
+
+    @Spy
+    private ObservationRegistry observationRegistry = ObservationRegistry.create();
+
+    @Spy
+    private OrderSummaryLogger summaryLogger = new OrderSummaryLogger(1.0);
+
     @Mock
-    private Validator validator;
+    private CreateOrderCommandValidator validator;
+
+    @Mock
+    private OrderMetricsPort orderMetrics;
 
     @InjectMocks
     private OrderMessageConsumer consumer;
@@ -65,8 +90,6 @@ class OrderMessageConsumerTest {
     @DisplayName("Deve processar OrderCreatedEvent válido com sucesso")
     void shouldProcessValidEvent() {
         // Dado
-        when(validator.validate(any(OrderCreatedEvent.class))).thenReturn(Collections.emptySet());
-        when(validator.validate(any(OrderCreatedEvent.OrderItemEvent.class))).thenReturn(Collections.emptySet());
 
         var orderResponse = OrderResponse.builder()
                 .id(UUID.randomUUID())
@@ -77,31 +100,100 @@ class OrderMessageConsumerTest {
         when(createOrderUseCase.execute(any(CreateOrderCommand.class))).thenReturn(orderResponse);
 
         // Quando
-        assertThatCode(() -> consumer.handleOrderCreatedEvent(validEvent, correlationId))
+        assertThatCode(() -> consumer.handleOrderCreatedEvent(validEvent, correlationId, null))
                 .doesNotThrowAnyException();
 
         // Então
-        verify(validator).validate(validEvent);
         verify(createOrderUseCase).execute(any(CreateOrderCommand.class));
 
         ArgumentCaptor<CreateOrderCommand> commandCaptor = ArgumentCaptor.forClass(CreateOrderCommand.class);
         verify(createOrderUseCase).execute(commandCaptor.capture());
 
         CreateOrderCommand capturedCommand = commandCaptor.getValue();
-        assertThat(capturedCommand.getExternalOrderId()).isEqualTo("CUST-123");
+        assertThat(capturedCommand.getExternalOrderId()).isEqualTo(correlationId);
         assertThat(capturedCommand.getItems()).hasSize(1);
         assertThat(capturedCommand.getItems().get(0).getProductId()).isEqualTo("PROD-001");
+        assertThat(meterRegistry.get(OrderMessageConsumer.PROCESSING_TIMER).tag("outcome", "success").timer().count())
+                .isEqualTo(1);
+
+        ArgumentCaptor<OrderSummary> summaryCaptor = ArgumentCaptor.forClass(OrderSummary.class);
+        verify(summaryLogger).log(summaryCaptor.capture());
+        assertThat(summaryCaptor.getValue().outcome()).isEqualTo("success");
+        assertThat(summaryCaptor.getValue().orderId()).isEqualTo(orderResponse.getId());
+        assertThat(summaryCaptor.getValue().correlationId()).isEqualTo(correlationId);
+    }
+
+    @Test
+    @DisplayName("Deve medir a validação do comando como etapa própria, antes da persistência")
+    void shouldTimeCommandValidationAsOwnStage() {
+        // Dado
+        when(createOrderUseCase.execute(any(CreateOrderCommand.class)))
+                .thenReturn(OrderResponse.builder().id(UUID.randomUUID()).build());
+
+        // Quando
+        consumer.handleOrderCreatedEvent(validEvent, correlationId, null);
+
+        // Então
+        var inOrder = inOrder(validator, createOrderUseCase);
+        inOrder.verify(validator).toValidatedOrder(any(CreateOrderCommand.class));
+        inOrder.verify(createOrderUseCase).execute(any(CreateOrderCommand.class));
+        assertThat(stageCount("mapping")).isEqualTo(1);
+        assertThat(stageCount("validation")).isEqualTo(1);
+        assertThat(stageCount("persistence")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar comando inválido sem chamar o caso de uso nem registrar validação e persistência")
+    void shouldRejectInvalidCommandBeforeUseCase() {
+        // Dado
+        when(validator.toValidatedOrder(any(CreateOrderCommand.class)))
+                .thenThrow(new ValidationException("Pedido deve ter pelo menos um item"));
+
+        // Quando
+        assertThatThrownBy(() -> consumer.handleOrderCreatedEvent(validEvent, correlationId, null))
+                .isInstanceOf(ValidationException.class);
+
+        // Então
+        verify(createOrderUseCase, never()).execute(any());
+        verify(orderMetrics).validationFailed();
+        assertThat(stageCount("mapping")).isEqualTo(1);
+        assertThat(stageCount("validation")).isZero();
+        assertThat(stageCount("persistence")).isZero();
+    }
+
+    private long stageCount(String stage) {
+        return meterRegistry.get(IngestionLatencyRecorder.STAGE_TIMER).tag("stage", stage).timer().count();
     }
 
     @Test
-    @DisplayName("Deve lançar exceção quando validação do evento falha")
+    @DisplayName("Deve anexar correlationId à observation da entrega AMQP")
+    void shouldTagDeliveryObservationWithCorrelationId() {
+        // Dado
+        observationRegistry.observationConfig().observationHandler(context -> true);
+        when(createOrderUseCase.execute(any(CreateOrderCommand.class)))
+                .thenReturn(OrderResponse.builder().id(UUID.randomUUID()).build());
+        Observation delivery = Observation.createNotStarted("delivery", observationRegistry);
+
+        // Quando
+        delivery.observe(() -> consumer.handleOrderCreatedEvent(validEvent, correlationId, null));
+
+        // Então
+        assertThat(delivery.getContext().getHighCardinalityKeyValue(OrderMessageConsumer.CORRELATION_ID_KEY))
+                .isNotNull()
+                .satisfies(keyValue -> assertThat(keyValue.getValue()).isEqualTo(correlationId));
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção quando o evento não tem correlationId")
     void shouldThrowExceptionWhenEventValidationFails() {
         // Dado
-        when(validator.validate(any(OrderCreatedEvent.class)))
-                .thenReturn(Set.of(mock(jakarta.validation.ConstraintViolation.class)));
+        var eventWithoutCorrelation = OrderCreatedEvent.builder()
+                .customerId("CUST-123")
+                .items(validEvent.items())
+                .build();
 
         // Quando/Then
-        assertThatThrownBy(() -> consumer.handleOrderCreatedEvent(validEvent, correlationId))
+        assertThatThrownBy(() -> consumer.handleOrderCreatedEvent(eventWithoutCorrelation, correlationId, null))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("Evento inválido");
 
@@ -109,60 +201,126 @@ class OrderMessageConsumerTest {
     }
 
     @Test
-    @DisplayName("Deve lançar exceção quando evento não tem itens")
-    void shouldThrowExceptionWhenEventHasNoItems() {
+    @DisplayName("Deve rejeitar evento sem itens na validação do comando")
+    void shouldRejectEventWithoutItems() {
         // Dado
         var eventWithNoItems = OrderCreatedEvent.builder()
                 .correlationId(correlationId)
                 .customerId("CUST-123")
-                .items(Collections.emptyList())
                 .createdAt(LocalDateTime.now())
                 .build();
-
-        when(validator.validate(any(OrderCreatedEvent.class)))
-                .thenReturn(Set.of(mock(jakarta.validation.ConstraintViolation.class)));
+        when(validator.toValidatedOrder(any(CreateOrderCommand.class)))
+                .thenThrow(new ValidationException("Pedido deve ter pelo menos um item"));
 
         // Quando/Then
-        assertThatThrownBy(() -> consumer.handleOrderCreatedEvent(eventWithNoItems, correlationId))
-                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> consumer.handleOrderCreatedEvent(eventWithNoItems, correlationId, null))
+                .isInstanceOf(ValidationException.class);
 
+        ArgumentCaptor<CreateOrderCommand> commandCaptor = ArgumentCaptor.forClass(CreateOrderCommand.class);
+        verify(validator).toValidatedOrder(commandCaptor.capture());
+        assertThat(commandCaptor.getValue().getItems()).isNull();
         verify(createOrderUseCase, never()).execute(any());
     }
 
+    @Test
+    @DisplayName("Deve confirmar reentrega de pedido duplicado sem erro nem DLQ")
+    void shouldAcknowledgeDuplicateOrder() {
+        // Dado
+        when(createOrderUseCase.execute(any())).thenThrow(new DuplicateOrderException(correlationId));
+
+        // Quando
+        assertThatCode(() -> consumer.handleOrderCreatedEvent(validEvent, correlationId, null))
+                .doesNotThrowAnyException();
+
+        // Então
+        assertThat(meterRegistry.get(OrderMessageConsumer.PROCESSING_TIMER).tag("outcome", "duplicate").timer().count())
+                .isEqualTo(1);
+
+        ArgumentCaptor<OrderSummary> summaryCaptor = ArgumentCaptor.forClass(OrderSummary.class);
+        verify(summaryLogger).log(summaryCaptor.capture());
+        assertThat(summaryCaptor.getValue().outcome()).isEqualTo("duplicate");
+        assertThat(summaryCaptor.getValue().externalOrderId()).isEqualTo(correlationId);
+        assertThat(summaryCaptor.getValue().isSuccess()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Não deve tratar como duplicado um segundo pedido do mesmo cliente")
+    void shouldKeyOrdersByCorrelationIdNotCustomer() {
+        // Dado
+        var secondOrder = OrderCreatedEvent.builder()
+                .correlationId(UUID.randomUUID().toString())
+                .customerId(validEvent.customerId())
+                .items(validEvent.items())
+                .createdAt(LocalDateTime.now())
+                .build();
+        when(createOrderUseCase.execute(any())).thenReturn(OrderResponse.builder().id(UUID.randomUUID()).build());
+
+        // Quando
+        consumer.handleOrderCreatedEvent(validEvent, correlationId, null);
+        consumer.handleOrderCreatedEvent(secondOrder, secondOrder.correlationId(), null);
+
+        // Então
+        ArgumentCaptor<CreateOrderCommand> commandCaptor = ArgumentCaptor.forClass(CreateOrderCommand.class);
+        verify(createOrderUseCase, times(2)).execute(commandCaptor.capture());
+        assertThat(commandCaptor.getAllValues())
+                .extracting(CreateOrderCommand::getExternalOrderId)
+                .containsExactly(correlationId, secondOrder.correlationId());
+    }
+
+    @Test
+    @DisplayName("Deve devolver a mensagem à fila quando o compartimento de ingestão estiver cheio")
+    void shouldRequeueWhenBulkheadIsFull() {
+        // Dado
+        var rejection = BulkheadFullException.createBulkheadFullException(Bulkhead.ofDefaults("orderIngest"));
+        when(createOrderUseCase.execute(any())).thenThrow(rejection);
+
+        // Quando
+        assertThatThrownBy(() -> consumer.handleOrderCreatedEvent(validEvent, correlationId, null))
+                .isInstanceOf(ImmediateRequeueAmqpException.class)
+                .hasCause(rejection);
+
+        // Então
+        assertThat(meterRegistry.get(OrderMessageConsumer.PROCESSING_TIMER).tag("outcome", "shed").timer().count())
+                .isEqualTo(1);
+    }
+
     @Test
     @DisplayName("Deve propagar DomainException do caso de uso")
     void shouldPropagateDomainException() {
         // Dado
-        when(validator.validate(any(OrderCreatedEvent.class))).thenReturn(Collections.emptySet());
-        when(validator.validate(any(OrderCreatedEvent.OrderItemEvent.class))).thenReturn(Collections.emptySet());
 
         var domainException = new ValidationException("Invalid order data");
         when(createOrderUseCase.execute(any())).thenThrow(domainException);
 
         // Quando/Then
-        assertThatThrownBy(() -> consumer.handleOrderCreatedEvent(validEvent, correlationId))
+        assertThatThrownBy(() -> consumer.handleOrderCreatedEvent(validEvent, correlationId, null))
                 .isInstanceOf(ValidationException.class)
                 .hasMessage("Invalid order data");
+        assertThat(meterRegistry.get(OrderMessageConsumer.PROCESSING_TIMER).tag("outcome", "domain_error").timer().count())
+                .isEqualTo(1);
+
+        ArgumentCaptor<OrderSummary> summaryCaptor = ArgumentCaptor.forClass(OrderSummary.class);
+        verify(summaryLogger).log(summaryCaptor.capture());
+        assertThat(summaryCaptor.getValue().outcome()).isEqualTo("domain_error");
+        assertThat(summaryCaptor.getValue().error()).isSameAs(domainException);
     }
 
     @Test
     @DisplayName("Deve encapsular exceções inesperadas em MessageProcessingException")
     void shouldWrapUnexpectedExceptions() {
         // Dado
-        when(validator.validate(any(OrderCreatedEvent.class))).thenReturn(Collections.emptySet());
-        when(validator.validate(any(OrderCreatedEvent.OrderItemEvent.class))).thenReturn(Collections.emptySet());
 
         when(createOrderUseCase.execute(any())).thenThrow(new NullPointerException("Unexpected error"));
 
         // Quando/Then
-        assertThatThrownBy(() -> consumer.handleOrderCreatedEvent(validEvent, correlationId))
+        assertThatThrownBy(() -> consumer.handleOrderCreatedEvent(validEvent, correlationId, null))
                 .isInstanceOf(MessageProcessingException.class)
                 .hasMessageContaining("Falha ao processar evento de criação de pedido");
     }
 
     @Test
-    @DisplayName("Deve validar todos os itens no evento")
-    void shouldValidateAllItems() {
+    @DisplayName("Deve mapear todos os itens do evento")
+    void shouldMapAllItems() {
         // Dado
         var item1 = OrderCreatedEvent.OrderItemEvent.builder()
                 .productId("PROD-001")
@@ -183,8 +341,6 @@ class OrderMessageConsumerTest {
                 .createdAt(LocalDateTime.now())
                 .build();
 
-        when(validator.validate(any(OrderCreatedEvent.class))).thenReturn(Collections.emptySet());
-        when(validator.validate(any(OrderCreatedEvent.OrderItemEvent.class))).thenReturn(Collections.emptySet());
 
         var orderResponse = OrderResponse.builder()
                 .id(UUID.randomUUID())
@@ -195,17 +351,20 @@ class OrderMessageConsumerTest {
         when(createOrderUseCase.execute(any())).thenReturn(orderResponse);
 
         // Quando
-        consumer.handleOrderCreatedEvent(eventWithMultipleItems, correlationId);
+        consumer.handleOrderCreatedEvent(eventWithMultipleItems, correlationId, null);
 
         // Então
-        verify(validator, times(2)).validate(any(OrderCreatedEvent.OrderItemEvent.class));
+        ArgumentCaptor<CreateOrderCommand> commandCaptor = ArgumentCaptor.forClass(CreateOrderCommand.class);
+        verify(createOrderUseCase).execute(commandCaptor.capture());
+        assertThat(commandCaptor.getValue().getItems())
+                .extracting(CreateOrderCommand.OrderItemCommand::getProductId)
+                .containsExactly("PROD-001", "PROD-002");
     }
 
     @Test
     @DisplayName("Deve mapear evento para comando corretamente")
     void shouldMapEventToCommand() {
         // Dado
-        when(validator.validate(any())).thenReturn(Collections.emptySet());
 
         var orderResponse = OrderResponse.builder()
                 .id(UUID.randomUUID())
@@ -216,14 +375,14 @@ class OrderMessageConsumerTest {
         when(createOrderUseCase.execute(any())).thenReturn(orderResponse);
 
         // Quando
-        consumer.handleOrderCreatedEvent(validEvent, correlationId);
+        consumer.handleOrderCreatedEvent(validEvent, correlationId, null);
 
         // Então
         ArgumentCaptor<CreateOrderCommand> commandCaptor = ArgumentCaptor.forClass(CreateOrderCommand.class);
         verify(createOrderUseCase).execute(commandCaptor.capture());
 
         CreateOrderCommand command = commandCaptor.getValue();
-        assertThat(command.getExternalOrderId()).isEqualTo("CUST-123");
+        assertThat(command.getExternalOrderId()).isEqualTo(correlationId);
         assertThat(command.getItems()).hasSize(1);
 
         var commandItem = command.getItems().get(0);
@@ -0,0 +1,104 @@
+package io.github.douglasdreer.order.adapter.input.web.caching;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.douglasdreer.order.application.dto.OrderResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("OrderResponseCache - Invalidação entre nós")
+class OrderResponseCacheTest {
+
+    private final OrderResponseCache cache = new OrderResponseCache(
+            new ObjectMapper().findAndRegisterModules(), new SimpleMeterRegistry(), true, 100, false, 1024);
+
+    private static OrderResponse order(UUID id, long version, String status) {
+        return OrderResponse.builder().id(id).version(version).status(status).build();
+    }
+
+    @Nested
+    @DisplayName("invalidate()")
+    class InvalidateTests {
+
+        @Test
+        @DisplayName("Deve remover só a entrada mais antiga que a versão notificada")
+        void shouldEvictOnlyOlderEntries() {
+            // Arrange
+            UUID stale = UUID.randomUUID();
+            UUID current = UUID.randomUUID();
+            cache.put(order(stale, 1, "PROCESSING"));
+            cache.put(order(current, 2, "PROCESSING"));
+
+            // Act
+            boolean staleRemoved = cache.invalidate(stale, 2);
+            boolean currentRemoved = cache.invalidate(current, 2);
+
+            // Assert
+            assertThat(staleRemoved).isTrue();
+            assertThat(currentRemoved).isFalse();
+            assertThat(cache.cachedVersions()).containsOnlyKeys(current);
+        }
+
+        @Test
+        @DisplayName("Não deve guardar versão lida antes de uma notificação mais nova")
+        void shouldNotCacheVersionOlderThanNotified() {
+            // Arrange - a leitura começou antes da alteração, a notificação chegou antes do put
+            UUID id = UUID.randomUUID();
+            cache.invalidate(id, 3);
+
+            // Act
+            CachedOrderResponse entry = cache.put(order(id, 2, "PROCESSING"));
+            cache.put(order(UUID.randomUUID(), 1, "PROCESSING"));
+
+            // Assert
+            assertThat(entry.version()).isEqualTo(2);
+            assertThat(cache.get(id)).isEmpty();
+            cache.put(order(id, 3, "PROCESSING"));
+            assertThat(cache.get(id)).get().extracting(CachedOrderResponse::version).isEqualTo(3L);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve confiar nas entradas só com a invalidação ativa, mesmo em status final")
+    void shouldTrustEntriesOnlyWhenInvalidationIsActive() {
+        // Arrange
+        CachedOrderResponse processing = cache.put(order(UUID.randomUUID(), 1, "PROCESSING"));
+        CachedOrderResponse available = cache.put(order(UUID.randomUUID(), 1, "AVAILABLE"));
+
+        // Act & Assert
+        assertThat(cache.isFresh(processing)).isFalse();
+        assertThat(cache.isFresh(available)).isFalse();
+        cache.setInvalidationActive(true);
+        assertThat(cache.isFresh(processing)).isTrue();
+        assertThat(cache.isFresh(available)).isTrue();
+    }
+
+    @Nested
+    @DisplayName("acceptsGzip()")
+    class AcceptsGzipTests {
+
+        @ParameterizedTest
+        @ValueSource(strings = {"gzip", "gzip, deflate, br", "br;q=1.0, GZIP;q=0.5", "x-gzip", "*", "deflate, *;q=0.1"})
+        @DisplayName("Deve aceitar gzip com valor q positivo, explícito ou via curinga")
+        void shouldAcceptGzip(String acceptEncoding) {
+            assertThat(OrderResponseCache.acceptsGzip(acceptEncoding)).isTrue();
+        }
+
+        @ParameterizedTest
+        @NullAndEmptySource
+        @ValueSource(strings = {"gzip;q=0", "gzip; q=0.000, deflate", "identity", "br, deflate",
+                "*;q=0", "gzip;q=0, *", "gzip;q=abc"})
+        @DisplayName("Deve recusar gzip ausente, com q=0 ou com valor q inválido")
+        void shouldRejectGzip(String acceptEncoding) {
+            assertThat(OrderResponseCache.acceptsGzip(acceptEncoding)).isFalse();
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package io.github.douglasdreer.order.adapter.input.web.concurrency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ConcurrencyLimitFilter - Limite de concorrência adaptativo")
+class ConcurrencyLimitFilterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.SECONDS.toNanos(2);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private static AimdLimit.Settings settings(int initial, int min, int max) {
+        return new AimdLimit.Settings(initial, min, max, Duration.ofMillis(500), 0.5);
+    }
+
+    private ConcurrencyLimitFilter filter(int writeLimit, int readLimit) {
+        return new ConcurrencyLimitFilter(meterRegistry, new ObjectMapper().findAndRegisterModules(), true,
+                Duration.ofSeconds(1), settings(writeLimit, 1, 10), settings(readLimit, 1, 10));
+    }
+
+    private static MockHttpServletResponse perform(ConcurrencyLimitFilter filter, String method, FilterChain chain)
+            throws IOException, ServletException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest(method, "/api/v1/orders"), response, chain);
+        return response;
+    }
+
+    private static FilterChain status(int status) {
+        return (req, res) -> ((HttpServletResponse) res).setStatus(status);
+    }
+
+    @Nested
+    @DisplayName("AIMD")
+    class AimdTests {
+
+        @Test
+        @DisplayName("Deve crescer uma unidade com latência saudável e metade do limite em uso")
+        void shouldIncreaseAdditively() {
+            // Arrange
+            AimdLimit limit = new AimdLimit(settings(4, 1, 10));
+
+            // Act
+            limit.onSample(FAST, 2, false);
+
+            // Assert
+            assertThat(limit.current()).isEqualTo(5);
+        }
+
+        @Test
+        @DisplayName("Não deve crescer com pouca concorrência em uso")
+        void shouldNotIncreaseWhenIdle() {
+            // Arrange
+            AimdLimit limit = new AimdLimit(settings(4, 1, 10));
+
+            // Act
+            limit.onSample(FAST, 1, false);
+
+            // Assert
+            assertThat(limit.current()).isEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("Deve reduzir multiplicativamente com latência alta ou falha, respeitando o mínimo")
+        void shouldDecreaseMultiplicatively() {
+            // Arrange
+            AimdLimit limit = new AimdLimit(settings(8, 3, 10));
+
+            // Act & Assert
+            limit.onSample(SLOW, 8, false);
+            assertThat(limit.current()).isEqualTo(4);
+            limit.onSample(FAST, 4, true);
+            assertThat(limit.current()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("Deve respeitar o máximo")
+        void shouldCapAtMaxLimit() {
+            // Arrange
+            AimdLimit limit = new AimdLimit(settings(10, 1, 10));
+
+            // Act
+            limit.onSample(FAST, 10, false);
+
+            // Assert
+            assertThat(limit.current()).isEqualTo(10);
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar configuração inconsistente")
+        void shouldRejectInvalidSettings() {
+            assertThatThrownBy(() -> settings(20, 1, 10)).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> new AimdLimit.Settings(5, 1, 10, Duration.ofMillis(500), 1.0))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Filtro")
+    class FilterTests {
+
+        @Test
+        @DisplayName("Deve responder 429 com Retry-After quando o limite de escrita estiver ocupado")
+        void shouldRejectExcessWrites() throws Exception {
+            // Arrange
+            ConcurrencyLimitFilter filter = filter(1, 1);
+            MockHttpServletResponse[] nested = new MockHttpServletResponse[1];
+
+            // Act - a segunda escrita chega enquanto a primeira ainda está em andamento
+            MockHttpServletResponse first = perform(filter, "POST", (req, res) -> {
+                nested[0] = perform(filter, "POST", status(201));
+                ((HttpServletResponse) res).setStatus(201);
+            });
+
+            // Assert
+            assertThat(first.getStatus()).isEqualTo(201);
+            assertThat(nested[0].getStatus()).isEqualTo(429);
+            assertThat(nested[0].getHeader("Retry-After")).isEqualTo("1");
+            assertThat(nested[0].getContentAsString(StandardCharsets.UTF_8)).contains("Muitas Requisições");
+            assertThat(meterRegistry.get(ConcurrencyLimitFilter.REJECTED_METRIC).tag("partition", "write")
+                    .counter().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Deve manter limites independentes para leitura e escrita")
+        void shouldPartitionReadsAndWrites() throws Exception {
+            // Arrange
+            ConcurrencyLimitFilter filter = filter(1, 1);
+            MockHttpServletResponse[] nested = new MockHttpServletResponse[1];
+
+            // Act - leitura durante uma escrita em andamento
+            perform(filter, "POST", (req, res) -> nested[0] = perform(filter, "GET", status(200)));
+
+            // Assert
+            assertThat(nested[0].getStatus()).isEqualTo(200);
+        }
+
+        @Test
+        @DisplayName("Deve reduzir o limite exportado quando a aplicação responder 5xx")
+        void shouldShrinkLimitOnServerErrors() throws Exception {
+            // Arrange
+            ConcurrencyLimitFilter filter = filter(4, 4);
+
+            // Act
+            perform(filter, "GET", status(503));
+
+            // Assert
+            assertThat(meterRegistry.get(ConcurrencyLimitFilter.LIMIT_METRIC).tag("partition", "read")
+                    .gauge().value()).isEqualTo(2.0);
+            assertThat(meterRegistry.get(ConcurrencyLimitFilter.IN_FLIGHT_METRIC).tag("partition", "read")
+                    .gauge().value()).isZero();
+        }
+
+        @Test
+        @DisplayName("Não deve limitar rotas fora de /api/v1/orders")
+        void shouldIgnoreOtherPaths() throws Exception {
+            // Arrange
+            ConcurrencyLimitFilter filter = filter(1, 1);
+            MockHttpServletResponse[] nested = new MockHttpServletResponse[1];
+
+            // Act
+            perform(filter, "GET", (req, res) -> {
+                nested[0] = new MockHttpServletResponse();
+                filter.doFilter(new MockHttpServletRequest("GET", "/actuator/health"), nested[0], status(200));
+            });
+
+            // Assert
+            assertThat(nested[0].getStatus()).isEqualTo(200);
+        }
+    }
+}
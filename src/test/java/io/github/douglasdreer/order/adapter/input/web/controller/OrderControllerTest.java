@@ -1,23 +1,43 @@
 package io.github.douglasdreer.order.adapter.input.web.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.douglasdreer.order.adapter.input.web.caching.OrderResponseCache;
+import io.github.douglasdreer.order.adapter.input.web.idempotency.IdempotencyCache;
+import io.github.douglasdreer.order.adapter.input.web.streaming.OrderStreamHub;
 import io.github.douglasdreer.order.application.dto.CreateOrderCommand;
+import io.github.douglasdreer.order.application.dto.OrderChangesResponse;
 import io.github.douglasdreer.order.application.dto.OrderResponse;
+import io.github.douglasdreer.order.application.dto.StatusTransitionResponse;
 import io.github.douglasdreer.order.application.port.input.CreateOrderUseCase;
 import io.github.douglasdreer.order.application.port.input.GetOrderUseCase;
 import io.github.douglasdreer.order.application.port.input.ProcessOrderUseCase;
+import io.github.douglasdreer.order.domain.exception.ChangeFeedUnavailableException;
 import io.github.douglasdreer.order.domain.exception.DuplicateOrderException;
+import io.github.douglasdreer.order.domain.exception.InvalidOrderStatusTransitionException;
 import io.github.douglasdreer.order.domain.exception.OrderNotFoundException;
 import io.github.douglasdreer.order.domain.exception.ValidationException;
+import io.github.douglasdreer.order.domain.valueobject.OrderStatus;
+import io.github.douglasdreer.order.infrastructure.logging.OrderSummary;
+import io.github.douglasdreer.order.infrastructure.logging.OrderSummaryLogger;
+import io.github.douglasdreer.order.infrastructure.persistence.querybudget.SqlBudgetGuard;
+import io.github.douglasdreer.order.infrastructure.resilience.LoadSheddingPolicy;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.math.BigDecimal;
 import java.time.Instant;
@@ -25,6 +45,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -33,6 +54,8 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(OrderController.class)
+// Métricas do filtro de Idempotency-Key, política de Retry-After do GlobalExceptionHandler e cache de respostas
+@Import({SimpleMeterRegistry.class, LoadSheddingPolicy.class, OrderResponseCache.class})
 @DisplayName("OrderController")
 class OrderControllerTest {
 
@@ -42,6 +65,9 @@ class OrderControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private OrderResponseCache responseCache;
+
     @MockBean
     private CreateOrderUseCase createOrderUseCase;
 
@@ -51,6 +77,20 @@ class OrderControllerTest {
     @MockBean
     private ProcessOrderUseCase processOrderUseCase;
 
+    @MockBean
+    private OrderStreamHub orderStream;
+
+    @MockBean
+    private OrderSummaryLogger summaryLogger;
+
+    // Filtro de orçamento SQL é registrado pelo @WebMvcTest; o mock o mantém desligado
+    @MockBean
+    private SqlBudgetGuard sqlBudgetGuard;
+
+    // Filtro de Idempotency-Key também é registrado; só atua com o cabeçalho presente
+    @MockBean
+    private IdempotencyCache idempotencyCache;
+
     private CreateOrderCommand validCommand;
     private OrderResponse orderResponse;
     private UUID orderId;
@@ -80,6 +120,7 @@ class OrderControllerTest {
                 .status("CALCULATED")
                 .createdAt(Instant.now())
                 .updatedAt(Instant.now())
+                .version(1L)
                 .items(List.of(
                         OrderResponse.OrderItemResponse.builder()
                                 .id(UUID.randomUUID())
@@ -117,6 +158,16 @@ class OrderControllerTest {
                     .andExpect(jsonPath("$.items", hasSize(1)));
 
             verify(createOrderUseCase).execute(any(CreateOrderCommand.class));
+
+            ArgumentCaptor<OrderSummary> summaryCaptor = ArgumentCaptor.forClass(OrderSummary.class);
+            verify(summaryLogger).log(summaryCaptor.capture());
+            assertThat(summaryCaptor.getValue()).satisfies(summary -> {
+                assertThat(summary.channel()).isEqualTo("http");
+                assertThat(summary.outcome()).isEqualTo("success");
+                assertThat(summary.orderId()).isEqualTo(orderId);
+                assertThat(summary.externalOrderId()).isEqualTo("EXT-001");
+                assertThat(summary.itemCount()).isEqualTo(1);
+            });
         }
 
         @Test
@@ -131,6 +182,11 @@ class OrderControllerTest {
                             .content(objectMapper.writeValueAsString(validCommand)))
                     .andExpect(status().isBadRequest())
                     .andExpect(jsonPath("$.title").value("Erro de Validação"));
+
+            ArgumentCaptor<OrderSummary> summaryCaptor = ArgumentCaptor.forClass(OrderSummary.class);
+            verify(summaryLogger).log(summaryCaptor.capture());
+            assertThat(summaryCaptor.getValue().outcome()).isEqualTo("domain_error");
+            assertThat(summaryCaptor.getValue().error()).hasMessage("Dados inválidos");
         }
 
         @Test
@@ -145,6 +201,11 @@ class OrderControllerTest {
                             .content(objectMapper.writeValueAsString(validCommand)))
                     .andExpect(status().isConflict())
                     .andExpect(jsonPath("$.title").value("Pedido Duplicado"));
+
+            ArgumentCaptor<OrderSummary> summaryCaptor = ArgumentCaptor.forClass(OrderSummary.class);
+            verify(summaryLogger).log(summaryCaptor.capture());
+            assertThat(summaryCaptor.getValue().channel()).isEqualTo("http");
+            assertThat(summaryCaptor.getValue().outcome()).isEqualTo("duplicate");
         }
     }
 
@@ -163,11 +224,101 @@ class OrderControllerTest {
                             .accept(MediaType.APPLICATION_JSON))
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.id").value(orderId.toString()))
-                    .andExpect(jsonPath("$.externalOrderId").value("EXT-001"));
+                    .andExpect(jsonPath("$.externalOrderId").value("EXT-001"))
+                    .andExpect(header().string("ETag", "\"1\""));
 
             verify(getOrderUseCase).findById(orderId);
         }
 
+        @Test
+        @DisplayName("deve retornar 304 consultando só a versão quando o ETag coincidir")
+        void shouldReturn304WhenEtagMatches() throws Exception {
+            // Arrange
+            when(getOrderUseCase.findVersion(orderId)).thenReturn(Optional.of(1L));
+
+            // Act & Assert
+            mockMvc.perform(get("/api/v1/orders/{id}", orderId)
+                            .header("If-None-Match", "\"1\""))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string("ETag", "\"1\""));
+
+            verify(getOrderUseCase, never()).findById(orderId);
+        }
+
+        @Test
+        @DisplayName("deve sondar a versão de pedido em status final sem a invalidação entre nós ativa")
+        void shouldProbeVersionOfTerminalOrderWhenInvalidationIsInactive() throws Exception {
+            // Arrange
+            orderResponse.setStatus("AVAILABLE");
+            when(getOrderUseCase.findById(orderId)).thenReturn(Optional.of(orderResponse));
+            when(getOrderUseCase.findVersion(orderId)).thenReturn(Optional.of(1L));
+            mockMvc.perform(get("/api/v1/orders/{id}", orderId)).andExpect(status().isOk());
+
+            // Act & Assert
+            mockMvc.perform(get("/api/v1/orders/{id}", orderId))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.status").value("AVAILABLE"));
+            mockMvc.perform(get("/api/v1/orders/{id}", orderId)
+                            .header("If-None-Match", "\"1\""))
+                    .andExpect(status().isNotModified());
+
+            verify(getOrderUseCase, times(1)).findById(orderId);
+            verify(getOrderUseCase, times(2)).findVersion(orderId);
+        }
+
+        @Test
+        @DisplayName("deve remover do cache pedido em status final apagado enquanto a invalidação está inativa")
+        void shouldEvictTerminalOrderRemovedWhileInvalidationIsInactive() throws Exception {
+            // Arrange
+            orderResponse.setStatus("FAILED");
+            when(getOrderUseCase.findById(orderId)).thenReturn(Optional.of(orderResponse));
+            mockMvc.perform(get("/api/v1/orders/{id}", orderId)).andExpect(status().isOk());
+            when(getOrderUseCase.findVersion(orderId)).thenReturn(Optional.empty());
+
+            // Act & Assert
+            mockMvc.perform(get("/api/v1/orders/{id}", orderId))
+                    .andExpect(status().isNotFound());
+            assertThat(responseCache.get(orderId)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("deve servir pedido não final do cache, sem sonda de versão, com a invalidação entre nós ativa")
+        void shouldServeCachedOrderWhenInvalidationIsActive() throws Exception {
+            // Arrange
+            when(getOrderUseCase.findById(orderId)).thenReturn(Optional.of(orderResponse));
+            mockMvc.perform(get("/api/v1/orders/{id}", orderId)).andExpect(status().isOk());
+            responseCache.setInvalidationActive(true);
+
+            try {
+                // Act & Assert
+                mockMvc.perform(get("/api/v1/orders/{id}", orderId))
+                        .andExpect(status().isOk())
+                        .andExpect(header().string("ETag", "\"1\""));
+
+                verify(getOrderUseCase, times(1)).findById(orderId);
+                verify(getOrderUseCase, never()).findVersion(orderId);
+            } finally {
+                responseCache.setInvalidationActive(false);
+            }
+        }
+
+        @Test
+        @DisplayName("deve reenviar o pedido quando a versão mudou")
+        void shouldReloadWhenVersionChanged() throws Exception {
+            // Arrange
+            OrderResponse updated = objectMapper.convertValue(orderResponse, OrderResponse.class);
+            updated.setVersion(2L);
+            when(getOrderUseCase.findVersion(orderId)).thenReturn(Optional.of(2L));
+            when(getOrderUseCase.findById(orderId)).thenReturn(Optional.of(updated));
+
+            // Act & Assert
+            mockMvc.perform(get("/api/v1/orders/{id}", orderId)
+                            .header("If-None-Match", "\"1\""))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", "\"2\""))
+                    .andExpect(jsonPath("$.version").value(2));
+        }
+
         @Test
         @DisplayName("deve retornar 404 quando pedido não encontrado")
         void shouldReturn404WhenNotFound() throws Exception {
@@ -180,6 +331,37 @@ class OrderControllerTest {
                             .accept(MediaType.APPLICATION_JSON))
                     .andExpect(status().isNotFound());
         }
+
+        @Test
+        @DisplayName("deve retornar 503 com Retry-After quando o compartimento de leitura estiver cheio")
+        void shouldReturn503WhenBulkheadIsFull() throws Exception {
+            // Arrange
+            when(getOrderUseCase.findById(orderId))
+                    .thenThrow(BulkheadFullException.createBulkheadFullException(Bulkhead.ofDefaults("orderQuery")));
+
+            // Act & Assert
+            mockMvc.perform(get("/api/v1/orders/{id}", orderId)
+                            .accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string("Retry-After", "1"))
+                    .andExpect(jsonPath("$.title").value("Serviço Indisponível"));
+        }
+
+        @Test
+        @DisplayName("deve retornar 503 com Retry-After quando o circuit breaker do banco estiver aberto")
+        void shouldReturn503WhenCircuitIsOpen() throws Exception {
+            // Arrange
+            CircuitBreaker circuitBreaker = CircuitBreaker.ofDefaults("orderQuery");
+            circuitBreaker.transitionToOpenState();
+            when(getOrderUseCase.findById(orderId))
+                    .thenThrow(CallNotPermittedException.createCallNotPermittedException(circuitBreaker));
+
+            // Act & Assert
+            mockMvc.perform(get("/api/v1/orders/{id}", orderId)
+                            .accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string("Retry-After", "30"));
+        }
     }
 
     @Nested
@@ -248,6 +430,109 @@ class OrderControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("GET /api/v1/orders/changes")
+    class GetOrderChangesTests {
+
+        @Test
+        @DisplayName("deve retornar página de mudanças com o próximo cursor")
+        void shouldReturnChangesPage() throws Exception {
+            // Arrange
+            when(getOrderUseCase.findChanges("abc", "AVAILABLE", 50)).thenReturn(OrderChangesResponse.builder()
+                    .changes(List.of(orderResponse))
+                    .nextCursor("def")
+                    .hasMore(true)
+                    .build());
+
+            // Act & Assert
+            mockMvc.perform(get("/api/v1/orders/changes")
+                            .param("cursor", "abc")
+                            .param("status", "AVAILABLE")
+                            .param("limit", "50")
+                            .accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.changes", hasSize(1)))
+                    .andExpect(jsonPath("$.nextCursor").value("def"))
+                    .andExpect(jsonPath("$.hasMore").value(true));
+        }
+
+        @Test
+        @DisplayName("deve usar limite padrão sem cursor nem status")
+        void shouldUseDefaultLimit() throws Exception {
+            // Arrange
+            when(getOrderUseCase.findChanges(null, null, 100)).thenReturn(OrderChangesResponse.builder()
+                    .changes(List.of())
+                    .nextCursor("start")
+                    .build());
+
+            // Act & Assert
+            mockMvc.perform(get("/api/v1/orders/changes").accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.changes", hasSize(0)));
+        }
+
+        @Test
+        @DisplayName("deve retornar 501 quando o feed não é suportado")
+        void shouldReturn501WhenUnsupported() throws Exception {
+            // Arrange
+            when(getOrderUseCase.findChanges(null, null, 100))
+                    .thenThrow(new ChangeFeedUnavailableException("Feed de mudanças indisponível"));
+
+            // Act & Assert
+            mockMvc.perform(get("/api/v1/orders/changes").accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isNotImplemented())
+                    .andExpect(jsonPath("$.title").value("Não Implementado"));
+        }
+
+        @Test
+        @DisplayName("não deve tratar outras operações não suportadas como 501")
+        void shouldNotMapOtherUnsupportedOperationsTo501() throws Exception {
+            // Arrange
+            when(getOrderUseCase.findChanges(null, null, 100))
+                    .thenThrow(new UnsupportedOperationException("Coleção imutável"));
+
+            // Act & Assert
+            mockMvc.perform(get("/api/v1/orders/changes").accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isInternalServerError());
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/v1/orders/stream")
+    class StreamStatusChangesTests {
+
+        @Test
+        @DisplayName("deve abrir o stream com filtros e retomar do Last-Event-ID")
+        void shouldSubscribeWithFiltersAndLastEventId() throws Exception {
+            // Arrange
+            when(orderStream.subscribe(any(), any(), any())).thenReturn(new SseEmitter());
+
+            // Act & Assert
+            mockMvc.perform(get("/api/v1/orders/stream")
+                            .param("status", "AVAILABLE", "FAILED")
+                            .param("id", orderId.toString())
+                            .param("cursor", "ignored")
+                            .header("Last-Event-ID", "abc")
+                            .accept(MediaType.TEXT_EVENT_STREAM))
+                    .andExpect(request().asyncStarted());
+
+            verify(orderStream).subscribe(List.of("AVAILABLE", "FAILED"), List.of(orderId), "abc");
+        }
+
+        @Test
+        @DisplayName("deve retornar 400 para status inválido")
+        void shouldReturn400ForInvalidStatus() throws Exception {
+            // Arrange
+            when(orderStream.subscribe(any(), any(), any())).thenThrow(new ValidationException("Status inválido: X"));
+
+            // Act & Assert
+            mockMvc.perform(get("/api/v1/orders/stream")
+                            .param("status", "X")
+                            .accept(MediaType.TEXT_EVENT_STREAM))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
     @Nested
     @DisplayName("GET /api/v1/orders")
     class GetAllOrdersTests {
@@ -363,5 +648,62 @@ class OrderControllerTest {
 
             verify(processOrderUseCase).markAsFailed(eq(orderId), anyString());
         }
+
+        @Test
+        @DisplayName("deve retornar 422 para transição de status inválida")
+        void shouldReturn422ForInvalidTransition() throws Exception {
+            // Arrange
+            when(processOrderUseCase.markAsFailed(eq(orderId), anyString()))
+                    .thenThrow(new InvalidOrderStatusTransitionException(OrderStatus.AVAILABLE, OrderStatus.FAILED));
+
+            // Act & Assert
+            mockMvc.perform(patch("/api/v1/orders/{id}/failed", orderId)
+                            .param("reason", "Erro de teste")
+                            .accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isUnprocessableEntity())
+                    .andExpect(jsonPath("$.title").value("Estado Inválido"))
+                    .andExpect(jsonPath("$.from").value("AVAILABLE"))
+                    .andExpect(jsonPath("$.to").value("FAILED"));
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/v1/orders/{id}/status-history")
+    class GetStatusHistoryTests {
+
+        @Test
+        @DisplayName("deve retornar histórico de status")
+        void shouldReturnStatusHistory() throws Exception {
+            // Arrange
+            StatusTransitionResponse transition = StatusTransitionResponse.builder()
+                    .fromStatus("RECEIVED")
+                    .toStatus("CALCULATED")
+                    .occurredAt(Instant.parse("2024-03-01T12:00:00Z"))
+                    .dwellMillis(250)
+                    .build();
+            when(getOrderUseCase.findStatusHistory(orderId)).thenReturn(Optional.of(List.of(transition)));
+
+            // Act & Assert
+            mockMvc.perform(get("/api/v1/orders/{id}/status-history", orderId)
+                            .accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(1)))
+                    .andExpect(jsonPath("$[0].fromStatus").value("RECEIVED"))
+                    .andExpect(jsonPath("$[0].toStatus").value("CALCULATED"))
+                    .andExpect(jsonPath("$[0].dwellMillis").value(250));
+        }
+
+        @Test
+        @DisplayName("deve retornar 404 quando pedido não encontrado")
+        void shouldReturn404WhenOrderNotFound() throws Exception {
+            // Arrange
+            UUID unknownId = UUID.randomUUID();
+            when(getOrderUseCase.findStatusHistory(unknownId)).thenReturn(Optional.empty());
+
+            // Act & Assert
+            mockMvc.perform(get("/api/v1/orders/{id}/status-history", unknownId)
+                            .accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isNotFound());
+        }
     }
 }
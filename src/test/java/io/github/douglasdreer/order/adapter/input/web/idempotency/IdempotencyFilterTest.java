@@ -0,0 +1,260 @@
+package io.github.douglasdreer.order.adapter.input.web.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("IdempotencyFilter - Replay de respostas por Idempotency-Key")
+class IdempotencyFilterTest {
+
+    private static final String BODY = "{\"externalOrderId\":\"EXT-001\"}";
+    private static final String RESPONSE = "{\"id\":\"0190a1b2\",\"status\":\"CALCULATED\"}";
+    private static final int MAX_BODY_SIZE = 256;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger executions = new AtomicInteger();
+    private IdempotencyFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        IdempotencyCache cache = new IdempotencyCache(Optional.empty(), 100, Duration.ofSeconds(2));
+        filter = new IdempotencyFilter(cache, new ObjectMapper().findAndRegisterModules(), meterRegistry,
+                DataSize.ofBytes(MAX_BODY_SIZE));
+    }
+
+    private static MockHttpServletRequest request(String key, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/orders");
+        if (key != null) {
+            request.addHeader(IdempotencyFilter.HEADER, key);
+        }
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    /** Simula o controller: lê o corpo (já consumido pelo filtro) e responde com o status informado. */
+    private FilterChain controller(int status) {
+        return (req, res) -> {
+            executions.incrementAndGet();
+            assertThat(new String(req.getInputStream().readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(BODY);
+            ((HttpServletResponse) res).setStatus(status);
+            res.setContentType("application/json");
+            res.getOutputStream().write(RESPONSE.getBytes(StandardCharsets.UTF_8));
+        };
+    }
+
+    private MockHttpServletResponse perform(MockHttpServletRequest request, FilterChain chain) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    @Nested
+    @DisplayName("Replay")
+    class ReplayTests {
+
+        @Test
+        @DisplayName("Deve executar uma vez e reenviar a mesma resposta byte a byte nas retentativas")
+        void shouldReplayStoredResponse() throws Exception {
+            // Act
+            MockHttpServletResponse first = perform(request("key-1", BODY), controller(201));
+            MockHttpServletResponse retry = perform(request("key-1", BODY), controller(201));
+
+            // Assert
+            assertThat(executions).hasValue(1);
+            assertThat(first.getStatus()).isEqualTo(201);
+            assertThat(retry.getStatus()).isEqualTo(201);
+            assertThat(retry.getContentAsByteArray()).isEqualTo(first.getContentAsByteArray());
+            assertThat(retry.getContentType()).isEqualTo("application/json");
+            assertThat(retry.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+            assertThat(first.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+            assertThat(meterRegistry.counter(IdempotencyFilter.METRIC, "result", "replayed").count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Deve reenviar os cabeçalhos da resposta original, exceto os da mensagem atual")
+        void shouldReplayResponseHeaders() throws Exception {
+            // Arrange
+            FilterChain chain = (req, res) -> {
+                HttpServletResponse http = (HttpServletResponse) res;
+                http.setHeader("Location", "/api/v1/orders/0190a1b2");
+                http.setHeader("Consistency-Token", "0/16B3748");
+                http.addHeader("Vary", "Origin");
+                http.addHeader("Vary", "Accept-Encoding");
+                http.setHeader("Date", "Mon, 19 Oct 2026 10:00:00 GMT");
+                http.setHeader("Set-Cookie", "session=abc");
+                controller(201).doFilter(req, res);
+            };
+            perform(request("key-headers", BODY), chain);
+
+            // Act
+            MockHttpServletResponse retry = perform(request("key-headers", BODY), chain);
+
+            // Assert
+            assertThat(executions).hasValue(1);
+            assertThat(retry.getHeader("Location")).isEqualTo("/api/v1/orders/0190a1b2");
+            assertThat(retry.getHeader("Consistency-Token")).isEqualTo("0/16B3748");
+            assertThat(retry.getHeaders("Vary")).containsExactly("Origin", "Accept-Encoding");
+            assertThat(retry.getHeader("Date")).isNull();
+            assertThat(retry.getHeader("Set-Cookie")).isNull();
+            assertThat(retry.getHeaders(IdempotencyFilter.REPLAYED_HEADER)).containsExactly("true");
+        }
+
+        @Test
+        @DisplayName("Não deve guardar resposta maior que o limite")
+        void shouldNotStoreOversizedResponse() throws Exception {
+            // Arrange
+            FilterChain chain = (req, res) -> {
+                executions.incrementAndGet();
+                req.getInputStream().readAllBytes();
+                ((HttpServletResponse) res).setStatus(201);
+                res.getOutputStream().write(new byte[MAX_BODY_SIZE + 1]);
+            };
+
+            // Act
+            MockHttpServletResponse first = perform(request("key-large", BODY), chain);
+            perform(request("key-large", BODY), chain);
+
+            // Assert
+            assertThat(first.getContentAsByteArray()).hasSize(MAX_BODY_SIZE + 1);
+            assertThat(executions).hasValue(2);
+        }
+
+        @Test
+        @DisplayName("Não deve guardar respostas 5xx")
+        void shouldNotStoreServerErrors() throws Exception {
+            // Act
+            perform(request("key-2", BODY), controller(503));
+            MockHttpServletResponse retry = perform(request("key-2", BODY), controller(201));
+
+            // Assert
+            assertThat(executions).hasValue(2);
+            assertThat(retry.getStatus()).isEqualTo(201);
+        }
+
+        @Test
+        @DisplayName("Não deve atuar sem o cabeçalho Idempotency-Key")
+        void shouldPassThroughWithoutHeader() throws Exception {
+            // Act
+            perform(request(null, BODY), (req, res) -> executions.incrementAndGet());
+            perform(request(null, BODY), (req, res) -> executions.incrementAndGet());
+
+            // Assert
+            assertThat(executions).hasValue(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("Rejeições")
+    class RejectionTests {
+
+        @Test
+        @DisplayName("Deve retornar 422 quando a chave é reutilizada com outro corpo")
+        void shouldRejectKeyReuseWithDifferentBody() throws Exception {
+            // Arrange
+            perform(request("key-3", BODY), controller(201));
+
+            // Act
+            MockHttpServletResponse response = perform(request("key-3", "{\"externalOrderId\":\"EXT-002\"}"),
+                    controller(201));
+
+            // Assert
+            assertThat(executions).hasValue(1);
+            assertThat(response.getStatus()).isEqualTo(422);
+            assertThat(response.getContentType()).isEqualTo("application/problem+json");
+        }
+
+        @Test
+        @DisplayName("Deve retornar 413 sem ler além do limite quando o corpo é maior que o permitido")
+        void shouldRejectOversizedBody() throws Exception {
+            // Arrange - sem Content-Length, o limite é verificado na leitura
+            MockHttpServletRequest declared = request("key-4", "x".repeat(MAX_BODY_SIZE + 1));
+            MockHttpServletRequest chunked = new MockHttpServletRequest("POST", "/api/v1/orders") {
+                @Override
+                public long getContentLengthLong() {
+                    return -1;
+                }
+            };
+            chunked.addHeader(IdempotencyFilter.HEADER, "key-5");
+            chunked.setContent(new byte[MAX_BODY_SIZE + 1]);
+
+            // Act
+            MockHttpServletResponse declaredResponse = perform(declared, controller(201));
+            MockHttpServletResponse chunkedResponse = perform(chunked, controller(201));
+
+            // Assert
+            assertThat(declaredResponse.getStatus()).isEqualTo(413);
+            assertThat(chunkedResponse.getStatus()).isEqualTo(413);
+            assertThat(chunkedResponse.getContentType()).isEqualTo("application/problem+json");
+            assertThat(executions).hasValue(0);
+            assertThat(meterRegistry.counter(IdempotencyFilter.METRIC, "result", "too_large").count()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Deve retornar 400 para chave maior que o limite")
+        void shouldRejectOversizedKey() throws Exception {
+            // Act
+            MockHttpServletResponse response = perform(
+                    request("k".repeat(IdempotencyFilter.MAX_KEY_LENGTH + 1), BODY), controller(201));
+
+            // Assert
+            assertThat(response.getStatus()).isEqualTo(400);
+            assertThat(executions).hasValue(0);
+        }
+    }
+
+    @Test
+    @DisplayName("Retentativa concorrente deve aguardar a execução em andamento em vez de repeti-la")
+    void shouldCoalesceConcurrentRetries() throws Exception {
+        // Arrange - a primeira execução só termina depois que a retentativa já está aguardando
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain slowController = (req, res) -> {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            controller(201).doFilter(req, res);
+        };
+
+        // Act
+        CompletableFuture<MockHttpServletResponse> first = CompletableFuture.supplyAsync(() -> performUnchecked(slowController));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<MockHttpServletResponse> retry = CompletableFuture.supplyAsync(() -> performUnchecked(controller(201)));
+        Thread.sleep(100);
+        release.countDown();
+
+        // Assert
+        assertThat(retry.get(5, TimeUnit.SECONDS).getContentAsByteArray())
+                .isEqualTo(first.get(5, TimeUnit.SECONDS).getContentAsByteArray());
+        assertThat(executions).hasValue(1);
+    }
+
+    private MockHttpServletResponse performUnchecked(FilterChain chain) {
+        try {
+            return perform(request("key-concurrent", BODY), chain);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package io.github.douglasdreer.order.adapter.input.web.streaming;
+
+import io.github.douglasdreer.order.application.dto.OrderChangesResponse;
+import io.github.douglasdreer.order.application.dto.OrderResponse;
+import io.github.douglasdreer.order.application.port.input.GetOrderUseCase;
+import io.github.douglasdreer.order.domain.exception.ValidationException;
+import io.github.douglasdreer.order.infrastructure.persistence.changefeed.ChangeCursor;
+import io.github.douglasdreer.order.infrastructure.persistence.replica.ReadConsistency;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@DisplayName("OrderStreamHub - Distribuição de mudanças de status por SSE")
+class OrderStreamHubTest {
+
+    private static final Duration WAIT = Duration.ofSeconds(5);
+
+    private final GetOrderUseCase getOrderUseCase = mock(GetOrderUseCase.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final OrderStreamHub hub = new OrderStreamHub(getOrderUseCase, registry, 2, 1,
+            Duration.ofSeconds(1), Duration.ofHours(1), Duration.ofMinutes(1));
+
+    @AfterEach
+    void tearDown() {
+        hub.stop();
+    }
+
+    private static ChangeCursor cursor(long xid) {
+        return new ChangeCursor(xid, new UUID(0L, xid));
+    }
+
+    private static OrderResponse order(String status) {
+        return OrderResponse.builder().id(UUID.randomUUID()).status(status).version(1L).build();
+    }
+
+    private void stubPage(ChangeCursor from, ChangeCursor next, OrderResponse... orders) {
+        when(getOrderUseCase.findChanges(eq(from.encode()), isNull(), anyInt()))
+                .thenReturn(OrderChangesResponse.builder()
+                        .changes(List.of(orders))
+                        .nextCursor(next.encode())
+                        .build());
+    }
+
+    private OrderStreamSubscriber subscriber(RecordingEmitter emitter, Set<String> statuses, Set<UUID> ids,
+                                             ChangeCursor start, boolean replayed) {
+        OrderStreamSubscriber subscriber = new OrderStreamSubscriber(emitter, statuses, ids, 2, start);
+        if (replayed) {
+            subscriber.replayed();
+        }
+        return subscriber;
+    }
+
+    @Nested
+    @DisplayName("Distribuição")
+    class FanOutTests {
+
+        @Test
+        @DisplayName("Deve entregar a cada assinante só os pedidos aceitos pelo filtro, com id no último evento")
+        void shouldFanOutByFilter() {
+            // Arrange
+            OrderResponse available = order("AVAILABLE");
+            OrderResponse calculated = order("CALCULATED");
+            stubPage(cursor(10), cursor(11), available, calculated);
+            RecordingEmitter byStatus = new RecordingEmitter();
+            RecordingEmitter byId = new RecordingEmitter();
+            hub.register(subscriber(byStatus, Set.of("AVAILABLE"), Set.of(), cursor(10), true));
+            hub.register(subscriber(byId, Set.of(), Set.of(calculated.getId()), cursor(10), true));
+
+            // Act
+            hub.poll();
+
+            // Assert
+            await().atMost(WAIT).until(() -> byStatus.orders.size() == 1 && byId.orders.size() == 1);
+            assertThat(byStatus.orders).containsExactly(available);
+            assertThat(byId.orders).containsExactly(calculated);
+            assertThat(byStatus.ids).containsExactly(cursor(11).encode());
+        }
+
+        @Test
+        @DisplayName("Deve retomar do Last-Event-ID sem repetir o que a retomada já enviou")
+        void shouldReplayFromLastEventId() {
+            // Arrange
+            OrderResponse changed = order("AVAILABLE");
+            stubPage(cursor(10), cursor(12), changed);
+            RecordingEmitter emitter = new RecordingEmitter();
+
+            // Act
+            hub.register(subscriber(emitter, Set.of(), Set.of(), cursor(10), false));
+            await().atMost(WAIT).until(() -> emitter.orders.size() == 1);
+            hub.poll();
+
+            // Assert
+            await().during(Duration.ofMillis(200)).atMost(WAIT).until(() -> emitter.orders.size() == 1);
+            assertThat(emitter.ids).containsExactly(cursor(12).encode());
+        }
+
+        @Test
+        @DisplayName("Deve ler o feed no primário na retomada, na leitura contínua e no cursor inicial")
+        void shouldPinFeedReadsToPrimary() {
+            // Arrange
+            List<Boolean> pinned = new CopyOnWriteArrayList<>();
+            when(getOrderUseCase.findChanges(any(), isNull(), anyInt())).thenAnswer(invocation -> {
+                pinned.add(ReadConsistency.isPrimaryOnly());
+                return OrderChangesResponse.builder().changes(List.of())
+                        .nextCursor(invocation.getArgument(0)).build();
+            });
+            when(getOrderUseCase.currentChangesCursor()).thenAnswer(invocation -> {
+                pinned.add(ReadConsistency.isPrimaryOnly());
+                return cursor(10).encode();
+            });
+
+            // Act
+            hub.subscribe(null, null, null);
+            await().atMost(WAIT).until(() -> pinned.size() == 2);
+            hub.poll();
+
+            // Assert
+            assertThat(pinned).hasSize(3).containsOnly(true);
+        }
+
+        @Test
+        @DisplayName("Deve limitar as retomadas que leem o feed ao mesmo tempo")
+        void shouldLimitConcurrentReplays() {
+            // Arrange
+            stubPage(cursor(10), cursor(11), order("AVAILABLE"));
+            stubPage(cursor(20), cursor(21), order("AVAILABLE"));
+            RecordingEmitter blocked = new RecordingEmitter(new CountDownLatch(1));
+            RecordingEmitter waiting = new RecordingEmitter();
+
+            // Act
+            hub.register(subscriber(blocked, Set.of(), Set.of(), cursor(10), false));
+            verify(getOrderUseCase, timeout(WAIT.toMillis())).findChanges(eq(cursor(10).encode()), isNull(), anyInt());
+            hub.register(subscriber(waiting, Set.of(), Set.of(), cursor(20), false));
+
+            // Assert
+            verify(getOrderUseCase, after(200).never()).findChanges(eq(cursor(20).encode()), isNull(), anyInt());
+            blocked.gate.countDown();
+            await().atMost(WAIT).until(() -> waiting.orders.size() == 1);
+        }
+    }
+
+    @Nested
+    @DisplayName("Assinante lento")
+    class SlowConsumerTests {
+
+        @Test
+        @DisplayName("Deve desconectar o assinante com a fila cheia sem bloquear a leitura do feed")
+        void shouldEvictSlowConsumer() {
+            // Arrange
+            for (long xid = 10; xid < 14; xid++) {
+                stubPage(cursor(xid), cursor(xid + 1), order("AVAILABLE"));
+            }
+            RecordingEmitter blocked = new RecordingEmitter(new CountDownLatch(1));
+            hub.register(subscriber(blocked, Set.of(), Set.of(), cursor(10), true));
+
+            // Act
+            for (int i = 0; i < 4; i++) {
+                hub.poll();
+            }
+
+            // Assert
+            assertThat(registry.counter(OrderStreamHub.EVICTED_METRIC).count()).isEqualTo(1.0);
+            assertThat(hub.subscriberCount()).isZero();
+            blocked.gate.countDown();
+            await().atMost(WAIT).until(() -> blocked.completed);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar status desconhecido antes de consultar o feed")
+    void shouldRejectUnknownStatus() {
+        assertThatThrownBy(() -> hub.subscribe(List.of("SHIPPED"), null, null))
+                .isInstanceOf(ValidationException.class);
+        verifyNoInteractions(getOrderUseCase);
+    }
+
+    /** Registra pedidos e ids enviados; opcionalmente bloqueia cada envio até a liberação. */
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private static final Pattern ID = Pattern.compile("id:(\\S+)");
+
+        private final List<OrderResponse> orders = new CopyOnWriteArrayList<>();
+        private final List<String> ids = new CopyOnWriteArrayList<>();
+        private final CountDownLatch gate;
+        private volatile boolean completed;
+
+        RecordingEmitter() {
+            this(new CountDownLatch(0));
+        }
+
+        RecordingEmitter(CountDownLatch gate) {
+            this.gate = gate;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            try {
+                gate.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+            StringBuilder text = new StringBuilder();
+            builder.build().forEach(part -> {
+                if (part.getData() instanceof OrderResponse order) {
+                    orders.add(order);
+                } else {
+                    text.append(part.getData());
+                }
+            });
+            Matcher id = ID.matcher(text);
+            while (id.find()) {
+                ids.add(id.group(1));
+            }
+        }
+
+        @Override
+        public synchronized void complete() {
+            completed = true;
+            super.complete();
+        }
+    }
+}
@@ -3,7 +3,10 @@ package io.github.douglasdreer.order.application.usecase;
 import io.github.douglasdreer.order.application.dto.CreateOrderCommand;
 import io.github.douglasdreer.order.application.dto.OrderResponse;
 import io.github.douglasdreer.order.application.mapper.OrderApplicationMapper;
+import io.github.douglasdreer.order.application.port.output.OrderMetricsPort;
 import io.github.douglasdreer.order.application.port.output.OrderRepositoryPort;
+import io.github.douglasdreer.order.application.port.output.OrderViewPort;
+import io.github.douglasdreer.order.application.validation.CreateOrderCommandValidator;
 import io.github.douglasdreer.order.domain.entity.Order;
 import io.github.douglasdreer.order.domain.exception.DuplicateOrderException;
 import io.github.douglasdreer.order.domain.exception.ValidationException;
@@ -20,10 +23,12 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -34,9 +39,18 @@ class CreateOrderUseCaseImplTest {
     @Mock
     private OrderRepositoryPort orderRepository;
 
+    @Mock
+    private OrderViewPort orderViews;
+
     @Spy
     private OrderApplicationMapper mapper = new OrderApplicationMapper();
 
+    @Mock
+    private OrderMetricsPort orderMetrics;
+
+    @Spy
+    private CreateOrderCommandValidator validator = new CreateOrderCommandValidator();
+
     @InjectMocks
     private CreateOrderUseCaseImpl useCase;
 
@@ -66,8 +80,8 @@ class CreateOrderUseCaseImplTest {
         @DisplayName("deve criar pedido com sucesso")
         void shouldCreateOrderSuccessfully() {
             // Preparar
-            when(orderRepository.existsByExternalOrderId(anyString())).thenReturn(false);
-            when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+            when(orderRepository.insertIfAbsent(any(Order.class)))
+                    .thenAnswer(invocation -> Optional.of(invocation.getArgument(0)));
 
             // Agir
             OrderResponse response = useCase.execute(validCommand);
@@ -79,8 +93,10 @@ class CreateOrderUseCaseImplTest {
             assertThat(response.getTotalAmount()).isEqualByComparingTo(new BigDecimal("200.00"));
             assertThat(response.getItems()).hasSize(1);
 
-            verify(orderRepository).existsByExternalOrderId("EXT-001");
-            verify(orderRepository).save(any(Order.class));
+            verify(orderRepository).insertIfAbsent(any(Order.class));
+            verify(orderViews).save(response);
+            verify(orderRepository, never()).existsByExternalOrderId(anyString());
+            verify(orderMetrics).orderCreated(1);
         }
 
         @Test
@@ -107,8 +123,8 @@ class CreateOrderUseCaseImplTest {
                     ))
                     .build();
 
-            when(orderRepository.existsByExternalOrderId(anyString())).thenReturn(false);
-            when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+            when(orderRepository.insertIfAbsent(any(Order.class)))
+                    .thenAnswer(invocation -> Optional.of(invocation.getArgument(0)));
 
             // Agir
             OrderResponse response = useCase.execute(commandMultipleItems);
@@ -123,7 +139,7 @@ class CreateOrderUseCaseImplTest {
         @DisplayName("deve lançar exceção para pedido duplicado")
         void shouldThrowExceptionForDuplicateOrder() {
             // Preparar
-            when(orderRepository.existsByExternalOrderId("EXT-001")).thenReturn(true);
+            when(orderRepository.insertIfAbsent(any(Order.class))).thenReturn(Optional.empty());
 
             // Agir & Assert
             assertThatThrownBy(() -> useCase.execute(validCommand))
@@ -131,6 +147,8 @@ class CreateOrderUseCaseImplTest {
                     .hasMessageContaining("EXT-001");
 
             verify(orderRepository, never()).save(any());
+            verify(orderMetrics).duplicateRejected();
+            verify(orderMetrics, never()).orderCreated(anyInt());
         }
     }
 
@@ -144,6 +162,9 @@ class CreateOrderUseCaseImplTest {
             assertThatThrownBy(() -> useCase.execute(null))
                     .isInstanceOf(ValidationException.class)
                     .hasMessageContaining("nulo");
+
+            verify(orderMetrics).validationFailed();
+            verifyNoInteractions(orderRepository);
         }
 
         @Test
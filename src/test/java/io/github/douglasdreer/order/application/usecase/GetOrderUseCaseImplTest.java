@@ -1,12 +1,18 @@
 package io.github.douglasdreer.order.application.usecase;
 
+import io.github.douglasdreer.order.application.dto.OrderChangesResponse;
 import io.github.douglasdreer.order.application.dto.OrderResponse;
+import io.github.douglasdreer.order.application.dto.StatusTransitionResponse;
 import io.github.douglasdreer.order.application.mapper.OrderApplicationMapper;
+import io.github.douglasdreer.order.application.port.output.OrderChangeFeedPort;
 import io.github.douglasdreer.order.application.port.output.OrderRepositoryPort;
+import io.github.douglasdreer.order.application.port.output.OrderViewPort;
 import io.github.douglasdreer.order.domain.entity.Order;
 import io.github.douglasdreer.order.domain.entity.OrderItem;
+import io.github.douglasdreer.order.domain.exception.ValidationException;
 import io.github.douglasdreer.order.domain.valueobject.Money;
 import io.github.douglasdreer.order.domain.valueobject.OrderStatus;
+import io.github.douglasdreer.order.domain.valueobject.StatusTransition;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -17,12 +23,14 @@ import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,12 +40,22 @@ class GetOrderUseCaseImplTest {
     @Mock
     private OrderRepositoryPort orderRepository;
 
+    @Mock
+    private OrderViewPort orderViews;
+
+    @Mock
+    private OrderChangeFeedPort orderChanges;
+
     @Spy
     private OrderApplicationMapper mapper = new OrderApplicationMapper();
 
     @InjectMocks
     private GetOrderUseCaseImpl useCase;
 
+    private static OrderResponse toView(Order order) {
+        return new OrderApplicationMapper().toResponse(order);
+    }
+
     private Order createTestOrder(UUID orderId) {
         OrderItem item = OrderItem.builder()
                 .productId("PROD-001")
@@ -67,7 +85,7 @@ class GetOrderUseCaseImplTest {
             // Arrange
             UUID orderId = UUID.randomUUID();
             Order testOrder = createTestOrder(orderId);
-            when(orderRepository.findByIdWithItems(orderId)).thenReturn(Optional.of(testOrder));
+            when(orderViews.findById(orderId)).thenReturn(Optional.of(toView(testOrder)));
 
             // Act
             Optional<OrderResponse> result = useCase.findById(orderId);
@@ -78,7 +96,8 @@ class GetOrderUseCaseImplTest {
             assertThat(result.get().getExternalOrderId()).isEqualTo("EXT-001");
             assertThat(result.get().getStatus()).isEqualTo("CALCULATED");
             
-            verify(orderRepository).findByIdWithItems(orderId);
+            verify(orderViews).findById(orderId);
+            verifyNoInteractions(orderRepository);
         }
 
         @Test
@@ -86,14 +105,34 @@ class GetOrderUseCaseImplTest {
         void shouldReturnEmptyWhenNotFound() {
             // Arrange
             UUID unknownId = UUID.randomUUID();
-            when(orderRepository.findByIdWithItems(unknownId)).thenReturn(Optional.empty());
+            when(orderViews.findById(unknownId)).thenReturn(Optional.empty());
 
             // Act
             Optional<OrderResponse> result = useCase.findById(unknownId);
 
             // Assert
             assertThat(result).isEmpty();
-            verify(orderRepository).findByIdWithItems(unknownId);
+            verify(orderViews).findById(unknownId);
+        }
+    }
+
+    @Nested
+    @DisplayName("findVersion()")
+    class FindVersionTests {
+
+        @Test
+        @DisplayName("deve consultar apenas a versão no repositório")
+        void shouldProbeVersionOnly() {
+            // Arrange
+            UUID orderId = UUID.randomUUID();
+            when(orderRepository.findVersionById(orderId)).thenReturn(Optional.of(3L));
+
+            // Act
+            Optional<Long> result = useCase.findVersion(orderId);
+
+            // Assert
+            assertThat(result).contains(3L);
+            verifyNoInteractions(orderViews);
         }
     }
 
@@ -107,7 +146,7 @@ class GetOrderUseCaseImplTest {
             // Arrange
             UUID orderId = UUID.randomUUID();
             Order testOrder = createTestOrder(orderId);
-            when(orderRepository.findByExternalOrderId("EXT-001")).thenReturn(Optional.of(testOrder));
+            when(orderViews.findByExternalOrderId("EXT-001")).thenReturn(Optional.of(toView(testOrder)));
 
             // Act
             Optional<OrderResponse> result = useCase.findByExternalOrderId("EXT-001");
@@ -116,14 +155,14 @@ class GetOrderUseCaseImplTest {
             assertThat(result).isPresent();
             assertThat(result.get().getExternalOrderId()).isEqualTo("EXT-001");
             
-            verify(orderRepository).findByExternalOrderId("EXT-001");
+            verify(orderViews).findByExternalOrderId("EXT-001");
         }
 
         @Test
         @DisplayName("deve retornar empty quando ID externo não encontrado")
         void shouldReturnEmptyWhenExternalIdNotFound() {
             // Arrange
-            when(orderRepository.findByExternalOrderId("UNKNOWN")).thenReturn(Optional.empty());
+            when(orderViews.findByExternalOrderId("UNKNOWN")).thenReturn(Optional.empty());
 
             // Act
             Optional<OrderResponse> result = useCase.findByExternalOrderId("UNKNOWN");
@@ -143,7 +182,7 @@ class GetOrderUseCaseImplTest {
             // Arrange
             UUID orderId = UUID.randomUUID();
             Order testOrder = createTestOrder(orderId);
-            when(orderRepository.findByStatus(OrderStatus.CALCULATED)).thenReturn(List.of(testOrder));
+            when(orderViews.findByStatus(OrderStatus.CALCULATED)).thenReturn(List.of(toView(testOrder)));
 
             // Act
             List<OrderResponse> result = useCase.findByStatus("CALCULATED");
@@ -152,14 +191,14 @@ class GetOrderUseCaseImplTest {
             assertThat(result).hasSize(1);
             assertThat(result.get(0).getStatus()).isEqualTo("CALCULATED");
             
-            verify(orderRepository).findByStatus(OrderStatus.CALCULATED);
+            verify(orderViews).findByStatus(OrderStatus.CALCULATED);
         }
 
         @Test
         @DisplayName("deve retornar lista vazia quando nenhum pedido com status")
         void shouldReturnEmptyListWhenNoOrdersWithStatus() {
             // Arrange
-            when(orderRepository.findByStatus(OrderStatus.FAILED)).thenReturn(List.of());
+            when(orderViews.findByStatus(OrderStatus.FAILED)).thenReturn(List.of());
 
             // Act
             List<OrderResponse> result = useCase.findByStatus("FAILED");
@@ -179,14 +218,127 @@ class GetOrderUseCaseImplTest {
             // Arrange
             UUID orderId = UUID.randomUUID();
             Order testOrder = createTestOrder(orderId);
-            when(orderRepository.findAll()).thenReturn(List.of(testOrder));
+            when(orderViews.findAll()).thenReturn(List.of(toView(testOrder)));
 
             // Act
             List<OrderResponse> result = useCase.findAll();
 
             // Assert
             assertThat(result).hasSize(1);
-            verify(orderRepository).findAll();
+            verify(orderViews).findAll();
+        }
+    }
+
+    @Nested
+    @DisplayName("findChanges()")
+    class FindChangesTests {
+
+        @Test
+        @DisplayName("deve repassar cursor, status convertido e limite ao feed")
+        void shouldDelegateToChangeFeed() {
+            // Arrange
+            OrderChangesResponse page = OrderChangesResponse.builder()
+                    .changes(List.of(toView(createTestOrder(UUID.randomUUID()))))
+                    .nextCursor("next")
+                    .build();
+            when(orderChanges.findChangesSince("cursor", OrderStatus.AVAILABLE, 50)).thenReturn(page);
+
+            // Act
+            OrderChangesResponse result = useCase.findChanges("cursor", "available", 50);
+
+            // Assert
+            assertThat(result).isSameAs(page);
+        }
+
+        @Test
+        @DisplayName("deve consultar todos os status quando o filtro é omitido")
+        void shouldQueryAllStatusesWithoutFilter() {
+            // Act
+            useCase.findChanges(null, null, 10);
+
+            // Assert
+            verify(orderChanges).findChangesSince(null, null, 10);
+        }
+
+        @Test
+        @DisplayName("deve rejeitar limite fora do intervalo")
+        void shouldRejectInvalidLimit() {
+            // Act & Assert
+            assertThatThrownBy(() -> useCase.findChanges(null, null, 0)).isInstanceOf(ValidationException.class);
+            assertThatThrownBy(() -> useCase.findChanges(null, null, GetOrderUseCaseImpl.MAX_CHANGES_PAGE_SIZE + 1))
+                    .isInstanceOf(ValidationException.class);
+            verifyNoInteractions(orderChanges);
+        }
+
+        @Test
+        @DisplayName("deve rejeitar status desconhecido")
+        void shouldRejectUnknownStatus() {
+            // Act & Assert
+            assertThatThrownBy(() -> useCase.findChanges(null, "SHIPPED", 10))
+                    .isInstanceOf(ValidationException.class)
+                    .hasMessageContaining("SHIPPED");
+        }
+
+        @Test
+        @DisplayName("deve repassar o cursor do fim do feed")
+        void shouldReturnCurrentCursor() {
+            // Arrange
+            when(orderChanges.currentCursor()).thenReturn("now");
+
+            // Act & Assert
+            assertThat(useCase.currentChangesCursor()).isEqualTo("now");
+        }
+    }
+
+    @Nested
+    @DisplayName("findStatusHistory()")
+    class FindStatusHistoryTests {
+
+        @Test
+        @DisplayName("deve retornar transições com tempo de permanência")
+        void shouldReturnHistory() {
+            // Arrange
+            UUID orderId = UUID.randomUUID();
+            Instant at = Instant.parse("2024-03-01T12:00:00Z");
+            when(orderRepository.findStatusHistory(orderId)).thenReturn(List.of(
+                    new StatusTransition(OrderStatus.RECEIVED, OrderStatus.CALCULATED, at, Duration.ofMillis(1500))));
+
+            // Act
+            Optional<List<StatusTransitionResponse>> result = useCase.findStatusHistory(orderId);
+
+            // Assert
+            assertThat(result).isPresent();
+            assertThat(result.get()).singleElement().satisfies(transition -> {
+                assertThat(transition.getFromStatus()).isEqualTo("RECEIVED");
+                assertThat(transition.getToStatus()).isEqualTo("CALCULATED");
+                assertThat(transition.getOccurredAt()).isEqualTo(at);
+                assertThat(transition.getDwellMillis()).isEqualTo(1500);
+            });
+            verify(orderRepository, never()).findById(orderId);
+        }
+
+        @Test
+        @DisplayName("deve retornar empty quando pedido não existe")
+        void shouldReturnEmptyWhenOrderNotFound() {
+            // Arrange
+            UUID unknownId = UUID.randomUUID();
+            when(orderRepository.findStatusHistory(unknownId)).thenReturn(List.of());
+            when(orderRepository.findById(unknownId)).thenReturn(Optional.empty());
+
+            // Act & Assert
+            assertThat(useCase.findStatusHistory(unknownId)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("deve retornar lista vazia para pedido sem histórico")
+        void shouldReturnEmptyHistoryForExistingOrder() {
+            // Arrange
+            UUID orderId = UUID.randomUUID();
+            when(orderRepository.findStatusHistory(orderId)).thenReturn(List.of());
+            when(orderRepository.findById(orderId)).thenReturn(Optional.of(createTestOrder(orderId)));
+
+            // Act & Assert
+            assertThat(useCase.findStatusHistory(orderId)).contains(List.of());
         }
     }
 }
@@ -2,9 +2,13 @@ package io.github.douglasdreer.order.application.usecase;
 
 import io.github.douglasdreer.order.application.dto.OrderResponse;
 import io.github.douglasdreer.order.application.mapper.OrderApplicationMapper;
+import io.github.douglasdreer.order.application.port.output.OrderMetricsPort;
 import io.github.douglasdreer.order.application.port.output.OrderRepositoryPort;
+import io.github.douglasdreer.order.application.port.output.OrderStatusEventPort;
+import io.github.douglasdreer.order.application.port.output.OrderViewPort;
 import io.github.douglasdreer.order.domain.entity.Order;
 import io.github.douglasdreer.order.domain.entity.OrderItem;
+import io.github.douglasdreer.order.domain.exception.InvalidOrderStatusTransitionException;
 import io.github.douglasdreer.order.domain.exception.OrderNotFoundException;
 import io.github.douglasdreer.order.domain.valueobject.Money;
 import io.github.douglasdreer.order.domain.valueobject.OrderStatus;
@@ -35,9 +39,18 @@ class ProcessOrderUseCaseImplTest {
     @Mock
     private OrderRepositoryPort orderRepository;
 
+    @Mock
+    private OrderViewPort orderViews;
+
     @Spy
     private OrderApplicationMapper mapper = new OrderApplicationMapper();
 
+    @Mock
+    private OrderMetricsPort orderMetrics;
+
+    @Mock
+    private OrderStatusEventPort statusEvents;
+
     @InjectMocks
     private ProcessOrderUseCaseImpl useCase;
 
@@ -102,6 +115,7 @@ class ProcessOrderUseCaseImplTest {
             
             verify(orderRepository).findByIdWithItems(orderId);
             verify(orderRepository).save(any(Order.class));
+            verify(orderViews).save(result);
         }
 
         @Test
@@ -140,6 +154,9 @@ class ProcessOrderUseCaseImplTest {
             assertThat(result.getStatus()).isEqualTo(OrderStatus.AVAILABLE.name());
             
             verify(orderRepository).save(any(Order.class));
+            verify(orderMetrics).statusTransitioned(argThat(transition ->
+                    transition.from() == OrderStatus.CALCULATED && transition.to() == OrderStatus.AVAILABLE));
+            verify(statusEvents).statusChanged(orderId, OrderStatus.AVAILABLE);
         }
 
         @Test
@@ -189,5 +206,22 @@ class ProcessOrderUseCaseImplTest {
             assertThatThrownBy(() -> useCase.markAsFailed(unknownId, "Erro"))
                     .isInstanceOf(OrderNotFoundException.class);
         }
+
+        @Test
+        @DisplayName("deve registrar métrica quando transição é rejeitada")
+        void shouldRecordRejectedTransition() {
+            // Arrange
+            UUID orderId = UUID.randomUUID();
+            Order availableOrder = createCalculatedOrder(orderId).markAsAvailable();
+            when(orderRepository.findByIdWithItems(orderId)).thenReturn(Optional.of(availableOrder));
+
+            // Act & Assert
+            assertThatThrownBy(() -> useCase.markAsFailed(orderId, "Erro"))
+                    .isInstanceOf(InvalidOrderStatusTransitionException.class);
+
+            verify(orderMetrics).transitionRejected(OrderStatus.AVAILABLE, OrderStatus.FAILED);
+            verify(orderRepository, never()).save(any(Order.class));
+            verifyNoInteractions(statusEvents);
+        }
     }
 }
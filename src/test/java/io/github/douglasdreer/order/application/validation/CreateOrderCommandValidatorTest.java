@@ -0,0 +1,68 @@
+package io.github.douglasdreer.order.application.validation;
+
+import io.github.douglasdreer.order.application.dto.CreateOrderCommand;
+import io.github.douglasdreer.order.domain.entity.Order;
+import io.github.douglasdreer.order.domain.exception.InvalidExternalOrderIdException;
+import io.github.douglasdreer.order.domain.exception.InvalidProductIdException;
+import io.github.douglasdreer.order.domain.exception.ValidationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CreateOrderCommandValidator - Etapa única de validação")
+class CreateOrderCommandValidatorTest {
+
+    private final CreateOrderCommandValidator validator = new CreateOrderCommandValidator();
+
+    private static CreateOrderCommand.OrderItemCommand.OrderItemCommandBuilder item() {
+        return CreateOrderCommand.OrderItemCommand.builder()
+                .productId("PROD-001")
+                .productName("Produto")
+                .unitPrice(new BigDecimal("10.00"))
+                .quantity(2);
+    }
+
+    private static CreateOrderCommand command(String externalOrderId, CreateOrderCommand.OrderItemCommand... items) {
+        return CreateOrderCommand.builder().externalOrderId(externalOrderId).items(List.of(items)).build();
+    }
+
+    @Test
+    @DisplayName("Deve montar o pedido de domínio com identificadores aparados e moeda padrão")
+    void shouldBuildDomainOrder() {
+        // Act
+        Order order = validator.toValidatedOrder(command(" EXT-001 ", item().productId("PROD-001 ").build()));
+
+        // Assert
+        assertThat(order.getExternalOrderIdValue()).isEqualTo("EXT-001");
+        assertThat(order.getItems()).singleElement().satisfies(orderItem -> {
+            assertThat(orderItem.getProductIdValue()).isEqualTo("PROD-001");
+            assertThat(orderItem.getUnitPrice().getCurrency().getCurrencyCode()).isEqualTo("BRL");
+            assertThat(orderItem.getQuantity()).isEqualTo(2);
+        });
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar identificadores com caracteres inválidos com as exceções dos value objects")
+    void shouldRejectMalformedIdentifiers() {
+        assertThatThrownBy(() -> validator.toValidatedOrder(command("EXT 001", item().build())))
+                .isInstanceOf(InvalidExternalOrderIdException.class);
+        assertThatThrownBy(() -> validator.toValidatedOrder(command("EXT-001", item().productId("PROD.1").build())))
+                .isInstanceOf(InvalidProductIdException.class);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar quantidade nula e moeda desconhecida como erro de validação")
+    void shouldRejectNullQuantityAndUnknownCurrency() {
+        assertThatThrownBy(() -> validator.toValidatedOrder(command("EXT-001", item().quantity(null).build())))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("Quantidade");
+        assertThatThrownBy(() -> validator.toValidatedOrder(command("EXT-001", item().currency("XYZ").build())))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("Moeda inválida");
+    }
+}
@@ -0,0 +1,113 @@
+package io.github.douglasdreer.order.benchmark;
+
+import io.github.douglasdreer.order.application.dto.CreateOrderCommand;
+import io.github.douglasdreer.order.application.mapper.OrderApplicationMapper;
+import io.github.douglasdreer.order.application.usecase.CreateOrderUseCaseImpl;
+import io.github.douglasdreer.order.application.validation.CreateOrderCommandValidator;
+import io.github.douglasdreer.order.domain.exception.DomainException;
+import io.github.douglasdreer.order.domain.exception.DuplicateOrderException;
+import io.github.douglasdreer.order.infrastructure.metrics.MicrometerOrderMetrics;
+import io.github.douglasdreer.order.infrastructure.persistence.memory.InMemoryOrderRepositoryAdapter;
+import io.github.douglasdreer.order.infrastructure.persistence.view.RepositoryOrderViewAdapter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Benchmark JMH do caminho de pedido duplicado (rajadas de reentrega do broker).
+ * <p>
+ * {@code stackful} x {@code stackless} isola o custo de criar e lançar a exceção a
+ * {@code depth} frames de profundidade (a pilha real de listener AMQP + proxies Spring
+ * passa de 100 frames); {@code duplicatePath} mede o caso de uso completo com o
+ * repositório em memória já contendo o pedido.
+ * <p>
+ * Execução: {@code java -cp target/test-classes:<classpath> io.github.douglasdreer.order.benchmark.DuplicateOrderBenchmark}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DuplicateOrderBenchmark {
+
+    /** Equivalente à DuplicateOrderException anterior, que capturava a pilha. */
+    static final class StackfulDuplicateOrderException extends DomainException {
+        StackfulDuplicateOrderException(String externalOrderId) {
+            super("Pedido já existe com External ID: " + externalOrderId);
+        }
+    }
+
+    @Param({"10", "100"})
+    public int depth;
+
+    private CreateOrderUseCaseImpl useCase;
+    private CreateOrderCommand command;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        InMemoryOrderRepositoryAdapter repository = new InMemoryOrderRepositoryAdapter();
+        OrderApplicationMapper mapper = new OrderApplicationMapper();
+        useCase = new CreateOrderUseCaseImpl(repository, new RepositoryOrderViewAdapter(repository, mapper), mapper,
+                new MicrometerOrderMetrics(new SimpleMeterRegistry()), new CreateOrderCommandValidator());
+        command = CreateOrderCommand.builder()
+                .externalOrderId("EXT-DUP-1")
+                .items(List.of(CreateOrderCommand.OrderItemCommand.builder()
+                        .productId("PROD-1")
+                        .productName("Produto")
+                        .unitPrice(new BigDecimal("99.99"))
+                        .currency("BRL")
+                        .quantity(3)
+                        .build()))
+                .build();
+        useCase.execute(command);
+    }
+
+    @Benchmark
+    public Object stackful() {
+        return throwAt(depth, () -> new StackfulDuplicateOrderException("EXT-DUP-1"));
+    }
+
+    @Benchmark
+    public Object stackless() {
+        return throwAt(depth, () -> new DuplicateOrderException("EXT-DUP-1"));
+    }
+
+    @Benchmark
+    public Object duplicatePath() {
+        try {
+            return useCase.execute(command);
+        } catch (DuplicateOrderException e) {
+            return e;
+        }
+    }
+
+    private static Object throwAt(int depth, Supplier<DomainException> exception) {
+        try {
+            return recurse(depth, exception);
+        } catch (DomainException e) {
+            return e;
+        }
+    }
+
+    private static Object recurse(int depth, Supplier<DomainException> exception) {
+        if (depth == 0) {
+            throw exception.get();
+        }
+        return recurse(depth - 1, exception);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(DuplicateOrderBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,48 @@
+package io.github.douglasdreer.order.benchmark;
+
+import io.github.douglasdreer.order.domain.identity.IdGenerator;
+import io.github.douglasdreer.order.domain.identity.RandomUuidGenerator;
+import io.github.douglasdreer.order.domain.identity.UuidV7Generator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH do custo de geração de IDs: UUID v4 x UUID v7 monotônico.
+ * <p>
+ * Execução: {@code java -cp target/test-classes:<classpath> io.github.douglasdreer.order.benchmark.IdGeneratorBenchmark}
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IdGeneratorBenchmark {
+
+    private final IdGenerator random = RandomUuidGenerator.INSTANCE;
+    private final IdGenerator uuidV7 = new UuidV7Generator();
+
+    @Benchmark
+    @Threads(4)
+    public UUID randomUuid() {
+        return random.nextId();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public UUID uuidV7() {
+        return uuidV7.nextId();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(IdGeneratorBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,131 @@
+package io.github.douglasdreer.order.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import net.logstash.logback.encoder.LogstashEncoder;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+/**
+ * Benchmark JMH do custo de logging por pedido no caminho quente.
+ * <p>
+ * Compara appender síncrono x assíncrono (mesma configuração do logback-spring.xml,
+ * JSON via LogstashEncoder em arquivo) e o volume de log: seis linhas INFO por etapa
+ * (comportamento anterior) x um resumo consolidado, com e sem amostragem de 10%.
+ * No modo assíncrono com a fila cheia os eventos INFO são descartados (neverBlock),
+ * então o resultado mede o custo na thread de negócio.
+ * <p>
+ * Execução: {@code java -cp target/test-classes:<classpath> io.github.douglasdreer.order.benchmark.LoggingThroughputBenchmark}
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LoggingThroughputBenchmark {
+
+    public enum Style { PER_STEP, SUMMARY, SUMMARY_SAMPLED_10 }
+
+    @Param({"SYNC", "ASYNC"})
+    public String appender;
+
+    @Param({"PER_STEP", "SUMMARY", "SUMMARY_SAMPLED_10"})
+    public Style style;
+
+    private LoggerContext context;
+    private Logger logger;
+    private Path logFile;
+
+    private final UUID orderId = UUID.randomUUID();
+    private final String correlationId = UUID.randomUUID().toString();
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        logFile = Files.createTempFile("logging-benchmark", ".log");
+        context = new LoggerContext();
+
+        LogstashEncoder encoder = new LogstashEncoder();
+        encoder.setContext(context);
+        encoder.start();
+
+        FileAppender<ILoggingEvent> file = new FileAppender<>();
+        file.setContext(context);
+        file.setFile(logFile.toString());
+        file.setEncoder(encoder);
+        file.start();
+
+        Appender<ILoggingEvent> root = file;
+        if ("ASYNC".equals(appender)) {
+            AsyncAppender async = new AsyncAppender();
+            async.setContext(context);
+            async.setQueueSize(8192);
+            async.setDiscardingThreshold(1638);
+            async.setNeverBlock(true);
+            async.addAppender(file);
+            async.start();
+            root = async;
+        }
+
+        logger = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        logger.setLevel(ch.qos.logback.classic.Level.INFO);
+        logger.addAppender(root);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.stop();
+        Files.deleteIfExists(logFile);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void logOrder() {
+        switch (style) {
+            case PER_STEP -> perStep();
+            case SUMMARY -> summary();
+            case SUMMARY_SAMPLED_10 -> {
+                if (ThreadLocalRandom.current().nextDouble() < 0.1) {
+                    summary();
+                }
+            }
+        }
+    }
+
+    private void perStep() {
+        logger.info("OrderCreatedEvent recebido - correlationId: {}, customerId: {}, items: {}", correlationId, "CUST-1", 3);
+        logger.info("Criando pedido: externalOrderId={}", "CUST-1");
+        logger.info("Pedido salvo com sucesso: id={}, externalId={}", orderId, "CUST-1");
+        logger.info("Pedido criado com sucesso: id={}, externalOrderId={}, total={}", orderId, "CUST-1", "BRL 299.97");
+        logger.info("Pedido criado com sucesso - orderId: {}, correlationId: {}", orderId, correlationId);
+        logger.info("Pedido processado: id={}, status={}", orderId, "CALCULATED");
+    }
+
+    private void summary() {
+        logger.info("Resumo do pedido {} {} {} {} {} {} {}",
+                kv("channel", "amqp"), kv("outcome", "success"), kv("correlationId", correlationId),
+                kv("orderId", orderId), kv("externalOrderId", "CUST-1"), kv("itemCount", 3), kv("durationMs", 4));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(LoggingThroughputBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,125 @@
+package io.github.douglasdreer.order.benchmark;
+
+import io.github.douglasdreer.order.domain.identity.IdGenerator;
+import io.github.douglasdreer.order.domain.identity.RandomUuidGenerator;
+import io.github.douglasdreer.order.domain.identity.UuidV7Generator;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Benchmark de inserção em PostgreSQL: chave primária UUID v4 x UUID v7.
+ * <p>
+ * Sobe um PostgreSQL via Testcontainers, insere o mesmo volume de linhas em
+ * duas tabelas com o layout de {@code orders} e reporta vazão de inserção,
+ * tamanho do índice primário e fragmentação das folhas (pgstattuple).
+ * <p>
+ * Parâmetros (system properties):
+ * - benchmark.rows: linhas por tabela (padrão 2.000.000)
+ * - benchmark.batch-size: linhas por batch JDBC (padrão 1.000)
+ * <p>
+ * Execução: {@code java -Dbenchmark.rows=5000000 -cp target/test-classes:<classpath>
+ * io.github.douglasdreer.order.benchmark.UuidPrimaryKeyInsertBenchmark}
+ */
+public final class UuidPrimaryKeyInsertBenchmark {
+
+    private static final String IMAGE = "postgres:15-alpine";
+
+    private UuidPrimaryKeyInsertBenchmark() {
+    }
+
+    public static void main(String[] args) throws SQLException {
+        int rows = Integer.getInteger("benchmark.rows", 2_000_000);
+        int batchSize = Integer.getInteger("benchmark.batch-size", 1_000);
+
+        try (PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(IMAGE)) {
+            postgres.start();
+
+            try (Connection connection = DriverManager.getConnection(
+                    postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())) {
+                connection.setAutoCommit(false);
+                execute(connection, "CREATE EXTENSION IF NOT EXISTS pgstattuple");
+
+                Result v4 = run(connection, "bench_orders_v4", RandomUuidGenerator.INSTANCE, rows, batchSize);
+                Result v7 = run(connection, "bench_orders_v7", new UuidV7Generator(), rows, batchSize);
+
+                System.out.printf("%-8s %12s %14s %16s %14s%n",
+                        "strategy", "rows", "rows/s", "pk index (MB)", "leaf frag (%)");
+                print("uuid-v4", v4);
+                print("uuid-v7", v7);
+            }
+        }
+    }
+
+    private static Result run(Connection connection, String table, IdGenerator generator,
+                              int rows, int batchSize) throws SQLException {
+        execute(connection, """
+                CREATE TABLE %s (
+                    id UUID PRIMARY KEY,
+                    external_order_id VARCHAR(100) NOT NULL,
+                    total_amount DECIMAL(19, 4) NOT NULL,
+                    status VARCHAR(20) NOT NULL,
+                    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+                )""".formatted(table));
+
+        String sql = "INSERT INTO %s (id, external_order_id, total_amount, status) VALUES (?, ?, 100, 'RECEIVED')"
+                .formatted(table);
+
+        long start = System.nanoTime();
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 1; i <= rows; i++) {
+                statement.setObject(1, generator.nextId());
+                statement.setString(2, "EXT-" + i);
+                statement.addBatch();
+                if (i % batchSize == 0) {
+                    statement.executeBatch();
+                    connection.commit();
+                }
+            }
+            statement.executeBatch();
+            connection.commit();
+        }
+        long elapsedNanos = System.nanoTime() - start;
+
+        long indexBytes = queryLong(connection, "SELECT pg_relation_size('%s_pkey')".formatted(table));
+        double fragmentation = queryDouble(connection,
+                "SELECT leaf_fragmentation FROM pgstatindex('%s_pkey')".formatted(table));
+
+        return new Result(rows, rows / (elapsedNanos / 1e9), indexBytes, fragmentation);
+    }
+
+    private static void print(String strategy, Result result) {
+        System.out.printf("%-8s %12d %14.0f %16.1f %14.1f%n",
+                strategy, result.rows(), result.rowsPerSecond(),
+                result.indexBytes() / (1024.0 * 1024.0), result.leafFragmentation());
+    }
+
+    private static void execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+        connection.commit();
+    }
+
+    private static long queryLong(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement(); ResultSet rs = statement.executeQuery(sql)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private static double queryDouble(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement(); ResultSet rs = statement.executeQuery(sql)) {
+            rs.next();
+            return rs.getDouble(1);
+        }
+    }
+
+    private record Result(int rows, double rowsPerSecond, long indexBytes, double leafFragmentation) {
+    }
+}
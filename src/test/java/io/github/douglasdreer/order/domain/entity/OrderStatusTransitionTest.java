@@ -0,0 +1,88 @@
+package io.github.douglasdreer.order.domain.entity;
+
+import io.github.douglasdreer.order.domain.exception.InvalidOrderStatusTransitionException;
+import io.github.douglasdreer.order.domain.factory.ExternalOrderIdTestFactory;
+import io.github.douglasdreer.order.domain.factory.OrderItemTestFactory;
+import io.github.douglasdreer.order.domain.valueobject.OrderStatus;
+import io.github.douglasdreer.order.domain.valueobject.StatusTransition;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DisplayName("Order - Registro de transições de status")
+class OrderStatusTransitionTest {
+
+    private static Order orderIn(OrderStatus status, Instant updatedAt) {
+        return Order.builder()
+                .externalOrderId(ExternalOrderIdTestFactory.create())
+                .status(status)
+                .addItem(OrderItemTestFactory.create())
+                .createdAt(updatedAt.minusSeconds(3600))
+                .updatedAt(updatedAt)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Deve registrar cada transição com o status de origem e destino")
+    void shouldRecordTransitionsInOrder() {
+        // Arrange
+        Order order = orderIn(OrderStatus.RECEIVED, Instant.now());
+
+        // Act
+        order.startProcessing().calculateTotal().markAsAvailable();
+
+        // Assert
+        assertThat(order.getStatusTransitions())
+                .extracting(StatusTransition::from, StatusTransition::to)
+                .containsExactly(
+                        tuple(OrderStatus.RECEIVED, OrderStatus.PROCESSING),
+                        tuple(OrderStatus.PROCESSING, OrderStatus.CALCULATED),
+                        tuple(OrderStatus.CALCULATED, OrderStatus.AVAILABLE));
+    }
+
+    @Test
+    @DisplayName("Deve medir permanência a partir da última atualização do pedido carregado")
+    void shouldMeasureDwellFromUpdatedAt() {
+        // Arrange
+        Order order = orderIn(OrderStatus.CALCULATED, Instant.now().minusSeconds(120));
+
+        // Act
+        order.markAsFailed();
+
+        // Assert
+        StatusTransition transition = order.getStatusTransitions().get(0);
+        assertThat(transition.dwell()).isBetween(Duration.ofSeconds(119), Duration.ofSeconds(180));
+        assertThat(transition.occurredAt()).isEqualTo(order.getUpdatedAt());
+    }
+
+    @Test
+    @DisplayName("Não deve registrar transição rejeitada nem recálculo sem mudança de status")
+    void shouldNotRecordRejectedOrNoOpChanges() {
+        // Arrange
+        Order order = orderIn(OrderStatus.AVAILABLE, Instant.now());
+
+        // Act
+        order.calculateTotal();
+
+        // Assert
+        assertThatThrownBy(order::markAsFailed).isInstanceOf(InvalidOrderStatusTransitionException.class);
+        assertThat(order.getStatusTransitions()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve tratar permanência negativa como zero")
+    void shouldClampNegativeDwell() {
+        Instant now = Instant.now();
+
+        StatusTransition transition = StatusTransition.of(
+                OrderStatus.RECEIVED, OrderStatus.PROCESSING, now.plusSeconds(5), now);
+
+        assertThat(transition.dwell()).isZero();
+    }
+}
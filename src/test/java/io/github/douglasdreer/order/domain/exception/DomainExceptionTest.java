@@ -0,0 +1,48 @@
+package io.github.douglasdreer.order.domain.exception;
+
+import io.github.douglasdreer.order.domain.valueobject.OrderStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("DomainException - Resultados esperados sem stack trace")
+class DomainExceptionTest {
+
+    static Stream<DomainException> expectedOutcomes() {
+        return Stream.of(
+                new DuplicateOrderException("EXT-001"),
+                OrderNotFoundException.byId("123"),
+                OrderNotFoundException.byExternalId("EXT-001"),
+                new InvalidOrderStatusTransitionException(OrderStatus.AVAILABLE, OrderStatus.FAILED));
+    }
+
+    @ParameterizedTest
+    @MethodSource("expectedOutcomes")
+    @DisplayName("Deve criar resultados esperados sem stack trace nem supressão")
+    void shouldCreateExpectedOutcomesWithoutStackTrace(DomainException exception) {
+        // Act
+        exception.addSuppressed(new IllegalStateException("ignorada"));
+
+        // Assert
+        assertThat(exception.isExpected()).isTrue();
+        assertThat(exception.getStackTrace()).isEmpty();
+        assertThat(exception.getSuppressed()).isEmpty();
+        assertThat(exception.getMessage()).isNotBlank();
+    }
+
+    @Test
+    @DisplayName("Deve manter stack trace em erros de validação")
+    void shouldKeepStackTraceForValidationErrors() {
+        // Act
+        ValidationException exception = new ValidationException("Pedido deve ter pelo menos um item");
+
+        // Assert
+        assertThat(exception.isExpected()).isFalse();
+        assertThat(exception.getStackTrace()).isNotEmpty();
+    }
+}
@@ -0,0 +1,129 @@
+package io.github.douglasdreer.order.domain.identity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("UuidV7Generator - Testes do gerador de UUIDs ordenados pelo tempo")
+class UuidV7GeneratorTest {
+
+    @Nested
+    @DisplayName("Testes de formato")
+    class FormatTests {
+
+        @Test
+        @DisplayName("Deve gerar UUID versão 7 com variante RFC")
+        void shouldGenerateVersion7WithRfcVariant() {
+            // Arrange
+            UuidV7Generator generator = new UuidV7Generator();
+
+            // Act
+            UUID id = generator.nextId();
+
+            // Assert
+            assertThat(id.version()).isEqualTo(7);
+            assertThat(id.variant()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Deve codificar o timestamp em milissegundos")
+        void shouldEncodeTimestamp() {
+            // Arrange
+            long millis = 1_760_000_000_000L;
+            UuidV7Generator generator = new UuidV7Generator(() -> millis);
+
+            // Act
+            UUID id = generator.nextId();
+
+            // Assert
+            assertThat(UuidV7Generator.timestampOf(id)).isEqualTo(millis);
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de monotonicidade")
+    class MonotonicityTests {
+
+        @Test
+        @DisplayName("Deve gerar IDs crescentes no mesmo milissegundo")
+        void shouldBeMonotonicWithinSameMillisecond() {
+            // Arrange
+            UuidV7Generator generator = new UuidV7Generator(() -> 1_760_000_000_000L);
+
+            // Act
+            List<UUID> ids = new ArrayList<>();
+            for (int i = 0; i < 10_000; i++) {
+                ids.add(generator.nextId());
+            }
+
+            // Assert
+            assertThat(ids).isSorted().doesNotHaveDuplicates();
+        }
+
+        @Test
+        @DisplayName("Deve continuar crescente quando o relógio retrocede")
+        void shouldBeMonotonicWhenClockGoesBackwards() {
+            // Arrange
+            AtomicLong clock = new AtomicLong(1_760_000_000_000L);
+            UuidV7Generator generator = new UuidV7Generator(clock::get);
+
+            // Act
+            UUID first = generator.nextId();
+            clock.addAndGet(-5_000);
+            UUID second = generator.nextId();
+
+            // Assert
+            assertThat(second).isGreaterThan(first);
+        }
+
+        @Test
+        @DisplayName("Deve gerar IDs únicos e ordenados por thread sob concorrência")
+        void shouldBeUniqueAndOrderedUnderConcurrency() throws InterruptedException {
+            // Arrange
+            UuidV7Generator generator = new UuidV7Generator();
+            int threads = 8;
+            int idsPerThread = 20_000;
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            CountDownLatch start = new CountDownLatch(1);
+            ConcurrentLinkedQueue<List<UUID>> results = new ConcurrentLinkedQueue<>();
+
+            // Act
+            for (int t = 0; t < threads; t++) {
+                executor.submit(() -> {
+                    List<UUID> ids = new ArrayList<>(idsPerThread);
+                    start.await();
+                    for (int i = 0; i < idsPerThread; i++) {
+                        ids.add(generator.nextId());
+                    }
+                    results.add(ids);
+                    return null;
+                });
+            }
+            start.countDown();
+            executor.shutdown();
+            assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+            // Assert
+            Set<UUID> all = new HashSet<>();
+            results.forEach(ids -> {
+                assertThat(ids).isSorted();
+                all.addAll(ids);
+            });
+            assertThat(all).hasSize(threads * idsPerThread);
+        }
+    }
+}
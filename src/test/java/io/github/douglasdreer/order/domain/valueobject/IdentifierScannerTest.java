@@ -0,0 +1,57 @@
+package io.github.douglasdreer.order.domain.valueobject;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("IdentifierScanner - Validação de identificadores sem regex")
+class IdentifierScannerTest {
+
+    /** Regra anterior de ExternalOrderId/ProductId, usada como oráculo. */
+    private static final Pattern LEGACY_PATTERN = Pattern.compile("^[a-zA-Z0-9_-]+$");
+
+    private static IdentifierScanner.Verdict legacy(String value) {
+        if (value == null || value.isBlank()) {
+            return IdentifierScanner.Verdict.BLANK;
+        }
+        String trimmed = value.trim();
+        if (trimmed.length() > IdentifierScanner.MAX_LENGTH) {
+            return IdentifierScanner.Verdict.TOO_LONG;
+        }
+        return LEGACY_PATTERN.matcher(trimmed).matches()
+                ? IdentifierScanner.Verdict.VALID
+                : IdentifierScanner.Verdict.INVALID_CHARACTERS;
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "", " ", "\t\n", "EXT-001", "  EXT_001  ", "\tPROD-9\n", "a", "Z9-_",
+            "EXT 001", "EXT.001", "EXT/001", "pedido-ç", "ÉXT", "１２３", "EXT-001 ",
+            "\u0000", "\u0001EXT", "EXT\u007f", "-", "_"
+    })
+    @DisplayName("Deve aceitar e rejeitar exatamente como o padrão regex anterior")
+    void shouldMatchLegacyRegex(String value) {
+        assertThat(IdentifierScanner.scan(value)).isEqualTo(legacy(value));
+    }
+
+    @Test
+    @DisplayName("Deve tratar null como em branco")
+    void shouldTreatNullAsBlank() {
+        assertThat(IdentifierScanner.scan(null)).isEqualTo(IdentifierScanner.Verdict.BLANK);
+    }
+
+    @Test
+    @DisplayName("Deve aplicar o limite de tamanho ao valor aparado")
+    void shouldApplyLengthLimitAfterTrim() {
+        String atLimit = "A".repeat(IdentifierScanner.MAX_LENGTH);
+
+        assertThat(IdentifierScanner.scan("  " + atLimit + "  ")).isEqualTo(IdentifierScanner.Verdict.VALID);
+        assertThat(IdentifierScanner.scan(atLimit + "B")).isEqualTo(IdentifierScanner.Verdict.TOO_LONG);
+        assertThat(IdentifierScanner.scan(atLimit + "B")).isEqualTo(legacy(atLimit + "B"));
+    }
+}
@@ -0,0 +1,88 @@
+package io.github.douglasdreer.order.infrastructure.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.mockito.Mockito.*;
+
+@DisplayName("DataSourceConfig - Roteamento entre pools de escrita e leitura")
+class DataSourceConfigTest {
+
+    private final DataSource writePool = mock(DataSource.class);
+    private final DataSource readPool = mock(DataSource.class);
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        stubConnection(writePool);
+        stubConnection(readPool);
+
+        DataSource dataSource = new DataSourceConfig().dataSource(writePool, readPool);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+
+    private static void stubConnection(DataSource pool) throws SQLException {
+        Connection connection = mock(Connection.class);
+        when(connection.getAutoCommit()).thenReturn(true);
+        when(connection.createStatement()).thenReturn(mock(Statement.class));
+        when(pool.getConnection()).thenReturn(connection);
+    }
+
+    @Test
+    @DisplayName("Deve usar o pool de leitura em transações readOnly")
+    void shouldRouteReadOnlyTransactionsToReadPool() throws SQLException {
+        // Arrange - descarta a conexão usada para ler os padrões (autoCommit/isolamento)
+        jdbcTemplate.execute("SELECT 1");
+        clearInvocations(writePool, readPool);
+        transactionTemplate.setReadOnly(true);
+
+        // Act
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.execute("SELECT 1"));
+
+        // Assert
+        verify(readPool).getConnection();
+        verify(writePool, never()).getConnection();
+    }
+
+    @Test
+    @DisplayName("Deve usar o pool de escrita em transações de escrita")
+    void shouldRouteWriteTransactionsToWritePool() throws SQLException {
+        // Arrange
+        jdbcTemplate.execute("SELECT 1");
+        clearInvocations(writePool, readPool);
+
+        // Act
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.execute("UPDATE orders SET status = 'X'"));
+
+        // Assert
+        verify(writePool).getConnection();
+        verify(readPool, never()).getConnection();
+    }
+
+    @Test
+    @DisplayName("Não deve obter conexão em transação sem statements")
+    void shouldNotAcquireConnectionForEmptyTransaction() throws SQLException {
+        // Arrange
+        jdbcTemplate.execute("SELECT 1");
+        clearInvocations(writePool, readPool);
+
+        // Act
+        transactionTemplate.executeWithoutResult(status -> { });
+
+        // Assert
+        verify(writePool, never()).getConnection();
+        verify(readPool, never()).getConnection();
+    }
+}
@@ -0,0 +1,159 @@
+package io.github.douglasdreer.order.infrastructure.config;
+
+import io.github.douglasdreer.order.application.mapper.OrderApplicationMapper;
+import io.github.douglasdreer.order.application.port.input.GetOrderUseCase;
+import io.github.douglasdreer.order.application.port.output.OrderChangeFeedPort;
+import io.github.douglasdreer.order.application.port.output.OrderRepositoryPort;
+import io.github.douglasdreer.order.application.port.output.OrderViewPort;
+import io.github.douglasdreer.order.application.usecase.GetOrderUseCaseImpl;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler.FirstMatchingCompositeObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.tracing.handler.DefaultTracingObservationHandler;
+import io.micrometer.tracing.handler.PropagatingReceiverTracingObservationHandler;
+import io.micrometer.tracing.handler.PropagatingSenderTracingObservationHandler;
+import io.micrometer.tracing.otel.bridge.OtelCurrentTraceContext;
+import io.micrometer.tracing.otel.bridge.OtelPropagator;
+import io.micrometer.tracing.otel.bridge.OtelTracer;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.propagation.ContextPropagators;
+import io.opentelemetry.exporter.otlp.http.trace.OtlpHttpSpanExporter;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.support.micrometer.RabbitMessageReceiverContext;
+import org.springframework.amqp.rabbit.support.micrometer.RabbitMessageSenderContext;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("TracingConfig - Spans e propagação de contexto")
+class TracingConfigTest {
+
+    @Nested
+    @DisplayName("Seleção do exporter")
+    class ExporterSelectionTests {
+
+        private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+                .withInitializer(context -> context.getBeanFactory()
+                        .setConversionService(ApplicationConversionService.getSharedInstance()))
+                .withBean(ObservationRegistry.class, ObservationRegistry::create)
+                .withUserConfiguration(TracingConfig.class);
+
+        @Test
+        @DisplayName("Deve registrar exporter OTLP por padrão")
+        void shouldRegisterOtlpExporterByDefault() {
+            contextRunner.run(context -> assertThat(context).hasSingleBean(OtlpHttpSpanExporter.class));
+        }
+
+        @Test
+        @DisplayName("Não deve registrar exporter OTLP quando exporter=none")
+        void shouldNotRegisterOtlpExporterWhenDisabled() {
+            contextRunner.withPropertyValues("app.tracing.exporter=none")
+                    .run(context -> assertThat(context).doesNotHaveBean(OtlpHttpSpanExporter.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("Árvore de spans com exporter em memória")
+    class SpanTreeTests {
+
+        private InMemorySpanExporter exporter;
+        private SdkTracerProvider tracerProvider;
+        private ObservationRegistry registry;
+
+        @BeforeEach
+        void setUp() {
+            exporter = InMemorySpanExporter.create();
+            tracerProvider = SdkTracerProvider.builder()
+                    .addSpanProcessor(SimpleSpanProcessor.create(exporter))
+                    .build();
+            var otelTracer = tracerProvider.get("order-service-test");
+            var tracer = new OtelTracer(otelTracer, new OtelCurrentTraceContext(), event -> { });
+            var propagator = new OtelPropagator(
+                    ContextPropagators.create(W3CTraceContextPropagator.getInstance()), otelTracer);
+
+            registry = ObservationRegistry.create();
+            registry.observationConfig().observationHandler(new FirstMatchingCompositeObservationHandler(
+                    new PropagatingSenderTracingObservationHandler<>(tracer, propagator),
+                    new PropagatingReceiverTracingObservationHandler<>(tracer, propagator),
+                    new DefaultTracingObservationHandler(tracer)));
+        }
+
+        @AfterEach
+        void tearDown() {
+            tracerProvider.close();
+        }
+
+        private GetOrderUseCase observedUseCase() {
+            OrderViewPort views = mock(OrderViewPort.class);
+            when(views.findById(any())).thenReturn(Optional.empty());
+
+            AspectJProxyFactory factory = new AspectJProxyFactory(
+                    new GetOrderUseCaseImpl(mock(OrderRepositoryPort.class), views,
+                            mock(OrderChangeFeedPort.class), new OrderApplicationMapper()));
+            factory.setProxyTargetClass(true);
+            factory.addAspect(new TracingConfig().observedAspect(registry));
+            return factory.getProxy();
+        }
+
+        @Test
+        @DisplayName("Deve criar span do caso de uso como filho do span da entrega")
+        void shouldNestUseCaseSpanUnderDeliverySpan() {
+            // Arrange
+            GetOrderUseCase useCase = observedUseCase();
+
+            // Act
+            Observation.createNotStarted("delivery", registry)
+                    .observe(() -> useCase.findById(UUID.randomUUID()));
+
+            // Assert
+            List<SpanData> spans = exporter.getFinishedSpanItems();
+            assertThat(spans).hasSize(2);
+            SpanData useCaseSpan = spans.get(0);
+            SpanData deliverySpan = spans.get(1);
+            assertThat(useCaseSpan.getName()).isEqualTo("get-order-use-case-impl#find-by-id");
+            assertThat(useCaseSpan.getTraceId()).isEqualTo(deliverySpan.getTraceId());
+            assertThat(useCaseSpan.getParentSpanId()).isEqualTo(deliverySpan.getSpanId());
+        }
+
+        @Test
+        @DisplayName("Deve propagar o contexto de trace pelos headers AMQP")
+        void shouldPropagateTraceContextThroughAmqpHeaders() {
+            // Arrange
+            Message message = new Message(new byte[0], new MessageProperties());
+
+            // Act - publicação injeta traceparent; consumo extrai e continua o trace
+            Observation.createNotStarted("publish", () -> new RabbitMessageSenderContext(message, "rabbitTemplate", "order.exchange"), registry)
+                    .observe(() -> { });
+            Observation.createNotStarted("process", () -> new RabbitMessageReceiverContext(message, "orderCreated"), registry)
+                    .observe(() -> { });
+
+            // Assert
+            assertThat(message.getMessageProperties().<String>getHeader("traceparent")).isNotBlank();
+            List<SpanData> spans = exporter.getFinishedSpanItems();
+            assertThat(spans).hasSize(2);
+            SpanData sendSpan = spans.get(0);
+            SpanData receiveSpan = spans.get(1);
+            assertThat(receiveSpan.getTraceId()).isEqualTo(sendSpan.getTraceId());
+            assertThat(receiveSpan.getParentSpanId()).isEqualTo(sendSpan.getSpanId());
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package io.github.douglasdreer.order.infrastructure.jfr;
+
+import io.github.douglasdreer.order.application.mapper.OrderApplicationMapper;
+import io.github.douglasdreer.order.domain.entity.Order;
+import io.github.douglasdreer.order.domain.factory.OrderTestFactory;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("JfrPipelineAspect - Eventos JFR do pipeline")
+class JfrPipelineAspectTest {
+
+    @TempDir
+    Path tempDir;
+
+    private OrderApplicationMapper proxiedMapper() {
+        AspectJProxyFactory factory = new AspectJProxyFactory(new OrderApplicationMapper());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new JfrPipelineAspect());
+        return factory.getProxy();
+    }
+
+    private List<RecordedEvent> record(Runnable action) throws Exception {
+        Path file = tempDir.resolve("test.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(OrderPipelineEvent.NAME);
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals(OrderPipelineEvent.NAME))
+                .toList();
+    }
+
+    @Test
+    @DisplayName("Deve emitir evento com dados do pedido retornado")
+    void shouldEmitEventWithOrderAttributes() throws Exception {
+        // Arrange
+        OrderApplicationMapper mapper = proxiedMapper();
+        Order order = OrderTestFactory.withItems(3);
+
+        // Act
+        List<RecordedEvent> events = record(() -> mapper.toResponse(order));
+
+        // Assert
+        assertThat(events).singleElement().satisfies(event -> {
+            assertThat(event.getString("layer")).isEqualTo("mapper");
+            assertThat(event.getString("operation")).isEqualTo("OrderApplicationMapper.toResponse");
+            assertThat(event.getString("orderId")).isEqualTo(order.getId().toString());
+            assertThat(event.getString("externalOrderId")).isEqualTo(order.getExternalOrderIdValue());
+            assertThat(event.getInt("itemCount")).isEqualTo(3);
+            assertThat(event.getString("status")).isEqualTo(order.getStatus().name());
+            assertThat(event.getString("outcome")).isEqualTo("success");
+        });
+    }
+
+    @Test
+    @DisplayName("Deve registrar tamanho do resultado em consultas de lista")
+    void shouldRecordResultSize() throws Exception {
+        // Arrange
+        OrderApplicationMapper mapper = proxiedMapper();
+        List<Order> orders = List.of(OrderTestFactory.withSingleItem(), OrderTestFactory.withSingleItem());
+
+        // Act
+        List<RecordedEvent> events = record(() -> mapper.toResponseList(orders));
+
+        // Assert
+        assertThat(events).singleElement()
+                .satisfies(event -> assertThat(event.getInt("resultSize")).isEqualTo(2));
+    }
+
+    @Test
+    @DisplayName("Deve marcar evento com outcome error quando a operação falha")
+    void shouldRecordErrorOutcome() throws Exception {
+        // Arrange
+        OrderApplicationMapper mapper = proxiedMapper();
+
+        // Act
+        List<RecordedEvent> events = record(() ->
+                assertThatThrownBy(() -> mapper.toResponseList(null)).isInstanceOf(NullPointerException.class));
+
+        // Assert
+        assertThat(events).singleElement()
+                .satisfies(event -> assertThat(event.getString("outcome")).isEqualTo("error"));
+    }
+}
@@ -0,0 +1,78 @@
+package io.github.douglasdreer.order.infrastructure.jfr;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("JfrRecordingEndpoint - Gravações JFR sob demanda")
+class JfrRecordingEndpointTest {
+
+    @TempDir
+    Path tempDir;
+
+    private JfrRecordingEndpoint endpoint;
+
+    @BeforeEach
+    void setUp() {
+        endpoint = new JfrRecordingEndpoint(tempDir, Duration.ofMinutes(2), DataSize.ofMegabytes(16));
+    }
+
+    @AfterEach
+    void tearDown() {
+        endpoint.stop();
+    }
+
+    @Test
+    @DisplayName("Deve iniciar e encerrar gravação gerando arquivo .jfr")
+    void shouldStartAndStopRecording() {
+        // Act
+        Map<String, Object> started = endpoint.start(30, "default");
+        Map<String, Object> stopped = endpoint.stop();
+
+        // Assert
+        assertThat(started).containsEntry("state", "RUNNING").containsEntry("duration", Duration.ofSeconds(30));
+        assertThat(Path.of((String) stopped.get("destination"))).exists()
+                .satisfies(file -> assertThat(Files.size(file)).isPositive());
+        assertThat(endpoint.status()).containsEntry("state", "IDLE");
+    }
+
+    @Test
+    @DisplayName("Deve limitar duração ao máximo configurado")
+    void shouldCapDuration() {
+        // Act
+        Map<String, Object> started = endpoint.start(3600, "profile");
+
+        // Assert
+        assertThat(started).containsEntry("duration", Duration.ofMinutes(2));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar segunda gravação simultânea e parâmetros inválidos")
+    void shouldRejectInvalidRequests() {
+        // Arrange
+        endpoint.start(30, "profile");
+
+        // Act & Assert
+        assertThatThrownBy(() -> endpoint.start(30, "profile"))
+                .isInstanceOf(InvalidEndpointRequestException.class);
+        endpoint.stop();
+        assertThatThrownBy(() -> endpoint.start(0, "profile"))
+                .isInstanceOf(InvalidEndpointRequestException.class);
+        assertThatThrownBy(() -> endpoint.start(30, "custom"))
+                .isInstanceOf(InvalidEndpointRequestException.class);
+        assertThatThrownBy(() -> endpoint.start(30, null))
+                .isInstanceOf(InvalidEndpointRequestException.class);
+    }
+}
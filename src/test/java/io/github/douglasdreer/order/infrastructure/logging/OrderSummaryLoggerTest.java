@@ -0,0 +1,154 @@
+package io.github.douglasdreer.order.infrastructure.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import io.github.douglasdreer.order.domain.exception.ValidationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("OrderSummaryLogger - Log consolidado e amostrado por pedido")
+class OrderSummaryLoggerTest {
+
+    private final Logger logger = (Logger) LoggerFactory.getLogger(OrderSummaryLogger.LOGGER_NAME);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    @BeforeEach
+    void setUp() {
+        appender.start();
+        logger.addAppender(appender);
+        logger.setLevel(Level.INFO);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+        logger.setLevel(null);
+    }
+
+    private static OrderSummary.OrderSummaryBuilder summary() {
+        return OrderSummary.builder()
+                .channel("amqp")
+                .correlationId("corr-1")
+                .externalOrderId("CUST-1")
+                .itemCount(2)
+                .durationMs(12);
+    }
+
+    private static OrderSummary success() {
+        return summary().outcome("success").orderId(UUID.randomUUID()).build();
+    }
+
+    @Nested
+    @DisplayName("Sucesso")
+    class SuccessTests {
+
+        @Test
+        @DisplayName("Deve registrar um evento INFO com os campos do pedido")
+        void shouldLogSingleInfoEvent() {
+            // Arrange
+            OrderSummary summary = success();
+
+            // Act
+            new OrderSummaryLogger(1.0).log(summary);
+
+            // Assert
+            assertThat(appender.list).singleElement().satisfies(event -> {
+                assertThat(event.getLevel()).isEqualTo(Level.INFO);
+                assertThat(event.getFormattedMessage())
+                        .contains("outcome=success", "correlationId=corr-1", "orderId=" + summary.orderId(),
+                                "itemCount=2", "durationMs=12");
+            });
+        }
+
+        @Test
+        @DisplayName("Deve amostrar sucessos conforme a taxa configurada")
+        void shouldSampleSuccesses() {
+            // Arrange - sorteios 0.05, 0.5, 0.09, 0.95 com taxa 0.1 -> 2 registrados
+            double[] draws = {0.05, 0.5, 0.09, 0.95};
+            int[] next = {0};
+            OrderSummaryLogger summaryLogger = new OrderSummaryLogger(0.1, () -> draws[next[0]++]);
+
+            // Act
+            for (int i = 0; i < draws.length; i++) {
+                summaryLogger.log(success());
+            }
+
+            // Assert
+            assertThat(appender.list).hasSize(2);
+        }
+
+        @Test
+        @DisplayName("Deve sempre registrar pedido duplicado, sem amostragem")
+        void shouldAlwaysLogDuplicates() {
+            // Act
+            new OrderSummaryLogger(0.0).log(summary().outcome(OrderSummaryLogger.DUPLICATE).build());
+
+            // Assert
+            assertThat(appender.list).singleElement().satisfies(event -> {
+                assertThat(event.getLevel()).isEqualTo(Level.INFO);
+                assertThat(event.getFormattedMessage()).contains("outcome=duplicate");
+            });
+        }
+
+        @Test
+        @DisplayName("Não deve registrar sucessos com taxa zero")
+        void shouldDropAllSuccessesWithZeroRate() {
+            // Act
+            new OrderSummaryLogger(0.0).log(success());
+
+            // Assert
+            assertThat(appender.list).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Falhas")
+    class FailureTests {
+
+        @Test
+        @DisplayName("Deve sempre registrar erro de domínio como WARN, sem stack trace")
+        void shouldAlwaysLogDomainErrorsAsWarn() {
+            // Act
+            new OrderSummaryLogger(0.0).log(summary().outcome("domain_error")
+                    .error(new ValidationException("Pedido sem itens")).build());
+
+            // Assert
+            assertThat(appender.list).singleElement().satisfies(event -> {
+                assertThat(event.getLevel()).isEqualTo(Level.WARN);
+                assertThat(event.getFormattedMessage()).contains("outcome=domain_error", "error=Pedido sem itens");
+                assertThat(event.getThrowableProxy()).isNull();
+            });
+        }
+
+        @Test
+        @DisplayName("Deve sempre registrar erro inesperado como ERROR com stack trace")
+        void shouldAlwaysLogUnexpectedErrorsWithStackTrace() {
+            // Act
+            new OrderSummaryLogger(0.0).log(summary().outcome("error")
+                    .error(new IllegalStateException("conexão perdida")).build());
+
+            // Assert
+            assertThat(appender.list).singleElement().satisfies(event -> {
+                assertThat(event.getLevel()).isEqualTo(Level.ERROR);
+                assertThat(event.getThrowableProxy().getMessage()).isEqualTo("conexão perdida");
+            });
+        }
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar taxa de amostragem fora de [0, 1]")
+    void shouldRejectInvalidSampleRate() {
+        assertThatThrownBy(() -> new OrderSummaryLogger(1.5)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
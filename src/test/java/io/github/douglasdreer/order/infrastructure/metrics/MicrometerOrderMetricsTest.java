@@ -0,0 +1,95 @@
+package io.github.douglasdreer.order.infrastructure.metrics;
+
+import io.github.douglasdreer.order.domain.valueobject.OrderStatus;
+import io.github.douglasdreer.order.domain.valueobject.StatusTransition;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MicrometerOrderMetrics - Métricas de negócio")
+class MicrometerOrderMetricsTest {
+
+    private SimpleMeterRegistry registry;
+    private MicrometerOrderMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        metrics = new MicrometerOrderMetrics(registry);
+    }
+
+    @Test
+    @DisplayName("Deve registrar contadores de resultado pré-criados com valor zero")
+    void shouldRegisterOutcomeCountersUpFront() {
+        assertThat(registry.get(MicrometerOrderMetrics.OUTCOMES).counters()).hasSize(3);
+        assertThat(registry.get(MicrometerOrderMetrics.OUTCOMES).tag("outcome", "created").counter().count())
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("Deve contar pedido criado e registrar quantidade de itens")
+    void shouldRecordCreatedOrder() {
+        // Arrange & Act
+        metrics.orderCreated(3);
+        metrics.orderCreated(5);
+
+        // Assert
+        assertThat(registry.get(MicrometerOrderMetrics.OUTCOMES).tag("outcome", "created").counter().count())
+                .isEqualTo(2);
+        DistributionSummary items = registry.get(MicrometerOrderMetrics.ITEMS).summary();
+        assertThat(items.count()).isEqualTo(2);
+        assertThat(items.totalAmount()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("Deve contar rejeições por duplicidade e validação separadamente")
+    void shouldRecordRejections() {
+        // Arrange & Act
+        metrics.duplicateRejected();
+        metrics.validationFailed();
+        metrics.validationFailed();
+
+        // Assert
+        assertThat(registry.get(MicrometerOrderMetrics.OUTCOMES).tag("outcome", "duplicate").counter().count())
+                .isEqualTo(1);
+        assertThat(registry.get(MicrometerOrderMetrics.OUTCOMES).tag("outcome", "validation_failed").counter().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Deve marcar transição rejeitada com status de origem e destino")
+    void shouldTagRejectedTransition() {
+        // Act
+        metrics.transitionRejected(OrderStatus.AVAILABLE, OrderStatus.FAILED);
+
+        // Assert
+        assertThat(registry.get(MicrometerOrderMetrics.TRANSITIONS_REJECTED)
+                .tag("from", "AVAILABLE")
+                .tag("to", "FAILED")
+                .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve registrar permanência no status de origem da transição")
+    void shouldRecordDwellByOriginStatus() {
+        // Act
+        metrics.statusTransitioned(new StatusTransition(
+                OrderStatus.PROCESSING, OrderStatus.CALCULATED, Instant.now(), Duration.ofSeconds(2)));
+
+        // Assert
+        Timer dwell = registry.get(MicrometerOrderMetrics.STATUS_DWELL).tag("status", "PROCESSING").timer();
+        assertThat(dwell.count()).isEqualTo(1);
+        assertThat(dwell.totalTime(TimeUnit.SECONDS)).isEqualTo(2.0);
+        assertThat(registry.get(MicrometerOrderMetrics.STATUS_DWELL).tag("status", "CALCULATED").timer().count())
+                .isZero();
+    }
+}
@@ -0,0 +1,142 @@
+package io.github.douglasdreer.order.infrastructure.persistence;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.flywaydb.core.api.output.MigrateResult;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Migrações Flyway contra PostgreSQL real, com o callback
+ * {@code beforeEachMigrate__drop_indexes_recreated_by_v3.sql}: a V3 recria índices da V1
+ * sem IF NOT EXISTS e só passa porque o callback os remove entre a V2 e a V3.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Migrações Flyway - Callback dos índices recriados pela V3")
+class FlywayMigrationsIT {
+
+    private static final List<String> V3_INDEXES = List.of("idx_orders_status", "idx_orders_created_at");
+    private static final AtomicInteger DATABASES = new AtomicInteger();
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    private static JdbcTemplate admin;
+
+    private JdbcTemplate jdbcTemplate;
+    private DataSource dataSource;
+
+    @BeforeAll
+    static void connect() {
+        admin = new JdbcTemplate(new DriverManagerDataSource(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword()));
+    }
+
+    /** Cada teste migra um banco vazio próprio. */
+    @BeforeEach
+    void createDatabase() {
+        String name = "migrations_" + DATABASES.incrementAndGet();
+        admin.execute("CREATE DATABASE " + name);
+        dataSource = new DriverManagerDataSource(
+                "jdbc:postgresql://%s:%d/%s".formatted(POSTGRES.getHost(),
+                        POSTGRES.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT), name),
+                POSTGRES.getUsername(), POSTGRES.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    private Flyway flyway(String target) {
+        return Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                .validateOnMigrate(true)
+                .target(target)
+                .load();
+    }
+
+    private MigrateResult migrate(String target) {
+        return flyway(target).migrate();
+    }
+
+    private MigrateResult migrate() {
+        return migrate("latest");
+    }
+
+    /** OID de cada índice recriado pela V3; nulo se o índice não existe. */
+    private Map<String, Long> indexOids() {
+        Map<String, Long> oids = new HashMap<>();
+        V3_INDEXES.forEach(name -> oids.put(name, indexOid(name)));
+        return oids;
+    }
+
+    private Long indexOid(String name) {
+        return jdbcTemplate.queryForObject("SELECT to_regclass(?)::oid::bigint", Long.class, name);
+    }
+
+    private String latestVersion() {
+        MigrationInfo[] all = flyway("latest").info().all();
+        return all[all.length - 1].getVersion().getVersion();
+    }
+
+    @Test
+    @DisplayName("Deve aplicar todas as migrações em um banco novo")
+    void shouldMigrateFreshDatabase() {
+        // Act
+        MigrateResult result = migrate();
+
+        // Assert
+        assertThat(result.success).isTrue();
+        assertThat(result.targetSchemaVersion).isEqualTo(latestVersion());
+        assertThat(indexOids()).doesNotContainValue(null);
+        assertThat(jdbcTemplate.queryForObject("SELECT obj_description(to_regclass('idx_orders_status'), 'pg_class')",
+                String.class)).isEqualTo("Otimiza consultas por status do Produto B");
+    }
+
+    @Test
+    @DisplayName("Deve aplicar a V3 em banco parado na V2, que já tem os índices da V1")
+    void shouldMigrateDatabaseStoppedAtV2() {
+        // Arrange
+        migrate("2");
+        assertThat(indexOids()).doesNotContainValue(null);
+
+        // Act
+        MigrateResult result = migrate();
+
+        // Assert
+        assertThat(result.success).isTrue();
+        assertThat(result.migrations).extracting(migration -> migration.version).contains("3");
+        assertThat(indexOids()).doesNotContainValue(null);
+    }
+
+    @Test
+    @DisplayName("Não deve remover os índices de banco que já aplicou a V3")
+    void shouldKeepIndexesOfAlreadyMigratedDatabase() {
+        // Arrange
+        migrate("3");
+        Map<String, Long> afterV3 = indexOids();
+
+        // Act
+        MigrateResult pending = migrate();
+        MigrateResult again = migrate();
+
+        // Assert
+        assertThat(pending.success).isTrue();
+        assertThat(again.success).isTrue();
+        assertThat(again.migrationsExecuted).isZero();
+        assertThat(indexOids()).isEqualTo(afterV3);
+    }
+}
@@ -0,0 +1,279 @@
+package io.github.douglasdreer.order.infrastructure.persistence;
+
+import io.github.douglasdreer.order.application.port.output.OrderRepositoryPort;
+import io.github.douglasdreer.order.domain.entity.Order;
+import io.github.douglasdreer.order.domain.entity.OrderItem;
+import io.github.douglasdreer.order.domain.valueobject.ExternalOrderId;
+import io.github.douglasdreer.order.domain.valueobject.Money;
+import io.github.douglasdreer.order.domain.valueobject.OrderStatus;
+import io.github.douglasdreer.order.domain.valueobject.ProductId;
+import io.github.douglasdreer.order.domain.valueobject.StatusTransition;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Currency;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Contrato comum para implementações de {@link OrderRepositoryPort}.
+ * <p>
+ * Cada adapter estende esta classe fornecendo sua instância em {@link #repository()},
+ * garantindo que JPA/PostgreSQL e memória se comportem da mesma forma.
+ * Instantes são truncados em microssegundos (precisão do PostgreSQL).
+ */
+public abstract class OrderRepositoryPortContract {
+
+    private static final Currency BRL = Currency.getInstance("BRL");
+
+    protected abstract OrderRepositoryPort repository();
+
+    protected Order newOrder(String externalOrderId, OrderStatus status, Instant createdAt) {
+        Instant timestamp = createdAt.truncatedTo(ChronoUnit.MICROS);
+        OrderItem item = OrderItem.builder()
+                .productId(ProductId.of("PROD-001"))
+                .productName("Produto Teste")
+                .unitPrice(Money.of(new BigDecimal("10.50"), BRL))
+                .quantity(3)
+                .createdAt(timestamp)
+                .build();
+
+        return Order.builder()
+                .externalOrderId(ExternalOrderId.of(externalOrderId))
+                .status(status)
+                .addItem(item)
+                .totalAmount(Money.of(new BigDecimal("31.50"), BRL))
+                .createdAt(timestamp)
+                .build();
+    }
+
+    protected Order newOrder(String externalOrderId) {
+        return newOrder(externalOrderId, OrderStatus.RECEIVED, Instant.now());
+    }
+
+    private static String uniqueExternalId() {
+        return "EXT-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    @Nested
+    @DisplayName("insertIfAbsent e save")
+    class WriteTests {
+
+        @Test
+        @DisplayName("Deve inserir pedido novo e recuperá-lo com itens")
+        void shouldInsertAndFindWithItems() {
+            // Arrange
+            Order order = newOrder(uniqueExternalId());
+
+            // Act
+            Optional<Order> inserted = repository().insertIfAbsent(order);
+            Optional<Order> found = repository().findByIdWithItems(order.getId());
+
+            // Assert
+            assertThat(inserted).isPresent();
+            assertThat(found).isPresent();
+            Order loaded = found.get();
+            assertThat(loaded.getExternalOrderIdValue()).isEqualTo(order.getExternalOrderIdValue());
+            assertThat(loaded.getStatus()).isEqualTo(OrderStatus.RECEIVED);
+            assertThat(loaded.getTotalAmount()).isEqualTo(order.getTotalAmount());
+            assertThat(loaded.getCreatedAt()).isEqualTo(order.getCreatedAt());
+            assertThat(loaded.getItems()).hasSize(1);
+            assertThat(loaded.getItems().get(0).getId()).isEqualTo(order.getItems().get(0).getId());
+            assertThat(loaded.getItems().get(0).getQuantity()).isEqualTo(3);
+            assertThat(loaded.getItems().get(0).getUnitPrice()).isEqualTo(order.getItems().get(0).getUnitPrice());
+        }
+
+        @Test
+        @DisplayName("Não deve inserir pedido com External ID já existente")
+        void shouldNotInsertDuplicate() {
+            // Arrange
+            String externalId = uniqueExternalId();
+            repository().insertIfAbsent(newOrder(externalId));
+
+            // Act
+            Optional<Order> duplicate = repository().insertIfAbsent(newOrder(externalId));
+
+            // Assert
+            assertThat(duplicate).isEmpty();
+            assertThat(repository().findByExternalOrderId(externalId)).isPresent();
+        }
+
+        @Test
+        @DisplayName("Deve persistir transição de status em pedido existente")
+        void shouldUpdateStatus() {
+            // Arrange
+            Order order = newOrder(uniqueExternalId());
+            repository().insertIfAbsent(order);
+            Order loaded = repository().findById(order.getId()).orElseThrow();
+
+            // Act
+            repository().save(loaded.startProcessing());
+            Order reloaded = repository().findById(order.getId()).orElseThrow();
+
+            // Assert
+            assertThat(reloaded.getStatus()).isEqualTo(OrderStatus.PROCESSING);
+        }
+
+        @Test
+        @DisplayName("Deve incrementar a versão a cada escrita e devolvê-la no pedido salvo")
+        void shouldIncrementVersion() {
+            // Arrange
+            Order order = newOrder(uniqueExternalId());
+            repository().insertIfAbsent(order);
+            long inserted = repository().findVersionById(order.getId()).orElseThrow();
+
+            // Act
+            Order saved = repository().save(repository().findById(order.getId()).orElseThrow().startProcessing());
+
+            // Assert
+            assertThat(saved.getVersion()).isEqualTo(inserted + 1);
+            assertThat(repository().findVersionById(order.getId())).contains(inserted + 1);
+            assertThat(repository().findVersionById(UUID.randomUUID())).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Histórico de status")
+    class StatusHistoryTests {
+
+        @Test
+        @DisplayName("Deve acumular transições em ordem cronológica entre escritas")
+        void shouldAppendTransitions() {
+            // Arrange
+            Order order = newOrder(uniqueExternalId()).calculateTotal();
+            repository().insertIfAbsent(order);
+
+            // Act
+            Order loaded = repository().findByIdWithItems(order.getId()).orElseThrow();
+            repository().save(loaded.markAsAvailable());
+            List<StatusTransition> history = repository().findStatusHistory(order.getId());
+
+            // Assert
+            assertThat(history).extracting(StatusTransition::from, StatusTransition::to)
+                    .containsExactly(
+                            tuple(OrderStatus.RECEIVED, OrderStatus.CALCULATED),
+                            tuple(OrderStatus.CALCULATED, OrderStatus.AVAILABLE));
+            assertThat(history).allSatisfy(transition -> assertThat(transition.dwell().isNegative()).isFalse());
+        }
+
+        @Test
+        @DisplayName("Deve retornar histórico vazio para pedido sem transições")
+        void shouldReturnEmptyHistory() {
+            // Arrange
+            Order order = newOrder(uniqueExternalId());
+            repository().insertIfAbsent(order);
+
+            // Act & Assert
+            assertThat(repository().findStatusHistory(order.getId())).isEmpty();
+            assertThat(repository().findStatusHistory(UUID.randomUUID())).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Consultas")
+    class QueryTests {
+
+        @Test
+        @DisplayName("Deve verificar existência por External ID")
+        void shouldCheckExistence() {
+            // Arrange
+            String externalId = uniqueExternalId();
+            repository().insertIfAbsent(newOrder(externalId));
+
+            // Act & Assert
+            assertThat(repository().existsByExternalOrderId(externalId)).isTrue();
+            assertThat(repository().existsByExternalOrderId(uniqueExternalId())).isFalse();
+        }
+
+        @Test
+        @DisplayName("Deve retornar vazio para ID inexistente")
+        void shouldReturnEmptyForUnknownId() {
+            assertThat(repository().findById(UUID.randomUUID())).isEmpty();
+            assertThat(repository().findByExternalOrderId(uniqueExternalId())).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Deve filtrar e contar pedidos por status")
+        void shouldFindAndCountByStatus() {
+            // Arrange
+            long availableBefore = repository().countByStatus(OrderStatus.AVAILABLE);
+            Order available = newOrder(uniqueExternalId(), OrderStatus.AVAILABLE, Instant.now());
+            Order failed = newOrder(uniqueExternalId(), OrderStatus.FAILED, Instant.now());
+            repository().insertIfAbsent(available);
+            repository().insertIfAbsent(failed);
+
+            // Act & Assert
+            assertThat(repository().findByStatus(OrderStatus.AVAILABLE))
+                    .extracting(Order::getId)
+                    .contains(available.getId())
+                    .doesNotContain(failed.getId());
+            assertThat(repository().countByStatus(OrderStatus.AVAILABLE)).isEqualTo(availableBefore + 1);
+        }
+
+        @Test
+        @DisplayName("Deve mover pedido entre status ao atualizar")
+        void shouldMoveBetweenStatusIndexes() {
+            // Arrange
+            Order order = newOrder(uniqueExternalId());
+            repository().insertIfAbsent(order);
+            long receivedBefore = repository().countByStatus(OrderStatus.RECEIVED);
+
+            // Act
+            repository().save(repository().findById(order.getId()).orElseThrow().markAsFailed());
+
+            // Assert
+            assertThat(repository().findByStatus(OrderStatus.RECEIVED))
+                    .extracting(Order::getId)
+                    .doesNotContain(order.getId());
+            assertThat(repository().findByStatus(OrderStatus.FAILED))
+                    .extracting(Order::getId)
+                    .contains(order.getId());
+            assertThat(repository().countByStatus(OrderStatus.RECEIVED)).isEqualTo(receivedBefore - 1);
+        }
+
+        @Test
+        @DisplayName("Deve buscar por intervalo de criação com limites inclusivos")
+        void shouldFindByCreatedAtBetweenInclusive() {
+            // Arrange
+            Instant base = Instant.parse("2001-01-01T00:00:00Z");
+            Order first = newOrder(uniqueExternalId(), OrderStatus.RECEIVED, base);
+            Order middle = newOrder(uniqueExternalId(), OrderStatus.RECEIVED, base.plusSeconds(60));
+            Order last = newOrder(uniqueExternalId(), OrderStatus.RECEIVED, base.plusSeconds(120));
+            Order outside = newOrder(uniqueExternalId(), OrderStatus.RECEIVED, base.plusSeconds(121));
+            repository().insertIfAbsent(first);
+            repository().insertIfAbsent(middle);
+            repository().insertIfAbsent(last);
+            repository().insertIfAbsent(outside);
+
+            // Act & Assert
+            assertThat(repository().findByCreatedAtBetween(base, base.plusSeconds(120)))
+                    .extracting(Order::getId)
+                    .containsExactlyInAnyOrder(first.getId(), middle.getId(), last.getId());
+        }
+
+        @Test
+        @DisplayName("Deve remover pedido e liberar o External ID")
+        void shouldDeleteById() {
+            // Arrange
+            String externalId = uniqueExternalId();
+            Order order = newOrder(externalId);
+            repository().insertIfAbsent(order);
+
+            // Act
+            repository().deleteById(order.getId());
+
+            // Assert
+            assertThat(repository().findById(order.getId())).isEmpty();
+            assertThat(repository().findAll()).extracting(Order::getId).doesNotContain(order.getId());
+            assertThat(repository().insertIfAbsent(newOrder(externalId))).isPresent();
+        }
+    }
+}
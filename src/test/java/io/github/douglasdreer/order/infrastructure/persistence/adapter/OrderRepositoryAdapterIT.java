@@ -0,0 +1,50 @@
+package io.github.douglasdreer.order.infrastructure.persistence.adapter;
+
+import io.github.douglasdreer.order.application.port.output.OrderRepositoryPort;
+import io.github.douglasdreer.order.infrastructure.persistence.OrderRepositoryPortContract;
+import io.github.douglasdreer.order.infrastructure.persistence.mapper.OrderPersistenceMapper;
+import io.github.douglasdreer.order.infrastructure.persistence.repository.OrderJdbcRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Executa o contrato de {@link OrderRepositoryPort} contra PostgreSQL real
+ * (Flyway + JPA + JDBC), garantindo paridade com o adapter em memória.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({
+        OrderRepositoryAdapter.class,
+        OrderPersistenceMapper.class,
+        OrderJdbcRepository.class
+})
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("OrderRepositoryAdapter - Contrato contra PostgreSQL")
+class OrderRepositoryAdapterIT extends OrderRepositoryPortContract {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @DynamicPropertySource
+    static void datasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private OrderRepositoryAdapter repositoryAdapter;
+
+    @Override
+    protected OrderRepositoryPort repository() {
+        return repositoryAdapter;
+    }
+}
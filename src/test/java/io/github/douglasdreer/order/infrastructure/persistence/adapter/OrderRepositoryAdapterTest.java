@@ -6,6 +6,7 @@ import io.github.douglasdreer.order.domain.valueobject.*;
 import io.github.douglasdreer.order.infrastructure.persistence.entity.OrderEntity;
 import io.github.douglasdreer.order.infrastructure.persistence.entity.OrderStatusEntity;
 import io.github.douglasdreer.order.infrastructure.persistence.mapper.OrderPersistenceMapper;
+import io.github.douglasdreer.order.infrastructure.persistence.repository.OrderJdbcRepository;
 import io.github.douglasdreer.order.infrastructure.persistence.repository.OrderJpaRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -14,6 +15,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import java.math.BigDecimal;
 import java.time.Instant;
@@ -23,6 +25,7 @@ import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -33,6 +36,9 @@ class OrderRepositoryAdapterTest {
     @Mock
     private OrderJpaRepository jpaRepository;
 
+    @Mock
+    private OrderJdbcRepository jdbcRepository;
+
     @Mock
     private OrderPersistenceMapper mapper;
 
@@ -86,7 +92,7 @@ class OrderRepositoryAdapterTest {
             OrderEntity jpaEntity = createJpaEntity();
             
             when(mapper.toEntity(domainOrder)).thenReturn(jpaEntity);
-            when(jpaRepository.save(jpaEntity)).thenReturn(jpaEntity);
+            when(jpaRepository.saveAndFlush(jpaEntity)).thenReturn(jpaEntity);
             when(mapper.toDomain(jpaEntity)).thenReturn(domainOrder);
 
             // Act
@@ -95,9 +101,66 @@ class OrderRepositoryAdapterTest {
             // Assert
             assertThat(result).isNotNull();
             verify(mapper).toEntity(domainOrder);
-            verify(jpaRepository).save(jpaEntity);
+            verify(jpaRepository).saveAndFlush(jpaEntity);
             verify(mapper).toDomain(jpaEntity);
         }
+
+        @Test
+        @DisplayName("Deve propagar violações de integridade")
+        void shouldPropagateOtherViolations() {
+            // Arrange
+            Order domainOrder = createDomainOrder();
+            OrderEntity jpaEntity = createJpaEntity();
+            DataIntegrityViolationException violation = new DataIntegrityViolationException(
+                    "violates check constraint \"chk_orders_status\"");
+
+            when(mapper.toEntity(domainOrder)).thenReturn(jpaEntity);
+            when(jpaRepository.saveAndFlush(jpaEntity)).thenThrow(violation);
+
+            // Act & Assert
+            assertThatThrownBy(() -> repositoryAdapter.save(domainOrder)).isSameAs(violation);
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de insertIfAbsent")
+    class InsertIfAbsentTests {
+
+        @Test
+        @DisplayName("Deve retornar pedido quando inserido")
+        void shouldReturnOrderWhenInserted() {
+            // Arrange
+            Order domainOrder = createDomainOrder();
+            OrderEntity jpaEntity = createJpaEntity();
+
+            when(mapper.toEntity(domainOrder)).thenReturn(jpaEntity);
+            when(jdbcRepository.insertIfAbsent(jpaEntity)).thenReturn(true);
+
+            // Act
+            Optional<Order> result = repositoryAdapter.insertIfAbsent(domainOrder);
+
+            // Assert
+            assertThat(result).contains(domainOrder);
+            verify(jpaRepository, never()).existsByExternalOrderId(any());
+        }
+
+        @Test
+        @DisplayName("Deve retornar vazio quando ID externo já existe")
+        void shouldReturnEmptyWhenExternalIdExists() {
+            // Arrange
+            Order domainOrder = createDomainOrder();
+            OrderEntity jpaEntity = createJpaEntity();
+
+            when(mapper.toEntity(domainOrder)).thenReturn(jpaEntity);
+            when(jdbcRepository.insertIfAbsent(jpaEntity)).thenReturn(false);
+
+            // Act
+            Optional<Order> result = repositoryAdapter.insertIfAbsent(domainOrder);
+
+            // Assert
+            assertThat(result).isEmpty();
+            verify(jpaRepository, never()).save(any());
+        }
     }
 
     @Nested
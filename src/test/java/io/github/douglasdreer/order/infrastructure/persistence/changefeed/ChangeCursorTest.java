@@ -0,0 +1,47 @@
+package io.github.douglasdreer.order.infrastructure.persistence.changefeed;
+
+import io.github.douglasdreer.order.domain.exception.ValidationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ChangeCursor - Cursor opaco do feed de mudanças")
+class ChangeCursorTest {
+
+    @Test
+    @DisplayName("Deve decodificar o próprio cursor, inclusive xid acima de Long.MAX_VALUE")
+    void shouldRoundTrip() {
+        // Arrange
+        ChangeCursor cursor = new ChangeCursor(-2L, UUID.randomUUID());
+
+        // Act
+        String encoded = cursor.encode();
+
+        // Assert
+        assertThat(ChangeCursor.decode(encoded)).isEqualTo(cursor);
+        assertThat(cursor.xidText()).isEqualTo("18446744073709551614");
+        assertThat(encoded).doesNotContain("=", "+", "/");
+    }
+
+    @Test
+    @DisplayName("Deve começar do início sem cursor")
+    void shouldStartFromBeginning() {
+        assertThat(ChangeCursor.decode(null)).isEqualTo(ChangeCursor.START);
+        assertThat(ChangeCursor.decode(" ")).isEqualTo(ChangeCursor.START);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"###", "MTIz", "YWJjOmRlZg"})
+    @DisplayName("Deve rejeitar cursor que não foi emitido pelo serviço")
+    void shouldRejectForeignCursor(String cursor) {
+        assertThatThrownBy(() -> ChangeCursor.decode(cursor))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining(cursor);
+    }
+}
@@ -0,0 +1,175 @@
+package io.github.douglasdreer.order.infrastructure.persistence.changefeed;
+
+import io.github.douglasdreer.order.application.dto.OrderChangesResponse;
+import io.github.douglasdreer.order.application.dto.OrderResponse;
+import io.github.douglasdreer.order.application.mapper.OrderApplicationMapper;
+import io.github.douglasdreer.order.domain.entity.Order;
+import io.github.douglasdreer.order.domain.entity.OrderItem;
+import io.github.douglasdreer.order.domain.valueobject.Money;
+import io.github.douglasdreer.order.domain.valueobject.OrderStatus;
+import io.github.douglasdreer.order.infrastructure.persistence.mapper.OrderPersistenceMapper;
+import io.github.douglasdreer.order.infrastructure.persistence.repository.OrderJdbcRepository;
+import io.github.douglasdreer.order.infrastructure.persistence.view.JdbcOrderViewRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Feed de mudanças contra PostgreSQL real. Sem transação de teste: o feed só enxerga
+ * transações já confirmadas.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({
+        JdbcOrderChangeFeed.class,
+        JdbcOrderViewRepository.class,
+        OrderJdbcRepository.class,
+        OrderPersistenceMapper.class,
+        JacksonAutoConfiguration.class
+})
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("JdbcOrderChangeFeed - Feed de mudanças contra PostgreSQL")
+class JdbcOrderChangeFeedIT {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @DynamicPropertySource
+    static void datasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private JdbcOrderChangeFeed changeFeed;
+
+    @Autowired
+    private JdbcOrderViewRepository viewRepository;
+
+    @Autowired
+    private OrderJdbcRepository orderRepository;
+
+    @Autowired
+    private OrderPersistenceMapper persistenceMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private final OrderApplicationMapper mapper = new OrderApplicationMapper();
+
+    private String head;
+
+    @BeforeEach
+    void skipExistingChanges() {
+        OrderChangesResponse page;
+        String cursor = null;
+        do {
+            page = changeFeed.findChangesSince(cursor, null, 1000);
+            cursor = page.getNextCursor();
+        } while (page.isHasMore());
+        head = cursor;
+    }
+
+    private Order persistedOrder() {
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        Order order = Order.builder()
+                .externalOrderId("FEED-" + UUID.randomUUID())
+                .createdAt(now)
+                .addItem(OrderItem.builder()
+                        .productId("PROD-1")
+                        .productName("Produto 1")
+                        .unitPrice(Money.of(new BigDecimal("10.00")))
+                        .quantity(1)
+                        .createdAt(now)
+                        .build())
+                .build()
+                .calculateTotal();
+        orderRepository.insertIfAbsent(persistenceMapper.toEntity(order));
+        viewRepository.save(mapper.toResponse(order));
+        return order;
+    }
+
+    private void markAvailable(Order order) {
+        jdbcTemplate.update("UPDATE orders SET status = 'AVAILABLE' WHERE id = ?", order.getId());
+        viewRepository.save(mapper.toResponse(order.markAsAvailable()));
+    }
+
+    @Test
+    @DisplayName("Deve paginar as mudanças em ordem de commit e filtrar por status")
+    void shouldPageChangesInCommitOrder() {
+        // Arrange
+        Order first = persistedOrder();
+        Order second = persistedOrder();
+        markAvailable(first);
+
+        // Act
+        OrderChangesResponse page = changeFeed.findChangesSince(head, null, 1);
+        OrderChangesResponse rest = changeFeed.findChangesSince(page.getNextCursor(), null, 10);
+        OrderChangesResponse available = changeFeed.findChangesSince(head, OrderStatus.AVAILABLE, 10);
+
+        // Assert - a mudança de status move o primeiro pedido para o fim do feed
+        assertThat(page.getChanges()).extracting(OrderResponse::getId).containsExactly(second.getId());
+        assertThat(page.isHasMore()).isTrue();
+        assertThat(rest.getChanges()).extracting(OrderResponse::getId).containsExactly(first.getId());
+        assertThat(rest.isHasMore()).isFalse();
+        assertThat(available.getChanges()).extracting(OrderResponse::getStatus).containsOnly("AVAILABLE");
+    }
+
+    @Test
+    @DisplayName("Não deve pular mudança de transação aberta que confirma depois de uma mais nova")
+    void shouldNotSkipSlowTransaction() throws Exception {
+        // Arrange
+        Order slow = persistedOrder();
+        Order fast = persistedOrder();
+        String cursor = changeFeed.findChangesSince(head, null, 10).getNextCursor();
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement update = connection.prepareStatement(
+                    "UPDATE orders SET status = 'AVAILABLE' WHERE id = ?")) {
+                update.setObject(1, slow.getId());
+                update.executeUpdate();
+            }
+            markAvailable(fast);
+
+            // Act - a transação lenta ainda está aberta
+            OrderChangesResponse whileOpen = changeFeed.findChangesSince(cursor, null, 10);
+            connection.commit();
+            OrderChangesResponse afterCommit = changeFeed.findChangesSince(whileOpen.getNextCursor(), null, 10);
+
+            // Assert
+            assertThat(whileOpen.getChanges()).isEmpty();
+            assertThat(whileOpen.getNextCursor()).isEqualTo(cursor);
+            assertThat(afterCommit.getChanges()).extracting(OrderResponse::getId)
+                    .containsExactly(slow.getId(), fast.getId());
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package io.github.douglasdreer.order.infrastructure.persistence.diagnostics;
+
+import io.github.douglasdreer.order.infrastructure.persistence.diagnostics.DatabaseDiagnosticsReport.IndexStats;
+import io.github.douglasdreer.order.infrastructure.persistence.diagnostics.DatabaseDiagnosticsReport.StatementStats;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.jdbc.BadSqlGrammarException;
+
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DatabaseDiagnosticsEndpoint - dbstats (JMX)")
+class DatabaseDiagnosticsEndpointTest {
+
+    @Mock
+    private PgStatsRepository pgStatsRepository;
+
+    private DatabaseDiagnosticsEndpoint endpoint;
+
+    @BeforeEach
+    void setUp() {
+        endpoint = new DatabaseDiagnosticsEndpoint(pgStatsRepository);
+    }
+
+    @Test
+    @DisplayName("Deve montar relatório com análise de índices e top statements")
+    void shouldBuildReport() {
+        // Arrange
+        when(pgStatsRepository.indexes()).thenReturn(List.of(
+                new IndexStats("orders", "uq_orders_external_id", List.of("external_order_id"), true, false, false, 1, 5),
+                new IndexStats("orders", "idx_orders_external_id", List.of("external_order_id"), false, false, false, 1, 0)));
+        when(pgStatsRepository.isPgStatStatementsInstalled()).thenReturn(true);
+        var statement = new StatementStats(1L, "INSERT INTO orders ...", 100, 50.0, 0.5, 100, 400, 2);
+        when(pgStatsRepository.topStatements(20)).thenReturn(List.of(statement));
+
+        // Act
+        DatabaseDiagnosticsReport report = endpoint.report(20);
+
+        // Assert
+        assertThat(report.unusedIndexes()).extracting(IndexStats::name).containsExactly("idx_orders_external_id");
+        assertThat(report.redundantIndexes()).singleElement()
+                .satisfies(index -> assertThat(index.coveredBy()).isEqualTo("uq_orders_external_id"));
+        assertThat(report.statements().available()).isTrue();
+        assertThat(report.statements().top()).containsExactly(statement);
+    }
+
+    @Test
+    @DisplayName("Deve informar indisponibilidade quando pg_stat_statements não está instalada")
+    void shouldReportStatementsUnavailableWhenNotInstalled() {
+        // Arrange
+        when(pgStatsRepository.isPgStatStatementsInstalled()).thenReturn(false);
+
+        // Act
+        DatabaseDiagnosticsReport report = endpoint.report(5);
+
+        // Assert
+        assertThat(report.statements().available()).isFalse();
+        assertThat(report.statements().reason()).contains("pg_stat_statements");
+        verify(pgStatsRepository, never()).topStatements(5);
+    }
+
+    @Test
+    @DisplayName("Deve informar indisponibilidade quando pg_stat_statements não está carregada")
+    void shouldReportStatementsUnavailableWhenNotLoaded() {
+        // Arrange
+        when(pgStatsRepository.isPgStatStatementsInstalled()).thenReturn(true);
+        when(pgStatsRepository.topStatements(20)).thenThrow(new BadSqlGrammarException("top", "SELECT",
+                new SQLException("pg_stat_statements must be loaded via shared_preload_libraries")));
+
+        // Act
+        DatabaseDiagnosticsReport report = endpoint.report(20);
+
+        // Assert
+        assertThat(report.statements().available()).isFalse();
+        assertThat(report.statements().reason()).contains("shared_preload_libraries");
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar top fora do intervalo permitido")
+    void shouldRejectInvalidTop() {
+        assertThatThrownBy(() -> endpoint.report(DatabaseDiagnosticsEndpoint.MAX_TOP_STATEMENTS + 1))
+                .isInstanceOf(InvalidEndpointRequestException.class);
+        assertThatThrownBy(() -> endpoint.report(0))
+                .isInstanceOf(InvalidEndpointRequestException.class);
+    }
+}
@@ -0,0 +1,102 @@
+package io.github.douglasdreer.order.infrastructure.persistence.diagnostics;
+
+import io.github.douglasdreer.order.infrastructure.persistence.diagnostics.DatabaseDiagnosticsReport.IndexStats;
+import io.github.douglasdreer.order.infrastructure.persistence.diagnostics.DatabaseDiagnosticsReport.RedundantIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DisplayName("IndexAnalyzer - Índices não usados e redundantes")
+class IndexAnalyzerTest {
+
+    private static IndexStats index(String name, long scans, boolean unique, String... columns) {
+        return new IndexStats("orders", name, List.of(columns), unique, name.endsWith("_pkey"), false, 8192, scans);
+    }
+
+    /** Índices de orders como criados pelas migrations V1 e V3. */
+    private static final List<IndexStats> ORDERS_INDEXES = List.of(
+            index("orders_pkey", 10, true, "id"),
+            index("uq_orders_external_id", 5, true, "external_order_id"),
+            index("idx_orders_external_id", 0, false, "external_order_id"),
+            index("idx_orders_status", 3, false, "status"),
+            index("idx_orders_created_at", 0, false, "created_at"),
+            index("idx_orders_status_created_at", 7, false, "status", "created_at"));
+
+    @Nested
+    @DisplayName("Índices não usados")
+    class UnusedTests {
+
+        @Test
+        @DisplayName("Deve apontar índices sem scans, exceto PK e unique")
+        void shouldReportIndexesWithoutScans() {
+            // Arrange
+            List<IndexStats> indexes = List.of(
+                    index("orders_pkey", 0, true, "id"),
+                    index("uq_orders_external_id", 0, true, "external_order_id"),
+                    index("idx_orders_created_at", 0, false, "created_at"),
+                    index("idx_orders_status", 3, false, "status"));
+
+            // Act
+            List<IndexStats> unused = IndexAnalyzer.unused(indexes);
+
+            // Assert
+            assertThat(unused).extracting(IndexStats::name).containsExactly("idx_orders_created_at");
+        }
+    }
+
+    @Nested
+    @DisplayName("Índices redundantes")
+    class RedundantTests {
+
+        @Test
+        @DisplayName("Deve apontar duplicata de unique e prefixo de índice composto")
+        void shouldReportDuplicateAndPrefixIndexes() {
+            // Act
+            List<RedundantIndex> redundant = IndexAnalyzer.redundant(ORDERS_INDEXES);
+
+            // Assert
+            assertThat(redundant)
+                    .extracting(RedundantIndex::name, RedundantIndex::coveredBy)
+                    .containsExactlyInAnyOrder(
+                            tuple("idx_orders_external_id", "uq_orders_external_id"),
+                            tuple("idx_orders_status", "idx_orders_status_created_at"));
+        }
+
+        @Test
+        @DisplayName("Deve apontar apenas um entre dois índices idênticos")
+        void shouldReportOnlyOneOfIdenticalIndexes() {
+            // Arrange
+            List<IndexStats> indexes = List.of(
+                    index("idx_a_status", 1, false, "status"),
+                    index("idx_b_status", 1, false, "status"));
+
+            // Act
+            List<RedundantIndex> redundant = IndexAnalyzer.redundant(indexes);
+
+            // Assert
+            assertThat(redundant).singleElement().satisfies(index -> {
+                assertThat(index.name()).isEqualTo("idx_b_status");
+                assertThat(index.coveredBy()).isEqualTo("idx_a_status");
+            });
+        }
+
+        @Test
+        @DisplayName("Não deve considerar índices de outras tabelas nem índices parciais como cobertura")
+        void shouldIgnoreOtherTablesAndPartialIndexes() {
+            // Arrange
+            List<IndexStats> indexes = List.of(
+                    index("idx_orders_status", 1, false, "status"),
+                    new IndexStats("order_items", "idx_items_status_x", List.of("status", "x"), false, false, false, 8192, 1),
+                    new IndexStats("orders", "idx_orders_status_partial", List.of("status", "created_at"),
+                            false, false, true, 8192, 1));
+
+            // Act / Assert
+            assertThat(IndexAnalyzer.redundant(indexes)).isEmpty();
+        }
+    }
+}
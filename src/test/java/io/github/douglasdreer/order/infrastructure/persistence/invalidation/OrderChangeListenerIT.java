@@ -0,0 +1,113 @@
+package io.github.douglasdreer.order.infrastructure.persistence.invalidation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.douglasdreer.order.adapter.input.web.caching.OrderResponseCache;
+import io.github.douglasdreer.order.application.dto.OrderResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * LISTEN/NOTIFY contra PostgreSQL real: notificação na transação da escrita e
+ * ressincronização por versão após a queda da conexão.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("OrderChangeListener - Invalidação de cache via LISTEN/NOTIFY")
+class OrderChangeListenerIT {
+
+    private static final Duration WAIT = Duration.ofSeconds(10);
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    private static JdbcTemplate jdbcTemplate;
+
+    private final OrderResponseCache cache = new OrderResponseCache(
+            new ObjectMapper().findAndRegisterModules(), new SimpleMeterRegistry(), true, 100, false, 1024);
+
+    private OrderChangeListener listener;
+
+    @BeforeAll
+    static void migrate() {
+        Flyway.configure()
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .load()
+                .migrate();
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword()));
+    }
+
+    @BeforeEach
+    void startListener() {
+        listener = new OrderChangeListener(cache, POSTGRES.getJdbcUrl(), POSTGRES.getUsername(),
+                POSTGRES.getPassword(), new SimpleMeterRegistry(), true, Duration.ofMillis(200), Duration.ofSeconds(2));
+        listener.start();
+        await().atMost(WAIT).until(listener::isConnected);
+    }
+
+    @AfterEach
+    void stopListener() {
+        listener.stop();
+    }
+
+    private UUID insertOrder() {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO orders (id, external_order_id, status) VALUES (?, ?, 'PROCESSING')",
+                id, "NOTIFY-" + id);
+        cache.put(OrderResponse.builder().id(id).version(0L).status("PROCESSING").build());
+        return id;
+    }
+
+    private void bumpVersion(UUID id) {
+        jdbcTemplate.update("UPDATE orders SET version = version + 1 WHERE id = ?", id);
+    }
+
+    @Test
+    @DisplayName("Deve remover a entrada quando outro nó altera o pedido")
+    void shouldEvictOnNotification() {
+        // Arrange
+        UUID changed = insertOrder();
+        UUID untouched = insertOrder();
+
+        // Act
+        bumpVersion(changed);
+
+        // Assert
+        await().atMost(WAIT).until(() -> cache.get(changed).isEmpty());
+        assertThat(cache.get(untouched)).isPresent();
+    }
+
+    @Test
+    @DisplayName("Deve ressincronizar por versão as alterações feitas durante a queda da conexão")
+    void shouldResyncAfterReconnect() {
+        // Arrange
+        UUID changed = insertOrder();
+        UUID untouched = insertOrder();
+
+        // Act - derruba a conexão LISTEN e altera o pedido antes da reconexão
+        jdbcTemplate.queryForList(
+                "SELECT pg_terminate_backend(pid) FROM pg_stat_activity WHERE application_name = 'order-cache-invalidation'");
+        await().atMost(WAIT).until(() -> !listener.isConnected());
+        bumpVersion(changed);
+
+        // Assert
+        await().atMost(WAIT).until(listener::isConnected);
+        assertThat(cache.get(changed)).isEmpty();
+        assertThat(cache.get(untouched)).isPresent();
+    }
+}
@@ -0,0 +1,96 @@
+package io.github.douglasdreer.order.infrastructure.persistence.memory;
+
+import io.github.douglasdreer.order.application.port.output.OrderRepositoryPort;
+import io.github.douglasdreer.order.domain.entity.Order;
+import io.github.douglasdreer.order.infrastructure.persistence.OrderRepositoryPortContract;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("InMemoryOrderRepositoryAdapter - Repositório em memória")
+class InMemoryOrderRepositoryAdapterTest extends OrderRepositoryPortContract {
+
+    private InMemoryOrderRepositoryAdapter repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryOrderRepositoryAdapter();
+    }
+
+    @Override
+    protected OrderRepositoryPort repository() {
+        return repository;
+    }
+
+    @Nested
+    @DisplayName("Semântica específica do adapter em memória")
+    class InMemorySpecificTests {
+
+        @Test
+        @DisplayName("Deve incrementar versão e rejeitar atualização com versão antiga")
+        void shouldApplyOptimisticLocking() {
+            // Arrange
+            Order order = newOrder("EXT-LOCK");
+            repository.insertIfAbsent(order);
+            Order first = repository.findById(order.getId()).orElseThrow();
+            Order stale = repository.findById(order.getId()).orElseThrow();
+
+            // Act
+            Order saved = repository.save(first.startProcessing());
+
+            // Assert
+            assertThat(saved.getVersion()).isEqualTo(first.getVersion() + 1);
+            assertThatThrownBy(() -> repository.save(stale.markAsFailed()))
+                    .isInstanceOf(OptimisticLockingFailureException.class);
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar save de pedido novo com External ID de outro pedido")
+        void shouldRejectDuplicateExternalIdOnSave() {
+            // Arrange
+            repository.save(newOrder("EXT-DUP"));
+
+            // Act & Assert
+            assertThatThrownBy(() -> repository.save(newOrder("EXT-DUP")))
+                    .isInstanceOf(DataIntegrityViolationException.class);
+            assertThat(repository.findAll()).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("Deve aceitar apenas uma inserção concorrente por External ID")
+        void shouldInsertOnceUnderContention() throws Exception {
+            // Arrange
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            List<Future<Boolean>> results = new ArrayList<>();
+
+            // Act
+            try {
+                for (int i = 0; i < 64; i++) {
+                    results.add(executor.submit(() -> repository.insertIfAbsent(newOrder("EXT-RACE")).isPresent()));
+                }
+                long inserted = 0;
+                for (Future<Boolean> result : results) {
+                    inserted += result.get() ? 1 : 0;
+                }
+
+                // Assert
+                assertThat(inserted).isEqualTo(1);
+                assertThat(repository.findAll()).hasSize(1);
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+}
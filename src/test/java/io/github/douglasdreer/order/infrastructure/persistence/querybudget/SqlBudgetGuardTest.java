@@ -0,0 +1,205 @@
+package io.github.douglasdreer.order.infrastructure.persistence.querybudget;
+
+import io.github.douglasdreer.order.infrastructure.persistence.querybudget.SqlBudgetGuard.Mode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SqlBudgetGuard - Orçamento de statements SQL")
+class SqlBudgetGuardTest {
+
+    private static final String ROUTE = "GET /api/v1/orders/{id}";
+    private static final String ITEMS_SQL = "select * from order_items where order_id=?";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private SqlBudgetGuard guard(Mode mode) {
+        return new SqlBudgetGuard(meterRegistry, mode, 10, Map.of(ROUTE, 2));
+    }
+
+    private static SqlStatementCounter.Scope execute(String... statements) {
+        try (SqlStatementCounter.Scope scope = SqlStatementCounter.open()) {
+            for (String sql : statements) {
+                SqlStatementCounter.record(sql);
+            }
+            return scope;
+        }
+    }
+
+    @Nested
+    @DisplayName("Contagem")
+    class CountingTests {
+
+        @Test
+        @DisplayName("Deve contar apenas statements executados dentro do escopo")
+        void shouldCountOnlyInsideScope() {
+            // Arrange
+            SqlStatementCounter.record("select 1");
+
+            // Act
+            SqlStatementCounter.Scope scope = execute("select 1", "select 2");
+            SqlStatementCounter.record("select 3");
+
+            // Assert
+            assertThat(scope.statements()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Deve restaurar o escopo externo ao fechar um escopo aninhado")
+        void shouldRestoreOuterScope() {
+            // Arrange / Act
+            try (SqlStatementCounter.Scope outer = SqlStatementCounter.open()) {
+                SqlStatementCounter.record("select 1");
+                SqlStatementCounter.Scope inner = execute("select 2");
+                SqlStatementCounter.record("select 3");
+
+                // Assert
+                assertThat(inner.statements()).isEqualTo(1);
+                assertThat(outer.statements()).isEqualTo(2);
+            }
+        }
+
+        @Test
+        @DisplayName("Deve apontar o statement mais repetido")
+        void shouldReportMostRepeatedStatement() {
+            // Act
+            SqlStatementCounter.Scope scope = execute("select * from orders", ITEMS_SQL, ITEMS_SQL, ITEMS_SQL);
+
+            // Assert
+            assertThat(scope.mostRepeated()).hasValueSatisfying(entry -> {
+                assertThat(entry.getKey()).isEqualTo(ITEMS_SQL);
+                assertThat(entry.getValue()).isEqualTo(3);
+            });
+        }
+    }
+
+    @Nested
+    @DisplayName("Verificação do orçamento")
+    class BudgetTests {
+
+        @Test
+        @DisplayName("Deve exportar contagem por escopo")
+        void shouldRecordStatementsMetric() {
+            // Act
+            guard(Mode.LOG).complete("http", ROUTE, execute("select 1"));
+
+            // Assert
+            var summary = meterRegistry.get(SqlBudgetGuard.STATEMENTS)
+                    .tag("type", "http").tag("scope", ROUTE).summary();
+            assertThat(summary.count()).isEqualTo(1);
+            assertThat(summary.totalAmount()).isEqualTo(1);
+            assertThat(meterRegistry.find(SqlBudgetGuard.BUDGET_EXCEEDED).counter()).isNull();
+        }
+
+        @Test
+        @DisplayName("Deve apenas registrar excesso no modo LOG")
+        void shouldOnlyCountExcessInLogMode() {
+            // Arrange
+            SqlStatementCounter.Scope scope = execute("select * from orders", ITEMS_SQL, ITEMS_SQL);
+
+            // Act / Assert
+            assertThatCode(() -> guard(Mode.LOG).complete("http", ROUTE, scope)).doesNotThrowAnyException();
+            assertThat(meterRegistry.get(SqlBudgetGuard.BUDGET_EXCEEDED).tag("scope", ROUTE).counter().count())
+                    .isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Deve apenas registrar excesso na borda também no modo FAIL")
+        void shouldOnlyCountExcessAtBoundaryInFailMode() {
+            // Arrange
+            SqlStatementCounter.Scope scope = execute("select * from orders", ITEMS_SQL, ITEMS_SQL);
+
+            // Act / Assert
+            assertThatCode(() -> guard(Mode.FAIL).complete("http", ROUTE, scope)).doesNotThrowAnyException();
+            assertThat(meterRegistry.get(SqlBudgetGuard.BUDGET_EXCEEDED).tag("scope", ROUTE).counter().count())
+                    .isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Deve usar orçamento padrão para escopos sem orçamento específico")
+        void shouldUseDefaultBudget() {
+            // Arrange
+            SqlStatementCounter.Scope scope = execute("select 1", "select 2", "select 3");
+
+            // Act / Assert
+            assertThatCode(() -> guard(Mode.FAIL).complete("amqp", "order.created.queue", scope))
+                    .doesNotThrowAnyException();
+        }
+    }
+
+    @Nested
+    @DisplayName("Verificação antes do commit (modo FAIL)")
+    class BeforeCommitTests {
+
+        @BeforeEach
+        void setUp() {
+            TransactionSynchronizationManager.initSynchronization();
+        }
+
+        @AfterEach
+        void tearDown() {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        private void recordInScope(SqlBudgetGuard guard, int statements) {
+            try (SqlStatementCounter.Scope ignored = guard.open(() -> ROUTE)) {
+                for (int i = 0; i < statements; i++) {
+                    SqlStatementCounter.record(ITEMS_SQL);
+                }
+            }
+        }
+
+        private static void beforeCommit() {
+            TransactionSynchronizationManager.getSynchronizations().forEach(sync -> sync.beforeCommit(false));
+        }
+
+        @Test
+        @DisplayName("Deve falhar a transação antes do commit quando o orçamento é excedido")
+        void shouldFailTransactionBeforeCommit() {
+            // Arrange
+            recordInScope(guard(Mode.FAIL), 3);
+
+            // Act / Assert
+            assertThat(TransactionSynchronizationManager.getSynchronizations()).hasSize(1);
+            assertThatThrownBy(BeforeCommitTests::beforeCommit)
+                    .isInstanceOf(SqlBudgetExceededException.class)
+                    .satisfies(e -> {
+                        var exceeded = (SqlBudgetExceededException) e;
+                        assertThat(exceeded.getScope()).isEqualTo(ROUTE);
+                        assertThat(exceeded.getStatements()).isEqualTo(3);
+                        assertThat(exceeded.getBudget()).isEqualTo(2);
+                    });
+        }
+
+        @Test
+        @DisplayName("Deve confirmar a transação dentro do orçamento")
+        void shouldCommitWithinBudget() {
+            // Arrange
+            recordInScope(guard(Mode.FAIL), 2);
+
+            // Act / Assert
+            assertThatCode(BeforeCommitTests::beforeCommit).doesNotThrowAnyException();
+        }
+
+        @Test
+        @DisplayName("Não deve registrar verificação fora do modo FAIL")
+        void shouldNotRegisterOutsideFailMode() {
+            // Act
+            recordInScope(guard(Mode.LOG), 3);
+
+            // Assert
+            assertThat(TransactionSynchronizationManager.getSynchronizations()).isEmpty();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package io.github.douglasdreer.order.infrastructure.persistence.querybudget;
+
+import io.github.douglasdreer.order.infrastructure.persistence.querybudget.SqlBudgetGuard.Mode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SqlBudgetHttpFilter - Statements SQL por requisição")
+class SqlBudgetHttpFilterTest {
+
+    private static final String PATTERN = "/api/v1/orders/{id}";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private SqlBudgetHttpFilter filter(Mode mode) {
+        return new SqlBudgetHttpFilter(new SqlBudgetGuard(meterRegistry, mode, 10, Map.of("GET " + PATTERN, 1)));
+    }
+
+    private static FilterChain handlerExecuting(int statements) {
+        return (request, response) -> {
+            request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, PATTERN);
+            for (int i = 0; i < statements; i++) {
+                SqlStatementCounter.record("select * from order_items where order_id=?");
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("Deve registrar contagem com o padrão da rota como escopo")
+    void shouldRecordCountByRoutePattern() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/orders/123");
+
+        // Act
+        filter(Mode.LOG).doFilter(request, new MockHttpServletResponse(), handlerExecuting(1));
+
+        // Assert
+        assertThat(meterRegistry.get(SqlBudgetGuard.STATEMENTS)
+                .tag("type", "http").tag("scope", "GET " + PATTERN).summary().totalAmount())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Não deve falhar a requisição depois da resposta escrita, mesmo no modo FAIL")
+    void shouldOnlyRecordExcessAfterResponse() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/orders/123");
+
+        // Act
+        filter(Mode.FAIL).doFilter(request, new MockHttpServletResponse(), handlerExecuting(5));
+
+        // Assert
+        assertThat(meterRegistry.get(SqlBudgetGuard.BUDGET_EXCEEDED)
+                .tag("type", "http").tag("scope", "GET " + PATTERN).counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Não deve contar quando o guard está desligado")
+    void shouldSkipWhenDisabled() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/orders/123");
+
+        // Act
+        filter(Mode.OFF).doFilter(request, new MockHttpServletResponse(), handlerExecuting(5));
+
+        // Assert
+        assertThat(meterRegistry.find(SqlBudgetGuard.STATEMENTS).summary()).isNull();
+    }
+}
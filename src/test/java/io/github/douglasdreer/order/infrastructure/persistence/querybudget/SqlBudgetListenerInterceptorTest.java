@@ -0,0 +1,80 @@
+package io.github.douglasdreer.order.infrastructure.persistence.querybudget;
+
+import io.github.douglasdreer.order.infrastructure.persistence.querybudget.SqlBudgetGuard.Mode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("SqlBudgetListenerInterceptor - Statements SQL por mensagem")
+class SqlBudgetListenerInterceptorTest {
+
+    private static final String QUEUE = "order.created.queue";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private SqlBudgetListenerInterceptor interceptor(Mode mode) {
+        return new SqlBudgetListenerInterceptor(new SqlBudgetGuard(meterRegistry, mode, 10, Map.of(QUEUE, 2)));
+    }
+
+    private static MethodInvocation listenerExecuting(int statements) throws Throwable {
+        MessageProperties properties = new MessageProperties();
+        properties.setConsumerQueue(QUEUE);
+        MethodInvocation invocation = mock(MethodInvocation.class);
+        when(invocation.getArguments()).thenReturn(new Object[]{null, new Message(new byte[0], properties)});
+        when(invocation.proceed()).thenAnswer(call -> {
+            for (int i = 0; i < statements; i++) {
+                SqlStatementCounter.record("insert into orders values (?)");
+            }
+            return null;
+        });
+        return invocation;
+    }
+
+    @Test
+    @DisplayName("Deve registrar contagem com a fila de consumo como escopo")
+    void shouldRecordCountByConsumerQueue() throws Throwable {
+        // Act
+        interceptor(Mode.LOG).invoke(listenerExecuting(2));
+
+        // Assert
+        assertThat(meterRegistry.get(SqlBudgetGuard.STATEMENTS)
+                .tag("type", "amqp").tag("scope", QUEUE).summary().totalAmount())
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Não deve devolver à fila mensagem já processada, mesmo no modo FAIL")
+    void shouldOnlyRecordExcessAfterListener() throws Throwable {
+        // Act
+        interceptor(Mode.FAIL).invoke(listenerExecuting(3));
+
+        // Assert
+        assertThat(meterRegistry.get(SqlBudgetGuard.BUDGET_EXCEEDED)
+                .tag("type", "amqp").tag("scope", QUEUE).counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve registrar contagem também quando o listener falha")
+    void shouldRecordCountWhenListenerFails() throws Throwable {
+        // Arrange
+        MethodInvocation invocation = listenerExecuting(1);
+        when(invocation.proceed()).thenThrow(new IllegalStateException("falha no listener"));
+
+        // Act / Assert
+        assertThatThrownBy(() -> interceptor(Mode.LOG).invoke(invocation))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(meterRegistry.get(SqlBudgetGuard.STATEMENTS).tag("scope", QUEUE).summary().count())
+                .isEqualTo(1);
+    }
+}
@@ -0,0 +1,140 @@
+package io.github.douglasdreer.order.infrastructure.persistence.replica;
+
+import io.github.douglasdreer.order.infrastructure.persistence.replica.ReplicaLagMonitor.ReplicaState;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("ReplicaLagMonitor - Atraso de replay das réplicas")
+class ReplicaLagMonitorTest {
+
+    private static final Duration MAX_LAG = Duration.ofSeconds(5);
+    private static final Lsn PRIMARY = Lsn.parse("0/200");
+
+    private final ReplicaNode replica = new ReplicaNode("replica-1", mock(DataSource.class));
+    private final ReplicaSet replicaSet =
+            new ReplicaSet(mock(DataSource.class), List.of(replica), MAX_LAG, new SimpleMeterRegistry());
+    private final ReplicaLagMonitor monitor = new ReplicaLagMonitor(replicaSet, mock(JdbcTemplate.class));
+
+    private static ReplicaState streaming(String replayed, Duration replayAge) {
+        return new ReplicaState(true, Lsn.parse(replayed), replayAge, "streaming");
+    }
+
+    @Nested
+    @DisplayName("Réplica em streaming")
+    class StreamingTests {
+
+        @Test
+        @DisplayName("Deve considerar sem atraso a réplica que aplicou o WAL até o primário")
+        void shouldReportZeroLagWhenCaughtUpWithPrimary() {
+            // Arrange - primário ocioso: última transação aplicada há muito tempo
+            ReplicaState state = streaming("0/200", Duration.ofMinutes(10));
+
+            // Act
+            monitor.apply(replica, state, Optional.of(PRIMARY));
+
+            // Assert
+            assertThat(replica.lagSeconds()).isZero();
+            assertThat(replica.isEligible(MAX_LAG, Optional.empty())).isTrue();
+        }
+
+        @Test
+        @DisplayName("Deve usar a idade da última transação aplicada quando a réplica está atrás do primário")
+        void shouldUseReplayAgeWhenBehindPrimary() {
+            // Arrange
+            ReplicaState state = streaming("0/100", Duration.ofSeconds(30));
+
+            // Act
+            monitor.apply(replica, state, Optional.of(PRIMARY));
+
+            // Assert
+            assertThat(replica.lagSeconds()).isEqualTo(30.0);
+            assertThat(replica.isEligible(MAX_LAG, Optional.empty())).isFalse();
+        }
+
+        @Test
+        @DisplayName("Deve usar a idade da última transação aplicada quando o LSN do primário é desconhecido")
+        void shouldUseReplayAgeWithoutPrimaryLsn() {
+            // Arrange
+            ReplicaState state = streaming("0/200", Duration.ofSeconds(2));
+
+            // Act
+            monitor.apply(replica, state, Optional.empty());
+
+            // Assert
+            assertThat(replica.lagSeconds()).isEqualTo(2.0);
+        }
+
+        @Test
+        @DisplayName("Deve tornar indisponível a réplica atrás do primário sem transação aplicada")
+        void shouldMarkUnavailableWithoutReplayTimestamp() {
+            // Arrange
+            replica.update(Duration.ZERO, Lsn.parse("0/100"));
+
+            // Act
+            monitor.apply(replica, streaming("0/100", null), Optional.of(PRIMARY));
+
+            // Assert
+            assertThat(replica.isEligible(MAX_LAG, Optional.empty())).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("WAL receiver parado")
+    class StoppedReceiverTests {
+
+        @Test
+        @DisplayName("Deve tornar indisponível a réplica sem WAL receiver mesmo com receive = replay")
+        void shouldMarkUnavailableWithoutReceiver() {
+            // Arrange - receiver parado: nada novo chega, então receive_lsn = replay_lsn
+            replica.update(Duration.ZERO, Lsn.parse("0/100"));
+            ReplicaState state = new ReplicaState(true, Lsn.parse("0/100"), Duration.ofMinutes(10), null);
+
+            // Act
+            monitor.apply(replica, state, Optional.of(PRIMARY));
+
+            // Assert
+            assertThat(replica.isEligible(MAX_LAG, Optional.empty())).isFalse();
+            assertThat(replica.lagSeconds()).isNaN();
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"starting", "waiting", "restarting", "stopping"})
+        @DisplayName("Deve tornar indisponível a réplica com WAL receiver fora de streaming")
+        void shouldMarkUnavailableWhenReceiverIsNotStreaming(String status) {
+            // Arrange
+            ReplicaState state = new ReplicaState(true, Lsn.parse("0/200"), Duration.ZERO, status);
+
+            // Act
+            monitor.apply(replica, state, Optional.of(PRIMARY));
+
+            // Assert
+            assertThat(replica.isEligible(MAX_LAG, Optional.empty())).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve tornar indisponível o servidor fora de recuperação")
+    void shouldMarkUnavailableWhenNotInRecovery() {
+        // Arrange
+        ReplicaState state = new ReplicaState(false, Lsn.parse("0/200"), null, null);
+
+        // Act
+        monitor.apply(replica, state, Optional.of(PRIMARY));
+
+        // Assert
+        assertThat(replica.isEligible(MAX_LAG, Optional.empty())).isFalse();
+    }
+}
@@ -0,0 +1,206 @@
+package io.github.douglasdreer.order.infrastructure.persistence.replica;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.Network;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Roteamento de leituras contra dois PostgreSQL em streaming replication (imagem Bitnami):
+ * réplica atende transações somente leitura, o token de LSN garante read-your-writes e
+ * réplica com replay pausado (atraso acima do limite) ou WAL receiver parado devolve as
+ * leituras ao primário.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Réplicas de leitura - Streaming replication")
+class ReplicaRoutingIT {
+
+    private static final String IMAGE = "bitnami/postgresql:15";
+    private static final String PASSWORD = "order_pass";
+    private static final Duration MAX_LAG = Duration.ofSeconds(1);
+
+    private static final Network NETWORK = Network.newNetwork();
+
+    @Container
+    static final GenericContainer<?> PRIMARY = new GenericContainer<>(IMAGE)
+            .withNetwork(NETWORK)
+            .withNetworkAliases("primary")
+            .withEnv("POSTGRESQL_REPLICATION_MODE", "master")
+            .withEnv("POSTGRESQL_REPLICATION_USER", "repl_user")
+            .withEnv("POSTGRESQL_REPLICATION_PASSWORD", "repl_pass")
+            .withEnv("POSTGRESQL_POSTGRES_PASSWORD", PASSWORD)
+            .withEnv("POSTGRESQL_DATABASE", "orderdb")
+            .withExposedPorts(5432)
+            .waitingFor(Wait.forLogMessage(".*database system is ready to accept connections.*", 1)
+                    .withStartupTimeout(Duration.ofMinutes(2)));
+
+    @Container
+    static final GenericContainer<?> REPLICA = new GenericContainer<>(IMAGE)
+            .withNetwork(NETWORK)
+            .dependsOn(PRIMARY)
+            .withEnv("POSTGRESQL_REPLICATION_MODE", "slave")
+            .withEnv("POSTGRESQL_MASTER_HOST", "primary")
+            .withEnv("POSTGRESQL_MASTER_PORT_NUMBER", "5432")
+            .withEnv("POSTGRESQL_REPLICATION_USER", "repl_user")
+            .withEnv("POSTGRESQL_REPLICATION_PASSWORD", "repl_pass")
+            .withEnv("POSTGRESQL_PASSWORD", PASSWORD)
+            .withExposedPorts(5432)
+            .waitingFor(Wait.forLogMessage(".*started streaming WAL.*", 1)
+                    .withStartupTimeout(Duration.ofMinutes(2)));
+
+    private static HikariDataSource primaryPool;
+    private static HikariDataSource replicaPool;
+    private static ReplicaNode replica;
+    private static ReplicaLagMonitor monitor;
+    private static JdbcTemplate jdbcTemplate;
+    private static TransactionTemplate readOnly;
+
+    @BeforeAll
+    static void setUp() {
+        primaryPool = pool(PRIMARY);
+        replicaPool = pool(REPLICA);
+        replica = new ReplicaNode("replica-1", replicaPool);
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ReplicaSet replicaSet = new ReplicaSet(primaryPool, List.of(replica), MAX_LAG, meterRegistry);
+        monitor = new ReplicaLagMonitor(replicaSet, new JdbcTemplate(primaryPool));
+
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryPool);
+        dataSource.setReadOnlyDataSource(new ReplicaRoutingDataSource(replicaSet));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readOnly = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        readOnly.setReadOnly(true);
+
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS replication_probe (id BIGSERIAL PRIMARY KEY)");
+    }
+
+    @AfterAll
+    static void tearDown() {
+        primaryPool.close();
+        replicaPool.close();
+    }
+
+    @AfterEach
+    void clearToken() {
+        ReadConsistency.clear();
+    }
+
+    private static HikariDataSource pool(GenericContainer<?> container) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setJdbcUrl("jdbc:postgresql://%s:%d/orderdb".formatted(container.getHost(), container.getMappedPort(5432)));
+        pool.setUsername("postgres");
+        pool.setPassword(PASSWORD);
+        pool.setMaximumPoolSize(2);
+        return pool;
+    }
+
+    /** Indica se a transação somente leitura foi atendida pela réplica. */
+    private static boolean readServedByReplica() {
+        return Boolean.TRUE.equals(readOnly.execute(status ->
+                jdbcTemplate.queryForObject("SELECT pg_is_in_recovery()", Boolean.class)));
+    }
+
+    private static long probeRows() {
+        return readOnly.execute(status -> jdbcTemplate.queryForObject("SELECT count(*) FROM replication_probe", Long.class));
+    }
+
+    @Test
+    @DisplayName("Deve atender transações somente leitura na réplica e escritas no primário")
+    void shouldServeReadOnlyTransactionsFromReplica() {
+        // Act
+        await().atMost(Duration.ofSeconds(10)).until(() -> {
+            monitor.refresh();
+            return readServedByReplica();
+        });
+
+        // Assert
+        assertThat(jdbcTemplate.queryForObject("SELECT pg_is_in_recovery()", Boolean.class)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve ler a própria escrita com o token de LSN, mesmo antes da réplica aplicá-la")
+    void shouldReadOwnWritesWithToken() {
+        // Arrange - estado da réplica medido antes da escrita
+        await().atMost(Duration.ofSeconds(10)).until(() -> {
+            monitor.refresh();
+            return readServedByReplica();
+        });
+        long before = probeRows();
+        jdbcTemplate.update("INSERT INTO replication_probe DEFAULT VALUES");
+        Lsn token = monitor.primaryLsn().orElseThrow();
+
+        // Act
+        ReadConsistency.require(token);
+
+        // Assert - até a próxima medição a leitura vai ao primário e enxerga a escrita
+        assertThat(readServedByReplica()).isFalse();
+        assertThat(probeRows()).isEqualTo(before + 1);
+
+        await().atMost(Duration.ofSeconds(10)).until(() -> {
+            monitor.refresh();
+            return readServedByReplica();
+        });
+        assertThat(probeRows()).isEqualTo(before + 1);
+    }
+
+    @Test
+    @DisplayName("Deve devolver as leituras ao primário quando o atraso de replay passar do limite")
+    void shouldFallBackToPrimaryWhenReplicaLags() {
+        JdbcTemplate replicaAdmin = new JdbcTemplate(replicaPool);
+        replicaAdmin.execute("SELECT pg_wal_replay_pause()");
+        try {
+            // Arrange - escrita recebida pela réplica, mas não aplicada
+            jdbcTemplate.update("INSERT INTO replication_probe DEFAULT VALUES");
+
+            // Act & Assert
+            await().atMost(Duration.ofSeconds(10)).until(() -> {
+                monitor.refresh();
+                return !readServedByReplica();
+            });
+            assertThat(replica.lagSeconds()).isGreaterThan(MAX_LAG.toSeconds());
+        } finally {
+            replicaAdmin.execute("SELECT pg_wal_replay_resume()");
+        }
+    }
+
+    @Test
+    @DisplayName("Deve devolver as leituras ao primário quando o WAL receiver da réplica parar")
+    void shouldFallBackToPrimaryWhenReceiverStops() {
+        JdbcTemplate replicaAdmin = new JdbcTemplate(replicaPool);
+        replicaAdmin.execute("ALTER SYSTEM SET primary_conninfo = ''");
+        replicaAdmin.execute("SELECT pg_reload_conf()");
+        try {
+            // Act & Assert - sem receiver, receive_lsn = replay_lsn, mas a réplica não é elegível
+            await().atMost(Duration.ofSeconds(10)).until(() -> {
+                monitor.refresh();
+                return !readServedByReplica();
+            });
+            assertThat(replica.lagSeconds()).isNaN();
+        } finally {
+            replicaAdmin.execute("ALTER SYSTEM RESET primary_conninfo");
+            replicaAdmin.execute("SELECT pg_reload_conf()");
+            await().atMost(Duration.ofSeconds(30)).until(() -> {
+                monitor.refresh();
+                return readServedByReplica();
+            });
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package io.github.douglasdreer.order.infrastructure.persistence.replica;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("ReplicaSet - Escolha do destino das leituras")
+class ReplicaSetTest {
+
+    private static final Duration MAX_LAG = Duration.ofSeconds(5);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final DataSource primary = mock(DataSource.class);
+    private final ReplicaNode replica1 = new ReplicaNode("replica-1", mock(DataSource.class));
+    private final ReplicaNode replica2 = new ReplicaNode("replica-2", mock(DataSource.class));
+    private final ReplicaSet replicaSet = new ReplicaSet(primary, List.of(replica1, replica2), MAX_LAG, meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        ReadConsistency.clear();
+    }
+
+    private double reads(String target) {
+        return meterRegistry.get(ReplicaSet.READS_METRIC).tag("target", target).counter().count();
+    }
+
+    @Nested
+    @DisplayName("Atraso de replay")
+    class LagTests {
+
+        @Test
+        @DisplayName("Deve alternar entre réplicas dentro do atraso máximo")
+        void shouldRoundRobinHealthyReplicas() {
+            // Arrange
+            replica1.update(Duration.ZERO, Lsn.parse("0/100"));
+            replica2.update(Duration.ofSeconds(1), Lsn.parse("0/100"));
+
+            // Act
+            DataSource first = replicaSet.select();
+            DataSource second = replicaSet.select();
+
+            // Assert
+            assertThat(List.of(first, second)).containsExactlyInAnyOrder(replica1.dataSource(), replica2.dataSource());
+            assertThat(reads(ReplicaSet.PRIMARY)).isZero();
+        }
+
+        @Test
+        @DisplayName("Deve ignorar réplica acima do atraso máximo")
+        void shouldSkipLaggingReplica() {
+            // Arrange
+            replica1.update(Duration.ofSeconds(30), Lsn.parse("0/100"));
+            replica2.update(Duration.ZERO, Lsn.parse("0/100"));
+
+            // Act & Assert
+            assertThat(replicaSet.select()).isSameAs(replica2.dataSource());
+            assertThat(replicaSet.select()).isSameAs(replica2.dataSource());
+        }
+
+        @Test
+        @DisplayName("Deve usar o primário quando nenhuma réplica foi medida ou todas estão atrasadas")
+        void shouldFallBackToPrimary() {
+            // Arrange
+            replica1.update(Duration.ofSeconds(30), Lsn.parse("0/100"));
+
+            // Act & Assert
+            assertThat(replicaSet.select()).isSameAs(primary);
+            assertThat(reads(ReplicaSet.PRIMARY)).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Deve exportar o atraso por réplica")
+        void shouldExposeLagGauge() {
+            // Arrange
+            replica1.update(Duration.ofMillis(1500), Lsn.parse("0/100"));
+
+            // Act & Assert
+            assertThat(meterRegistry.get(ReplicaSet.LAG_METRIC).tag("replica", "replica-1").gauge().value()).isEqualTo(1.5);
+            assertThat(meterRegistry.get(ReplicaSet.LAG_METRIC).tag("replica", "replica-2").gauge().value()).isNaN();
+        }
+    }
+
+    @Nested
+    @DisplayName("Read-your-writes")
+    class ReadYourWritesTests {
+
+        @Test
+        @DisplayName("Deve usar apenas réplicas que já aplicaram o LSN do token")
+        void shouldRequireReplayedLsn() {
+            // Arrange
+            replica1.update(Duration.ZERO, Lsn.parse("0/100"));
+            replica2.update(Duration.ZERO, Lsn.parse("0/300"));
+            ReadConsistency.require(Lsn.parse("0/200"));
+
+            // Act & Assert
+            assertThat(replicaSet.select()).isSameAs(replica2.dataSource());
+            assertThat(replicaSet.select()).isSameAs(replica2.dataSource());
+        }
+
+        @Test
+        @DisplayName("Deve usar o primário quando nenhuma réplica alcançou o token")
+        void shouldFallBackToPrimaryWhenTokenIsAhead() {
+            // Arrange
+            replica1.update(Duration.ZERO, Lsn.parse("0/100"));
+            replica2.update(Duration.ZERO, Lsn.parse("0/100"));
+            ReadConsistency.require(Lsn.parse("1/0"));
+
+            // Act & Assert
+            assertThat(replicaSet.select()).isSameAs(primary);
+        }
+
+        @Test
+        @DisplayName("Deve usar o primário nas leituras fixadas nele, mesmo com réplicas em dia")
+        void shouldPinReadsToPrimary() {
+            // Arrange
+            replica1.update(Duration.ZERO, Lsn.parse("0/100"));
+            replica2.update(Duration.ZERO, Lsn.parse("0/100"));
+
+            // Act
+            DataSource pinned = ReadConsistency.onPrimary(replicaSet::select);
+
+            // Assert
+            assertThat(pinned).isSameAs(primary);
+            assertThat(replicaSet.select()).isNotSameAs(primary);
+        }
+    }
+
+    @Nested
+    @DisplayName("Lsn")
+    class LsnTests {
+
+        @Test
+        @DisplayName("Deve converter e comparar no formato do PostgreSQL")
+        void shouldParseAndCompare() {
+            // Act
+            Lsn lsn = Lsn.parse("16/B374D848");
+
+            // Assert
+            assertThat(lsn.value()).isEqualTo(0x16_B374D848L);
+            assertThat(lsn).hasToString("16/B374D848");
+            assertThat(lsn.isAtLeast(Lsn.parse("16/B374D847"))).isTrue();
+            assertThat(Lsn.parse("FFFFFFFF/0").isAtLeast(Lsn.parse("1/0"))).isTrue();
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"", "/1", "1/", "16B374D848", "G/1", "123456789/0"})
+        @DisplayName("Deve rejeitar texto inválido")
+        void shouldRejectInvalidText(String text) {
+            assertThatThrownBy(() -> Lsn.parse(text)).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package io.github.douglasdreer.order.infrastructure.persistence.sharding;
+
+import io.github.douglasdreer.order.domain.identity.UuidV7Generator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ShardRouter - Roteamento de pedidos entre shards")
+class ShardRouterTest {
+
+    private final ShardRouter router = new ShardRouter(4);
+
+    @Nested
+    @DisplayName("Hash do ID externo")
+    class HashTests {
+
+        @Test
+        @DisplayName("Deve escolher sempre o mesmo shard para o mesmo ID externo")
+        void shouldBeStable() {
+            // Assert - FNV-1a 64 não depende de JVM nem de String.hashCode
+            assertThat(router.shardFor("CUST-1")).isEqualTo(new ShardRouter(4).shardFor("CUST-1"));
+            assertThat(new ShardRouter(1).shardFor("CUST-1")).isZero();
+        }
+
+        @Test
+        @DisplayName("Deve distribuir IDs externos entre todos os shards")
+        void shouldSpreadKeys() {
+            // Act
+            int[] counts = new int[4];
+            IntStream.range(0, 4_000).forEach(i -> counts[router.shardFor("EXT-" + i)]++);
+
+            // Assert
+            assertThat(IntStream.of(counts)).allSatisfy(count -> assertThat(count).isBetween(800, 1_200));
+        }
+    }
+
+    @Nested
+    @DisplayName("Shard gravado no ID")
+    class StampTests {
+
+        @Test
+        @DisplayName("Deve recuperar o shard gravado preservando versão, variante e timestamp")
+        void shouldRoundTrip() {
+            // Arrange
+            UUID id = new UuidV7Generator().nextId();
+
+            // Act
+            UUID stamped = router.stamp(id, 3);
+
+            // Assert
+            assertThat(router.shardOf(stamped)).isEqualTo(3);
+            assertThat(stamped.version()).isEqualTo(7);
+            assertThat(stamped.variant()).isEqualTo(2);
+            assertThat(stamped.getMostSignificantBits()).isEqualTo(id.getMostSignificantBits());
+        }
+
+        @Test
+        @DisplayName("Deve gerar IDs no shard do ID externo")
+        void shouldGenerateIdsInKeyShard() {
+            // Arrange
+            ShardingIdGenerator generator = new ShardingIdGenerator(new UuidV7Generator(), router);
+
+            // Act
+            List<UUID> ids = IntStream.range(0, 100).mapToObj(i -> generator.nextId("EXT-" + i)).toList();
+
+            // Assert
+            IntStream.range(0, 100).forEach(i ->
+                    assertThat(router.shardOf(ids.get(i))).isEqualTo(router.shardFor("EXT-" + i)));
+        }
+
+        @Test
+        @DisplayName("Deve indicar ID fora dos shards configurados")
+        void shouldRejectUnknownShard() {
+            // Arrange
+            UUID id = new ShardRouter(256).stamp(UUID.randomUUID(), 200);
+
+            // Assert
+            assertThat(router.shardOf(id)).isEqualTo(-1);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 257})
+    @DisplayName("Deve rejeitar quantidade de shards fora de [1, 256]")
+    void shouldRejectInvalidShardCount(int shardCount) {
+        assertThatThrownBy(() -> new ShardRouter(shardCount)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,112 @@
+package io.github.douglasdreer.order.infrastructure.persistence.sharding;
+
+import io.github.douglasdreer.order.application.port.output.OrderRepositoryPort;
+import io.github.douglasdreer.order.domain.entity.Order;
+import io.github.douglasdreer.order.domain.identity.IdGenerators;
+import io.github.douglasdreer.order.domain.identity.UuidV7Generator;
+import io.github.douglasdreer.order.domain.valueobject.OrderStatus;
+import io.github.douglasdreer.order.infrastructure.persistence.OrderRepositoryPortContract;
+import io.github.douglasdreer.order.infrastructure.persistence.mapper.OrderPersistenceMapper;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.postgresql.ds.PGSimpleDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Executa o contrato de {@link OrderRepositoryPort} contra dois PostgreSQL reais,
+ * um por shard, e verifica a distribuição e o merge entre eles.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("ShardedOrderRepositoryAdapter - Contrato contra dois shards PostgreSQL")
+class ShardedOrderRepositoryAdapterIT extends OrderRepositoryPortContract {
+
+    @Container
+    static final PostgreSQLContainer<?> SHARD_0 = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @Container
+    static final PostgreSQLContainer<?> SHARD_1 = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    private static OrderShards shards;
+    private static ShardedOrderRepositoryAdapter repository;
+
+    @BeforeAll
+    static void setUp() {
+        ShardRouter router = new ShardRouter(2);
+        shards = new OrderShards(router, List.of(shard(0, SHARD_0), shard(1, SHARD_1)));
+        repository = new ShardedOrderRepositoryAdapter(shards, new OrderPersistenceMapper());
+        IdGenerators.use(new ShardingIdGenerator(new UuidV7Generator(), router));
+    }
+
+    @AfterAll
+    static void tearDown() throws Exception {
+        IdGenerators.use(new UuidV7Generator());
+        shards.close();
+    }
+
+    private static Shard shard(int index, PostgreSQLContainer<?> container) {
+        PGSimpleDataSource dataSource = new PGSimpleDataSource();
+        dataSource.setUrl(container.getJdbcUrl());
+        dataSource.setUser(container.getUsername());
+        dataSource.setPassword(container.getPassword());
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration").load().migrate();
+        return Shard.of(index, dataSource);
+    }
+
+    private static long rows(Shard shard, String externalOrderPrefix) {
+        return shard.jdbcTemplate().queryForObject(
+                "SELECT count(*) FROM orders WHERE external_order_id LIKE ?", Long.class, externalOrderPrefix + "%");
+    }
+
+    @Override
+    protected OrderRepositoryPort repository() {
+        return repository;
+    }
+
+    @Test
+    @DisplayName("Deve gravar cada pedido no shard do seu ID externo")
+    void shouldDistributeOrdersAcrossShards() {
+        // Arrange
+        List<Order> orders = IntStream.range(0, 20)
+                .mapToObj(i -> newOrder("SPREAD-" + i))
+                .toList();
+
+        // Act
+        orders.forEach(repository::insertIfAbsent);
+
+        // Assert
+        for (Order order : orders) {
+            DataSource expected = shards.forExternalOrderId(order.getExternalOrderIdValue()).dataSource();
+            assertThat(shards.forId(order.getId())).get().extracting(Shard::dataSource).isSameAs(expected);
+        }
+        assertThat(rows(shards.all().get(0), "SPREAD-")).isPositive();
+        assertThat(rows(shards.all().get(1), "SPREAD-")).isPositive();
+        assertThat(rows(shards.all().get(0), "SPREAD-") + rows(shards.all().get(1), "SPREAD-")).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("Deve combinar resultados dos shards em ordem de criação")
+    void shouldMergeByCreatedAt() {
+        // Arrange
+        Instant base = Instant.parse("2020-01-01T00:00:00Z");
+        IntStream.range(0, 10).forEach(i ->
+                repository.insertIfAbsent(newOrder("MERGE-" + i, OrderStatus.PROCESSING, base.plusSeconds(i))));
+
+        // Act
+        List<Order> found = repository.findByCreatedAtBetween(base, base.plusSeconds(9));
+
+        // Assert
+        assertThat(found).extracting(Order::getCreatedAt).isSorted().hasSize(10);
+    }
+}
@@ -0,0 +1,38 @@
+package io.github.douglasdreer.order.infrastructure.persistence.sharding;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SortedMerge - Merge ordenado dos resultados dos shards")
+class SortedMergeTest {
+
+    @Test
+    @DisplayName("Deve combinar listas ordenadas em uma lista ordenada")
+    void shouldMergeSortedLists() {
+        // Act
+        List<Integer> merged = SortedMerge.merge(
+                List.of(List.of(1, 4, 9), List.of(), List.of(2, 3, 10), List.of(5)),
+                Comparator.naturalOrder());
+
+        // Assert
+        assertThat(merged).containsExactly(1, 2, 3, 4, 5, 9, 10);
+    }
+
+    @Test
+    @DisplayName("Deve manter a ordem dos shards em empates")
+    void shouldBeStableOnTies() {
+        // Arrange - compara só o número; a letra identifica o shard de origem
+        Comparator<String> byNumber = Comparator.comparing(value -> value.charAt(0));
+
+        // Act
+        List<String> merged = SortedMerge.merge(List.of(List.of("1a", "2a"), List.of("1b", "2b")), byNumber);
+
+        // Assert
+        assertThat(merged).containsExactly("1a", "1b", "2a", "2b");
+    }
+}
@@ -0,0 +1,162 @@
+package io.github.douglasdreer.order.infrastructure.persistence.view;
+
+import io.github.douglasdreer.order.application.dto.OrderResponse;
+import io.github.douglasdreer.order.application.mapper.OrderApplicationMapper;
+import io.github.douglasdreer.order.domain.entity.Order;
+import io.github.douglasdreer.order.domain.entity.OrderItem;
+import io.github.douglasdreer.order.domain.valueobject.Money;
+import io.github.douglasdreer.order.domain.valueobject.OrderStatus;
+import io.github.douglasdreer.order.infrastructure.persistence.mapper.OrderPersistenceMapper;
+import io.github.douglasdreer.order.infrastructure.persistence.repository.OrderJdbcRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Modelo de leitura {@code order_view} contra PostgreSQL real (Flyway + JDBC).
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({
+        JdbcOrderViewRepository.class,
+        OrderJdbcRepository.class,
+        OrderPersistenceMapper.class,
+        JacksonAutoConfiguration.class
+})
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("JdbcOrderViewRepository - Modelo de leitura contra PostgreSQL")
+class JdbcOrderViewRepositoryIT {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @DynamicPropertySource
+    static void datasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private JdbcOrderViewRepository viewRepository;
+
+    @Autowired
+    private OrderJdbcRepository orderRepository;
+
+    @Autowired
+    private OrderPersistenceMapper persistenceMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final OrderApplicationMapper mapper = new OrderApplicationMapper();
+
+    private Order persistedOrder(String externalOrderId, int itemCount) {
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        Order.Builder builder = Order.builder().externalOrderId(externalOrderId).createdAt(now);
+        IntStream.range(0, itemCount).forEach(i -> builder.addItem(OrderItem.builder()
+                .productId("PROD-" + i)
+                .productName("Produto " + i)
+                .unitPrice(Money.of(new BigDecimal("10.50")))
+                .quantity(2)
+                .createdAt(now)
+                .build()));
+        Order order = builder.build().calculateTotal();
+        orderRepository.insertIfAbsent(persistenceMapper.toEntity(order));
+        return order;
+    }
+
+    @Test
+    @DisplayName("Deve gravar e ler o documento completo do pedido em uma linha")
+    void shouldRoundTripDocument() {
+        // Arrange
+        Order order = persistedOrder("VIEW-" + UUID.randomUUID(), 25);
+        OrderResponse view = mapper.toResponse(order);
+
+        // Act
+        viewRepository.save(view);
+
+        // Assert
+        assertThat(viewRepository.findById(order.getId())).get().usingRecursiveComparison()
+                .withComparatorForType(BigDecimal::compareTo, BigDecimal.class)
+                .isEqualTo(view);
+        assertThat(viewRepository.findByExternalOrderId(order.getExternalOrderIdValue())).get()
+                .extracting(OrderResponse::getItems).asList().hasSize(25);
+        assertThat(viewRepository.findByStatus(OrderStatus.CALCULATED)).extracting(OrderResponse::getId)
+                .contains(order.getId());
+    }
+
+    @Test
+    @DisplayName("Deve substituir o documento a cada escrita e removê-lo junto com o pedido")
+    void shouldReplaceAndCascade() {
+        // Arrange
+        Order order = persistedOrder("VIEW-" + UUID.randomUUID(), 1);
+        viewRepository.save(mapper.toResponse(order));
+
+        // Act
+        viewRepository.save(mapper.toResponse(order.markAsAvailable()));
+
+        // Assert
+        assertThat(viewRepository.findById(order.getId())).get()
+                .extracting(OrderResponse::getStatus).isEqualTo("AVAILABLE");
+        assertThat(viewRepository.findByStatus(OrderStatus.CALCULATED)).extracting(OrderResponse::getId)
+                .doesNotContain(order.getId());
+
+        jdbcTemplate.update("DELETE FROM orders WHERE id = ?", order.getId());
+        assertThat(viewRepository.findById(order.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve montar o documento no commit quando a escrita não grava order_view")
+    void shouldBuildMissingDocumentOnCommit() {
+        // Arrange - pedido gravado sem documento, como por uma versão anterior
+        Order order = persistedOrder("VIEW-" + UUID.randomUUID(), 3);
+
+        // Act - antecipa o trigger adiado para o commit
+        jdbcTemplate.execute("SET CONSTRAINTS trg_orders_ensure_view IMMEDIATE");
+
+        // Assert
+        assertThat(viewRepository.findById(order.getId())).get()
+                .satisfies(view -> {
+                    assertThat(view.getExternalOrderId()).isEqualTo(order.getExternalOrderIdValue());
+                    assertThat(view.getStatus()).isEqualTo(order.getStatus().name());
+                    assertThat(view.getItems()).hasSize(3);
+                });
+    }
+
+    @Test
+    @DisplayName("Deve refazer o documento no commit quando o status muda sem atualizar order_view")
+    void shouldRebuildStaleDocumentOnCommit() {
+        // Arrange
+        Order order = persistedOrder("VIEW-" + UUID.randomUUID(), 1);
+        viewRepository.save(mapper.toResponse(order));
+
+        // Act
+        jdbcTemplate.update("UPDATE orders SET status = 'AVAILABLE' WHERE id = ?", order.getId());
+        jdbcTemplate.execute("SET CONSTRAINTS trg_orders_ensure_view IMMEDIATE");
+
+        // Assert
+        assertThat(viewRepository.findById(order.getId())).get()
+                .extracting(OrderResponse::getStatus).isEqualTo("AVAILABLE");
+        assertThat(viewRepository.findByStatus(OrderStatus.AVAILABLE)).extracting(OrderResponse::getId)
+                .contains(order.getId());
+    }
+}
@@ -0,0 +1,153 @@
+package io.github.douglasdreer.order.infrastructure.resilience;
+
+import io.github.douglasdreer.order.application.dto.CreateOrderCommand;
+import io.github.douglasdreer.order.application.mapper.OrderApplicationMapper;
+import io.github.douglasdreer.order.application.port.input.CreateOrderUseCase;
+import io.github.douglasdreer.order.application.port.output.OrderMetricsPort;
+import io.github.douglasdreer.order.application.port.output.OrderRepositoryPort;
+import io.github.douglasdreer.order.application.port.output.OrderViewPort;
+import io.github.douglasdreer.order.application.usecase.CreateOrderUseCaseImpl;
+import io.github.douglasdreer.order.application.validation.CreateOrderCommandValidator;
+import io.github.douglasdreer.order.domain.entity.Order;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.springboot3.bulkhead.autoconfigure.BulkheadAutoConfiguration;
+import io.github.resilience4j.springboot3.circuitbreaker.autoconfigure.CircuitBreakerAutoConfiguration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.boot.test.context.ConfigDataApplicationContextInitializer;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Ordem real dos aspectos (application.yml): circuit breaker e bulkhead por fora do
+ * {@code @Transactional} dos casos de uso.
+ */
+@DisplayName("Resiliência dos casos de uso - Ordem dos aspectos")
+class UseCaseResilienceTest {
+
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final OrderRepositoryPort orderRepository = mock(OrderRepositoryPort.class);
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withInitializer(new ConfigDataApplicationContextInitializer())
+            .withInitializer(context -> context.getBeanFactory()
+                    .setConversionService(ApplicationConversionService.getSharedInstance()))
+            .withConfiguration(AutoConfigurations.of(AopAutoConfiguration.class, TransactionAutoConfiguration.class,
+                    BulkheadAutoConfiguration.class, CircuitBreakerAutoConfiguration.class))
+            .withBean(PlatformTransactionManager.class, () -> transactionManager)
+            .withBean(OrderRepositoryPort.class, () -> orderRepository)
+            .withBean(OrderViewPort.class, () -> mock(OrderViewPort.class))
+            .withBean(OrderMetricsPort.class, () -> mock(OrderMetricsPort.class))
+            .withBean(OrderApplicationMapper.class)
+            .withBean(CreateOrderCommandValidator.class)
+            .withBean(CreateOrderUseCaseImpl.class);
+
+    private static CreateOrderCommand command() {
+        return CreateOrderCommand.builder()
+                .externalOrderId("EXT-001")
+                .items(List.of(CreateOrderCommand.OrderItemCommand.builder()
+                        .productId("PROD-001")
+                        .productName("Produto Teste")
+                        .unitPrice(new BigDecimal("10.00"))
+                        .quantity(1)
+                        .build()))
+                .build();
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar com circuito aberto sem abrir transação")
+    void shouldRejectWithoutOpeningTransactionWhenCircuitIsOpen() {
+        contextRunner.run(context -> {
+            // Arrange
+            context.getBean(CircuitBreakerRegistry.class).circuitBreaker("orderIngest").transitionToForcedOpenState();
+            CreateOrderUseCase useCase = context.getBean(CreateOrderUseCase.class);
+
+            // Act & Assert
+            assertThatThrownBy(() -> useCase.execute(command())).isInstanceOf(CallNotPermittedException.class);
+            verify(transactionManager, never()).getTransaction(any());
+            verifyNoInteractions(orderRepository);
+        });
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar com bulkhead cheio sem abrir transação nem contar no circuito")
+    void shouldRejectWithoutOpeningTransactionWhenBulkheadIsFull() {
+        contextRunner.run(context -> {
+            // Arrange
+            Bulkhead bulkhead = context.getBean(BulkheadRegistry.class).bulkhead("orderIngest");
+            while (bulkhead.tryAcquirePermission()) {
+                // ocupa todas as permissões
+            }
+            CircuitBreaker circuitBreaker = context.getBean(CircuitBreakerRegistry.class).circuitBreaker("orderIngest");
+            CreateOrderUseCase useCase = context.getBean(CreateOrderUseCase.class);
+
+            // Act & Assert
+            assertThatThrownBy(() -> useCase.execute(command())).isInstanceOf(BulkheadFullException.class);
+            verify(transactionManager, never()).getTransaction(any());
+            assertThat(circuitBreaker.getMetrics().getNumberOfBufferedCalls()).isZero();
+        });
+    }
+
+    @Test
+    @DisplayName("Deve abrir a transação dentro do circuito fechado")
+    void shouldOpenTransactionWhenCircuitIsClosed() {
+        contextRunner.run(context -> {
+            // Arrange
+            when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+            when(orderRepository.insertIfAbsent(any(Order.class)))
+                    .thenAnswer(invocation -> Optional.of(invocation.getArgument(0)));
+            CreateOrderUseCase useCase = context.getBean(CreateOrderUseCase.class);
+
+            // Act
+            useCase.execute(command());
+
+            // Assert
+            verify(transactionManager).getTransaction(any());
+            verify(transactionManager).commit(any());
+        });
+    }
+
+    @Test
+    @DisplayName("Deve manter a ingestão com o circuito de consultas aberto")
+    void shouldKeepIngestOpenWhenQueryCircuitIsOpen() {
+        contextRunner.run(context -> {
+            // Arrange
+            context.getBean(CircuitBreakerRegistry.class).circuitBreaker("orderQuery").transitionToForcedOpenState();
+            when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+            when(orderRepository.insertIfAbsent(any(Order.class)))
+                    .thenAnswer(invocation -> Optional.of(invocation.getArgument(0)));
+            CreateOrderUseCase useCase = context.getBean(CreateOrderUseCase.class);
+
+            // Act
+            useCase.execute(command());
+
+            // Assert
+            verify(transactionManager).commit(any());
+            assertThat(context.getBean(CircuitBreakerRegistry.class).circuitBreaker("orderIngest").getState())
+                    .isEqualTo(CircuitBreaker.State.CLOSED);
+        });
+    }
+}